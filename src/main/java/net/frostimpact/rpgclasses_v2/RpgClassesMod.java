@@ -13,12 +13,9 @@ import net.frostimpact.rpgclasses_v2.item.ModItems;
 import net.frostimpact.rpgclasses_v2.networking.ModMessages;
 import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
 import net.frostimpact.rpgclasses_v2.rpg.stats.StatsDropdownOverlay;
-import net.frostimpact.rpgclasses_v2.rpgclass.ClassRegistry;
-import net.frostimpact.rpgclasses_v2.skilltree.SkillTreeRegistry;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.common.Mod;
-import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.client.gui.VanillaGuiLayers;
 import net.neoforged.neoforge.common.NeoForge;
@@ -37,9 +34,6 @@ public class RpgClassesMod {
         // Register networking
         ModMessages.register(modEventBus);
         
-        // Register common setup
-        modEventBus.addListener(this::commonSetup);
-        
         // Register client-side overlays and keybindings only on client
         if (FMLEnvironment.dist == Dist.CLIENT) {
             modEventBus.addListener(this::registerOverlays);
@@ -50,14 +44,6 @@ public class RpgClassesMod {
         NeoForge.EVENT_BUS.register(new ServerEvents());
     }
     
-    private void commonSetup(FMLCommonSetupEvent event) {
-        event.enqueueWork(() -> {
-            // Initialize all registries
-            SkillTreeRegistry.initializePlaceholderTrees();
-            ClassRegistry.initializePlaceholderClasses();
-        });
-    }
-
     private void registerOverlays(net.neoforged.neoforge.client.event.RegisterGuiLayersEvent event) {
         event.registerAbove(VanillaGuiLayers.FOOD_LEVEL, 
             net.minecraft.resources.ResourceLocation.fromNamespaceAndPath(MOD_ID, "health_bar"),
@@ -0,0 +1,26 @@
+package net.frostimpact.rpgclasses_v2.client;
+
+import net.frostimpact.rpgclasses_v2.client.effect.ClientEffectRuntime;
+import net.frostimpact.rpgclasses_v2.client.effect.ClientParticleEffects;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketParticleEffect;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketStartEffect;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketStopEffect;
+
+/**
+ * Client-side handling of server payloads that need client-only classes.
+ * ModMessages is loaded on both sides, so it only calls in here behind a Dist.CLIENT check.
+ */
+public class ClientPayloadHandler {
+
+    public static void handleParticleEffect(PacketParticleEffect packet) {
+        ClientParticleEffects.play(packet);
+    }
+
+    public static void handleStartEffect(PacketStartEffect packet) {
+        ClientEffectRuntime.start(packet);
+    }
+
+    public static void handleStopEffect(PacketStopEffect packet) {
+        ClientEffectRuntime.stop(packet.handle());
+    }
+}
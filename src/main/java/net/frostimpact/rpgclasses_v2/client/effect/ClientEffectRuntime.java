@@ -0,0 +1,346 @@
+package net.frostimpact.rpgclasses_v2.client.effect;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.frostimpact.rpgclasses_v2.RpgClassesMod;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketStartEffect;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+
+import java.util.Iterator;
+
+/**
+ * Animates multi-tick ability effects on the client.
+ * The server sends one start packet per effect (and a stop packet if it ends early);
+ * every frame of the animation after that is generated here from the effect's seed.
+ */
+@EventBusSubscriber(modid = RpgClassesMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class ClientEffectRuntime {
+    private static final Int2ObjectOpenHashMap<ActiveEffect> activeEffects = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * A running effect and how many ticks it has played
+     */
+    private static class ActiveEffect {
+        final PacketStartEffect info;
+        final ClientLevel level;
+        final RandomSource random;
+        int age;
+
+        ActiveEffect(PacketStartEffect info, ClientLevel level) {
+            this.info = info;
+            this.level = level;
+            this.random = RandomSource.create(info.seed());
+        }
+    }
+
+    /**
+     * Start playing an effect received from the server
+     */
+    public static void start(PacketStartEffect packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level != null) {
+            activeEffects.put(packet.handle(), new ActiveEffect(packet, level));
+        }
+    }
+
+    /**
+     * Stop an effect the server ended early
+     */
+    public static void stop(int handle) {
+        activeEffects.remove(handle);
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        if (activeEffects.isEmpty()) {
+            return;
+        }
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.isPaused()) {
+            return;
+        }
+
+        Iterator<ActiveEffect> iterator = activeEffects.values().iterator();
+        while (iterator.hasNext()) {
+            ActiveEffect effect = iterator.next();
+            // Effects belong to the level they were started in
+            if (effect.level != mc.level) {
+                iterator.remove();
+                continue;
+            }
+            tickEffect(effect);
+            effect.age++;
+            if (effect.info.duration() >= 0 && effect.age >= effect.info.duration()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        activeEffects.clear();
+    }
+
+    /**
+     * Draw one tick of an effect. Effects tied to entities skip frames while those entities aren't loaded
+     * on this client; they only end when their duration runs out or the server stops them.
+     */
+    private static void tickEffect(ActiveEffect effect) {
+        PacketStartEffect info = effect.info;
+        switch (info.kind()) {
+            case WHIRLWIND -> tickWhirlwind(effect, new Vec3(info.x(), info.y(), info.z()), info.radius());
+            case RAIN_OF_ARROWS -> tickRainOfArrows(effect, new Vec3(info.x(), info.y(), info.z()), info.radius());
+            case FATE_THREAD -> tickFateThread(effect);
+            case HEARTSTOPPER_INDICATOR -> tickHeartstopperIndicator(effect);
+        }
+    }
+
+    // ===== WARRIOR =====
+
+    /**
+     * Whirlwind - two red slash arcs spinning around the cast position for the whole duration
+     */
+    private static void tickWhirlwind(ActiveEffect effect, Vec3 center, double radius) {
+        ClientLevel level = effect.level;
+        RandomSource random = effect.random;
+        int tickIndex = effect.age;
+        double spinProgress = (double) tickIndex / effect.info.duration();
+        double spinAngle = spinProgress * 12 * Math.PI; // 6 full rotations over the duration
+
+        // Slash arcs at opposite angles during the spin
+        for (int slash = 0; slash < 2; slash++) {
+            double slashAngle = spinAngle + slash * Math.PI;
+            int arcParticles = 8;
+            double halfArc = Math.toRadians(45.0);
+
+            for (int i = 0; i < arcParticles; i++) {
+                double angle = -halfArc + (i / (double) arcParticles) * (2 * halfArc);
+                double finalAngle = slashAngle + angle;
+                double dist = radius * (0.7 + random.nextDouble() * 0.3);
+                double x = center.x + Math.cos(finalAngle) * dist;
+                double z = center.z + Math.sin(finalAngle) * dist;
+                double y = center.y + (random.nextDouble() - 0.5) * 0.8;
+
+                ClientParticleEffects.dust(level, random, 1.0f, 0.2f, 0.2f, 0.9f,
+                        x, y, z, 0.05, 0.05, 0.05, 0.01);
+            }
+        }
+
+        // Spinning ring
+        if (tickIndex % 2 == 0) {
+            int ringPoints = 12;
+            for (int p = 0; p < ringPoints; p++) {
+                double angle = (double) p / ringPoints * 2 * Math.PI + spinAngle;
+                double x = center.x + Math.cos(angle) * radius * 0.9;
+                double z = center.z + Math.sin(angle) * radius * 0.9;
+
+                ClientParticleEffects.dust(level, random, 1.0f, 0.15f, 0.15f, 0.8f,
+                        x, center.y, z, 0.03, 0.03, 0.03, 0.01);
+            }
+        }
+
+        // Sweep slashes every ~8 ticks
+        if (tickIndex % 8 == 0) {
+            for (int i = 0; i < 2; i++) {
+                ClientParticleEffects.particle(level, random, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+                        center.x, center.y, center.z, 0.5, 0.3, 0.5, 0);
+            }
+        }
+    }
+
+    // ===== RANGER =====
+
+    /**
+     * Rain of Arrows - bolts falling onto the zone every 4 ticks, boundary circle every 8
+     */
+    private static void tickRainOfArrows(ActiveEffect effect, Vec3 center, double radius) {
+        // Same cadence as the server damage loop, which counts ticks remaining down to 0
+        int ticksRemaining = effect.info.duration() - 1 - effect.age;
+        if (ticksRemaining % 4 != 0) {
+            return;
+        }
+        ClientLevel level = effect.level;
+        RandomSource random = effect.random;
+
+        // Energy bolts raining down and hitting the ground
+        int boltsPerTick = 12;
+        for (int bolt = 0; bolt < boltsPerTick; bolt++) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            double dist = random.nextDouble() * radius;
+            double groundX = center.x + Math.cos(angle) * dist;
+            double groundZ = center.z + Math.sin(angle) * dist;
+            double startY = center.y + 8 + random.nextDouble() * 4;
+
+            // Falling bolt - from sky to ground
+            for (int i = 0; i < 16; i++) {
+                double progress = (double) i / 16.0;
+                double y = startY - progress * (startY - center.y);
+
+                float brightness = 1.0f - (float) progress * 0.3f;
+                ClientParticleEffects.dust(level, random, 0.3f * brightness, 0.95f * brightness, 0.4f * brightness, 0.8f,
+                        groundX + (random.nextDouble() - 0.5) * 0.05, y, groundZ + (random.nextDouble() - 0.5) * 0.05,
+                        0, -0.3, 0, 0.05);
+
+                // Glow trail
+                if (i % 3 == 0) {
+                    ClientParticleEffects.dust(level, random, 0.5f, 1.0f, 0.6f, 0.5f,
+                            groundX, y, groundZ, 0.03, 0.03, 0.03, 0);
+                }
+            }
+
+            // Ground impact
+            for (int i = 0; i < 3; i++) {
+                ClientParticleEffects.dust(level, random, 0.4f, 1.0f, 0.5f, 0.9f,
+                        groundX, center.y + 0.05, groundZ, 0.1, 0.02, 0.1, 0.03);
+            }
+            ClientParticleEffects.particle(level, random, net.minecraft.core.particles.ParticleTypes.CRIT,
+                    groundX, center.y + 0.1, groundZ, 0.08, 0.02, 0.08, 0.02);
+        }
+
+        // Persistent ground boundary
+        if (ticksRemaining % 8 == 0) {
+            int boundaryPoints = (int) (radius * 16);
+            for (int p = 0; p < boundaryPoints; p++) {
+                double boundaryAngle = (double) p / boundaryPoints * 2 * Math.PI;
+                ClientParticleEffects.dust(level, random, 1.0f, 0.75f, 0.2f, 0.6f,
+                        center.x + Math.cos(boundaryAngle) * radius, center.y + 0.05,
+                        center.z + Math.sin(boundaryAngle) * radius, 0.02, 0, 0.02, 0);
+            }
+        }
+
+        // Small impact rings on the ground
+        for (int i = 0; i < 4; i++) {
+            double impactAngle = random.nextDouble() * 2 * Math.PI;
+            double impactDist = random.nextDouble() * radius;
+            double impactX = center.x + Math.cos(impactAngle) * impactDist;
+            double impactZ = center.z + Math.sin(impactAngle) * impactDist;
+
+            for (int ring = 0; ring < 6; ring++) {
+                double ringAngle = ring * Math.PI / 3;
+                ClientParticleEffects.dust(level, random, 0.35f, 0.9f, 0.4f, 0.5f,
+                        impactX + Math.cos(ringAngle) * 0.2, center.y + 0.08, impactZ + Math.sin(ringAngle) * 0.2,
+                        0.02, 0, 0.02, 0);
+            }
+        }
+    }
+
+    // ===== FATESPINNER =====
+
+    /**
+     * Fate thread - a swaying line from the owner to the threaded enemy, drawn every 2 ticks.
+     * Color shifts from muted violet to pale white as the entities move apart.
+     */
+    private static void tickFateThread(ActiveEffect effect) {
+        ClientLevel level = effect.level;
+        Entity owner = level.getEntity(effect.info.anchorId());
+        Entity target = level.getEntity(effect.info.targetId());
+        // Out of tracking range or not spawned here yet - the thread still exists on the server
+        if (owner == null || target == null || !owner.isAlive() || !target.isAlive()) {
+            return;
+        }
+        if (level.getGameTime() % 2 != 0) {
+            return;
+        }
+
+        RandomSource random = effect.random;
+        Vec3 start = owner.position().add(0, owner.getEyeHeight() - 0.3, 0);
+        Vec3 end = target.position().add(0, target.getBbHeight() * 0.5, 0);
+        int tension = (int) Math.floor(owner.position().distanceTo(target.position()));
+
+        Vec3 dir = end.subtract(start);
+        double length = dir.length();
+        dir = dir.normalize();
+
+        float tensionRatio = Math.min(1.0f, tension / 10.0f);
+        float r = 0.6f + tensionRatio * 0.4f;
+        float g = 0.3f + tensionRatio * 0.7f;
+        float b = 0.8f + tensionRatio * 0.2f;
+        float size = 0.3f + tensionRatio * 0.2f; // Thicker at high tension
+
+        int points = (int) (length * 3);
+        for (int i = 0; i <= points; i++) {
+            double progress = (double) i / points;
+            Vec3 pos = start.add(dir.scale(progress * length));
+
+            // Gentle sway
+            double swayOffset = Math.sin(progress * Math.PI * 2 + level.getGameTime() * 0.1) * 0.1 * (1.0 - tensionRatio);
+            ClientParticleEffects.dust(level, random, r, g, b, size,
+                    pos.x, pos.y + swayOffset, pos.z, 0.02, 0.02, 0.02, 0);
+        }
+
+        // Pulse travelling along the thread
+        double pulsePosition = (level.getGameTime() % 20) / 20.0;
+        Vec3 pulsePos = start.add(dir.scale(pulsePosition * length));
+        ClientParticleEffects.dust(level, random, 1.0f, 1.0f, 1.0f, size + 0.2f,
+                pulsePos.x, pulsePos.y, pulsePos.z, 0.01, 0.01, 0.01, 0);
+
+        // High tension vibration
+        if (tension >= 9) {
+            for (int i = 0; i <= points; i += 2) {
+                double progress = (double) i / points;
+                Vec3 pos = start.add(dir.scale(progress * length));
+                double vibration = (random.nextDouble() - 0.5) * 0.15;
+                ClientParticleEffects.dust(level, random, 1.0f, 1.0f, 1.0f, 0.2f,
+                        pos.x + vibration, pos.y + vibration, pos.z + vibration, 0, 0, 0, 0);
+            }
+        }
+    }
+
+    // ===== RAVAGER =====
+
+    /**
+     * Heartstopper charge - red 6x4 rectangle starting 1 block in front of the caster, redrawn every 10 ticks
+     * at the caster's current position and facing
+     */
+    private static void tickHeartstopperIndicator(ActiveEffect effect) {
+        ClientLevel level = effect.level;
+        Entity caster = level.getEntity(effect.info.anchorId());
+        if (caster == null || !caster.isAlive()) {
+            return;
+        }
+        if (effect.age % 10 != 0) {
+            return;
+        }
+
+        RandomSource random = effect.random;
+        double length = 6.0;
+        double width = 4.0;
+        double yawRad = Math.toRadians(caster.getYRot());
+        Vec3 forward = new Vec3(-Math.sin(yawRad), 0, Math.cos(yawRad));
+        Vec3 right = new Vec3(Math.cos(yawRad), 0, Math.sin(yawRad));
+        // Back edge of the rectangle is 1 block in front of the caster
+        Vec3 center = caster.position().add(forward);
+
+        int lengthPoints = 12;
+        int widthPoints = 8;
+
+        for (int i = 0; i <= lengthPoints; i++) {
+            double progress = (double) i / lengthPoints;
+            Vec3 pos1 = center.add(forward.scale(progress * length)).add(right.scale(-width / 2));
+            Vec3 pos2 = center.add(forward.scale(progress * length)).add(right.scale(width / 2));
+            heartstopperDust(level, random, pos1);
+            heartstopperDust(level, random, pos2);
+        }
+
+        for (int i = 0; i <= widthPoints; i++) {
+            double progress = (double) i / widthPoints - 0.5;
+            Vec3 pos1 = center.add(right.scale(progress * width)); // Back edge
+            Vec3 pos2 = center.add(forward.scale(length)).add(right.scale(progress * width)); // Front edge
+            heartstopperDust(level, random, pos1);
+            heartstopperDust(level, random, pos2);
+        }
+    }
+
+    private static void heartstopperDust(ClientLevel level, RandomSource random, Vec3 pos) {
+        ClientParticleEffects.dust(level, random, 0.8f, 0.0f, 0.0f, 0.6f,
+                pos.x, pos.y + 0.1, pos.z, 0.02, 0.01, 0.02, 0);
+    }
+}
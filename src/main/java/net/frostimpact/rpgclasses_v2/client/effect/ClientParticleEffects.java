@@ -0,0 +1,179 @@
+package net.frostimpact.rpgclasses_v2.client.effect;
+
+import net.frostimpact.rpgclasses_v2.networking.DustPalette;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketParticleEffect;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.util.RandomSource;
+
+/**
+ * Expands batched particle effects sent by the server into individual dust particles
+ */
+public class ClientParticleEffects {
+
+    /**
+     * Play a received particle effect in the client level
+     */
+    public static void play(PacketParticleEffect effect) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) {
+            return;
+        }
+
+        RandomSource random = RandomSource.create(effect.seed());
+        double cx = effect.x();
+        double cy = effect.y();
+        double cz = effect.z();
+        double radius = effect.radius();
+        int count = effect.count();
+
+        switch (effect.shape()) {
+            case BURST -> {
+                for (int i = 0; i < count; i++) {
+                    double angle = random.nextDouble() * 2 * Math.PI;
+                    double dist = random.nextDouble() * radius;
+                    float size = 0.4f + random.nextFloat() * 0.3f;
+                    spawn(level, random, effect, size,
+                            cx + Math.cos(angle) * dist, cy + 0.5 + random.nextDouble() * 1.5, cz + Math.sin(angle) * dist,
+                            0, 0, 0, 0);
+                }
+            }
+            case RING -> {
+                for (int i = 0; i < count; i++) {
+                    double angle = (double) i / count * 2 * Math.PI;
+                    float size = 0.5f + random.nextFloat() * 0.2f;
+                    spawn(level, random, effect, size,
+                            cx + Math.cos(angle) * radius, cy + 0.5, cz + Math.sin(angle) * radius,
+                            0, 0.1, 0, 0);
+                }
+            }
+            case SPIRAL -> {
+                for (int i = 0; i < count; i++) {
+                    double progress = (double) i / count;
+                    double angle = progress * 4 * Math.PI;
+                    double dist = progress * radius;
+                    float size = 0.4f + random.nextFloat() * 0.25f;
+                    spawn(level, random, effect, size,
+                            cx + Math.cos(angle) * dist, cy + 0.3 + progress * 1.5, cz + Math.sin(angle) * dist,
+                            0, 0, 0, 0);
+                }
+            }
+            case ARC -> {
+                double baseAngle = Math.toRadians(-effect.yaw() + 90);
+                for (int i = 0; i < count; i++) {
+                    double angle = baseAngle + (i - count / 2) * 0.15;
+                    float size = 0.5f + random.nextFloat() * 0.3f;
+                    spawn(level, random, effect, size,
+                            cx + Math.cos(angle) * radius, cy + 0.8 + random.nextDouble() * 0.5, cz + Math.sin(angle) * radius,
+                            0, 0, 0, 0);
+                }
+            }
+            case SHELL -> {
+                for (int i = 0; i < count; i++) {
+                    double phi = random.nextDouble() * Math.PI;
+                    double theta = random.nextDouble() * 2 * Math.PI;
+                    float size = 0.4f + random.nextFloat() * 0.2f;
+                    spawn(level, random, effect, size,
+                            cx + Math.sin(phi) * Math.cos(theta) * radius,
+                            cy + 1.0 + Math.cos(phi) * radius,
+                            cz + Math.sin(phi) * Math.sin(theta) * radius,
+                            0, 0, 0, 0);
+                }
+            }
+            case LINE -> {
+                double angle = Math.toRadians(-effect.yaw() + 90);
+                for (int i = 0; i < count; i++) {
+                    double dist = (double) i / count * radius;
+                    double x = cx + Math.cos(angle) * dist + (random.nextDouble() - 0.5) * 0.3;
+                    double y = cy + (random.nextDouble() - 0.5) * 0.3;
+                    double z = cz + Math.sin(angle) * dist + (random.nextDouble() - 0.5) * 0.3;
+                    float size = 0.35f + random.nextFloat() * 0.2f;
+                    spawn(level, random, effect, size, x, y, z, 0, 0, 0, 0);
+                }
+            }
+            case FAN -> {
+                // count is the number of particles per line, spread over 5 lines
+                double baseAngle = Math.toRadians(-effect.yaw() + 90);
+                int lines = 5;
+                for (int line = 0; line < lines; line++) {
+                    double angle = baseAngle + (line - lines / 2) * 0.2;
+                    for (int i = 0; i < count; i++) {
+                        double dist = (double) i / count * radius;
+                        double y = cy + (random.nextDouble() - 0.5) * 0.2;
+                        float size = 0.35f + random.nextFloat() * 0.2f;
+                        spawn(level, random, effect, size,
+                                cx + Math.cos(angle) * dist, y, cz + Math.sin(angle) * dist,
+                                0, 0, 0, 0);
+                    }
+                }
+            }
+            case GROUND -> {
+                for (int i = 0; i < count; i++) {
+                    double angle = random.nextDouble() * 2 * Math.PI;
+                    double dist = random.nextDouble() * radius;
+                    double y = cy + 0.1 + random.nextDouble() * 0.2;
+                    float size = 0.4f + random.nextFloat() * 0.25f;
+                    spawn(level, random, effect, size,
+                            cx + Math.cos(angle) * dist, y, cz + Math.sin(angle) * dist,
+                            0, 0.05, 0, 0);
+                }
+            }
+            case RAIN -> {
+                for (int i = 0; i < count; i++) {
+                    double angle = random.nextDouble() * 2 * Math.PI;
+                    double dist = random.nextDouble() * radius;
+                    double y = cy + 3 + random.nextDouble() * 2;
+                    float size = 0.3f + random.nextFloat() * 0.2f;
+                    spawn(level, random, effect, size,
+                            cx + Math.cos(angle) * dist, y, cz + Math.sin(angle) * dist,
+                            0, -0.3, 0, 0.05);
+                }
+            }
+            case UPWARD -> {
+                for (int i = 0; i < count; i++) {
+                    double angle = random.nextDouble() * 2 * Math.PI;
+                    double dist = random.nextDouble() * radius * 0.5;
+                    double y = cy + random.nextDouble() * 0.5;
+                    float size = 0.4f + random.nextFloat() * 0.25f;
+                    spawn(level, random, effect, size,
+                            cx + Math.cos(angle) * dist, y, cz + Math.sin(angle) * dist,
+                            0, 0.2, 0, 0.05);
+                }
+            }
+        }
+    }
+
+    /**
+     * Spawn one dust particle the same way a single-particle server packet would:
+     * the spread is a gaussian position offset and speed a gaussian velocity
+     */
+    private static void spawn(ClientLevel level, RandomSource random, PacketParticleEffect effect, float size,
+                              double x, double y, double z, double spreadX, double spreadY, double spreadZ, double speed) {
+        dust(level, random, effect.red(), effect.green(), effect.blue(), size, x, y, z, spreadX, spreadY, spreadZ, speed);
+    }
+
+    /**
+     * Spawn one dust particle with slight colour variation, spread and speed as in {@link #particle}
+     */
+    public static void dust(ClientLevel level, RandomSource random, float r, float g, float b, float size,
+                            double x, double y, double z, double spreadX, double spreadY, double spreadZ, double speed) {
+        particle(level, random, DustPalette.get(r, g, b, size, random.nextInt(DustPalette.VARIANTS)),
+                x, y, z, spreadX, spreadY, spreadZ, speed);
+    }
+
+    /**
+     * Spawn one particle the same way a single-particle server packet would:
+     * the spread is a gaussian position offset and speed a gaussian velocity
+     */
+    public static void particle(ClientLevel level, RandomSource random, ParticleOptions options,
+                                double x, double y, double z, double spreadX, double spreadY, double spreadZ, double speed) {
+        level.addParticle(options,
+                x + random.nextGaussian() * spreadX,
+                y + random.nextGaussian() * spreadY,
+                z + random.nextGaussian() * spreadZ,
+                random.nextGaussian() * speed,
+                random.nextGaussian() * speed,
+                random.nextGaussian() * speed);
+    }
+}
@@ -85,13 +85,17 @@ public class ClientEvents {
             PlayerRPGData rpgData = mc.player.getData(ModAttachments.PLAYER_RPG);
             String currentClass = rpgData.getCurrentClass();
             
+            // Regenerate mana locally between server syncs
+            rpgData.predictManaRegen(mc.player.level().getGameTime());
+            
             // Only Marksman class can use FOCUS mode
             if (currentClass != null && currentClass.equalsIgnoreCase("marksman")) {
                 boolean isSneaking = mc.player.input.shiftKeyDown;
                 boolean inFocusMode = rpgData.isInFocusMode();
                 
-                // State changed - notify server and update local state
-                if (isSneaking && !inFocusMode) {
+                // State changed - notify server and update local state. Entering needs enough mana for the
+                // drain, or the server would end FOCUS mode again right away
+                if (isSneaking && !inFocusMode && rpgData.getMana() >= PlayerRPGData.FOCUS_MANA_DRAIN) {
                     // Entering FOCUS mode
                     rpgData.setInFocusMode(true);
                     ModMessages.sendToServer(new PacketMarksmanFocusMode(true));
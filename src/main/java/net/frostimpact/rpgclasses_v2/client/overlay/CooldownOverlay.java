@@ -2,8 +2,6 @@ package net.frostimpact.rpgclasses_v2.client.overlay;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
-import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
-import net.frostimpact.rpgclasses_v2.rpgclass.AbilityUtils;
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
@@ -29,8 +27,7 @@ public class CooldownOverlay implements LayeredDraw.Layer {
         // Don't render if any screen is open
         if (mc.screen != null) return;
         
-        PlayerRPGData rpgData = player.getData(ModAttachments.PLAYER_RPG);
-        String currentClass = rpgData.getCurrentClass();
+        String currentClass = player.getData(ModAttachments.PLAYER_RPG).getCurrentClass();
         
         if (currentClass == null || currentClass.equals("NONE")) return;
         
@@ -44,35 +41,21 @@ public class CooldownOverlay implements LayeredDraw.Layer {
         RenderSystem.enableBlend();
         
         // Draw 4 ability icons
-        for (int slot = 1; slot <= 4; slot++) {
+        for (int slot = 1; slot <= HudModel.ABILITY_SLOTS; slot++) {
             int x = startX + (slot - 1) * (ICON_SIZE + ICON_SPACING);
-            drawAbilityIcon(guiGraphics, mc, rpgData, currentClass, slot, x, y);
+            drawAbilityIcon(guiGraphics, mc, HudModel.getAbilitySlot(slot), x, y);
         }
         
         RenderSystem.disableBlend();
     }
     
-    private void drawAbilityIcon(GuiGraphics guiGraphics, Minecraft mc, PlayerRPGData rpgData, 
-            String currentClass, int slot, int x, int y) {
-        String abilityId = currentClass.toLowerCase() + "_ability_" + slot;
-        int cooldown = rpgData.getAbilityCooldown(abilityId);
-        int maxCooldown = AbilityUtils.getAbilityCooldownTicks(currentClass, slot);
-        int mana = rpgData.getMana();
-        int manaCost = AbilityUtils.getAbilityManaCost(currentClass, slot);
-        
+    private void drawAbilityIcon(GuiGraphics guiGraphics, Minecraft mc, HudModel.AbilitySlot view, int x, int y) {
         // Background color - lighter base
         int bgColor = 0xCC2A2A2A;
         guiGraphics.fill(x, y, x + ICON_SIZE, y + ICON_SIZE, bgColor);
         
-        // Border color based on state - gray shades
-        int borderColor;
-        if (cooldown > 0) {
-            borderColor = 0xFF555555; // Dark gray when on cooldown
-        } else if (mana < manaCost) {
-            borderColor = 0xFF666688; // Slightly blue-gray when not enough mana
-        } else {
-            borderColor = 0xFFAAAAAA; // Light gray when ready
-        }
+        // Border color based on state (cooldown, not enough mana, ready) - gray shades
+        int borderColor = view.getBorderColor();
         
         // Draw border (1px thick)
         guiGraphics.fill(x, y, x + ICON_SIZE, y + BORDER_WIDTH, borderColor);
@@ -81,43 +64,31 @@ public class CooldownOverlay implements LayeredDraw.Layer {
         guiGraphics.fill(x + ICON_SIZE - BORDER_WIDTH, y + BORDER_WIDTH, x + ICON_SIZE, y + ICON_SIZE - BORDER_WIDTH, borderColor);
         
         // Draw cooldown overlay if on cooldown - dark gray fill that ticks down from top to bottom
-        if (cooldown > 0 && maxCooldown > 0) {
-            // Calculate the fill percentage (1.0 = full cooldown, 0.0 = ready)
-            float cooldownProgress = (float) cooldown / maxCooldown;
-            // Fill height from top - decreases as cooldown progresses
-            int fillHeight = (int) (INNER_SIZE * cooldownProgress);
-            if (fillHeight > 0) {
-                // Dark gray cooldown overlay - fills from top and shrinks downward
-                int cooldownColor = 0xDD333333;
-                guiGraphics.fill(x + BORDER_WIDTH, y + BORDER_WIDTH, 
-                                 x + ICON_SIZE - BORDER_WIDTH, y + BORDER_WIDTH + fillHeight, 
-                                 cooldownColor);
-            }
+        // Fill height from top - decreases as cooldown progresses
+        int fillHeight = (int) (INNER_SIZE * view.getCooldownProgress());
+        if (fillHeight > 0) {
+            // Dark gray cooldown overlay - fills from top and shrinks downward
+            int cooldownColor = 0xDD333333;
+            guiGraphics.fill(x + BORDER_WIDTH, y + BORDER_WIDTH, 
+                             x + ICON_SIZE - BORDER_WIDTH, y + BORDER_WIDTH + fillHeight, 
+                             cooldownColor);
         }
         
-        // Get ability icon
-        String abilityIcon = getAbilityIcon(currentClass, slot);
-        
         // Draw ability icon centered vertically and horizontally in the box
-        int iconColor = cooldown > 0 ? 0xFF888888 : (mana < manaCost ? 0xFF8888AA : 0xFFFFFFFF);
-        int iconWidth = mc.font.width(abilityIcon);
-        int iconX = x + (ICON_SIZE - iconWidth) / 2;
+        int iconX = x + (ICON_SIZE - view.getIconWidth()) / 2;
         int iconY = y + (ICON_SIZE - 8) / 2 - 2; // Center vertically, accounting for font height (~8px)
-        guiGraphics.drawString(mc.font, abilityIcon, iconX, iconY, iconColor, false);
+        guiGraphics.drawString(mc.font, view.getIcon(), iconX, iconY, view.getIconColor(), false);
         
         // Keybind letter at bottom - ensure it fits inside the box
-        String keybind = AbilityUtils.getAbilityKeybind(slot);
-        int textColor = cooldown > 0 ? 0xFF777777 : (mana < manaCost ? 0xFF8888BB : 0xFFCCCCCC);
-        int textWidth = mc.font.width(keybind);
-        int textX = x + (ICON_SIZE - textWidth) / 2;
+        int textX = x + (ICON_SIZE - view.getKeybindWidth()) / 2;
         int textY = y + ICON_SIZE - 9; // Position inside bottom of box
-        guiGraphics.drawString(mc.font, keybind, textX, textY, textColor, false);
+        guiGraphics.drawString(mc.font, view.getKeybind(), textX, textY, view.getTextColor(), false);
     }
     
     /**
      * Get the emoji icon for a specific ability
      */
-    private String getAbilityIcon(String classId, int slot) {
+    static String getAbilityIcon(String classId, int slot) {
         return switch (classId.toLowerCase()) {
             case "warrior" -> switch (slot) {
                 case 1 -> "⚔"; // Power Strike
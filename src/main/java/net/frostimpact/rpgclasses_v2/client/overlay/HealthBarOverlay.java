@@ -63,10 +63,9 @@ public class HealthBarOverlay implements LayeredDraw.Layer {
         RenderSystem.disableBlend();
 
         // Draw health text
-        String healthText = String.format("%.0f/%.0f", health, maxHealth);
-        int textX = x + BAR_WIDTH / 2 - mc.font.width(healthText) / 2;
+        int textX = x + BAR_WIDTH / 2 - HudModel.getHealthTextWidth() / 2;
         int textY = y + (BAR_HEIGHT - mc.font.lineHeight) / 2;
-        guiGraphics.drawString(mc.font, healthText, textX, textY, 0xFFFFFFFF);
+        guiGraphics.drawString(mc.font, HudModel.getHealthText(), textX, textY, 0xFFFFFFFF);
     }
 
     private void drawOrnateFrame(GuiGraphics guiGraphics, int x, int y, int width, int height, int borderColor, int cornerColor) {
@@ -0,0 +1,303 @@
+package net.frostimpact.rpgclasses_v2.client.overlay;
+
+import net.frostimpact.rpgclasses_v2.RpgClassesMod;
+import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
+import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
+import net.frostimpact.rpgclasses_v2.rpg.stats.PlayerStats;
+import net.frostimpact.rpgclasses_v2.rpg.stats.StatType;
+import net.frostimpact.rpgclasses_v2.rpgclass.AbilityUtils;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassDefinitions;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Client-side view model of the HUD, refreshed once per client tick.
+ * Synced data and stats can only change between ticks, so the text, colors and ability lookups the overlays draw
+ * are built here - and only rebuilt when their inputs changed - leaving render with nothing to compute.
+ */
+@EventBusSubscriber(modid = RpgClassesMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class HudModel {
+    public static final int ABILITY_SLOTS = 4;
+    public static final int STAT_LINES = 9;
+    private static final int XP_PER_CLASS_LEVEL = 100; // Base XP required per class level
+
+    /**
+     * Everything the cooldown overlay draws for one ability slot
+     */
+    public static class AbilitySlot {
+        private String icon = "";
+        private int iconWidth;
+        private String keybind = "";
+        private int keybindWidth;
+        private float cooldownProgress; // 1.0 = full cooldown, 0.0 = ready
+        private int borderColor;
+        private int iconColor;
+        private int textColor;
+
+        public String getIcon() {
+            return icon;
+        }
+
+        public int getIconWidth() {
+            return iconWidth;
+        }
+
+        public String getKeybind() {
+            return keybind;
+        }
+
+        public int getKeybindWidth() {
+            return keybindWidth;
+        }
+
+        public float getCooldownProgress() {
+            return cooldownProgress;
+        }
+
+        public int getBorderColor() {
+            return borderColor;
+        }
+
+        public int getIconColor() {
+            return iconColor;
+        }
+
+        public int getTextColor() {
+            return textColor;
+        }
+    }
+
+    // Level panel
+    private static String levelClassId = null;
+    private static String classDisplay = "";
+    private static int classColor;
+    private static int classBorderColor;
+    private static int xpLevel = -1;
+    private static String levelText = "";
+    private static int classLevel = -1;
+    private static String classLevelText = "";
+    private static float classProgress;
+
+    // Health and mana bars
+    private static float health = -1;
+    private static float maxHealth = -1;
+    private static String healthText = "";
+    private static int healthTextWidth;
+    private static int mana = -1;
+    private static int maxMana = -1;
+    private static String manaText = "";
+    private static int manaTextWidth;
+
+    // Stats panel - stat totals the lines were last built from
+    private static final double[] statValues = new double[STAT_LINES];
+    private static final String[] statLines = new String[STAT_LINES];
+    private static boolean statLinesValid = false;
+
+    // Cooldown bar
+    private static String abilityClassId = null;
+    private static final AbilitySlot[] abilitySlots = new AbilitySlot[ABILITY_SLOTS];
+
+    static {
+        for (int i = 0; i < ABILITY_SLOTS; i++) {
+            abilitySlots[i] = new AbilitySlot();
+        }
+        Arrays.fill(statLines, "");
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        Minecraft mc = Minecraft.getInstance();
+        Player player = mc.player;
+        if (player == null || mc.level == null) {
+            return;
+        }
+        PlayerRPGData rpgData = player.getData(ModAttachments.PLAYER_RPG);
+        PlayerStats stats = player.getData(ModAttachments.PLAYER_STATS);
+
+        refreshLevelPanel(player, rpgData);
+        refreshBars(mc.font, player, rpgData);
+        refreshStatLines(stats);
+        refreshAbilitySlots(mc.font, rpgData, mc.level.getGameTime());
+    }
+
+    private static void refreshLevelPanel(Player player, PlayerRPGData rpgData) {
+        String classId = rpgData.getCurrentClass();
+        if (!Objects.equals(classId, levelClassId)) {
+            levelClassId = classId;
+            classDisplay = LevelDisplayOverlay.getClassIcon(classId) + " " + LevelDisplayOverlay.formatClassName(classId);
+            classColor = LevelDisplayOverlay.getClassColor(classId);
+            classBorderColor = LevelDisplayOverlay.getClassBorderColor(classId);
+        }
+        if (player.experienceLevel != xpLevel) {
+            xpLevel = player.experienceLevel;
+            levelText = "§aLv. " + xpLevel;
+        }
+        if (rpgData.getClassLevel() != classLevel) {
+            classLevel = rpgData.getClassLevel();
+            classLevelText = "§bClass Lv. " + classLevel;
+        }
+        classProgress = (float) rpgData.getClassExperience() / (classLevel * XP_PER_CLASS_LEVEL);
+    }
+
+    private static void refreshBars(Font font, Player player, PlayerRPGData rpgData) {
+        if (player.getHealth() != health || player.getMaxHealth() != maxHealth) {
+            health = player.getHealth();
+            maxHealth = player.getMaxHealth();
+            healthText = String.format("%.0f/%.0f", health, maxHealth);
+            healthTextWidth = font.width(healthText);
+            statLinesValid = false;
+        }
+        if (rpgData.getMana() != mana || rpgData.getMaxMana() != maxMana) {
+            mana = rpgData.getMana();
+            maxMana = rpgData.getMaxMana();
+            manaText = mana + "/" + maxMana;
+            manaTextWidth = font.width(manaText);
+            statLinesValid = false;
+        }
+    }
+
+    private static void refreshStatLines(PlayerStats stats) {
+        double[] values = {
+            stats.getIntStatValue(StatType.MAX_HEALTH),
+            stats.getIntStatValue(StatType.MAX_MANA),
+            stats.getIntStatValue(StatType.DAMAGE),
+            stats.getIntStatValue(StatType.DEFENSE),
+            stats.getPercentageStatValue(StatType.MOVE_SPEED),
+            stats.getPercentageStatValue(StatType.ATTACK_SPEED),
+            stats.getIntStatValue(StatType.COOLDOWN_REDUCTION),
+            stats.getIntStatValue(StatType.HEALTH_REGEN),
+            stats.getIntStatValue(StatType.MANA_REGEN)
+        };
+        if (statLinesValid && Arrays.equals(values, statValues)) {
+            return;
+        }
+        System.arraycopy(values, 0, statValues, 0, STAT_LINES);
+        statLines[0] = String.format("❤ Health: %.1f/%.1f (+%d)", health, maxHealth, (int) values[0]);
+        statLines[1] = String.format("⚡ Mana: %d/%d (+%d)", mana, maxMana, (int) values[1]);
+        statLines[2] = String.format("⚔ Damage: +%d", (int) values[2]);
+        statLines[3] = String.format("🛡 Defense: +%d", (int) values[3]);
+        statLines[4] = String.format("👟 Move Speed: +%.1f%%", values[4]);
+        statLines[5] = String.format("🗡 Attack Speed: +%.1f%%", values[5]);
+        statLines[6] = String.format("⏱ CD Reduction: +%d", (int) values[6]);
+        statLines[7] = String.format("💚 Health Regen: +%d", (int) values[7]);
+        statLines[8] = String.format("💙 Mana Regen: +%d", (int) values[8]);
+        statLinesValid = true;
+    }
+
+    private static void refreshAbilitySlots(Font font, PlayerRPGData rpgData, long gameTime) {
+        String classId = rpgData.getCurrentClass();
+        if (classId == null || classId.equals("NONE")) {
+            abilityClassId = classId;
+            return;
+        }
+        boolean classChanged = !classId.equals(abilityClassId);
+        abilityClassId = classId;
+        // Looked up by class id (not ClassType) so classes defined only in datapacks show their own costs
+        ClassDefinitions definitions = ClassDefinitions.get();
+        int classIndex = definitions.getClassIndex(classId);
+
+        for (int slot = 1; slot <= ABILITY_SLOTS; slot++) {
+            AbilitySlot view = abilitySlots[slot - 1];
+            if (classChanged) {
+                view.icon = CooldownOverlay.getAbilityIcon(classId, slot);
+                view.iconWidth = font.width(view.icon);
+                view.keybind = AbilityUtils.getAbilityKeybind(slot);
+                view.keybindWidth = font.width(view.keybind);
+            }
+
+            String abilityId = classId.toLowerCase() + "_ability_" + slot;
+            int cooldown = rpgData.getAbilityCooldown(abilityId, gameTime);
+            // Full length as started by the server (includes cooldown reduction), base cooldown if unknown
+            int maxCooldown = rpgData.getAbilityCooldownDuration(abilityId);
+            if (maxCooldown <= 0) {
+                maxCooldown = definitions.getAbilityCooldownTicks(classIndex, slot);
+            }
+            boolean noMana = rpgData.getMana() < definitions.getAbilityManaCost(classIndex, slot);
+
+            view.cooldownProgress = cooldown > 0 && maxCooldown > 0 ? (float) cooldown / maxCooldown : 0.0f;
+            if (cooldown > 0) {
+                view.borderColor = 0xFF555555; // Dark gray when on cooldown
+                view.iconColor = 0xFF888888;
+                view.textColor = 0xFF777777;
+            } else if (noMana) {
+                view.borderColor = 0xFF666688; // Slightly blue-gray when not enough mana
+                view.iconColor = 0xFF8888AA;
+                view.textColor = 0xFF8888BB;
+            } else {
+                view.borderColor = 0xFFAAAAAA; // Light gray when ready
+                view.iconColor = 0xFFFFFFFF;
+                view.textColor = 0xFFCCCCCC;
+            }
+        }
+    }
+
+    // ===== LEVEL PANEL =====
+
+    public static String getClassDisplay() {
+        return classDisplay;
+    }
+
+    public static int getClassColor() {
+        return classColor;
+    }
+
+    public static int getClassBorderColor() {
+        return classBorderColor;
+    }
+
+    public static String getLevelText() {
+        return levelText;
+    }
+
+    public static String getClassLevelText() {
+        return classLevelText;
+    }
+
+    public static float getClassProgress() {
+        return classProgress;
+    }
+
+    // ===== BARS =====
+
+    public static String getHealthText() {
+        return healthText;
+    }
+
+    public static int getHealthTextWidth() {
+        return healthTextWidth;
+    }
+
+    public static String getManaText() {
+        return manaText;
+    }
+
+    public static int getManaTextWidth() {
+        return manaTextWidth;
+    }
+
+    // ===== STATS PANEL =====
+
+    /**
+     * Stats panel line (0 = health ... 8 = mana regen)
+     */
+    public static String getStatLine(int index) {
+        return statLines[index];
+    }
+
+    // ===== COOLDOWNS =====
+
+    /**
+     * View of an ability slot (1-4) for the current class
+     */
+    public static AbilitySlot getAbilitySlot(int slot) {
+        return abilitySlots[slot - 1];
+    }
+}
@@ -1,8 +1,6 @@
 package net.frostimpact.rpgclasses_v2.client.overlay;
 
 import com.mojang.blaze3d.systems.RenderSystem;
-import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
-import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
@@ -16,7 +14,6 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
     private static final int MARGIN = 5;
     private static final int PANEL_WIDTH = 130; // Increased from 120 to fit longer class names
     private static final int LINE_HEIGHT = 12;
-    private static final int XP_PER_CLASS_LEVEL = 100; // Base XP required per class level
     
     @Override
     public void render(GuiGraphics guiGraphics, DeltaTracker deltaTracker) {
@@ -27,8 +24,6 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
         // Don't render if any screen is open
         if (mc.screen != null) return;
         
-        PlayerRPGData rpgData = player.getData(ModAttachments.PLAYER_RPG);
-        
         int panelX = MARGIN;
         int panelY = MARGIN;
         
@@ -44,7 +39,7 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
                 0xCC000000, 0x99000000);
         
         // Draw panel border
-        int borderColor = getClassBorderColor(rpgData.getCurrentClass());
+        int borderColor = HudModel.getClassBorderColor();
         guiGraphics.fill(panelX, panelY, panelX + PANEL_WIDTH, panelY + 1, borderColor);
         guiGraphics.fill(panelX, panelY, panelX + 1, panelY + panelHeight, borderColor);
         guiGraphics.fill(panelX + PANEL_WIDTH - 1, panelY, panelX + PANEL_WIDTH, panelY + panelHeight, borderColor);
@@ -54,27 +49,16 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
         int currentY = panelY + 5;
         
         // Class Name with icon
-        String className = rpgData.getCurrentClass();
-        String classIcon = getClassIcon(className);
-        String classDisplay = classIcon + " " + formatClassName(className);
-        int classColor = getClassColor(className);
-        guiGraphics.drawString(mc.font, classDisplay, textX, currentY, classColor, false);
+        guiGraphics.drawString(mc.font, HudModel.getClassDisplay(), textX, currentY, HudModel.getClassColor(), false);
         currentY += LINE_HEIGHT;
         
         // Player Level (Minecraft XP level)
-        int xpLevel = player.experienceLevel;
-        String levelText = "§aLv. " + xpLevel;
-        guiGraphics.drawString(mc.font, levelText, textX, currentY, 0xFF55FF55, false);
+        guiGraphics.drawString(mc.font, HudModel.getLevelText(), textX, currentY, 0xFF55FF55, false);
         currentY += LINE_HEIGHT;
         
         // Class Level with progress bar
-        int classLevel = rpgData.getClassLevel();
-        int classXP = rpgData.getClassExperience();
-        int xpNeeded = classLevel * XP_PER_CLASS_LEVEL;
-        float progress = (float) classXP / xpNeeded;
-        
-        String classLevelText = "§bClass Lv. " + classLevel;
-        guiGraphics.drawString(mc.font, classLevelText, textX, currentY, 0xFF55FFFF, false);
+        float progress = HudModel.getClassProgress();
+        guiGraphics.drawString(mc.font, HudModel.getClassLevelText(), textX, currentY, 0xFF55FFFF, false);
         
         // XP progress bar
         int barX = panelX + 5;
@@ -94,7 +78,7 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
         RenderSystem.disableBlend();
     }
     
-    private String formatClassName(String className) {
+    static String formatClassName(String className) {
         if (className == null || className.isEmpty() || className.equals("NONE")) {
             return "No Class";
         }
@@ -102,7 +86,7 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
         return className.substring(0, 1).toUpperCase() + className.substring(1).toLowerCase();
     }
     
-    private String getClassIcon(String classId) {
+    static String getClassIcon(String classId) {
         if (classId == null) return "⭐";
         return switch (classId.toLowerCase()) {
             case "warrior" -> "⚔";
@@ -128,7 +112,7 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
         };
     }
     
-    private int getClassColor(String classId) {
+    static int getClassColor(String classId) {
         if (classId == null) return 0xFFAAAAAA;
         return switch (classId.toLowerCase()) {
             case "warrior", "berserker" -> 0xFFFF4444;
@@ -142,7 +126,7 @@ public class LevelDisplayOverlay implements LayeredDraw.Layer {
         };
     }
     
-    private int getClassBorderColor(String classId) {
+    static int getClassBorderColor(String classId) {
         if (classId == null) return 0xFF666666;
         return switch (classId.toLowerCase()) {
             case "warrior", "berserker" -> 0xFFCC3333;
@@ -61,10 +61,9 @@ public class ManaBarOverlay implements LayeredDraw.Layer {
         RenderSystem.disableBlend();
 
         // Draw mana text
-        String manaText = mana + "/" + maxMana;
-        int textX = x + BAR_WIDTH / 2 - mc.font.width(manaText) / 2;
+        int textX = x + BAR_WIDTH / 2 - HudModel.getManaTextWidth() / 2;
         int textY = y + (BAR_HEIGHT - mc.font.lineHeight) / 2;
-        guiGraphics.drawString(mc.font, manaText, textX, textY, 0xFFFFFFFF);
+        guiGraphics.drawString(mc.font, HudModel.getManaText(), textX, textY, 0xFFFFFFFF);
     }
 
     private void drawOrnateFrame(GuiGraphics guiGraphics, int x, int y, int width, int height, int borderColor, int cornerColor) {
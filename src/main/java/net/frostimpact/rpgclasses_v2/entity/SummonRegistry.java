@@ -0,0 +1,159 @@
+package net.frostimpact.rpgclasses_v2.entity;
+
+import net.frostimpact.rpgclasses_v2.RpgClassesMod;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.TamableAnimal;
+import net.minecraft.world.entity.animal.allay.Allay;
+import net.minecraft.world.entity.animal.PolarBear;
+import net.minecraft.world.entity.animal.Wolf;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side index of the mobs summoned by each Beast Master, keyed by owner UUID.
+ * Summons are added when they are spawned, loaded back from disk or moved to another dimension, and removed when they
+ * leave a level (which includes dying),
+ * so passives can look at a player's own summons instead of scanning the area around them.
+ */
+@EventBusSubscriber(modid = RpgClassesMod.MOD_ID)
+public class SummonRegistry {
+
+    /**
+     * What a summon is - companions count towards Beast Bond, stampede beasts don't
+     */
+    public enum Kind {
+        WOLF, BEAR, EAGLE, STAMPEDE;
+
+        public boolean isCompanion() {
+            return this != STAMPEDE;
+        }
+    }
+
+    /**
+     * A summoned mob and its transient ability state
+     */
+    public static class Summon {
+        public final Mob entity;
+        public final UUID ownerUUID;
+        public final Kind kind;
+        public long lastSwoopTime; // Eagle scouts only
+
+        public Summon(Mob entity, UUID ownerUUID, Kind kind) {
+            this.entity = entity;
+            this.ownerUUID = ownerUUID;
+            this.kind = kind;
+        }
+    }
+
+    // Map of owner UUID -> summons of that owner
+    private static final Map<UUID, List<Summon>> summonsByOwner = new ConcurrentHashMap<>();
+    // Map of summon entity UUID -> summon, for removal
+    private static final Map<UUID, Summon> summonsByEntity = new ConcurrentHashMap<>();
+
+    /**
+     * Record a summon for its owner. Registering the same entity again is a no-op; a different owner, kind or
+     * entity instance (after a dimension change) replaces the old entry.
+     */
+    public static Summon register(UUID ownerUUID, Mob entity, Kind kind) {
+        Summon existing = summonsByEntity.get(entity.getUUID());
+        if (existing != null && existing.entity == entity && existing.ownerUUID.equals(ownerUUID) && existing.kind == kind) {
+            return existing;
+        }
+        unregister(entity);
+        Summon summon = new Summon(entity, ownerUUID, kind);
+        summonsByEntity.put(entity.getUUID(), summon);
+        summonsByOwner.computeIfAbsent(ownerUUID, k -> new ArrayList<>()).add(summon);
+        return summon;
+    }
+
+    /**
+     * Forget a summon (no-op if the entity is not a registered summon)
+     */
+    public static void unregister(Entity entity) {
+        Summon summon = summonsByEntity.remove(entity.getUUID());
+        if (summon == null) {
+            return;
+        }
+        List<Summon> owned = summonsByOwner.get(summon.ownerUUID);
+        if (owned != null) {
+            owned.remove(summon);
+            if (owned.isEmpty()) {
+                summonsByOwner.remove(summon.ownerUUID);
+            }
+        }
+    }
+
+    /**
+     * All live summons of a player
+     */
+    public static List<Summon> getSummons(UUID ownerUUID) {
+        return summonsByOwner.getOrDefault(ownerUUID, Collections.emptyList());
+    }
+
+    /**
+     * Count a player's living companions (not stampede beasts) in their level within the given radius
+     */
+    public static int countCompanions(Player owner, double radius) {
+        int count = 0;
+        for (Summon summon : getSummons(owner.getUUID())) {
+            if (summon.kind.isCompanion() && summon.entity.isAlive() && summon.entity.level() == owner.level()
+                    && summon.entity.distanceToSqr(owner) <= radius * radius) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Register summons joining a level: loaded back from disk, or the copy that arrives after a dimension change
+     * (the old entity left its level and was unregistered). Fresh spawns are registered here as well, then
+     * confirmed by the ability's own register call.
+     */
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() || !(event.getEntity() instanceof Mob mob)) {
+            return;
+        }
+        CompoundTag data = mob.getPersistentData();
+        if (!data.getBoolean("rpgclasses_summoned_beast")) {
+            return;
+        }
+
+        UUID ownerUUID = null;
+        if (data.hasUUID("rpgclasses_owner")) {
+            ownerUUID = data.getUUID("rpgclasses_owner");
+        } else if (mob instanceof TamableAnimal tameable) {
+            ownerUUID = tameable.getOwnerUUID();
+        }
+        if (ownerUUID == null) {
+            return;
+        }
+
+        if (mob instanceof Allay) {
+            register(ownerUUID, mob, Kind.EAGLE);
+        } else if (mob instanceof PolarBear) {
+            register(ownerUUID, mob, Kind.BEAR);
+        } else if (mob instanceof Wolf) {
+            register(ownerUUID, mob, Kind.WOLF);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            unregister(event.getEntity());
+        }
+    }
+}
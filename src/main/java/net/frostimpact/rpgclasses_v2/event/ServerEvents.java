@@ -1,30 +1,36 @@
 package net.frostimpact.rpgclasses_v2.event;
 
+import net.frostimpact.rpgclasses_v2.entity.SummonRegistry;
 import net.frostimpact.rpgclasses_v2.networking.ModMessages;
-import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncCooldowns;
-import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMana;
-import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncRPGData;
+import net.frostimpact.rpgclasses_v2.networking.ParticleLod;
+import net.frostimpact.rpgclasses_v2.networking.TickProfiler;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncSeekerCharges;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncStats;
 import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
+import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
+import net.frostimpact.rpgclasses_v2.rpg.stats.PlayerStats;
 import net.frostimpact.rpgclasses_v2.rpg.stats.StatType;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassType;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.ai.attributes.AttributeInstance;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerXpEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
 public class ServerEvents {
     private static final Logger LOGGER = LoggerFactory.getLogger(ServerEvents.class);
-    private static final int MANA_REGEN_INTERVAL = 20; // Regen every second (20 ticks)
     private static final int SEEKER_CHARGE_INTERVAL = 40; // Gain seeker charge every 2 seconds while airborne
     private static final int MOMENTUM_SYNC_INTERVAL = 5; // Sync momentum every 5 ticks (4 times per second)
     private int tickCounter = 0;
@@ -41,222 +47,61 @@ public class ServerEvents {
     
     // Track airborne ticks for seeker charge restoration
     private final Map<UUID, Integer> airborneTickCounter = new HashMap<>();
+    
+    /**
+     * Per-tick passive of one class
+     */
+    private interface ClassTickHandler {
+        void tick(ServerPlayer player, PlayerRPGData rpgData, PlayerStats stats);
+    }
+    
+    // Class -> per-tick passive handler (classes without tick passives have no entry)
+    private final Map<ClassType, ClassTickHandler> classTickHandlers = new EnumMap<>(ClassType.class);
+    
+    public ServerEvents() {
+        classTickHandlers.put(ClassType.HAWKEYE, this::tickHawkeye);
+        classTickHandlers.put(ClassType.BEASTMASTER, this::tickBeastMaster);
+        classTickHandlers.put(ClassType.MARKSMAN, this::tickMarksman);
+        classTickHandlers.put(ClassType.LANCER, this::tickLancer);
+    }
 
     @SubscribeEvent
     public void onServerTick(ServerTickEvent.Pre event) {
         tickCounter++;
         
-        // Tick timed ability effects (Rain of Arrows, Seeker projectiles)
-        ModMessages.tickTimedEffects();
-        
-        // Get any server level for global updates
-        if (!event.getServer().getAllLevels().iterator().hasNext()) {
-            return;
-        }
-        net.minecraft.server.level.ServerLevel serverLevel = event.getServer().getAllLevels().iterator().next();
-        
-        // Update status effects for Ravager (BLEED, GRIEVOUS WOUNDS)
-        ModMessages.updateStatusEffects(serverLevel);
-        
-        // Update Warrior Leaps
-        ModMessages.updateWarriorLeaps(serverLevel);
-        
-        // Update Lancer Piercing Charge and Comet impacts
-        ModMessages.updateLancerAbilities(serverLevel);
-        
-        // Update Ravager Heartstoppers
-        ModMessages.updateRavagerHeartstoppers(serverLevel);
-        
-        // Update Tearing Hook pulls
-        ModMessages.updateTearingHookPulls(serverLevel);
-        
-        // Update Berserker RAGE system
-        ModMessages.updateBerserkerRage(serverLevel);
+        // Cooldowns are stored as absolute game ticks; only the clock used for saving needs updating
+        PlayerRPGData.updateServerGameTime(event.getServer().overworld().getGameTime());
         
-        // Update Fatespinner Thread system
-        ModMessages.updateFatespinnerThreads(serverLevel);
-        
-        // Update Fatespinner Manaflux channel
-        ModMessages.updateManafluxChannel(serverLevel);
+        // Tick timed per-caster effects (Rain of Arrows, Headshot charges, Marks)
+        long profileStart = TickProfiler.start();
+        ModMessages.tickTimedEffects();
+        profileStart = TickProfiler.lap(TickProfiler.Section.TIMED_EFFECTS, profileStart);
 
         event.getServer().getPlayerList().getPlayers().forEach(player -> {
-            // Tick cooldowns
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-            rpgData.tickCooldowns();
 
             // Tick stat modifiers
             var stats = player.getData(ModAttachments.PLAYER_STATS);
             stats.tick();
             
-            // HAWKEYE AERIAL AFFINITY & GLIDE PASSIVE: Restore seeker charges while mid-air + auto-apply Slow Falling
-            if (rpgData.getCurrentClass() != null && rpgData.getCurrentClass().equalsIgnoreCase("hawkeye")) {
-                if (!player.onGround() && !player.isInWater() && !player.isInLava()) {
-                    // Player is airborne
-                    int airTicks = airborneTickCounter.getOrDefault(player.getUUID(), 0) + 1;
-                    airborneTickCounter.put(player.getUUID(), airTicks);
-                    
-                    // GLIDE PASSIVE: Auto-apply Slow Falling I while airborne
-                    if (!player.hasEffect(net.minecraft.world.effect.MobEffects.SLOW_FALLING)) {
-                        player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
-                                net.minecraft.world.effect.MobEffects.SLOW_FALLING, 40, 0, false, false));
-                    }
-                    
-                    // Every SEEKER_CHARGE_INTERVAL ticks while airborne, add a seeker charge
-                    if (airTicks % SEEKER_CHARGE_INTERVAL == 0) {
-                        int oldCharges = rpgData.getSeekerCharges();
-                        rpgData.addSeekerCharge();
-                        int newCharges = rpgData.getSeekerCharges();
-                        
-                        if (newCharges > oldCharges) {
-                            // Sync to client
-                            ModMessages.sendToPlayer(new PacketSyncSeekerCharges(newCharges), player);
-                            LOGGER.debug("Hawkeye {} gained aerial seeker charge, now has {}", 
-                                    player.getName().getString(), newCharges);
-                        }
-                    }
-                } else {
-                    // Player is grounded - reset counter
-                    airborneTickCounter.put(player.getUUID(), 0);
-                }
-            }
-            
-            // BEAST MASTER BEAST BOND PASSIVE: +5% damage per active beast companion (max 3 stacks = +15%)
-            if (rpgData.getCurrentClass() != null && rpgData.getCurrentClass().equalsIgnoreCase("beastmaster")) {
-                // Count active summoned beasts nearby (within 30 blocks)
-                int activeBeastCount = countNearbyBeastCompanions(player);
-                
-                // Remove old beast bond modifier
-                stats.removeModifier("beast_bond", net.frostimpact.rpgclasses_v2.rpg.stats.StatType.DAMAGE);
-                
-                // Apply new beast bond modifier if beasts are present
-                if (activeBeastCount > 0) {
-                    int maxStacks = 3;
-                    int effectiveBeastCount = Math.min(activeBeastCount, maxStacks);
-                    int damageBonus = effectiveBeastCount * 5; // 5% per beast, max 15%
-                    
-                    stats.addModifier(new net.frostimpact.rpgclasses_v2.rpg.stats.StatModifier(
-                            "beast_bond",
-                            net.frostimpact.rpgclasses_v2.rpg.stats.StatType.DAMAGE,
-                            damageBonus,
-                            -1 // Permanent until removed
-                    ));
-                }
-                
-                // EAGLE SPECIAL ABILITY: Periodically swoop and mark enemies
-                handleEagleScoutAbility(player);
-            }
-            
-            // MARKSMAN FOCUS MODE: Mana drain (3 mana/sec) and slow falling mid-air
-            if (rpgData.getCurrentClass() != null && rpgData.getCurrentClass().equalsIgnoreCase("marksman")) {
-                if (rpgData.isInFocusMode()) {
-                    // Drain mana every 20 ticks (1 second) - 3 mana per second
-                    if (tickCounter % 20 == 0) {
-                        int currentMana = rpgData.getMana();
-                        if (currentMana >= 3) {
-                            rpgData.useMana(3);
-                            ModMessages.sendToPlayer(
-                                    new net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMana(
-                                            rpgData.getMana(), rpgData.getMaxMana()),
-                                    player
-                            );
-                        } else {
-                            // Out of mana - exit FOCUS mode
-                            rpgData.setInFocusMode(false);
-                            player.displayClientMessage(net.minecraft.network.chat.Component.literal(
-                                    "§cOut of mana! FOCUS mode disabled."), true);
-                        }
-                    }
-                    
-                    // Apply slow falling if mid-air (like FOCUS mid-air feature)
-                    if (!player.onGround() && !player.isInWater() && !player.isInLava()) {
-                        if (!player.hasEffect(net.minecraft.world.effect.MobEffects.SLOW_FALLING)) {
-                            player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
-                                    net.minecraft.world.effect.MobEffects.SLOW_FALLING, 40, 0, false, false));
-                        }
-                    }
-                }
+            // Class passives - exactly one handler per player, looked up by the class resolved at selection
+            ClassTickHandler classHandler = classTickHandlers.get(rpgData.getClassType());
+            if (classHandler != null) {
+                classHandler.tick(player, rpgData, stats);
             }
             
-            // LANCER MOMENTUM SYSTEM: Calculate momentum based on velocity and apply sprint speed boost
-            if (rpgData.getCurrentClass() != null && rpgData.getCurrentClass().equalsIgnoreCase("lancer")) {
-                // Calculate momentum from velocity (0-100 scale)
-                net.minecraft.world.phys.Vec3 velocity = player.getDeltaMovement();
-                double horizontalSpeed = Math.sqrt(velocity.x * velocity.x + velocity.z * velocity.z);
-                
-                // Max momentum at ~0.3 blocks/tick (sprinting speed)
-                float momentum = (float) Math.min(100.0, (horizontalSpeed / 0.3) * 100.0);
-                rpgData.setMomentum(momentum);
-                
-                // Track sprint time for speed boost
-                if (player.isSprinting()) {
-                    if (rpgData.getSprintStartTime() == 0) {
-                        rpgData.setSprintStartTime(player.level().getGameTime());
-                    }
-                    
-                    long sprintDuration = player.level().getGameTime() - rpgData.getSprintStartTime();
-                    // After 1.5s (30 ticks) of sprinting, apply gradual speed boost up to +50
-                    if (sprintDuration >= 30) {
-                        // Gradual increase over next 2s (40 ticks), maxing at +50
-                        long boostTicks = sprintDuration - 30;
-                        float speedBoost = Math.min(50.0f, (boostTicks / 40.0f) * 50.0f);
-                        
-                        // Remove old momentum speed modifier
-                        stats.removeModifier("lancer_momentum_speed", net.frostimpact.rpgclasses_v2.rpg.stats.StatType.MOVE_SPEED);
-                        
-                        // Apply new momentum speed modifier
-                        if (speedBoost > 0) {
-                            stats.addModifier(new net.frostimpact.rpgclasses_v2.rpg.stats.StatModifier(
-                                    "lancer_momentum_speed",
-                                    net.frostimpact.rpgclasses_v2.rpg.stats.StatType.MOVE_SPEED,
-                                    speedBoost,
-                                    -1 // Permanent until removed
-                            ));
-                        }
-                    }
-                } else {
-                    // Not sprinting - reset sprint timer and remove speed boost
-                    rpgData.setSprintStartTime(0);
-                    stats.removeModifier("lancer_momentum_speed", net.frostimpact.rpgclasses_v2.rpg.stats.StatType.MOVE_SPEED);
-                }
-                
-                // Check if momentum is at max (100) and set empowered attack flag
-                if (momentum >= 100.0f && !rpgData.isEmpoweredAttack()) {
-                    rpgData.setEmpoweredAttack(true);
-                    player.displayClientMessage(net.minecraft.network.chat.Component.literal(
-                            "§e§lEMPOWERED! §7Your next melee attack is empowered!"), true);
-                    
-                    // Spawn special max momentum particle effect
-                    ModMessages.spawnMaxMomentumEffectForPlayer(serverLevel, player);
-                }
-                
-                // Sync momentum to client every tick for smooth bar updates
-                if (tickCounter % MOMENTUM_SYNC_INTERVAL == 0) {
-                    ModMessages.sendToPlayer(new net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMomentum(
-                            rpgData.getMomentum(),
-                            rpgData.isEmpoweredAttack()
-                    ), player);
-                }
-            }
-
-            // Mana regeneration and cooldown sync
-            if (tickCounter % MANA_REGEN_INTERVAL == 0) {
+            // Mana regeneration on game-time intervals; the client predicts the same steps, so only a
+            // change of regen rate or FOCUS mode is synced, plus a periodic correction
+            long gameTime = player.level().getGameTime();
+            if (gameTime % PlayerRPGData.MANA_REGEN_INTERVAL_TICKS == 0) {
                 int manaRegenBonus = stats.getIntStatValue(StatType.MANA_REGEN);
-                int baseRegen = 1;
-                int regenAmount = baseRegen + manaRegenBonus;
-
-                int oldMana = rpgData.getMana();
-                rpgData.regenMana(regenAmount);
-
-                // Sync if mana changed
-                if (rpgData.getMana() != oldMana) {
-                    ModMessages.sendToPlayer(
-                            new PacketSyncMana(rpgData.getMana(), rpgData.getMaxMana()),
-                            player
-                    );
+                rpgData.setManaRegenRate(PlayerRPGData.BASE_MANA_REGEN + manaRegenBonus);
+                rpgData.tickManaRegen();
+                // Only when the prediction can drift - idle players at full mana cost nothing
+                if (gameTime % PlayerRPGData.MANA_RESYNC_INTERVAL_TICKS == 0
+                        && (rpgData.getMana() < rpgData.getMaxMana() || rpgData.isInFocusMode())) {
+                    rpgData.markDirty(PlayerRPGData.DIRTY_MANA);
                 }
-                
-                // Sync cooldowns periodically
-                ModMessages.sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), player);
             }
 
             // Apply movement speed modifier only if it changed
@@ -300,6 +145,223 @@ public class ServerEvents {
                 lastDamageStats.put(player.getUUID(), currentDamageStat);
             }
         });
+        TickProfiler.stop(TickProfiler.Section.PLAYER_TICK, profileStart);
+    }
+
+    /**
+     * HAWKEYE AERIAL AFFINITY & GLIDE PASSIVE: Restore seeker charges while mid-air + auto-apply Slow Falling
+     */
+    private void tickHawkeye(ServerPlayer player, PlayerRPGData rpgData, PlayerStats stats) {
+        if (!player.onGround() && !player.isInWater() && !player.isInLava()) {
+            // Player is airborne
+            int airTicks = airborneTickCounter.getOrDefault(player.getUUID(), 0) + 1;
+            airborneTickCounter.put(player.getUUID(), airTicks);
+            
+            // GLIDE PASSIVE: Auto-apply Slow Falling I while airborne
+            if (!player.hasEffect(net.minecraft.world.effect.MobEffects.SLOW_FALLING)) {
+                player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
+                        net.minecraft.world.effect.MobEffects.SLOW_FALLING, 40, 0, false, false));
+            }
+            
+            // Every SEEKER_CHARGE_INTERVAL ticks while airborne, add a seeker charge
+            if (airTicks % SEEKER_CHARGE_INTERVAL == 0) {
+                int oldCharges = rpgData.getSeekerCharges();
+                rpgData.addSeekerCharge();
+                int newCharges = rpgData.getSeekerCharges();
+                
+                if (newCharges > oldCharges) {
+                    // Sync to client
+                    ModMessages.sendToPlayer(new PacketSyncSeekerCharges(newCharges), player);
+                    LOGGER.debug("Hawkeye {} gained aerial seeker charge, now has {}", 
+                            player.getName().getString(), newCharges);
+                }
+            }
+        } else {
+            // Player is grounded - reset counter
+            airborneTickCounter.put(player.getUUID(), 0);
+        }
+    }
+
+    /**
+     * BEAST MASTER BEAST BOND PASSIVE: +5% damage per active beast companion (max 3 stacks = +15%)
+     */
+    private void tickBeastMaster(ServerPlayer player, PlayerRPGData rpgData, PlayerStats stats) {
+        // Count active summoned beasts nearby (within 30 blocks)
+        int activeBeastCount = countNearbyBeastCompanions(player);
+        
+        // Remove old beast bond modifier
+        stats.removeModifier("beast_bond", net.frostimpact.rpgclasses_v2.rpg.stats.StatType.DAMAGE);
+        
+        // Apply new beast bond modifier if beasts are present
+        if (activeBeastCount > 0) {
+            int maxStacks = 3;
+            int effectiveBeastCount = Math.min(activeBeastCount, maxStacks);
+            int damageBonus = effectiveBeastCount * 5; // 5% per beast, max 15%
+            
+            stats.addModifier(new net.frostimpact.rpgclasses_v2.rpg.stats.StatModifier(
+                    "beast_bond",
+                    net.frostimpact.rpgclasses_v2.rpg.stats.StatType.DAMAGE,
+                    damageBonus,
+                    -1 // Permanent until removed
+            ));
+        }
+        
+        // EAGLE SPECIAL ABILITY: Periodically swoop and mark enemies
+        handleEagleScoutAbility(player);
+    }
+
+    /**
+     * MARKSMAN FOCUS MODE: Mana drain (3 mana/sec) and slow falling mid-air
+     */
+    private void tickMarksman(ServerPlayer player, PlayerRPGData rpgData, PlayerStats stats) {
+        if (rpgData.isInFocusMode()) {
+            // The 3 mana per second drain is applied with mana regeneration (PlayerRPGData.tickManaRegen)
+            if (player.level().getGameTime() % PlayerRPGData.MANA_REGEN_INTERVAL_TICKS == 0
+                    && rpgData.getMana() < PlayerRPGData.FOCUS_MANA_DRAIN) {
+                // Out of mana - exit FOCUS mode
+                rpgData.setInFocusMode(false);
+                player.displayClientMessage(net.minecraft.network.chat.Component.literal(
+                        "§cOut of mana! FOCUS mode disabled."), true);
+            }
+            
+            // Apply slow falling if mid-air (like FOCUS mid-air feature)
+            if (!player.onGround() && !player.isInWater() && !player.isInLava()) {
+                if (!player.hasEffect(net.minecraft.world.effect.MobEffects.SLOW_FALLING)) {
+                    player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
+                            net.minecraft.world.effect.MobEffects.SLOW_FALLING, 40, 0, false, false));
+                }
+            }
+        }
+    }
+
+    /**
+     * LANCER MOMENTUM SYSTEM: Calculate momentum based on velocity and apply sprint speed boost
+     */
+    private void tickLancer(ServerPlayer player, PlayerRPGData rpgData, PlayerStats stats) {
+        // Calculate momentum from velocity (0-100 scale)
+        net.minecraft.world.phys.Vec3 velocity = player.getDeltaMovement();
+        double horizontalSpeed = Math.sqrt(velocity.x * velocity.x + velocity.z * velocity.z);
+        
+        // Max momentum at ~0.3 blocks/tick (sprinting speed)
+        float momentum = (float) Math.min(100.0, (horizontalSpeed / 0.3) * 100.0);
+        rpgData.setMomentum(momentum);
+        
+        // Track sprint time for speed boost
+        if (player.isSprinting()) {
+            if (rpgData.getSprintStartTime() == 0) {
+                rpgData.setSprintStartTime(player.level().getGameTime());
+            }
+            
+            long sprintDuration = player.level().getGameTime() - rpgData.getSprintStartTime();
+            // After 1.5s (30 ticks) of sprinting, apply gradual speed boost up to +50
+            if (sprintDuration >= 30) {
+                // Gradual increase over next 2s (40 ticks), maxing at +50
+                long boostTicks = sprintDuration - 30;
+                float speedBoost = Math.min(50.0f, (boostTicks / 40.0f) * 50.0f);
+                
+                // Remove old momentum speed modifier
+                stats.removeModifier("lancer_momentum_speed", net.frostimpact.rpgclasses_v2.rpg.stats.StatType.MOVE_SPEED);
+                
+                // Apply new momentum speed modifier
+                if (speedBoost > 0) {
+                    stats.addModifier(new net.frostimpact.rpgclasses_v2.rpg.stats.StatModifier(
+                            "lancer_momentum_speed",
+                            net.frostimpact.rpgclasses_v2.rpg.stats.StatType.MOVE_SPEED,
+                            speedBoost,
+                            -1 // Permanent until removed
+                    ));
+                }
+            }
+        } else {
+            // Not sprinting - reset sprint timer and remove speed boost
+            rpgData.setSprintStartTime(0);
+            stats.removeModifier("lancer_momentum_speed", net.frostimpact.rpgclasses_v2.rpg.stats.StatType.MOVE_SPEED);
+        }
+        
+        // Check if momentum is at max (100) and set empowered attack flag
+        if (momentum >= 100.0f && !rpgData.isEmpoweredAttack()) {
+            rpgData.setEmpoweredAttack(true);
+            player.displayClientMessage(net.minecraft.network.chat.Component.literal(
+                    "§e§lEMPOWERED! §7Your next melee attack is empowered!"), true);
+            
+            // Spawn special max momentum particle effect
+            ModMessages.spawnMaxMomentumEffectForPlayer(player.serverLevel(), player);
+        }
+        
+        // Sync momentum to client every tick for smooth bar updates
+        if (tickCounter % MOMENTUM_SYNC_INTERVAL == 0) {
+            ModMessages.sendToPlayer(new net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMomentum(
+                    rpgData.getMomentum(),
+                    rpgData.isEmpoweredAttack()
+            ), player);
+        }
+    }
+
+    /**
+     * Flush RPG data changed during this tick to each client, once per player, then close the profiler tick
+     */
+    @SubscribeEvent
+    public void onServerTickEnd(ServerTickEvent.Post event) {
+        long profileStart = TickProfiler.start();
+        event.getServer().getPlayerList().getPlayers().forEach(ModMessages::flushPlayerSync);
+        TickProfiler.stop(TickProfiler.Section.PLAYER_SYNC, profileStart);
+        TickProfiler.endTick();
+    }
+
+    /**
+     * Per-dimension ability pipeline. Each ServerLevel ticks only its own players,
+     * projectiles and status effects, so players outside the overworld are updated too.
+     */
+    @SubscribeEvent
+    public void onLevelTick(LevelTickEvent.Pre event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        
+        long profileStart = TickProfiler.start();
+        
+        // Update ability projectiles (Seekers, Piercing Arrows, Cleaves, Ruptures, Weaves)
+        ModMessages.updateLevelProjectiles(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.PROJECTILES, profileStart);
+        
+        // Update status effects for Ravager (BLEED, GRIEVOUS WOUNDS)
+        ModMessages.updateStatusEffects(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.STATUS_EFFECTS, profileStart);
+        
+        // Update Warrior Leaps
+        ModMessages.updateWarriorLeaps(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.WARRIOR_LEAPS, profileStart);
+        
+        // Update Lancer Piercing Charge and Comet impacts
+        ModMessages.updateLancerAbilities(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.LANCER_ABILITIES, profileStart);
+        
+        // Update Ravager Heartstoppers
+        ModMessages.updateRavagerHeartstoppers(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.HEARTSTOPPERS, profileStart);
+        
+        // Run deferred ability actions (multi-hit abilities, Tearing Hook pulls, staggered visuals)
+        ModMessages.updateScheduledAbilities(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.SCHEDULED_ABILITIES, profileStart);
+        
+        // Update Berserker RAGE system
+        ModMessages.updateBerserkerRage(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.BERSERKER_RAGE, profileStart);
+        
+        // Update Fatespinner Thread system
+        ModMessages.updateFatespinnerThreads(serverLevel);
+        profileStart = TickProfiler.lap(TickProfiler.Section.FATESPINNER_THREADS, profileStart);
+        
+        // Update Fatespinner Manaflux channel
+        ModMessages.updateManafluxChannel(serverLevel);
+        TickProfiler.stop(TickProfiler.Section.MANAFLUX_CHANNEL, profileStart);
+    }
+    
+    @SubscribeEvent
+    public void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            ModMessages.removeLevelState(serverLevel);
+        }
     }
 
     @SubscribeEvent
@@ -314,7 +376,9 @@ public class ServerEvents {
             lastPlayerLevels.remove(playerUUID);
             airborneTickCounter.remove(playerUUID);
             // Clean up any active Rain of Arrows effects for this player
-            ModMessages.getActiveRainEffects().remove(playerUUID);
+            ModMessages.removeRainEffect(playerUUID);
+            ParticleLod.forget(playerUUID);
+            ModMessages.cancelScheduledAbilities(playerUUID);
         }
     }
     
@@ -325,21 +389,14 @@ public class ServerEvents {
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
             var stats = player.getData(ModAttachments.PLAYER_STATS);
             
-            ModMessages.sendToPlayer(new PacketSyncMana(rpgData.getMana(), rpgData.getMaxMana()), player);
+            // Mana, cooldowns and progression go out with the next delta
+            rpgData.markDirty(PlayerRPGData.DIRTY_ALL);
             ModMessages.sendToPlayer(new PacketSyncStats(stats.getModifiers()), player);
-            ModMessages.sendToPlayer(new PacketSyncRPGData(
-                    rpgData.getCurrentClass(),
-                    rpgData.getLevel(),
-                    rpgData.getClassLevel(),
-                    rpgData.getClassExperience(),
-                    rpgData.getAvailableStatPoints(),
-                    rpgData.getAvailableSkillPoints()
-            ), player);
             // Sync seeker charges for Hawkeye class
             ModMessages.sendToPlayer(new PacketSyncSeekerCharges(rpgData.getSeekerCharges()), player);
             
             // Sync RAGE data for Berserker class
-            if (rpgData.getCurrentClass() != null && rpgData.getCurrentClass().equalsIgnoreCase("berserker")) {
+            if (rpgData.getClassType() == ClassType.BERSERKER) {
                 ModMessages.sendToPlayer(new net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncRage(
                         rpgData.getRage(),
                         rpgData.isEnraged(),
@@ -350,7 +407,7 @@ public class ServerEvents {
             }
             
             // Sync Momentum data for Lancer class
-            if (rpgData.getCurrentClass() != null && rpgData.getCurrentClass().equalsIgnoreCase("lancer")) {
+            if (rpgData.getClassType() == ClassType.LANCER) {
                 ModMessages.sendToPlayer(new net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMomentum(
                         rpgData.getMomentum(),
                         rpgData.isEmpoweredAttack()
@@ -364,6 +421,23 @@ public class ServerEvents {
         }
     }
     
+    /**
+     * The client recreates its player on respawn and dimension change, losing its copy of the data - resend it
+     */
+    @SubscribeEvent
+    public void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            player.getData(ModAttachments.PLAYER_RPG).markDirty(PlayerRPGData.DIRTY_ALL);
+        }
+    }
+    
+    @SubscribeEvent
+    public void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            player.getData(ModAttachments.PLAYER_RPG).markDirty(PlayerRPGData.DIRTY_ALL);
+        }
+    }
+    
     @SubscribeEvent
     public void onPlayerLevelChange(PlayerXpEvent.LevelChange event) {
         if (event.getEntity() instanceof ServerPlayer player) {
@@ -384,15 +458,6 @@ public class ServerEvents {
                 LOGGER.info("Player {} gained {} level(s), now has {} stat points", 
                         player.getName().getString(), levelsGained, rpgData.getAvailableStatPoints());
                 
-                // Sync to client
-                ModMessages.sendToPlayer(new PacketSyncRPGData(
-                        rpgData.getCurrentClass(),
-                        rpgData.getLevel(),
-                        rpgData.getClassLevel(),
-                        rpgData.getClassExperience(),
-                        rpgData.getAvailableStatPoints(),
-                        rpgData.getAvailableSkillPoints()
-                ), player);
             }
         }
     }
@@ -415,7 +480,7 @@ public class ServerEvents {
         if (attackSpeedAttribute != null) {
             // Check if player is Ravager - they cannot gain attack speed bonuses
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-            if (rpgData.getCurrentClass() != null && rpgData.getCurrentClass().equalsIgnoreCase("ravager")) {
+            if (rpgData.getClassType() == ClassType.RAVAGER) {
                 // Ravagers don't get attack speed bonus - it's converted to BLEED duration
                 double baseAttackSpeed = 4.0;
                 attackSpeedAttribute.setBaseValue(baseAttackSpeed);
@@ -480,66 +545,27 @@ public class ServerEvents {
      * Count nearby beast companions summoned by the player (for Beast Bond passive)
      */
     private int countNearbyBeastCompanions(ServerPlayer player) {
-        double searchRadius = 30.0;
-        net.minecraft.world.phys.AABB searchBox = player.getBoundingBox().inflate(searchRadius);
-        
-        java.util.List<net.minecraft.world.entity.Entity> entities = player.level().getEntities(player, searchBox,
-                e -> e instanceof net.minecraft.world.entity.Mob);
-        
-        int count = 0;
-        for (net.minecraft.world.entity.Entity entity : entities) {
-            // Check if entity is marked as a summoned beast
-            if (entity.getPersistentData().getBoolean("rpgclasses_summoned_beast")) {
-                // Verify owner matches (if owner is stored)
-                if (entity.getPersistentData().contains("rpgclasses_owner")) {
-                    java.util.UUID ownerUUID = entity.getPersistentData().getUUID("rpgclasses_owner");
-                    if (ownerUUID.equals(player.getUUID()) && entity.isAlive()) {
-                        count++;
-                    }
-                } else if (entity instanceof net.minecraft.world.entity.TamableAnimal tameable) {
-                    // For tameable animals (wolves), check if owned by player
-                    if (tameable.getOwnerUUID() != null && tameable.getOwnerUUID().equals(player.getUUID()) && 
-                            tameable.getPersistentData().getBoolean("rpgclasses_summoned_beast")) {
-                        count++;
-                    }
-                }
-            }
-        }
-        
-        return count;
+        return SummonRegistry.countCompanions(player, 30.0);
     }
     
     /**
      * Handle eagle scout special ability - swoops down and marks/damages enemies
      */
     private void handleEagleScoutAbility(ServerPlayer player) {
-        // Find nearby eagle scouts summoned by this player
+        // Eagle scouts summoned by this player within 40 blocks
         double searchRadius = 40.0;
-        net.minecraft.world.phys.AABB searchBox = player.getBoundingBox().inflate(searchRadius);
         
-        java.util.List<net.minecraft.world.entity.Entity> entities = player.level().getEntities(player, searchBox,
-                e -> e instanceof net.minecraft.world.entity.animal.allay.Allay);
-        
-        for (net.minecraft.world.entity.Entity entity : entities) {
-            if (entity instanceof net.minecraft.world.entity.animal.allay.Allay eagle) {
-                // Check if this is an eagle scout
-                if (!eagle.getPersistentData().getBoolean("rpgclasses_eagle_scout")) {
-                    continue;
-                }
-                
-                // Verify ownership
-                if (!eagle.getPersistentData().contains("rpgclasses_owner")) {
-                    continue;
-                }
-                java.util.UUID ownerUUID = eagle.getPersistentData().getUUID("rpgclasses_owner");
-                if (!ownerUUID.equals(player.getUUID())) {
+        for (SummonRegistry.Summon summon : SummonRegistry.getSummons(player.getUUID())) {
+            if (summon.kind == SummonRegistry.Kind.EAGLE) {
+                net.minecraft.world.entity.Mob eagle = summon.entity;
+                if (!eagle.isAlive() || eagle.level() != player.level()
+                        || eagle.distanceToSqr(player) > searchRadius * searchRadius) {
                     continue;
                 }
                 
                 // Check if it's time for a swoop (every 5 seconds)
                 long currentTime = player.level().getGameTime();
-                long lastSwoop = eagle.getPersistentData().getLong("rpgclasses_last_swoop");
-                if (currentTime - lastSwoop < 100) { // 100 ticks = 5 seconds
+                if (currentTime - summon.lastSwoopTime < 100) { // 100 ticks = 5 seconds
                     continue;
                 }
                 
@@ -548,6 +574,7 @@ public class ServerEvents {
                 java.util.List<net.minecraft.world.entity.Entity> nearbyEnemies = player.level().getEntities(eagle, eagleBox,
                         e -> e instanceof net.minecraft.world.entity.monster.Monster && 
                              e instanceof net.minecraft.world.entity.LivingEntity);
+                TickProfiler.count(TickProfiler.Counter.ENTITIES_SCANNED, nearbyEnemies.size());
                 
                 if (!nearbyEnemies.isEmpty()) {
                     // Pick closest enemy
@@ -582,7 +609,7 @@ public class ServerEvents {
                         }
                         
                         // Update last swoop time
-                        eagle.getPersistentData().putLong("rpgclasses_last_swoop", currentTime);
+                        summon.lastSwoopTime = currentTime;
                         
                         LOGGER.debug("Eagle scout swooped on enemy for player {}", player.getName().getString());
                     }
@@ -597,6 +624,11 @@ public class ServerEvents {
      */
     @SubscribeEvent
     public void onLivingDeath(net.neoforged.neoforge.event.entity.living.LivingDeathEvent event) {
+        // Drop a dead player's pending multi-hit abilities and pulls
+        if (event.getEntity() instanceof ServerPlayer player) {
+            ModMessages.cancelScheduledAbilities(player.getUUID());
+        }
+        
         if (event.getEntity() instanceof net.minecraft.world.entity.Mob mob) {
             // Check if this is a summoned beast
             if (mob.getPersistentData().getBoolean("rpgclasses_summoned_beast")) {
@@ -622,10 +654,10 @@ public class ServerEvents {
         // Check if damage source is a player
         if (event.getSource().getEntity() instanceof ServerPlayer player) {
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-            String currentClass = rpgData.getCurrentClass();
+            ClassType classType = rpgData.getClassType();
             
             // Ravager BLEED passive
-            if (currentClass != null && currentClass.equalsIgnoreCase("ravager")) {
+            if (classType == ClassType.RAVAGER) {
                 // Apply BLEED to target
                 if (event.getEntity() instanceof net.minecraft.world.entity.LivingEntity target) {
                     // Calculate BLEED duration based on attack speed
@@ -645,7 +677,7 @@ public class ServerEvents {
             }
             
             // Berserker RAGE gain and lifesteal
-            if (currentClass != null && currentClass.equalsIgnoreCase("berserker")) {
+            if (classType == ClassType.BERSERKER) {
                 float damageDealt = event.getNewDamage();
                 
                 // Add RAGE from damage dealt (5% of damage)
@@ -656,7 +688,7 @@ public class ServerEvents {
             }
             
             // Lancer empowered attack
-            if (currentClass != null && currentClass.equalsIgnoreCase("lancer")) {
+            if (classType == ClassType.LANCER) {
                 if (rpgData.isEmpoweredAttack() && event.getEntity() instanceof net.minecraft.world.entity.LivingEntity target) {
                     // Deal bonus damage (50% more)
                     float bonusDamage = event.getNewDamage() * 0.5f;
@@ -692,17 +724,18 @@ public class ServerEvents {
         if (event.getEntity() instanceof ServerPlayer player) {
             // Prevent fall damage after Warrior Leap
             if (event.getSource().is(net.minecraft.world.damagesource.DamageTypes.FALL)) {
-                if (player.getPersistentData().getBoolean("warrior_leap_no_fall_damage")) {
+                var abilityState = player.getData(ModAttachments.ABILITY_STATE);
+                if (abilityState.isLeapNoFallDamage()) {
                     event.setCanceled(true);
-                    player.getPersistentData().remove("warrior_leap_no_fall_damage");
+                    abilityState.setLeapNoFallDamage(false);
                     return;
                 }
             }
             
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-            String currentClass = rpgData.getCurrentClass();
+            ClassType classType = rpgData.getClassType();
             
-            if (currentClass != null && currentClass.equalsIgnoreCase("berserker")) {
+            if (classType == ClassType.BERSERKER) {
                 // Add RAGE from taking damage (10 per hit, 3s cooldown)
                 if (player.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
                     ModMessages.addRageFromDamageTaken(player, serverLevel);
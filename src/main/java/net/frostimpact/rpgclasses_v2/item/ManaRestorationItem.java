@@ -1,7 +1,5 @@
 package net.frostimpact.rpgclasses_v2.item;
 
-import net.frostimpact.rpgclasses_v2.networking.ModMessages;
-import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMana;
 import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
@@ -41,9 +39,6 @@ public class ManaRestorationItem extends Item {
                 // Restore mana to max
                 rpgData.setMana(maxMana);
                 
-                // Sync mana to client
-                ModMessages.sendToPlayer(new PacketSyncMana(rpgData.getMana(), rpgData.getMaxMana()), serverPlayer);
-                
                 // Consume the item
                 if (!player.getAbilities().instabuild) {
                     itemStack.shrink(1);
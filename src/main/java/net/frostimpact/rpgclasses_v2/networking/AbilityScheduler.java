@@ -0,0 +1,163 @@
+package net.frostimpact.rpgclasses_v2.networking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deferred ability actions for one level, bucketed by the game tick they are due on (a hashed timing wheel).
+ * Each tick only the bucket for that tick is visited. Jobs can repeat every few ticks and be cancelled
+ * one at a time through their {@link Handle} or all at once for a player.
+ */
+public class AbilityScheduler {
+    private static final int WHEEL_SIZE = 64; // Power of two; jobs further out wait extra rotations in their bucket
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    /**
+     * Action run once per repetition, with the repetition index (0 for the first run)
+     */
+    public interface RepeatingAction {
+        void run(int iteration);
+    }
+
+    /**
+     * A scheduled job. Cancelling drops the action right away so it stops holding on to players and entities.
+     */
+    public static class Handle {
+        private final UUID owner;
+        private RepeatingAction action;
+        private long dueTick;
+        private final int interval;
+        private final int times;
+        private int iteration;
+
+        private Handle(UUID owner, RepeatingAction action, int interval, int times) {
+            this.owner = owner;
+            this.action = action;
+            this.interval = interval;
+            this.times = times;
+        }
+
+        public void cancel() {
+            action = null;
+        }
+
+        public boolean isDone() {
+            return action == null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final List<Handle>[] buckets = new List[WHEEL_SIZE];
+    private long lastTick = Long.MIN_VALUE;
+
+    public AbilityScheduler() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Run an action once, delay ticks from now. Owner may be null for jobs no player can cancel.
+     */
+    public Handle schedule(UUID owner, long now, int delay, Runnable action) {
+        return repeat(owner, now, delay, 1, 1, iteration -> action.run());
+    }
+
+    /**
+     * Run an action times times, the first after delay ticks and then every interval ticks.
+     * A delay of 0 runs the first repetition immediately.
+     */
+    public Handle repeat(UUID owner, long now, int delay, int interval, int times, RepeatingAction action) {
+        Handle job = new Handle(owner, action, Math.max(1, interval), times);
+        if (delay <= 0) {
+            runOnce(job);
+            if (job.isDone()) {
+                return job;
+            }
+            delay = job.interval;
+        }
+        job.dueTick = now + delay;
+        insert(job);
+        return job;
+    }
+
+    /**
+     * Cancel every job owned by a player (on death or logout)
+     */
+    public void cancelAll(UUID owner) {
+        for (List<Handle> bucket : buckets) {
+            for (Handle job : bucket) {
+                if (owner.equals(job.owner)) {
+                    job.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Run every job due up to and including the given game tick
+     */
+    public void tick(long now) {
+        if (lastTick == Long.MIN_VALUE || now - lastTick > WHEEL_SIZE) {
+            // First tick, or the level was not ticked for a while - every bucket may hold due jobs
+            lastTick = now - WHEEL_SIZE;
+        }
+        for (long tick = lastTick + 1; tick <= now; tick++) {
+            lastTick = tick;
+            runBucket(tick);
+        }
+    }
+
+    private void runBucket(long tick) {
+        List<Handle> bucket = buckets[(int) (tick & WHEEL_MASK)];
+        int size = bucket.size();
+        int keep = 0;
+        for (int i = 0; i < size; i++) {
+            Handle job = bucket.get(i);
+            if (job.isDone()) {
+                continue;
+            }
+            if (job.dueTick > tick) {
+                // Due on a later rotation of the wheel
+                bucket.set(keep++, job);
+                continue;
+            }
+            runOnce(job);
+            if (!job.isDone()) {
+                job.dueTick = tick + job.interval;
+                if (bucketIndex(job) == (int) (tick & WHEEL_MASK)) {
+                    bucket.set(keep++, job);
+                } else {
+                    insert(job);
+                }
+            }
+        }
+        // Keep jobs that actions scheduled into this bucket while it was running
+        for (int i = size; i < bucket.size(); i++) {
+            bucket.set(keep++, bucket.get(i));
+        }
+        bucket.subList(keep, bucket.size()).clear();
+    }
+
+    private void runOnce(Handle job) {
+        RepeatingAction action = job.action;
+        int iteration = job.iteration++;
+        if (job.iteration >= job.times) {
+            job.cancel();
+        }
+        action.run(iteration);
+    }
+
+    private void insert(Handle job) {
+        if (job.dueTick <= lastTick) {
+            // Scheduled from inside a bucket that already ran this tick
+            job.dueTick = lastTick + 1;
+        }
+        buckets[bucketIndex(job)].add(job);
+    }
+
+    private static int bucketIndex(Handle job) {
+        return (int) (job.dueTick & WHEEL_MASK);
+    }
+}
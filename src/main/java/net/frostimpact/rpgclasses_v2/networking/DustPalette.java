@@ -0,0 +1,75 @@
+package net.frostimpact.rpgclasses_v2.networking;
+
+import net.minecraft.core.particles.DustParticleOptions;
+import org.joml.Vector3f;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shared, quantised dust particle options.
+ * Colours are rounded to 32 levels per channel and sizes to 0.05 steps; each colour/size bucket keeps a few
+ * pre-jittered variants, so particle loops reuse the same instances instead of allocating one per particle.
+ */
+public class DustPalette {
+    private static final int COLOR_LEVELS = 32;
+    private static final float SIZE_STEP = 0.05f;
+    private static final float MAX_SIZE = 4.0f; // DustParticleOptions clamps to this anyway
+    private static final int SIZE_BUCKETS = Math.round(MAX_SIZE / SIZE_STEP) + 1;
+    private static final float COLOR_JITTER = 0.15f; // Slight variation to make particles more interesting
+    public static final int VARIANTS = 4;
+
+    // One row per quantised colour, filled lazily: [sizeBucket * VARIANTS + variant]
+    private static final DustParticleOptions[][] rows = new DustParticleOptions[COLOR_LEVELS * COLOR_LEVELS * COLOR_LEVELS][];
+
+    /**
+     * Dust options close to the given colour (0-1 range) and size, with a random colour variation
+     */
+    public static DustParticleOptions get(float r, float g, float b, float size) {
+        return get(r, g, b, size, ThreadLocalRandom.current().nextInt(VARIANTS));
+    }
+
+    /**
+     * Dust options close to the given colour and size, picking a specific colour variation (0 to VARIANTS - 1)
+     */
+    public static DustParticleOptions get(float r, float g, float b, float size, int variant) {
+        int color = (level(r) * COLOR_LEVELS + level(g)) * COLOR_LEVELS + level(b);
+        int sizeBucket = Math.round(Math.max(0, Math.min(MAX_SIZE, size)) / SIZE_STEP);
+        int slot = Math.floorMod(variant, VARIANTS);
+        int index = sizeBucket * VARIANTS + slot;
+
+        // Rows and entries are immutable once built, so a racing thread at worst builds a duplicate
+        DustParticleOptions[] row = rows[color];
+        if (row == null) {
+            row = new DustParticleOptions[SIZE_BUCKETS * VARIANTS];
+            rows[color] = row;
+        }
+        DustParticleOptions options = row[index];
+        if (options == null) {
+            options = create(color, sizeBucket, slot);
+            row[index] = options;
+        }
+        return options;
+    }
+
+    private static int level(float channel) {
+        return Math.round(Math.max(0, Math.min(1, channel)) * (COLOR_LEVELS - 1));
+    }
+
+    private static DustParticleOptions create(int color, int sizeBucket, int variant) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        float r = (float) (color / (COLOR_LEVELS * COLOR_LEVELS)) / (COLOR_LEVELS - 1);
+        float g = (float) (color / COLOR_LEVELS % COLOR_LEVELS) / (COLOR_LEVELS - 1);
+        float b = (float) (color % COLOR_LEVELS) / (COLOR_LEVELS - 1);
+        // Variant 0 is the exact colour, the others are jittered once when first used
+        if (variant != 0) {
+            r += (random.nextFloat() - 0.5f) * COLOR_JITTER;
+            g += (random.nextFloat() - 0.5f) * COLOR_JITTER;
+            b += (random.nextFloat() - 0.5f) * COLOR_JITTER;
+        }
+        return new DustParticleOptions(new Vector3f(
+            Math.max(0, Math.min(1, r)),
+            Math.max(0, Math.min(1, g)),
+            Math.max(0, Math.min(1, b))
+        ), Math.max(0.01f, sizeBucket * SIZE_STEP));
+    }
+}
@@ -7,6 +7,7 @@ import com.mojang.brigadier.suggestion.SuggestionProvider;
 import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
 import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
 import net.frostimpact.rpgclasses_v2.rpgclass.ClassRegistry;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassRoster;
 import net.frostimpact.rpgclasses_v2.rpgclass.RPGClass;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -18,6 +19,8 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -38,6 +41,9 @@ import java.util.Optional;
  * /rpgclasses class set <player> <class_id> - Set class for a player
  * /rpgclasses class get <player> - Get class for a player
  * /rpgclasses info <player> - Get full RPG info for a player
+ * /rpgclasses profile - Show server tick timings and counters for the last 10 seconds
+ * /rpgclasses profile json - Write the same report as JSON to the server's debug folder
+ * /rpgclasses profile reset - Clear the profiler window
  */
 @EventBusSubscriber(modid = "rpgclasses_v2")
 public class ModCommands {
@@ -211,6 +217,17 @@ public class ModCommands {
                     })
                 )
             )
+            
+            // Profiler Commands
+            .then(Commands.literal("profile")
+                .executes(context -> showProfile(context.getSource()))
+                .then(Commands.literal("json")
+                    .executes(context -> writeProfile(context.getSource()))
+                )
+                .then(Commands.literal("reset")
+                    .executes(context -> resetProfile(context.getSource()))
+                )
+            )
         );
     }
 
@@ -305,6 +322,7 @@ public class ModCommands {
         
         PlayerRPGData data = player.getData(ModAttachments.PLAYER_RPG);
         data.setCurrentClass(classId);
+        ClassRoster.update(player);
         source.sendSuccess(() -> Component.literal("Set " + player.getName().getString() + "'s class to " + rpgClassOpt.get().getName()), true);
         return 1;
     }
@@ -334,4 +352,36 @@ public class ModCommands {
         source.sendSuccess(() -> Component.literal("Mana: " + data.getMana() + "/" + data.getMaxMana()), false);
         return 1;
     }
-}
\ No newline at end of file
+
+    // Profiler Methods
+    private static int showProfile(CommandSourceStack source) {
+        int ticks = TickProfiler.getRecordedTicks();
+        source.sendSuccess(() -> Component.literal("=== RPG Tick Profile (last " + ticks + " ticks) ==="), false);
+        source.sendSuccess(() -> Component.literal("Section: avg / max per tick (\u00b5s)"), false);
+        for (TickProfiler.Stat stat : TickProfiler.getSectionStats()) {
+            source.sendSuccess(() -> Component.literal(String.format("  %s: %.1f / %d", stat.name(), stat.average(), stat.max())), false);
+        }
+        source.sendSuccess(() -> Component.literal("Counter: avg / max per tick"), false);
+        for (TickProfiler.Stat stat : TickProfiler.getCounterStats()) {
+            source.sendSuccess(() -> Component.literal(String.format("  %s: %.1f / %d", stat.name(), stat.average(), stat.max())), false);
+        }
+        return 1;
+    }
+
+    private static int writeProfile(CommandSourceStack source) {
+        try {
+            Path file = TickProfiler.writeReport(source.getServer().getServerDirectory().resolve("debug"));
+            source.sendSuccess(() -> Component.literal("Wrote RPG tick profile to " + file), false);
+            return 1;
+        } catch (IOException e) {
+            source.sendFailure(Component.literal("Failed to write RPG tick profile: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    private static int resetProfile(CommandSourceStack source) {
+        TickProfiler.reset();
+        source.sendSuccess(() -> Component.literal("Reset RPG tick profile"), true);
+        return 1;
+    }
+}
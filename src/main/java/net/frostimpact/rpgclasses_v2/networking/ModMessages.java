@@ -1,30 +1,40 @@
 package net.frostimpact.rpgclasses_v2.networking;
 
+import net.frostimpact.rpgclasses_v2.client.ClientPayloadHandler;
+import net.frostimpact.rpgclasses_v2.entity.SummonRegistry;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketAllocateSkillPoint;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketAllocateStatPoint;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketParticleEffect;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSelectClass;
-import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncCooldowns;
-import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMana;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketStartEffect;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketStopEffect;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncDelta;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncMomentum;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncRage;
-import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncRPGData;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncSeekerCharges;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncStats;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketUseAbility;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketResetStats;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketMarksmanFocusMode;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncClassData;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncSkillTreeData;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketResetSkillTree;
 import net.frostimpact.rpgclasses_v2.networking.packet.PacketRequestSkillTreeData;
 import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
+import net.frostimpact.rpgclasses_v2.rpg.PlayerAbilityState;
 import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
 import net.frostimpact.rpgclasses_v2.rpg.stats.StatModifier;
 import net.frostimpact.rpgclasses_v2.rpg.stats.StatType;
 import net.frostimpact.rpgclasses_v2.rpgclass.AbilityUtils;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassDefinitions;
 import net.frostimpact.rpgclasses_v2.rpgclass.ClassRegistry;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassRoster;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassType;
 import net.frostimpact.rpgclasses_v2.rpgclass.RPGClass;
 import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerBossEvent;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -33,13 +43,15 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
+import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.network.PacketDistributor;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 import net.neoforged.neoforge.network.registration.PayloadRegistrar;
-import org.joml.Vector3f;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +60,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Map;
@@ -56,7 +69,6 @@ import java.util.UUID;
 public class ModMessages {
     private static final Logger LOGGER = LoggerFactory.getLogger(ModMessages.class);
     private static final Random RANDOM = new Random();
-    private static final AtomicInteger whirlwindCounter = new AtomicInteger(0);
     
     // Ability constants
     private static final int ULTIMATE_ARROW_MULTIPLIER = 3;
@@ -65,6 +77,7 @@ public class ModMessages {
     private static final int SEEKER_PROJECTILE_SPEED_TICKS = 3; // Update every 3 ticks for medium speed
     private static final double SEEKER_NO_TARGET_RANGE = 20.0; // Distance seekers travel when no target found
     private static final double SEEKER_STRAIGHT_FLIGHT_RANGE = 30.0; // Distance seekers fly straight when target dies
+    private static final double CLIENT_EFFECT_RANGE = 64.0; // Client-animated effects outlive the cast, so reach further
     
     // Marksman ability constants
     private static final float SNIPE_PROJECTILE_SPEED = 0.6f; // Slow moving for dramatic effect
@@ -106,26 +119,50 @@ public class ModMessages {
     
     // Active timed effects for Rain of Arrows
     private static final Map<UUID, RainOfArrowsEffect> activeRainEffects = new ConcurrentHashMap<>();
-    // Active seeker projectiles (homing missiles)
-    private static final List<SeekerProjectile> activeSeekers = new ArrayList<>();
-    // Active Marksman Snipe projectiles (slow moving)
-    private static final List<SnipeProjectile> activeSnipeProjectiles = new ArrayList<>();
     // Marksman Headshot charging state
     private static final Map<UUID, HeadshotCharge> activeHeadshotCharges = new ConcurrentHashMap<>();
     // Marksman marked enemies (30% more damage)
     private static final Map<UUID, MarkedEnemy> markedEnemies = new ConcurrentHashMap<>();
-    // Warrior Whirlwind hit tracking - persists across scheduled tasks
-    private static final Map<String, Map<UUID, Integer>> whirlwindHitCounts = new ConcurrentHashMap<>();
-    // Berserker Frenzy slash tracking - persists across scheduled tasks
-    private static final Map<UUID, Integer> frenzySlashCounts = new ConcurrentHashMap<>();
+    // Players currently mid-Leap / charging Heartstopper, so the update loops skip everyone else
+    private static final Set<ServerPlayer> leapingPlayers = ConcurrentHashMap.newKeySet();
+    private static final Set<ServerPlayer> heartstopperPlayers = ConcurrentHashMap.newKeySet();
     // Ravager Heartstopper boss bars
     private static final Map<UUID, ServerBossEvent> heartstopperBossBars = new ConcurrentHashMap<>();
+    // Ravager Heartstopper client indicator effect handles
+    private static final Map<UUID, Integer> heartstopperEffectHandles = new ConcurrentHashMap<>();
+    // Ids for client-animated effects, used to stop them early
+    private static final AtomicInteger clientEffectHandles = new AtomicInteger();
     
     // Fatespinner Thread system
     // Map of player UUID -> Map of enemy UUID -> FateThread
     private static final Map<UUID, Map<UUID, FateThread>> activeFateThreads = new ConcurrentHashMap<>();
-    // Active Weave projectiles
-    private static final List<WeaveProjectile> activeWeaveProjectiles = new ArrayList<>();
+    // Per-dimension ability state (projectiles, status effects, hook pulls), ticked by each ServerLevel
+    private static final Map<ResourceKey<Level>, LevelAbilityState> levelStates = new ConcurrentHashMap<>();
+    
+    /**
+     * Active ability state owned by a single dimension. Each ServerLevel only ticks its own state,
+     * so entity lookups always happen in the level the effect was created in.
+     */
+    public static class LevelAbilityState {
+        public final ProjectileEngine projectiles = new ProjectileEngine();
+        public final Map<UUID, BleedEffect> bleedEffects = new ConcurrentHashMap<>();
+        public final Map<UUID, GrievousWoundsEffect> grievousWounds = new ConcurrentHashMap<>();
+        public final AbilityScheduler scheduler = new AbilityScheduler();
+    }
+    
+    /**
+     * Get (or create) the ability state owned by a level
+     */
+    public static LevelAbilityState stateFor(Level level) {
+        return levelStates.computeIfAbsent(level.dimension(), key -> new LevelAbilityState());
+    }
+    
+    /**
+     * Drop the ability state of a level that is being unloaded
+     */
+    public static void removeLevelState(Level level) {
+        levelStates.remove(level.dimension());
+    }
     
     /**
      * Data class for Fatespinner Thread connection between player and enemy
@@ -135,6 +172,8 @@ public class ModMessages {
         public final UUID targetUUID;
         public final long createdTime;
         public int lastTension; // Track last known tension for visual updates
+        public int effectHandle = -1; // Client-animated thread visual
+        public ServerLevel effectLevel; // Level the visual was started in; it must be stopped there
         
         public FateThread(UUID ownerUUID, UUID targetUUID, long createdTime) {
             this.ownerUUID = ownerUUID;
@@ -144,31 +183,6 @@ public class ModMessages {
         }
     }
     
-    /**
-     * Data class for Fatespinner Weave projectile
-     */
-    public static class WeaveProjectile {
-        public final ServerPlayer owner;
-        public final ServerLevel level;
-        public Vec3 position;
-        public final Vec3 direction;
-        public final float damage;
-        public int ticksAlive;
-        public final int maxTicks;
-        public final float speed;
-        
-        public WeaveProjectile(ServerPlayer owner, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-            this.owner = owner;
-            this.level = level;
-            this.position = startPos;
-            this.direction = direction.normalize();
-            this.damage = damage;
-            this.ticksAlive = 0;
-            this.maxTicks = WEAVE_MAX_FLIGHT_TICKS;
-            this.speed = WEAVE_PROJECTILE_SPEED;
-        }
-    }
-    
     /**
      * Data class for Rain of Arrows timed effect
      */
@@ -179,6 +193,7 @@ public class ModMessages {
         public final double radius;
         public final float damage;
         public int ticksRemaining;
+        public int effectHandle = -1; // Client-animated falling arrows
         
         public RainOfArrowsEffect(ServerPlayer player, ServerLevel level, Vec3 center, double radius, float damage, int duration) {
             this.player = player;
@@ -190,56 +205,6 @@ public class ModMessages {
         }
     }
     
-    /**
-     * Data class for Seeker homing projectiles
-     */
-    public static class SeekerProjectile {
-        public final ServerPlayer owner;
-        public final ServerLevel level;
-        public Vec3 position;
-        public LivingEntity target;
-        public final float damage;
-        public int ticksAlive;
-        public final int maxTicks;
-        public final float speed;
-        
-        public SeekerProjectile(ServerPlayer owner, ServerLevel level, Vec3 startPos, LivingEntity target, float damage) {
-            this.owner = owner;
-            this.level = level;
-            this.position = startPos;
-            this.target = target;
-            this.damage = damage;
-            this.ticksAlive = 0;
-            this.maxTicks = 100; // 5 seconds max flight time
-            this.speed = 0.8f; // Medium speed
-        }
-    }
-    
-    /**
-     * Data class for Marksman Snipe projectile (slow moving, high damage)
-     */
-    public static class SnipeProjectile {
-        public final ServerPlayer owner;
-        public final ServerLevel level;
-        public Vec3 position;
-        public final Vec3 direction;
-        public final float damage;
-        public int ticksAlive;
-        public final int maxTicks;
-        public final float speed;
-        
-        public SnipeProjectile(ServerPlayer owner, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-            this.owner = owner;
-            this.level = level;
-            this.position = startPos;
-            this.direction = direction.normalize();
-            this.damage = damage;
-            this.ticksAlive = 0;
-            this.maxTicks = SNIPE_MAX_FLIGHT_TICKS;
-            this.speed = SNIPE_PROJECTILE_SPEED;
-        }
-    }
-    
     /**
      * Data class for Marksman Headshot charging
      */
@@ -291,10 +256,7 @@ public class ModMessages {
             RainOfArrowsEffect effect = entry.getValue();
             effect.ticksRemaining--;
             
-            // Every 4 ticks, spawn particle arrows and deal damage
-            if (effect.ticksRemaining % 4 == 0) {
-                spawnRainOfArrowsTickEffect(effect);
-            }
+            // Falling arrows are animated by the client from the start packet
             
             // Every 20 ticks (1 second), deal damage
             if (effect.ticksRemaining % 20 == 0) {
@@ -308,30 +270,6 @@ public class ModMessages {
             }
         }
         
-        // Update Seeker projectiles
-        Iterator<SeekerProjectile> seekerIterator = activeSeekers.iterator();
-        while (seekerIterator.hasNext()) {
-            SeekerProjectile seeker = seekerIterator.next();
-            seeker.ticksAlive++;
-            
-            // Update seeker position and check for hit
-            if (!updateSeekerProjectile(seeker)) {
-                seekerIterator.remove();
-            }
-        }
-        
-        // Update Marksman Snipe projectiles
-        Iterator<SnipeProjectile> snipeIterator = activeSnipeProjectiles.iterator();
-        while (snipeIterator.hasNext()) {
-            SnipeProjectile snipe = snipeIterator.next();
-            snipe.ticksAlive++;
-            
-            // Update snipe position and check for hit
-            if (!updateSnipeProjectile(snipe)) {
-                snipeIterator.remove();
-            }
-        }
-        
         // Update Marksman Headshot charges
         Iterator<Map.Entry<UUID, HeadshotCharge>> headshotIterator = activeHeadshotCharges.entrySet().iterator();
         while (headshotIterator.hasNext()) {
@@ -360,65 +298,63 @@ public class ModMessages {
                 markedIterator.remove();
             }
         }
-        
-        // Update Ranger Large Piercing Arrows
-        Iterator<LargePiercingArrow> piercingIterator = activeLargePiercingArrows.iterator();
-        while (piercingIterator.hasNext()) {
-            LargePiercingArrow arrow = piercingIterator.next();
-            arrow.ticksAlive++;
-            
-            // Update arrow position and check for hits
-            if (!updateLargePiercingArrow(arrow)) {
-                piercingIterator.remove();
-            }
-        }
-        
-        // Update Heavy Cleave projectiles
-        Iterator<HeavyCleaveProjectile> cleaveIterator = activeHeavyCleaveProjectiles.iterator();
-        while (cleaveIterator.hasNext()) {
-            HeavyCleaveProjectile proj = cleaveIterator.next();
-            proj.ticksAlive++;
-            
-            if (!updateHeavyCleaveProjectile(proj)) {
-                cleaveIterator.remove();
-            }
-        }
-        
-        // Update Rupture projectiles
-        Iterator<RuptureProjectile> ruptureIterator = activeRuptureProjectiles.iterator();
-        while (ruptureIterator.hasNext()) {
-            RuptureProjectile proj = ruptureIterator.next();
-            proj.ticksAlive++;
-            
-            if (!updateRuptureProjectile(proj)) {
-                ruptureIterator.remove();
-            }
-        }
-        
-        // Update Fatespinner Weave projectiles
-        Iterator<WeaveProjectile> weaveIterator = activeWeaveProjectiles.iterator();
-        while (weaveIterator.hasNext()) {
-            WeaveProjectile weave = weaveIterator.next();
-            weave.ticksAlive++;
-            
-            if (!updateWeaveProjectile(weave)) {
-                weaveIterator.remove();
-            }
+    }
+    
+    /**
+     * Called every level tick to update the projectiles owned by that level
+     */
+    public static void updateLevelProjectiles(ServerLevel level) {
+        stateFor(level).projectiles.tick(level);
+    }
+    
+    /**
+     * Called every level tick to run the deferred ability actions due this tick
+     */
+    public static void updateScheduledAbilities(ServerLevel level) {
+        stateFor(level).scheduler.tick(level.getGameTime());
+    }
+    
+    /**
+     * Run an action once after a delay in the given level. Jobs owned by a player are cancelled when they die or log out.
+     */
+    private static AbilityScheduler.Handle scheduleOnce(ServerLevel level, ServerPlayer owner, int delayTicks, Runnable action) {
+        return stateFor(level).scheduler.schedule(owner != null ? owner.getUUID() : null,
+                level.getGameTime(), delayTicks, action);
+    }
+    
+    /**
+     * Run an action times times in the given level, the first after delayTicks (0 = now) and then every intervalTicks
+     */
+    private static AbilityScheduler.Handle scheduleRepeating(ServerLevel level, ServerPlayer owner, int delayTicks,
+            int intervalTicks, int times, AbilityScheduler.RepeatingAction action) {
+        return stateFor(level).scheduler.repeat(owner != null ? owner.getUUID() : null,
+                level.getGameTime(), delayTicks, intervalTicks, times, action);
+    }
+    
+    /**
+     * Cancel every deferred ability action of a player, in all levels
+     */
+    public static void cancelScheduledAbilities(UUID playerUUID) {
+        for (LevelAbilityState state : levelStates.values()) {
+            state.scheduler.cancelAll(playerUUID);
         }
     }
     
     /**
-     * Get the active rain effects map for external access
+     * Cancel a player's Rain of Arrows, stopping its client animation
      */
-    public static Map<UUID, RainOfArrowsEffect> getActiveRainEffects() {
-        return activeRainEffects;
+    public static void removeRainEffect(UUID playerUUID) {
+        RainOfArrowsEffect effect = activeRainEffects.remove(playerUUID);
+        if (effect != null) {
+            stopClientEffect(effect.level, effect.effectHandle);
+        }
     }
     
     /**
-     * Get the active seekers list for external access
+     * Get the active rain effects map for external access
      */
-    public static List<SeekerProjectile> getActiveSeekers() {
-        return activeSeekers;
+    public static Map<UUID, RainOfArrowsEffect> getActiveRainEffects() {
+        return activeRainEffects;
     }
     
     public static void register(IEventBus modEventBus) {
@@ -428,15 +364,15 @@ public class ModMessages {
     private static void onRegisterPayloadHandler(final RegisterPayloadHandlersEvent event) {
         final PayloadRegistrar registrar = event.registrar("rpgclasses_v2");
 
+        // Register PacketSyncDelta - changed mana, cooldowns and progression from server to client
         registrar.playToClient(
-                PacketSyncMana.TYPE,
-                PacketSyncMana.STREAM_CODEC,
+                PacketSyncDelta.TYPE,
+                PacketSyncDelta.STREAM_CODEC,
                 (packet, context) -> {
                     context.enqueueWork(() -> {
                         if (context.player() != null) {
                             var rpgData = context.player().getData(ModAttachments.PLAYER_RPG);
-                            rpgData.setMana(packet.mana());
-                            rpgData.setMaxMana(packet.maxMana());
+                            packet.applyTo(rpgData, context.player().level().getGameTime());
                         }
                     });
                 }
@@ -456,19 +392,6 @@ public class ModMessages {
                 }
         );
         
-        registrar.playToClient(
-                PacketSyncCooldowns.TYPE,
-                PacketSyncCooldowns.STREAM_CODEC,
-                (packet, context) -> {
-                    context.enqueueWork(() -> {
-                        if (context.player() != null) {
-                            var rpgData = context.player().getData(ModAttachments.PLAYER_RPG);
-                            rpgData.setAllCooldowns(packet.cooldowns());
-                        }
-                    });
-                }
-        );
-        
         registrar.playToClient(
                 PacketSyncSeekerCharges.TYPE,
                 PacketSyncSeekerCharges.STREAM_CODEC,
@@ -512,6 +435,42 @@ public class ModMessages {
                     });
                 }
         );
+        
+        registrar.playToClient(
+                PacketParticleEffect.TYPE,
+                PacketParticleEffect.STREAM_CODEC,
+                (packet, context) -> {
+                    context.enqueueWork(() -> {
+                        if (FMLEnvironment.dist == Dist.CLIENT) {
+                            ClientPayloadHandler.handleParticleEffect(packet);
+                        }
+                    });
+                }
+        );
+        
+        registrar.playToClient(
+                PacketStartEffect.TYPE,
+                PacketStartEffect.STREAM_CODEC,
+                (packet, context) -> {
+                    context.enqueueWork(() -> {
+                        if (FMLEnvironment.dist == Dist.CLIENT) {
+                            ClientPayloadHandler.handleStartEffect(packet);
+                        }
+                    });
+                }
+        );
+        
+        registrar.playToClient(
+                PacketStopEffect.TYPE,
+                PacketStopEffect.STREAM_CODEC,
+                (packet, context) -> {
+                    context.enqueueWork(() -> {
+                        if (FMLEnvironment.dist == Dist.CLIENT) {
+                            ClientPayloadHandler.handleStopEffect(packet);
+                        }
+                    });
+                }
+        );
 
         registrar.playToServer(
                 PacketAllocateStatPoint.TYPE,
@@ -545,14 +504,6 @@ public class ModMessages {
 
                                 // Sync back to client
                                 sendToPlayer(new PacketSyncStats(stats.getModifiers()), serverPlayer);
-                                sendToPlayer(new PacketSyncRPGData(
-                                        rpgData.getCurrentClass(),
-                                        rpgData.getLevel(),
-                                        rpgData.getClassLevel(),
-                                        rpgData.getClassExperience(),
-                                        rpgData.getAvailableStatPoints(),
-                                        rpgData.getAvailableSkillPoints()
-                                ), serverPlayer);
                             }
                         }
                     });
@@ -587,9 +538,10 @@ public class ModMessages {
                             
                             // Set new class
                             rpgData.setCurrentClass(classId);
+                            ClassRoster.update(serverPlayer);
                             
                             // Initialize Berserker-specific data
-                            if (classId.equalsIgnoreCase("berserker")) {
+                            if (rpgData.getClassType() == ClassType.BERSERKER) {
                                 rpgData.setAxeThrowCharges(2); // Start with 2 charges
                                 rpgData.setRage(0); // Start with 0 rage
                             }
@@ -611,33 +563,6 @@ public class ModMessages {
                             
                             // Sync all data to client
                             sendToPlayer(new PacketSyncStats(stats.getModifiers()), serverPlayer);
-                            sendToPlayer(new PacketSyncRPGData(
-                                    rpgData.getCurrentClass(),
-                                    rpgData.getLevel(),
-                                    rpgData.getClassLevel(),
-                                    rpgData.getClassExperience(),
-                                    rpgData.getAvailableStatPoints(),
-                                    rpgData.getAvailableSkillPoints()
-                            ), serverPlayer);
-                        }
-                    });
-                }
-        );
-        
-        // Register PacketSyncRPGData - syncs RPG data from server to client
-        registrar.playToClient(
-                PacketSyncRPGData.TYPE,
-                PacketSyncRPGData.STREAM_CODEC,
-                (packet, context) -> {
-                    context.enqueueWork(() -> {
-                        if (context.player() != null) {
-                            var rpgData = context.player().getData(ModAttachments.PLAYER_RPG);
-                            rpgData.setCurrentClass(packet.currentClass());
-                            rpgData.setLevel(packet.level());
-                            rpgData.setClassLevel(packet.classLevel());
-                            rpgData.setClassExperience(packet.classExperience());
-                            rpgData.setAvailableStatPoints(packet.availableStatPoints());
-                            rpgData.setAvailableSkillPoints(packet.availableSkillPoints());
                         }
                     });
                 }
@@ -719,16 +644,6 @@ public class ModMessages {
                                     currentLevel + 1,
                                     node.getMaxLevel());
                             
-                            // Sync back to client
-                            sendToPlayer(new PacketSyncRPGData(
-                                    rpgData.getCurrentClass(),
-                                    rpgData.getLevel(),
-                                    rpgData.getClassLevel(),
-                                    rpgData.getClassExperience(),
-                                    rpgData.getAvailableStatPoints(),
-                                    rpgData.getAvailableSkillPoints()
-                            ), serverPlayer);
-                            
                             // Send updated skill tree allocations
                             sendToPlayer(new PacketSyncSkillTreeData(rpgData.getAllSkillTreeAllocations()), serverPlayer);
                             
@@ -780,14 +695,6 @@ public class ModMessages {
                             
                             // Sync to client
                             sendToPlayer(new PacketSyncStats(stats.getModifiers()), serverPlayer);
-                            sendToPlayer(new PacketSyncRPGData(
-                                    rpgData.getCurrentClass(),
-                                    rpgData.getLevel(),
-                                    rpgData.getClassLevel(),
-                                    rpgData.getClassExperience(),
-                                    rpgData.getAvailableStatPoints(),
-                                    rpgData.getAvailableSkillPoints()
-                            ), serverPlayer);
                         }
                     });
                 }
@@ -803,7 +710,7 @@ public class ModMessages {
                             var rpgData = serverPlayer.getData(ModAttachments.PLAYER_RPG);
                             
                             // Only allow Marksman class to enter FOCUS mode
-                            if (!rpgData.getCurrentClass().equalsIgnoreCase("marksman")) {
+                            if (rpgData.getClassType() != ClassType.MARKSMAN) {
                                 return;
                             }
                             
@@ -848,16 +755,6 @@ public class ModMessages {
                             LOGGER.info("Player {} reset skill tree {}, refunded {} points", 
                                     serverPlayer.getName().getString(), packet.skillTreeId(), refundedPoints);
                             
-                            // Sync back to client
-                            sendToPlayer(new PacketSyncRPGData(
-                                    rpgData.getCurrentClass(),
-                                    rpgData.getLevel(),
-                                    rpgData.getClassLevel(),
-                                    rpgData.getClassExperience(),
-                                    rpgData.getAvailableStatPoints(),
-                                    rpgData.getAvailableSkillPoints()
-                            ), serverPlayer);
-                            
                             // Send updated skill tree allocations
                             sendToPlayer(new PacketSyncSkillTreeData(rpgData.getAllSkillTreeAllocations()), serverPlayer);
                             
@@ -879,34 +776,61 @@ public class ModMessages {
                     });
                 }
         );
+        
+        // Register PacketSyncClassData - class and skill tree definitions from server to client
+        registrar.playToClient(
+                PacketSyncClassData.TYPE,
+                PacketSyncClassData.STREAM_CODEC,
+                (packet, context) -> {
+                    context.enqueueWork(() -> {
+                        // An integrated server shares these tables with its client and already installed them
+                        if (!context.connection().isMemoryConnection()) {
+                            ClassDefinitions.install(ClassDefinitions.compile(packet.classes(), packet.skillTrees()));
+                        }
+                    });
+                }
+        );
     }
 
-    public static void sendToPlayer(PacketSyncMana packet, ServerPlayer player) {
-        PacketDistributor.sendToPlayer(player, packet);
-    }
-
-    public static void sendToPlayer(PacketSyncStats packet, ServerPlayer player) {
+    public static void sendToPlayer(PacketSyncDelta packet, ServerPlayer player) {
         PacketDistributor.sendToPlayer(player, packet);
+        TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
     }
     
-    public static void sendToPlayer(PacketSyncRPGData packet, ServerPlayer player) {
-        PacketDistributor.sendToPlayer(player, packet);
+    /**
+     * Send the RPG data fields a player changed this tick as one delta packet (nothing if unchanged)
+     */
+    public static void flushPlayerSync(ServerPlayer player) {
+        var rpgData = player.getData(ModAttachments.PLAYER_RPG);
+        int dirtyFields = rpgData.takeDirtyFields();
+        if (dirtyFields != 0) {
+            sendToPlayer(PacketSyncDelta.of(rpgData, dirtyFields, player.level().getGameTime()), player);
+        }
     }
-    
-    public static void sendToPlayer(PacketSyncCooldowns packet, ServerPlayer player) {
+
+    public static void sendToPlayer(PacketSyncStats packet, ServerPlayer player) {
         PacketDistributor.sendToPlayer(player, packet);
+        TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
     }
     
     public static void sendToPlayer(PacketSyncSeekerCharges packet, ServerPlayer player) {
         PacketDistributor.sendToPlayer(player, packet);
+        TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
     }
     
     public static void sendToPlayer(PacketSyncRage packet, ServerPlayer player) {
         PacketDistributor.sendToPlayer(player, packet);
+        TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
     }
     
     public static void sendToPlayer(PacketSyncSkillTreeData packet, ServerPlayer player) {
         PacketDistributor.sendToPlayer(player, packet);
+        TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
+    }
+    
+    public static void sendToPlayer(PacketSyncClassData packet, ServerPlayer player) {
+        PacketDistributor.sendToPlayer(player, packet);
+        TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
     }
 
     public static void sendToServer(PacketAllocateStatPoint packet) {
@@ -948,25 +872,29 @@ public class ModMessages {
         var rpgData = player.getData(ModAttachments.PLAYER_RPG);
         var stats = player.getData(ModAttachments.PLAYER_STATS);
         String currentClass = rpgData.getCurrentClass();
+        ClassType classType = rpgData.getClassType(); // Only picks the ability body; datapack-only classes are NONE
         
         if (currentClass == null || currentClass.equals("NONE")) {
             player.displayClientMessage(Component.literal("§cYou need to select a class first!"), true);
             return;
         }
         
+        // Metadata comes from the class's own definition, so classes added by datapacks keep their costs
+        ClassDefinitions definitions = ClassDefinitions.get();
+        int classIndex = definitions.getClassIndex(currentClass);
         String abilityId = currentClass.toLowerCase() + "_ability_" + abilitySlot;
-        int manaCost = AbilityUtils.getAbilityManaCost(currentClass, abilitySlot);
-        int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks(currentClass, abilitySlot);
-        String abilityName = AbilityUtils.getAbilityName(currentClass, abilitySlot);
+        int manaCost = definitions.getAbilityManaCost(classIndex, abilitySlot);
+        int baseCooldownTicks = definitions.getAbilityCooldownTicks(classIndex, abilitySlot);
+        String abilityName = definitions.getAbilityName(classIndex, abilitySlot);
         
         // Special handling for Marksman Snipe (slot 1) in FOCUS mode - reduced cost and cooldown
-        if (currentClass.equalsIgnoreCase("marksman") && abilitySlot == 1 && rpgData.isInFocusMode()) {
+        if (classType == ClassType.MARKSMAN && abilitySlot == 1 && rpgData.isInFocusMode()) {
             manaCost = 5; // Reduced from 10 to 5
             baseCooldownTicks = 30; // Reduced from 60 (3s) to 30 (1.5s)
         }
         
         // Special handling for Hawkeye Seekers (slot 4) - mana cost is 5 * seeker charges
-        if (currentClass.equalsIgnoreCase("hawkeye") && abilitySlot == 4) {
+        if (classType == ClassType.HAWKEYE && abilitySlot == 4) {
             int seekerCharges = rpgData.getSeekerCharges();
             if (seekerCharges == 0) {
                 player.displayClientMessage(Component.literal("§eNo Seeker charges! Gain charges while airborne."), true);
@@ -976,11 +904,11 @@ public class ModMessages {
         }
         
         // Special handling for Berserker Axe Throw (slot 1) - uses charge system instead of cooldown
-        boolean isBerserkerAxeThrow = currentClass.equalsIgnoreCase("berserker") && abilitySlot == 1;
+        boolean isBerserkerAxeThrow = classType == ClassType.BERSERKER && abilitySlot == 1;
         
         // Check cooldown (skip for Berserker Axe Throw - uses charge system)
         if (!isBerserkerAxeThrow) {
-            int cooldown = rpgData.getAbilityCooldown(abilityId);
+            int cooldown = rpgData.getAbilityCooldown(abilityId, player.level().getGameTime());
             if (cooldown > 0) {
                 player.displayClientMessage(
                         Component.literal("§e" + abilityName + " §7is on cooldown (§c" + (cooldown / 20) + "s§7)"), true);
@@ -1003,28 +931,24 @@ public class ModMessages {
         // Use mana and set cooldown (skip cooldown for Berserker Axe Throw - uses charge system)
         rpgData.useMana(manaCost);
         if (!isBerserkerAxeThrow) {
-            rpgData.setAbilityCooldown(abilityId, adjustedCooldownTicks);
+            rpgData.setAbilityCooldown(abilityId, adjustedCooldownTicks, player.level().getGameTime());
         }
         
         // Execute the ability effect
-        performAbilityEffect(player, currentClass, abilitySlot, stats);
-        
-        // Sync mana and cooldowns to client
-        sendToPlayer(new PacketSyncMana(rpgData.getMana(), rpgData.getMaxMana()), player);
-        sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), player);
+        performAbilityEffect(player, classType, abilitySlot, stats);
         
         LOGGER.info("Player {} used ability {} (slot {})", player.getName().getString(), abilityName, abilitySlot);
         player.displayClientMessage(Component.literal("§a" + abilityName + " §7activated!"), true);
     }
     
-    private static void performAbilityEffect(ServerPlayer player, String classId, int slot, 
+    private static void performAbilityEffect(ServerPlayer player, ClassType classType, int slot, 
             net.frostimpact.rpgclasses_v2.rpg.stats.PlayerStats stats) {
         int damageBonus = stats.getIntStatValue(StatType.DAMAGE);
         ServerLevel level = player.serverLevel();
         Vec3 playerPos = player.position();
         
-        switch (classId.toLowerCase()) {
-            case "warrior" -> {
+        switch (classType) {
+            case WARRIOR -> {
                 switch (slot) {
                     case 1 -> { // Heavy Cleave - 120° arc attack
                         boolean isSneaking = player.isCrouching();
@@ -1036,7 +960,7 @@ public class ModMessages {
                             spawnHeavyCleaveProjectile(player, level, startPos, lookVec, projectileDamage + damageBonus * 0.5f, player.getYRot());
                             // Red projectile launch effect
                             spawnDustParticlesBurst(level, startPos, 1.5, 1.0f, 0.0f, 0.0f, 15);
-                            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+                            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                                     startPos.x, startPos.y, startPos.z, 10, 0.3, 0.3, 0.3, 0.1);
                         } else {
                             // Normal: 120° arc dealing 110% damage
@@ -1078,17 +1002,12 @@ public class ModMessages {
                         player.setDeltaMovement(velocity);
                         player.hurtMarked = true;
                         
-                        // Mark player for leap landing effect
-                        player.getPersistentData().putBoolean("warrior_leaping", true);
-                        player.getPersistentData().putLong("warrior_leap_time", level.getGameTime());
-                        
-                        // Store damage for landing (200% of player's damage)
+                        // Mark player for leap landing effect, storing damage for landing (200% of player's damage)
+                        // and look direction for targeting during air time
                         float baseDamage = (float) player.getAttributeValue(net.minecraft.world.entity.ai.attributes.Attributes.ATTACK_DAMAGE);
-                        player.getPersistentData().putFloat("warrior_leap_damage", baseDamage * 2.0f + damageBonus * 2.0f);
-                        
-                        // Store look direction for targeting during air time
-                        player.getPersistentData().putFloat("warrior_leap_yaw", player.getYRot());
-                        player.getPersistentData().putFloat("warrior_leap_pitch", player.getXRot());
+                        player.getData(ModAttachments.ABILITY_STATE).startLeap(level.getGameTime(),
+                                baseDamage * 2.0f + damageBonus * 2.0f, player.getYRot(), player.getXRot());
+                        leapingPlayers.add(player);
                         
                         // Apply slow falling during air time (3 seconds = 60 ticks)
                         player.addEffect(new MobEffectInstance(MobEffects.SLOW_FALLING, 60, 0));
@@ -1100,7 +1019,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "mage" -> {
+            case MAGE -> {
                 switch (slot) {
                     case 1 -> { // Fireball - ranged fire damage
                         dealDamageToNearbyEnemies(player, 5.0 + damageBonus, 5.0);
@@ -1128,7 +1047,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "rogue" -> {
+            case ROGUE -> {
                 switch (slot) {
                     case 1 -> { // Backstab - teleport behind + damage
                         dealDamageToNearbyEnemies(player, 8.0 + damageBonus * 2.0, 2.0);
@@ -1155,7 +1074,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "ranger" -> {
+            case RANGER -> {
                 switch (slot) {
                     case 1 -> { // Piercing Shot - LARGE slow-moving arrow projectile (3x size) with dust circles
                         Vec3 lookVec = player.getLookAngle();
@@ -1166,7 +1085,7 @@ public class ModMessages {
                         spawnLargePiercingArrowProjectile(player, level, startPos, lookVec, damage);
                         
                         // Launch effect - green ranger theme
-                        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+                        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                                 startPos.x, startPos.y, startPos.z, 2, 0.3, 0.3, 0.3, 0);
                         spawnDustParticlesBurst(level, startPos, 2.0, 0.2f, 0.85f, 0.3f, 15);
                     }
@@ -1206,7 +1125,12 @@ public class ModMessages {
                         RainOfArrowsEffect effect = new RainOfArrowsEffect(
                                 player, level, targetPos, rainRadius, damage, RAIN_OF_ARROWS_DURATION_TICKS
                         );
-                        activeRainEffects.put(player.getUUID(), effect);
+                        effect.effectHandle = startClientEffect(level, PacketStartEffect.Kind.RAIN_OF_ARROWS,
+                                null, null, targetPos, 0, rainRadius, RAIN_OF_ARROWS_DURATION_TICKS);
+                        RainOfArrowsEffect previous = activeRainEffects.put(player.getUUID(), effect);
+                        if (previous != null) {
+                            stopClientEffect(previous.level, previous.effectHandle);
+                        }
                         
                         // Initial activation effect with DEFINED CIRCLE (not clouds!)
                         spawnRainOfArrowsActivationEffect(level, targetPos, rainRadius);
@@ -1216,7 +1140,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "hawkeye" -> {
+            case HAWKEYE -> {
                 var rpgData = player.getData(ModAttachments.PLAYER_RPG);
                 switch (slot) {
                     case 1 -> { // Vault - launch forward and throw a turtle scute entity (MOVED from slot 3)
@@ -1235,7 +1159,7 @@ public class ModMessages {
                         // Enhanced vault visual - directional particles
                         spawnVaultEffect(level, playerPos, lookVec);
                         // Additional sweep attack visuals
-                        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+                        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                                 playerPos.x + lookVec.x, playerPos.y + 1, playerPos.z + lookVec.z, 3, 0.3, 0.2, 0.3, 0);
                     }
                     case 2 -> { // Updraft - ENHANCED launch with more dramatic effects
@@ -1252,7 +1176,7 @@ public class ModMessages {
                         // Enhanced updraft visual - more dramatic particles going up
                         spawnUpdraftEffect(level, playerPos);
                         // Additional flash
-                        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+                        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                                 playerPos.x, playerPos.y, playerPos.z, 2, 0, 0, 0, 0);
                     }
                     case 3 -> { // (Reserved slot - GLIDE is now a passive)
@@ -1274,7 +1198,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "tank" -> {
+            case TANK -> {
                 switch (slot) {
                     case 1 -> { // Shield Bash - damage + stun
                         dealDamageToNearbyEnemies(player, 4.0 + damageBonus, 2.0);
@@ -1301,7 +1225,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "priest" -> {
+            case PRIEST -> {
                 switch (slot) {
                     case 1 -> { // Holy Light - heal
                         player.heal(8.0f);
@@ -1332,7 +1256,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "marksman" -> {
+            case MARKSMAN -> {
                 var rpgData = player.getData(ModAttachments.PLAYER_RPG);
                 switch (slot) {
                 case 1 -> { // Snipe - HITSCAN (instant bullet travel) with subtle dust gradient targeting line
@@ -1443,16 +1367,13 @@ public class ModMessages {
                                     String ability1Id = "marksman_ability_1";
                                     String ability2Id = "marksman_ability_2";
                                     String ability3Id = "marksman_ability_3";
-                                    rpgData.setAbilityCooldown(ability1Id, 0);
-                                    rpgData.setAbilityCooldown(ability2Id, 0);
-                                    rpgData.setAbilityCooldown(ability3Id, 0);
+                                    rpgData.setAbilityCooldown(ability1Id, 0, player.level().getGameTime());
+                                    rpgData.setAbilityCooldown(ability2Id, 0, player.level().getGameTime());
+                                    rpgData.setAbilityCooldown(ability3Id, 0, player.level().getGameTime());
                                     
                                     // Speed buff on kill
                                     player.addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SPEED, 60, 1));
                                     
-                                    // Sync cooldowns to client
-                                    sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), player);
-                                    
                                     player.displayClientMessage(Component.literal("§c§l☠ HEADSHOT KILL! §r§a(All cooldowns reset! +" + String.format("%.0f", (damageMultiplier - 1.0f) * 100) + "% damage)"), true);
                                 } else {
                                     player.displayClientMessage(Component.literal("§c§l☠ HEADSHOT! §r§7(+" + String.format("%.0f", (damageMultiplier - 1.0f) * 100) + "% damage: " + String.format("%.1f", finalDamage) + ")"), true);
@@ -1488,7 +1409,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "beastmaster" -> {
+            case BEASTMASTER -> {
                 switch (slot) {
                     case 1 -> { // Wolf Pack - SUMMON ACTUAL FRIENDLY WOLVES that attack enemies!
                         // Summon 3 tamed wolves that attack nearby enemies
@@ -1558,7 +1479,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "ravager" -> {
+            case RAVAGER -> {
                 switch (slot) {
                     case 1 -> { // Tearing Hook - stun and pull mechanic
                         Vec3 lookVec = player.getLookAngle();
@@ -1576,7 +1497,7 @@ public class ModMessages {
                             spawnTearingHookChain(level, startPos, target.position().add(0, target.getBbHeight() * 0.5, 0), false);
                             
                             // Schedule pull after short duration (20 ticks = 1 second)
-                            scheduleTearingHookPull(player, target, isSneaking, level.getGameTime() + 20);
+                            scheduleTearingHookPull(player, target, isSneaking, 20);
                         } else {
                             // No target found - still show hook extending in look direction
                             Vec3 endPos = startPos.add(lookVec.scale(15.0));
@@ -1601,10 +1522,10 @@ public class ModMessages {
                     }
                     case 4 -> { // Heartstopper - charge and slam (tracks current position)
                         // Mark player as charging
-                        player.getPersistentData().putBoolean("ravager_heartstopper_charging", true);
-                        player.getPersistentData().putLong("ravager_heartstopper_start", level.getGameTime());
                         float baseDamage = (float) player.getAttributeValue(net.minecraft.world.entity.ai.attributes.Attributes.ATTACK_DAMAGE);
-                        player.getPersistentData().putFloat("ravager_heartstopper_damage", baseDamage * 2.0f + damageBonus * 2.0f);
+                        player.getData(ModAttachments.ABILITY_STATE).startHeartstopper(level.getGameTime(),
+                                baseDamage * 2.0f + damageBonus * 2.0f);
+                        heartstopperPlayers.add(player);
                         
                         // Slow the player significantly
                         player.addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SLOWDOWN, 60, 10));
@@ -1613,7 +1534,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "berserker" -> {
+            case BERSERKER -> {
                 var rpgData = player.getData(ModAttachments.PLAYER_RPG);
                 switch (slot) {
                     case 1 -> { // Axe Throw - throwing axe that returns
@@ -1719,7 +1640,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "lancer" -> {
+            case LANCER -> {
                 var rpgData = player.getData(ModAttachments.PLAYER_RPG);
                 switch (slot) {
                     case 1 -> { // Piercing Charge - forward sprint with momentum damage (toggleable)
@@ -1765,7 +1686,7 @@ public class ModMessages {
                         
                         // Yellow leap effect
                         spawnDustParticlesBurst(level, playerPos, 2.0, 1.0f, 1.0f, 0.4f, 25);
-                        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+                        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                                 playerPos.x, playerPos.y + 0.5, playerPos.z, 15, 0.3, 0.3, 0.3, 0.1);
                     }
                     case 3 -> { // Lunge - horizontal lunge with momentum damage
@@ -1798,7 +1719,7 @@ public class ModMessages {
                         
                         // If no enemy hit, reset Leap cooldown
                         if (!hitEnemy) {
-                            rpgData.setAbilityCooldown("lancer_ability_2", 0);
+                            rpgData.setAbilityCooldown("lancer_ability_2", 0, player.level().getGameTime());
                             player.displayClientMessage(Component.literal("§aLeap cooldown reset!"), true);
                         } else if (isMaxMomentum) {
                             // Special particle effect for max momentum damage
@@ -1807,25 +1728,21 @@ public class ModMessages {
                         
                         // Yellow lunge effect
                         spawnDustParticlesLine(level, playerPos, player.getYRot(), 3.0, 1.0f, 1.0f, 0.4f);
-                        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+                        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                                 playerPos.x + horizontalLook.x * 2, playerPos.y + 1, playerPos.z + horizontalLook.z * 2,
                                 3, 0.3, 0.3, 0.3, 0);
                     }
                     case 4 -> { // Comet - convert velocity to downward, shockwave on impact
                         float momentum = rpgData.getMomentum();
                         
-                        // Store comet state for impact detection
-                        player.getPersistentData().putBoolean("lancer_comet_active", true);
-                        
                         // Calculate impact damage: (momentum/100 * COMET_MOMENTUM_SCALING) + base damage + (damage bonus * 2)
                         // Scales from base damage at 0% to base + COMET_MOMENTUM_SCALING + (bonus*2) at 100%
                         float baseDamage = (float) player.getAttributeValue(net.minecraft.world.entity.ai.attributes.Attributes.ATTACK_DAMAGE);
                         float momentumDamage = (momentum / 100.0f) * COMET_MOMENTUM_SCALING;
                         float cometDamage = baseDamage + momentumDamage + (damageBonus * 2.0f);
-                        player.getPersistentData().putFloat("lancer_comet_damage", cometDamage);
                         
-                        // Store momentum at cast time for max damage effect
-                        player.getPersistentData().putFloat("lancer_comet_momentum", momentum);
+                        // Store comet state for impact detection, with momentum at cast time for max damage effect
+                        player.getData(ModAttachments.ABILITY_STATE).startComet(cometDamage, momentum);
                         
                         // Convert all velocity to downward
                         Vec3 currentVelocity = player.getDeltaMovement();
@@ -1849,7 +1766,7 @@ public class ModMessages {
                     }
                 }
             }
-            case "fatespinner" -> {
+            case FATESPINNER -> {
                 var rpgData = player.getData(ModAttachments.PLAYER_RPG);
                 boolean isSneaking = player.isCrouching();
                 switch (slot) {
@@ -1874,7 +1791,7 @@ public class ModMessages {
                             } else {
                                 player.displayClientMessage(Component.literal("§cNo threaded enemy in line of sight!"), true);
                                 // Refund mana since no valid target
-                                rpgData.regenMana(AbilityUtils.getAbilityManaCost("fatespinner", 1));
+                                rpgData.regenMana(AbilityUtils.getAbilityManaCost(ClassType.FATESPINNER, 1));
                             }
                         } else {
                             // Normal: Fire Weave projectile
@@ -1905,9 +1822,9 @@ public class ModMessages {
                             // Start cooldown now
                             String abilityId = "fatespinner_ability_2";
                             int cooldownReduction = stats.getIntStatValue(StatType.COOLDOWN_REDUCTION);
-                            int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks("fatespinner", 2);
+                            int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks(ClassType.FATESPINNER, 2);
                             int adjustedCooldownTicks = (int) (baseCooldownTicks * (1.0 - cooldownReduction / 100.0));
-                            rpgData.setAbilityCooldown(abilityId, Math.max(adjustedCooldownTicks, 20));
+                            rpgData.setAbilityCooldown(abilityId, Math.max(adjustedCooldownTicks, 20), player.level().getGameTime());
                             
                             // Visual: Energy flow ceases, threads relax
                             spawnManafluxEndEffect(level, playerPos);
@@ -1918,7 +1835,7 @@ public class ModMessages {
                             if (threadCount == 0) {
                                 player.displayClientMessage(Component.literal("§cNo active threads to channel!"), true);
                                 // Refund mana
-                                rpgData.regenMana(AbilityUtils.getAbilityManaCost("fatespinner", 2));
+                                rpgData.regenMana(AbilityUtils.getAbilityManaCost(ClassType.FATESPINNER, 2));
                             } else {
                                 rpgData.setInManafluxChannel(true);
                                 rpgData.setManafluxStartTime(level.getGameTime());
@@ -1981,18 +1898,73 @@ public class ModMessages {
     // ===== Particle Helper Methods =====
     
     /**
-     * Creates dust particle options with given RGB values (0-1 range)
+     * Dust particle options for the given RGB values (0-1 range), with slight colour variation.
+     * Instances come from the shared {@link DustPalette}, so this does not allocate per particle.
      */
     public static DustParticleOptions createDustParticle(float r, float g, float b, float size) {
-        // Add slight variation to make particles more interesting
-        float rVar = r + (RANDOM.nextFloat() - 0.5f) * 0.15f;
-        float gVar = g + (RANDOM.nextFloat() - 0.5f) * 0.15f;
-        float bVar = b + (RANDOM.nextFloat() - 0.5f) * 0.15f;
-        return new DustParticleOptions(new Vector3f(
-            Math.max(0, Math.min(1, rVar)),
-            Math.max(0, Math.min(1, gVar)),
-            Math.max(0, Math.min(1, bVar))
-        ), size);
+        return DustPalette.get(r, g, b, size);
+    }
+    
+    /**
+     * Send a dust particle shape to nearby players as one packet - each client expands it locally
+     */
+    private static void sendParticleEffect(ServerLevel level, PacketParticleEffect.Shape shape, Vec3 center,
+            double radius, float yaw, float r, float g, float b, int count) {
+        if (count <= 0) {
+            return;
+        }
+        int color = PacketParticleEffect.packColor(r, g, b);
+        long seed = RANDOM.nextLong();
+        // Each viewer gets the shape at its own level of detail
+        for (ServerPlayer viewer : level.players()) {
+            int allowed = ParticleLod.allow(viewer, center.x, center.y, center.z, count);
+            if (allowed > 0) {
+                PacketDistributor.sendToPlayer(viewer, new PacketParticleEffect(shape, center.x, center.y, center.z,
+                        (float) radius, yaw, color, allowed, seed));
+                TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
+            }
+        }
+    }
+    
+    /**
+     * Send vanilla particles to nearby players, thinned per viewer by {@link ParticleLod}.
+     * Same arguments as {@link ServerLevel#sendParticles}; a count of 0 sends one particle moving along the offsets.
+     */
+    private static <T extends ParticleOptions> void sendParticles(ServerLevel level, T options,
+            double x, double y, double z, int count, double dx, double dy, double dz, double speed) {
+        for (ServerPlayer viewer : level.players()) {
+            int allowed = ParticleLod.allow(viewer, x, y, z, Math.max(count, 1));
+            if (allowed > 0) {
+                level.sendParticles(viewer, options, false, x, y, z, count == 0 ? 0 : allowed, dx, dy, dz, speed);
+            }
+        }
+    }
+    
+    /**
+     * Start a multi-tick effect that nearby clients animate on their own.
+     * Anchor and target entities are optional; a duration of -1 runs until {@link #stopClientEffect}.
+     * Returns the handle used to stop the effect early.
+     */
+    private static int startClientEffect(ServerLevel level, PacketStartEffect.Kind kind, Entity anchor, Entity target,
+            Vec3 position, float yaw, double radius, int duration) {
+        int handle = clientEffectHandles.incrementAndGet();
+        PacketStartEffect packet = new PacketStartEffect(kind, handle,
+                anchor != null ? anchor.getId() : -1, target != null ? target.getId() : -1,
+                position.x, position.y, position.z, yaw, (float) radius, duration, RANDOM.nextLong());
+        PacketDistributor.sendToPlayersNear(level, null, position.x, position.y, position.z,
+                CLIENT_EFFECT_RANGE, packet);
+        TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
+        return handle;
+    }
+    
+    /**
+     * Stop a client-animated effect before its duration ends
+     */
+    private static void stopClientEffect(ServerLevel level, int handle) {
+        if (handle >= 0) {
+            PacketDistributor.sendToPlayersInDimension(level, new PacketStopEffect(handle));
+            TickProfiler.count(TickProfiler.Counter.PACKETS_SENT, 1);
+        }
     }
     
     /**
@@ -2000,15 +1972,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesBurst(ServerLevel level, Vec3 center, double radius, 
             float r, float g, float b, int count) {
-        for (int i = 0; i < count; i++) {
-            double angle = RANDOM.nextDouble() * 2 * Math.PI;
-            double dist = RANDOM.nextDouble() * radius;
-            double x = center.x + Math.cos(angle) * dist;
-            double y = center.y + 0.5 + RANDOM.nextDouble() * 1.5;
-            double z = center.z + Math.sin(angle) * dist;
-            float size = 0.4f + RANDOM.nextFloat() * 0.3f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0, 0, 0);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.BURST, center, radius, 0, r, g, b, count);
     }
     
     /**
@@ -2016,15 +1980,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesRing(ServerLevel level, Vec3 center, double radius,
             float r, float g, float b) {
-        int count = (int) (radius * 8);
-        for (int i = 0; i < count; i++) {
-            double angle = (double) i / count * 2 * Math.PI;
-            double x = center.x + Math.cos(angle) * radius;
-            double y = center.y + 0.5;
-            double z = center.z + Math.sin(angle) * radius;
-            float size = 0.5f + RANDOM.nextFloat() * 0.2f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0.1, 0, 0);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.RING, center, radius, 0, r, g, b, (int) (radius * 8));
     }
     
     /**
@@ -2032,17 +1988,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesSpiral(ServerLevel level, Vec3 center, double radius,
             float r, float g, float b) {
-        int count = (int) (radius * 12);
-        for (int i = 0; i < count; i++) {
-            double progress = (double) i / count;
-            double angle = progress * 4 * Math.PI;
-            double dist = progress * radius;
-            double x = center.x + Math.cos(angle) * dist;
-            double y = center.y + 0.3 + progress * 1.5;
-            double z = center.z + Math.sin(angle) * dist;
-            float size = 0.4f + RANDOM.nextFloat() * 0.25f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0, 0, 0);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.SPIRAL, center, radius, 0, r, g, b, (int) (radius * 12));
     }
     
     /**
@@ -2050,17 +1996,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesArc(ServerLevel level, Vec3 center, float yaw, double radius,
             float r, float g, float b) {
-        double baseAngle = Math.toRadians(-yaw + 90);
-        int count = 15;
-        for (int i = 0; i < count; i++) {
-            double angleOffset = (i - count/2) * 0.15;
-            double angle = baseAngle + angleOffset;
-            double x = center.x + Math.cos(angle) * radius;
-            double y = center.y + 0.8 + RANDOM.nextDouble() * 0.5;
-            double z = center.z + Math.sin(angle) * radius;
-            float size = 0.5f + RANDOM.nextFloat() * 0.3f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0, 0, 0);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.ARC, center, radius, yaw, r, g, b, 15);
     }
     
     /**
@@ -2068,16 +2004,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesShell(ServerLevel level, Vec3 center, double radius,
             float r, float g, float b) {
-        int count = 30;
-        for (int i = 0; i < count; i++) {
-            double phi = RANDOM.nextDouble() * Math.PI;
-            double theta = RANDOM.nextDouble() * 2 * Math.PI;
-            double x = center.x + Math.sin(phi) * Math.cos(theta) * radius;
-            double y = center.y + 1.0 + Math.cos(phi) * radius;
-            double z = center.z + Math.sin(phi) * Math.sin(theta) * radius;
-            float size = 0.4f + RANDOM.nextFloat() * 0.2f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0, 0, 0);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.SHELL, center, radius, 0, r, g, b, 30);
     }
     
     /**
@@ -2085,17 +2012,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesLine(ServerLevel level, Vec3 start, float yaw, double length,
             float r, float g, float b) {
-        double angle = Math.toRadians(-yaw + 90);
-        int count = (int) (length * 3);
-        for (int i = 0; i < count; i++) {
-            double progress = (double) i / count;
-            double dist = progress * length;
-            double x = start.x + Math.cos(angle) * dist + (RANDOM.nextDouble() - 0.5) * 0.3;
-            double y = start.y + (RANDOM.nextDouble() - 0.5) * 0.3;
-            double z = start.z + Math.sin(angle) * dist + (RANDOM.nextDouble() - 0.5) * 0.3;
-            float size = 0.35f + RANDOM.nextFloat() * 0.2f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0, 0, 0);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.LINE, start, length, yaw, r, g, b, (int) (length * 3));
     }
     
     /**
@@ -2103,22 +2020,8 @@ public class ModMessages {
      */
     private static void spawnDustParticlesFan(ServerLevel level, Vec3 start, float yaw, double length,
             float r, float g, float b) {
-        double baseAngle = Math.toRadians(-yaw + 90);
-        int lines = 5;
-        int particlesPerLine = 8;
-        for (int line = 0; line < lines; line++) {
-            double angleOffset = (line - lines/2) * 0.2;
-            double angle = baseAngle + angleOffset;
-            for (int i = 0; i < particlesPerLine; i++) {
-                double progress = (double) i / particlesPerLine;
-                double dist = progress * length;
-                double x = start.x + Math.cos(angle) * dist;
-                double y = start.y + (RANDOM.nextDouble() - 0.5) * 0.2;
-                double z = start.z + Math.sin(angle) * dist;
-                float size = 0.35f + RANDOM.nextFloat() * 0.2f;
-                level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0, 0, 0);
-            }
-        }
+        // 5 lines of 8 particles
+        sendParticleEffect(level, PacketParticleEffect.Shape.FAN, start, length, yaw, r, g, b, 8);
     }
     
     /**
@@ -2126,16 +2029,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesGround(ServerLevel level, Vec3 center, double radius,
             float r, float g, float b) {
-        int count = (int) (radius * radius * 3);
-        for (int i = 0; i < count; i++) {
-            double angle = RANDOM.nextDouble() * 2 * Math.PI;
-            double dist = RANDOM.nextDouble() * radius;
-            double x = center.x + Math.cos(angle) * dist;
-            double y = center.y + 0.1 + RANDOM.nextDouble() * 0.2;
-            double z = center.z + Math.sin(angle) * dist;
-            float size = 0.4f + RANDOM.nextFloat() * 0.25f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0.05, 0, 0);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.GROUND, center, radius, 0, r, g, b, (int) (radius * radius * 3));
     }
     
     /**
@@ -2143,16 +2037,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesRain(ServerLevel level, Vec3 center, double radius,
             float r, float g, float b) {
-        int count = (int) (radius * radius * 2);
-        for (int i = 0; i < count; i++) {
-            double angle = RANDOM.nextDouble() * 2 * Math.PI;
-            double dist = RANDOM.nextDouble() * radius;
-            double x = center.x + Math.cos(angle) * dist;
-            double y = center.y + 3 + RANDOM.nextDouble() * 2;
-            double z = center.z + Math.sin(angle) * dist;
-            float size = 0.3f + RANDOM.nextFloat() * 0.2f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, -0.3, 0, 0.05);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.RAIN, center, radius, 0, r, g, b, (int) (radius * radius * 2));
     }
     
     /**
@@ -2160,16 +2045,7 @@ public class ModMessages {
      */
     private static void spawnDustParticlesUpward(ServerLevel level, Vec3 center, double radius,
             float r, float g, float b) {
-        int count = (int) (radius * 5);
-        for (int i = 0; i < count; i++) {
-            double angle = RANDOM.nextDouble() * 2 * Math.PI;
-            double dist = RANDOM.nextDouble() * radius * 0.5;
-            double x = center.x + Math.cos(angle) * dist;
-            double y = center.y + RANDOM.nextDouble() * 0.5;
-            double z = center.z + Math.sin(angle) * dist;
-            float size = 0.4f + RANDOM.nextFloat() * 0.25f;
-            level.sendParticles(createDustParticle(r, g, b, size), x, y, z, 1, 0, 0.2, 0, 0.05);
-        }
+        sendParticleEffect(level, PacketParticleEffect.Shape.UPWARD, center, radius, 0, r, g, b, (int) (radius * 5));
     }
     
     private static void dealDamageToNearbyEnemies(ServerPlayer player, double damage, double range) {
@@ -2264,7 +2140,7 @@ public class ModMessages {
             double y = center.y + RANDOM.nextDouble() * 2.5;
             double z = center.z + Math.sin(angle) * dist;
             
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     x, y, z, 1, 0, 0.1, 0, 0);
         }
     }
@@ -2293,7 +2169,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.85f, 0.0f, 1.2f),
+                sendParticles(level, createDustParticle(1.0f, 0.85f, 0.0f, 1.2f),
                         x, center.y + 0.5, z, 3, 0.1, 0.3, 0.1, 0.05);
             }
         }
@@ -2306,13 +2182,13 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * dist;
                 double z = center.z + Math.sin(angle) * dist;
                 
-                level.sendParticles(createDustParticle(1.0f, 1.0f, 0.4f, 0.8f),
+                sendParticles(level, createDustParticle(1.0f, 1.0f, 0.4f, 0.8f),
                         x, center.y + 1.0, z, 1, 0, 0, 0, 0);
             }
         }
         
         // Explosion particles at center
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                 center.x, center.y + 1, center.z, 3, 0.5, 0.5, 0.5, 0);
         
         // Flash of light (end rod particles shooting upward)
@@ -2322,7 +2198,7 @@ public class ModMessages {
             double x = center.x + Math.cos(angle) * dist;
             double z = center.z + Math.sin(angle) * dist;
             
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     x, center.y + 0.5, z, 1, 0, 0.3, 0, 0.1);
         }
     }
@@ -2374,14 +2250,14 @@ public class ModMessages {
             double angle = (double) i / count * 2 * Math.PI;
             double x = center.x + Math.cos(angle) * radius;
             double z = center.z + Math.sin(angle) * radius;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.SPORE_BLOSSOM_AIR,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.SPORE_BLOSSOM_AIR,
                     x, center.y + 0.1, z, 2, 0.2, 0.1, 0.2, 0.01);
         }
         // Inner web/trap particles
         for (int i = 0; i < 20; i++) {
             double angle = RANDOM.nextDouble() * 2 * Math.PI;
             double dist = RANDOM.nextDouble() * radius * 0.7;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.ITEM_SLIME,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.ITEM_SLIME,
                     center.x + Math.cos(angle) * dist, center.y + 0.1, center.z + Math.sin(angle) * dist,
                     1, 0, 0, 0, 0);
         }
@@ -2413,7 +2289,7 @@ public class ModMessages {
         for (int i = 0; i < 30; i++) {
             double angle = RANDOM.nextDouble() * 2 * Math.PI;
             double dist = RANDOM.nextDouble() * radius;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                     center.x + Math.cos(angle) * dist, center.y + 4 + RANDOM.nextDouble() * 2, 
                     center.z + Math.sin(angle) * dist,
                     1, 0, -0.5, 0, 0.1);
@@ -2451,7 +2327,7 @@ public class ModMessages {
                 
                 // Arrow core particles (bright green dust)
                 float size = 0.7f + RANDOM.nextFloat() * 0.25f;
-                level.sendParticles(createDustParticle(r, g, b, size), 
+                sendParticles(level, createDustParticle(r, g, b, size), 
                         pos.x + offsetX, pos.y + offsetY, pos.z + offsetZ, 1, 0.02, 0.02, 0.02, 0);
             }
         }
@@ -2477,16 +2353,16 @@ public class ModMessages {
                 Vec3 particlePos = sliceCenter.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
                 
                 float size = 0.8f - (float) sliceProgress * 0.3f;
-                level.sendParticles(createDustParticle(r2, g2, b2, size),
+                sendParticles(level, createDustParticle(r2, g2, b2, size),
                         particlePos.x, particlePos.y, particlePos.z, 1, 0.01, 0.01, 0.01, 0);
             }
         }
         
         // Arrow tip flash
         Vec3 arrowTip = start.add(normalizedDir.scale(arrowLength));
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 arrowTip.x, arrowTip.y, arrowTip.z, 1, 0, 0, 0, 0);
-        level.sendParticles(createDustParticle(0.5f, 1.0f, 0.6f, 1.2f),
+        sendParticles(level, createDustParticle(0.5f, 1.0f, 0.6f, 1.2f),
                 arrowTip.x, arrowTip.y, arrowTip.z, 5, 0.1, 0.1, 0.1, 0);
         
         // ===== FLETCHING (Arrow feathers at back) =====
@@ -2500,7 +2376,7 @@ public class ModMessages {
                 double oy = Math.sin(featherAngle) * featherLength;
                 Vec3 particlePos = featherPos.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
                 
-                level.sendParticles(createDustParticle(0.2f, 0.7f, 0.25f, 0.4f),
+                sendParticles(level, createDustParticle(0.2f, 0.7f, 0.25f, 0.4f),
                         particlePos.x, particlePos.y, particlePos.z, 1, 0, 0, 0, 0);
             }
         }
@@ -2522,10 +2398,10 @@ public class ModMessages {
                 float circleSize = 0.35f + RANDOM.nextFloat() * 0.15f;
                 // Alternating colors for pulsing effect
                 if (ring % 2 == 0) {
-                    level.sendParticles(createDustParticle(0.3f, 1.0f, 0.4f, circleSize),
+                    sendParticles(level, createDustParticle(0.3f, 1.0f, 0.4f, circleSize),
                             circlePos.x, circlePos.y, circlePos.z, 1, 0, 0, 0, 0);
                 } else {
-                    level.sendParticles(createDustParticle(0.2f, 0.8f, 0.3f, circleSize),
+                    sendParticles(level, createDustParticle(0.2f, 0.8f, 0.3f, circleSize),
                             circlePos.x, circlePos.y, circlePos.z, 1, 0, 0, 0, 0);
                 }
             }
@@ -2536,7 +2412,7 @@ public class ModMessages {
                 double ox = Math.cos(cardAngle) * baseRadius * 0.6;
                 double oy = Math.sin(cardAngle) * baseRadius * 0.6;
                 Vec3 glowPos = ringCenter.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                         glowPos.x, glowPos.y, glowPos.z, 1, 0.01, 0.01, 0.01, 0);
             }
         }
@@ -2548,13 +2424,13 @@ public class ModMessages {
             double spreadX = (RANDOM.nextDouble() - 0.5) * 0.3;
             double spreadY = (RANDOM.nextDouble() - 0.5) * 0.3;
             double spreadZ = (RANDOM.nextDouble() - 0.5) * 0.3;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                     trailPos.x + spreadX, trailPos.y + spreadY, trailPos.z + spreadZ,
                     1, 0, 0.05, 0, 0.01);
         }
         
         // Impact glow at end
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.GLOW,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.GLOW,
                 arrowTip.x, arrowTip.y, arrowTip.z, 20, 0.3, 0.3, 0.3, 0.02);
     }
     
@@ -2588,12 +2464,12 @@ public class ModMessages {
                     double x = x1 + (x2 - x1) * t;
                     double z = z1 + (z2 - z1) * t;
                     
-                    level.sendParticles(createDustParticle(0.2f, 0.9f, 0.3f, 0.6f),
+                    sendParticles(level, createDustParticle(0.2f, 0.9f, 0.3f, 0.6f),
                             x, ringY, z, 1, 0.02, 0.02, 0.02, 0);
                 }
                 
                 // Vertex glow
-                level.sendParticles(createDustParticle(0.4f, 1.0f, 0.5f, 0.8f),
+                sendParticles(level, createDustParticle(0.4f, 1.0f, 0.5f, 0.8f),
                         x1, ringY, z1, 2, 0.05, 0.05, 0.05, 0);
             }
         }
@@ -2606,7 +2482,7 @@ public class ModMessages {
             
             for (int h = 0; h < 12; h++) {
                 double y = center.y + 0.3 + (double) h / 12 * 1.6;
-                level.sendParticles(createDustParticle(0.25f, 0.85f, 0.35f, 0.4f),
+                sendParticles(level, createDustParticle(0.25f, 0.85f, 0.35f, 0.4f),
                         x, y, z, 1, 0.01, 0.01, 0.01, 0);
             }
         }
@@ -2625,7 +2501,7 @@ public class ModMessages {
             
             for (int p = 0; p < 6; p++) {
                 double t = (double) p / 6;
-                level.sendParticles(createDustParticle(0.35f, 1.0f, 0.45f, 0.5f),
+                sendParticles(level, createDustParticle(0.35f, 1.0f, 0.45f, 0.5f),
                         x1 + (x2 - x1) * t, y, z1 + (z2 - z1) * t, 1, 0.01, 0.01, 0.01, 0);
             }
         }
@@ -2634,9 +2510,9 @@ public class ModMessages {
         // Vertical beam in center
         for (int i = 0; i < 15; i++) {
             double y = center.y + (double) i / 15 * 2.5;
-            level.sendParticles(createDustParticle(0.4f, 1.0f, 0.5f, 0.7f),
+            sendParticles(level, createDustParticle(0.4f, 1.0f, 0.5f, 0.7f),
                     center.x, y, center.z, 1, 0.05, 0.05, 0.05, 0);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     center.x, y, center.z, 1, 0.03, 0.1, 0.03, 0);
         }
         
@@ -2645,15 +2521,15 @@ public class ModMessages {
             double angle = (double) i / 30 * 6 * Math.PI;
             double spiralRadius = 0.3 + (double) i / 30 * 0.5;
             double y = center.y + (double) i / 30 * 2.5;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                     center.x + Math.cos(angle) * spiralRadius, y, center.z + Math.sin(angle) * spiralRadius,
                     1, 0, 0, 0, 0);
         }
         
         // Top crown effect
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 2.5, center.z, 1, 0, 0, 0, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.GLOW,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.GLOW,
                 center.x, center.y + 1.0, center.z, 25, 0.4, 0.7, 0.4, 0.02);
     }
     
@@ -2697,21 +2573,21 @@ public class ModMessages {
                 
                 // Thin green particle line
                 float size = 0.25f + RANDOM.nextFloat() * 0.1f;
-                level.sendParticles(createDustParticle(r, g, b, size),
+                sendParticles(level, createDustParticle(r, g, b, size),
                         pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
                 
                 // Occasional brighter particles
                 if (i % 5 == 0) {
-                    level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                    sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                             pos.x, pos.y, pos.z, 1, 0, 0, 0, 0);
                 }
             }
         }
         
         // Muzzle flash effect at start
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 1, 0, 0, 0, 0);
-        level.sendParticles(createDustParticle(0.5f, 1.0f, 0.5f, 0.7f),
+        sendParticles(level, createDustParticle(0.5f, 1.0f, 0.5f, 0.7f),
                 start.x, start.y, start.z, 10, 0.2, 0.2, 0.2, 0.05);
     }
     
@@ -2727,18 +2603,18 @@ public class ModMessages {
             double z = center.z + escapeDirection.z * progress * 2;
             
             // Green dash particles
-            level.sendParticles(createDustParticle(0.3f, 0.8f, 0.4f, 0.4f),
+            sendParticles(level, createDustParticle(0.3f, 0.8f, 0.4f, 0.4f),
                     x, y, z, 1, 0.1, 0.1, 0.1, 0);
         }
         
         // Burst at origin point
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CLOUD,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CLOUD,
                 center.x, center.y + 0.5, center.z, 8, 0.3, 0.2, 0.3, 0.05);
-        level.sendParticles(createDustParticle(0.2f, 0.9f, 0.3f, 0.6f),
+        sendParticles(level, createDustParticle(0.2f, 0.9f, 0.3f, 0.6f),
                 center.x, center.y + 0.5, center.z, 15, 0.4, 0.3, 0.4, 0.1);
         
         // Sweep effect
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                 center.x, center.y + 1, center.z, 2, 0.3, 0.2, 0.3, 0);
     }
     
@@ -2756,12 +2632,12 @@ public class ModMessages {
         // Initial dramatic sky beam
         for (int i = 0; i < 25; i++) {
             double y = center.y + 5 + i * 0.5;
-            level.sendParticles(createDustParticle(r2, g2, b2, 0.9f),
+            sendParticles(level, createDustParticle(r2, g2, b2, 0.9f),
                     center.x, y, center.z, 3, 0.3, 0.1, 0.3, 0.01);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     center.x, y, center.z, 1, 0.1, 0, 0.1, 0);
         }
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 15, center.z, 3, 0.5, 0.5, 0.5, 0);
         
         // ===== TARGETING ZONE INDICATOR =====
@@ -2773,7 +2649,7 @@ public class ModMessages {
                 double angle = (double) p / points * 2 * Math.PI;
                 double x = center.x + Math.cos(angle) * ringRadius;
                 double z = center.z + Math.sin(angle) * ringRadius;
-                level.sendParticles(createDustParticle(r, g, b, 0.5f),
+                sendParticles(level, createDustParticle(r, g, b, 0.5f),
                         x, center.y + 0.05, z, 1, 0.05, 0, 0.05, 0);
             }
         }
@@ -2787,9 +2663,9 @@ public class ModMessages {
                 double z1 = center.z + Math.sin(lineAngle) * dist;
                 double x2 = center.x - Math.cos(lineAngle) * dist;
                 double z2 = center.z - Math.sin(lineAngle) * dist;
-                level.sendParticles(createDustParticle(r, g, b, 0.35f),
+                sendParticles(level, createDustParticle(r, g, b, 0.35f),
                         x1, center.y + 0.05, z1, 1, 0.02, 0, 0.02, 0);
-                level.sendParticles(createDustParticle(r, g, b, 0.35f),
+                sendParticles(level, createDustParticle(r, g, b, 0.35f),
                         x2, center.y + 0.05, z2, 1, 0.02, 0, 0.02, 0);
             }
         }
@@ -2816,7 +2692,7 @@ public class ModMessages {
                 double z = startZ + tiltZ * progress;
                 
                 float size = 0.45f - (float) progress * 0.2f;
-                level.sendParticles(createDustParticle(r, g, b, size),
+                sendParticles(level, createDustParticle(r, g, b, size),
                         x + (RANDOM.nextDouble() - 0.5) * 0.08,
                         y,
                         z + (RANDOM.nextDouble() - 0.5) * 0.08,
@@ -2824,12 +2700,12 @@ public class ModMessages {
             }
             
             // Arrow head - brighter/larger
-            level.sendParticles(createDustParticle(r2, g2, b2, 0.6f),
+            sendParticles(level, createDustParticle(r2, g2, b2, 0.6f),
                     startX, startY, startZ, 2, 0.05, 0.05, 0.05, 0);
             
             // Every 3rd arrow gets extra glow
             if (arrow % 3 == 0) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                         startX, startY, startZ, 1, 0, -0.3, 0, 0.05);
             }
         }
@@ -2844,7 +2720,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * waveRadius;
                 double z = center.z + Math.sin(angle) * waveRadius;
                 
-                level.sendParticles(createDustParticle(r2, g2, b2, 0.55f),
+                sendParticles(level, createDustParticle(r2, g2, b2, 0.55f),
                         x, center.y + 0.1 + wave * 0.3, z, 1, 0.08, 0.15, 0.08, 0.02);
             }
         }
@@ -2858,12 +2734,12 @@ public class ModMessages {
             double z = center.z + Math.sin(angle) * dist;
             
             // Impact spark
-            level.sendParticles(createDustParticle(0.35f, 0.95f, 0.4f, 0.5f),
+            sendParticles(level, createDustParticle(0.35f, 0.95f, 0.4f, 0.5f),
                     x, center.y + 0.1, z, 1, 0.15, 0.2, 0.15, 0.03);
             
             // Debris/dust kick-up
             if (i % 3 == 0) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.POOF,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.POOF,
                         x, center.y + 0.1, z, 1, 0.1, 0.05, 0.1, 0.01);
             }
         }
@@ -2873,12 +2749,12 @@ public class ModMessages {
         for (int i = 0; i < 15; i++) {
             double y = center.y + (double) i / 15 * 4;
             double glowRadius = 0.5 - (double) i / 15 * 0.3;
-            level.sendParticles(createDustParticle(0.4f, 1.0f, 0.5f, 0.6f),
+            sendParticles(level, createDustParticle(0.4f, 1.0f, 0.5f, 0.6f),
                     center.x, y, center.z, 2, glowRadius, 0.1, glowRadius, 0.01);
         }
         
         // Massive ambient glow
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.GLOW,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.GLOW,
                 center.x, center.y + 1.5, center.z, 50, radius * 0.5, 1.0, radius * 0.5, 0.02);
         
         // Enchantment particles for magical feel
@@ -2888,7 +2764,7 @@ public class ModMessages {
             double x = center.x + Math.cos(angle) * dist;
             double z = center.z + Math.sin(angle) * dist;
             double y = center.y + RANDOM.nextDouble() * 2;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                     x, y, z, 2, 0.1, 0.2, 0.1, 0.02);
         }
         
@@ -2967,7 +2843,7 @@ public class ModMessages {
                     double z = center.z + Math.sin(featherAngle) * dist;
                     double y = center.y + 1.2 - (double) p / 8 * 0.3;
                     
-                    level.sendParticles(createDustParticle(r, g, b, 0.4f),
+                    sendParticles(level, createDustParticle(r, g, b, 0.4f),
                             x, y, z, 1, 0.02, 0.02, 0.02, 0);
                 }
             }
@@ -2982,7 +2858,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.CLOUD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.CLOUD,
                         x, center.y + yOffset, z, 1, 0.05, 0.1, 0.05, 0.02);
             }
         }
@@ -2995,17 +2871,17 @@ public class ModMessages {
                 double x = center.x + Math.cos(streamAngle) * dist;
                 double z = center.z + Math.sin(streamAngle) * dist;
                 
-                level.sendParticles(createDustParticle(0.8f, 0.95f, 1.0f, 0.35f),
+                sendParticles(level, createDustParticle(0.8f, 0.95f, 1.0f, 0.35f),
                         x, center.y + 0.8, z, 1, 0.1, 0.1, 0.1, 0.01);
             }
         }
         
         // Sweep attacks for wind effect
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                 center.x, center.y + 1, center.z, 5, 0.6, 0.4, 0.6, 0);
         
         // Central glow
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                 center.x, center.y + 1.2, center.z, 10, 0.3, 0.4, 0.3, 0.01);
     }
     
@@ -3028,7 +2904,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * ringRadius;
                 double z = center.z + Math.sin(angle) * ringRadius;
                 
-                level.sendParticles(createDustParticle(r, g, b, 0.5f),
+                sendParticles(level, createDustParticle(r, g, b, 0.5f),
                         x, ringY, z, 1, 0.05, 0.2, 0.05, 0.02);
             }
         }
@@ -3044,7 +2920,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(spiralAngle) * streamRadius;
                 double z = center.z + Math.sin(spiralAngle) * streamRadius;
                 
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.CLOUD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.CLOUD,
                         x, y, z, 1, 0.03, 0.15, 0.03, 0.05);
             }
         }
@@ -3059,21 +2935,21 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.POOF,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.POOF,
                         x, center.y + 0.15, z, 2, 0.1, 0.05, 0.1, 0.02);
-                level.sendParticles(createDustParticle(0.7f, 0.9f, 1.0f, 0.4f),
+                sendParticles(level, createDustParticle(0.7f, 0.9f, 1.0f, 0.4f),
                         x, center.y + 0.2 + ring * 0.2, z, 1, 0.05, 0.1, 0.05, 0.01);
             }
         }
         
         // ===== TOP BURST =====
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 4, center.z, 1, 0, 0, 0, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                 center.x, center.y + 3, center.z, 15, 0.3, 0.5, 0.3, 0.03);
         
         // Sweep effect at launch
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                 center.x, center.y + 0.5, center.z, 4, 0.5, 0.2, 0.5, 0);
     }
     
@@ -3104,7 +2980,7 @@ public class ModMessages {
             float g_value = lime_g - (float) progress * 0.2f; // 1.0 → 0.8
             float b_value = lime_b + (float) progress * 0.3f; // 0.2 → 0.5
             
-            level.sendParticles(createDustParticle(lime_r, g_value, b_value, 0.9f),
+            sendParticles(level, createDustParticle(lime_r, g_value, b_value, 0.9f),
                     x, y, z, 2, 0.05, 0.05, 0.05, 0.01);
         }
         
@@ -3115,7 +2991,7 @@ public class ModMessages {
             Vec3 pos = center.add(normalizedDir.scale(progress * trailLength));
             
             // Lime green trail matching spiral
-            level.sendParticles(createDustParticle(lime_r, lime_g, lime_b, 0.7f),
+            sendParticles(level, createDustParticle(lime_r, lime_g, lime_b, 0.7f),
                     pos.x, pos.y + 1.0, pos.z, 3, 0.15, 0.15, 0.15, 0.02);
         }
         
@@ -3123,7 +2999,7 @@ public class ModMessages {
         for (int i = 0; i < 12; i++) {
             double progress = (double) i / 12;
             Vec3 pos = center.add(normalizedDir.scale(progress * 2.0));
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     pos.x, pos.y + 1, pos.z, 1, 0.05, 0.05, 0.05, 0);
         }
         
@@ -3134,17 +3010,17 @@ public class ModMessages {
                 double angle = (double) p / 16 * 2 * Math.PI;
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
-                level.sendParticles(createDustParticle(lime_r, lime_g, lime_b, 0.8f),
+                sendParticles(level, createDustParticle(lime_r, lime_g, lime_b, 0.8f),
                         x, center.y + 0.5, z, 1, 0.03, 0.03, 0.03, 0);
             }
         }
         
         // Sweep effect
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                 center.x, center.y + 1, center.z, 3, 0.4, 0.3, 0.4, 0);
         
         // Flash at start
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 1, center.z, 1, 0, 0, 0, 0);
     }
     
@@ -3184,12 +3060,12 @@ public class ModMessages {
                 double x = chargeX + Math.cos(angle) * ringRadius;
                 double z = chargeZ + Math.sin(angle) * ringRadius;
                 
-                level.sendParticles(createDustParticle(r, g, b, 0.5f),
+                sendParticles(level, createDustParticle(r, g, b, 0.5f),
                         x, center.y + 1.5, z, 1, 0.02, 0.02, 0.02, 0);
             }
             
             // Center glow for each charge
-            level.sendParticles(createDustParticle(0.9f, 0.5f, 1.0f, 0.7f),
+            sendParticles(level, createDustParticle(0.9f, 0.5f, 1.0f, 0.7f),
                     chargeX, center.y + 1.5, chargeZ, 3, 0.1, 0.1, 0.1, 0);
         }
         
@@ -3198,7 +3074,7 @@ public class ModMessages {
         for (int i = 0; i < charges * 8; i++) {
             double angle = RANDOM.nextDouble() * 2 * Math.PI;
             double dist = RANDOM.nextDouble() * 0.5;
-            level.sendParticles(createDustParticle(0.8f, 0.4f, 1.0f, 0.6f),
+            sendParticles(level, createDustParticle(0.8f, 0.4f, 1.0f, 0.6f),
                     center.x + Math.cos(angle) * dist, center.y + 1.5,
                     center.z + Math.sin(angle) * dist, 1, 0.15, 0.15, 0.15, 0.03);
         }
@@ -3208,17 +3084,17 @@ public class ModMessages {
             double angle = (double) i / 30 * 4 * Math.PI;
             double radius = 0.4 + (double) i / 30 * 0.5;
             double y = center.y + 1 + (double) i / 30 * 1.5;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                     center.x + Math.cos(angle) * radius, y, center.z + Math.sin(angle) * radius,
                     2, 0, 0.1, 0, 0.02);
         }
         
         // Witch particles burst
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.WITCH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.WITCH,
                 center.x, center.y + 1.5, center.z, charges * 5, 0.4, 0.4, 0.4, 0.08);
         
         // Flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 2, center.z, 1, 0, 0, 0, 0);
     }
     
@@ -3285,7 +3161,7 @@ public class ModMessages {
             
             // ===== SEEKER CORE =====
             // Central bright orb
-            level.sendParticles(createDustParticle(0.9f, 0.6f, 1.0f, 0.8f),
+            sendParticles(level, createDustParticle(0.9f, 0.6f, 1.0f, 0.8f),
                     pos.x, pos.y, pos.z, 2, 0.05, 0.05, 0.05, 0);
             
             // ===== ORBITAL RING =====
@@ -3298,24 +3174,24 @@ public class ModMessages {
                 double oy = Math.sin(angle) * orbitRadius;
                 Vec3 orbitPos = pos.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
                 
-                level.sendParticles(createDustParticle(r, g, b, 0.4f),
+                sendParticles(level, createDustParticle(r, g, b, 0.4f),
                         orbitPos.x, orbitPos.y, orbitPos.z, 1, 0, 0, 0, 0);
             }
             
             // ===== TRAIL =====
             if (step % 3 == 0) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.WITCH,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.WITCH,
                         pos.x, pos.y, pos.z, 1, 0.05, 0.05, 0.05, 0.01);
             }
             if (step % 5 == 0) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                         pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
         
         // End burst
         Vec3 endPos = start.add(normalizedDir.scale(range));
-        level.sendParticles(createDustParticle(1.0f, 0.7f, 1.0f, 1.0f),
+        sendParticles(level, createDustParticle(1.0f, 0.7f, 1.0f, 1.0f),
                 endPos.x, endPos.y, endPos.z, 8, 0.2, 0.2, 0.2, 0.05);
     }
     
@@ -3355,7 +3231,7 @@ public class ModMessages {
             
             // ===== SEEKER CORE =====
             float coreSize = 0.7f + (float) Math.sin(t * Math.PI) * 0.3f; // Pulse
-            level.sendParticles(createDustParticle(0.95f, 0.6f, 1.0f, coreSize),
+            sendParticles(level, createDustParticle(0.95f, 0.6f, 1.0f, coreSize),
                     pos.x, pos.y, pos.z, 2, 0.04, 0.04, 0.04, 0);
             
             // ===== SPINNING ORBITAL PARTICLES =====
@@ -3373,28 +3249,28 @@ public class ModMessages {
                 double oy = Math.sin(angle) * orbitRadius;
                 Vec3 orbitPos = pos.add(orbitPerp1.scale(ox)).add(orbitPerp2.scale(oy));
                 
-                level.sendParticles(createDustParticle(r, g, b, 0.35f),
+                sendParticles(level, createDustParticle(r, g, b, 0.35f),
                         orbitPos.x, orbitPos.y, orbitPos.z, 1, 0, 0, 0, 0);
             }
             
             // ===== TRAIL PARTICLES =====
             if (step % 2 == 0) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.WITCH,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.WITCH,
                         pos.x, pos.y, pos.z, 1, 0.03, 0.03, 0.03, 0.005);
             }
             if (step % 4 == 0) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                         pos.x, pos.y, pos.z, 1, 0.01, 0.01, 0.01, 0);
             }
         }
         
         // ===== IMPACT EFFECT =====
         // Burst at target
-        level.sendParticles(createDustParticle(1.0f, 0.7f, 1.0f, 1.0f),
+        sendParticles(level, createDustParticle(1.0f, 0.7f, 1.0f, 1.0f),
                 targetPos.x, targetPos.y, targetPos.z, 12, 0.3, 0.3, 0.3, 0.08);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                 targetPos.x, targetPos.y, targetPos.z, 20, 0.4, 0.4, 0.4, 0.1);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 targetPos.x, targetPos.y, targetPos.z, 1, 0, 0, 0, 0);
         
         // Deal damage to target
@@ -3446,7 +3322,7 @@ public class ModMessages {
             // Main shaft - 3x thicker
             for (int layer = 0; layer < 3; layer++) {
                 double spread = layer * 0.25; // 3x wider spread
-                level.sendParticles(createDustParticle(0.2f, 0.9f, 0.3f, 1.2f), // Larger particles
+                sendParticles(level, createDustParticle(0.2f, 0.9f, 0.3f, 1.2f), // Larger particles
                         pos.x + (RANDOM.nextDouble() - 0.5) * spread,
                         pos.y + (RANDOM.nextDouble() - 0.5) * spread,
                         pos.z + (RANDOM.nextDouble() - 0.5) * spread,
@@ -3469,7 +3345,7 @@ public class ModMessages {
                 Vec3 circlePos = ringCenter.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
                 
                 float circleSize = 0.6f + RANDOM.nextFloat() * 0.3f; // Larger circle particles
-                level.sendParticles(createDustParticle(0.3f, 1.0f, 0.4f, circleSize),
+                sendParticles(level, createDustParticle(0.3f, 1.0f, 0.4f, circleSize),
                         circlePos.x, circlePos.y, circlePos.z, 1, 0, 0, 0, 0);
             }
             
@@ -3479,16 +3355,16 @@ public class ModMessages {
                 double ox = Math.cos(cardAngle) * baseRadius * 0.7;
                 double oy = Math.sin(cardAngle) * baseRadius * 0.7;
                 Vec3 glowPos = ringCenter.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                         glowPos.x, glowPos.y, glowPos.z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
         
         // Impact flash at end
         Vec3 endPos = start.add(normalizedDir.scale(arrowLength));
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 endPos.x, endPos.y, endPos.z, 3, 0.5, 0.5, 0.5, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.GLOW,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.GLOW,
                 endPos.x, endPos.y, endPos.z, 30, 0.8, 0.8, 0.8, 0.05);
     }
     
@@ -3526,7 +3402,7 @@ public class ModMessages {
             for (int p = 0; p < 15; p++) {
                 double dist = (double) p / 15 * 10.0;
                 Vec3 pos = start.add(arrowDir.scale(dist));
-                level.sendParticles(createDustParticle(0.3f, 0.85f, 0.35f, 0.4f),
+                sendParticles(level, createDustParticle(0.3f, 0.85f, 0.35f, 0.4f),
                         pos.x, pos.y, pos.z, 1, 0.05, 0.05, 0.05, 0);
             }
         }
@@ -3537,14 +3413,14 @@ public class ModMessages {
      */
     private static void spawnMultiShotLaunchEffect(ServerLevel level, Vec3 center, Vec3 direction) {
         // Flash at launch point
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y, center.z, 2, 0.2, 0.2, 0.2, 0);
         
         // Green burst particles
         for (int i = 0; i < 20; i++) {
             double angle = RANDOM.nextDouble() * 2 * Math.PI;
             double dist = RANDOM.nextDouble() * 0.5;
-            level.sendParticles(createDustParticle(0.3f, 0.9f, 0.4f, 0.6f),
+            sendParticles(level, createDustParticle(0.3f, 0.9f, 0.4f, 0.6f),
                     center.x + Math.cos(angle) * dist,
                     center.y + (RANDOM.nextDouble() - 0.5) * 0.3,
                     center.z + Math.sin(angle) * dist,
@@ -3552,7 +3428,7 @@ public class ModMessages {
         }
         
         // Sweep attack visual
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                 center.x + direction.x * 0.5, center.y, center.z + direction.z * 0.5,
                 2, 0.3, 0.2, 0.3, 0);
     }
@@ -3571,7 +3447,7 @@ public class ModMessages {
                 double z = center.z + Math.sin(angle) * ringRadius;
                 
                 // Bright defined circle particles - golden/orange
-                level.sendParticles(createDustParticle(1.0f, 0.8f, 0.2f, 0.9f),
+                sendParticles(level, createDustParticle(1.0f, 0.8f, 0.2f, 0.9f),
                         x, center.y + 0.05, z, 2, 0.02, 0, 0.02, 0);
             }
         }
@@ -3584,124 +3460,46 @@ public class ModMessages {
             double z = center.z + Math.sin(angle) * radius;
             
             // Thick outer boundary
-            level.sendParticles(createDustParticle(1.0f, 0.6f, 0.1f, 1.0f),
+            sendParticles(level, createDustParticle(1.0f, 0.6f, 0.1f, 1.0f),
                     x, center.y + 0.08, z, 3, 0.03, 0, 0.03, 0);
             // Secondary glow
-            level.sendParticles(createDustParticle(1.0f, 0.9f, 0.4f, 0.6f),
+            sendParticles(level, createDustParticle(1.0f, 0.9f, 0.4f, 0.6f),
                     x, center.y + 0.2, z, 1, 0.05, 0.05, 0.05, 0);
         }
         
         // Cross pattern in center for targeting
         for (int i = -8; i <= 8; i++) {
             double offset = i * (radius / 8);
-            level.sendParticles(createDustParticle(1.0f, 0.7f, 0.15f, 0.7f),
+            sendParticles(level, createDustParticle(1.0f, 0.7f, 0.15f, 0.7f),
                     center.x + offset, center.y + 0.1, center.z, 2, 0.03, 0, 0.03, 0);
-            level.sendParticles(createDustParticle(1.0f, 0.7f, 0.15f, 0.7f),
+            sendParticles(level, createDustParticle(1.0f, 0.7f, 0.15f, 0.7f),
                     center.x, center.y + 0.1, center.z + offset, 2, 0.03, 0, 0.03, 0);
         }
         
         // Upward targeting beam (short, not obscuring)
         for (int i = 0; i < 20; i++) {
             double y = center.y + 2 + i * 0.4;
-            level.sendParticles(createDustParticle(1.0f, 0.85f, 0.3f, 0.6f),
+            sendParticles(level, createDustParticle(1.0f, 0.85f, 0.3f, 0.6f),
                     center.x, y, center.z, 2, 0.15, 0.08, 0.15, 0.01);
         }
         
         // Activation flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 3, center.z, 3, 0.3, 0.3, 0.3, 0);
     }
     
     /**
-     * Spawn per-tick effect for Rain of Arrows - MORE VISIBLE arrows that TOUCH THE GROUND
+     * Deal damage for Rain of Arrows (called every 20 ticks)
      */
-    private static void spawnRainOfArrowsTickEffect(RainOfArrowsEffect effect) {
-        ServerLevel level = effect.level;
-        Vec3 center = effect.center;
-        double radius = effect.radius;
-        
-        // MORE VISIBLE energy bolts raining down and HITTING THE GROUND
-        int boltsPerTick = 12; // More visible projectiles
-        for (int bolt = 0; bolt < boltsPerTick; bolt++) {
-            double angle = RANDOM.nextDouble() * 2 * Math.PI;
-            double dist = RANDOM.nextDouble() * radius;
-            double groundX = center.x + Math.cos(angle) * dist;
-            double groundZ = center.z + Math.sin(angle) * dist;
-            double startY = center.y + 8 + RANDOM.nextDouble() * 4;
-            
-            // FALLING ENERGY BOLT - from sky to ground
-            for (int i = 0; i < 16; i++) {
-                double progress = (double) i / 16.0;
-                double y = startY - progress * (startY - center.y);
-                
-                // Main bolt - bright and visible
-                float brightness = 1.0f - (float) progress * 0.3f;
-                level.sendParticles(createDustParticle(0.3f * brightness, 0.95f * brightness, 0.4f * brightness, 0.8f),
-                        groundX + (RANDOM.nextDouble() - 0.5) * 0.05,
-                        y,
-                        groundZ + (RANDOM.nextDouble() - 0.5) * 0.05,
-                        1, 0, -0.3, 0, 0.05);
-                
-                // Glow trail
-                if (i % 3 == 0) {
-                    level.sendParticles(createDustParticle(0.5f, 1.0f, 0.6f, 0.5f),
-                            groundX, y, groundZ, 1, 0.03, 0.03, 0.03, 0);
-                }
-            }
-            
-            // GROUND IMPACT - particles TOUCHING THE GROUND
-            level.sendParticles(createDustParticle(0.4f, 1.0f, 0.5f, 0.9f),
-                    groundX, center.y + 0.05, groundZ, 3, 0.1, 0.02, 0.1, 0.03);
-            
-            // Impact spark on ground
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
-                    groundX, center.y + 0.1, groundZ, 1, 0.08, 0.02, 0.08, 0.02);
-        }
-        
-        // PERSISTENT GROUND BOUNDARY - keep the circle visible during effect
-        if (effect.ticksRemaining % 8 == 0) {
-            int boundaryPoints = (int) (radius * 16);
-            for (int p = 0; p < boundaryPoints; p++) {
-                double boundaryAngle = (double) p / boundaryPoints * 2 * Math.PI;
-                double bx = center.x + Math.cos(boundaryAngle) * radius;
-                double bz = center.z + Math.sin(boundaryAngle) * radius;
-                
-                level.sendParticles(createDustParticle(1.0f, 0.75f, 0.2f, 0.6f),
-                        bx, center.y + 0.05, bz, 1, 0.02, 0, 0.02, 0);
-            }
-        }
-        
-        // Additional ground impact ripples
-        for (int i = 0; i < 4; i++) {
-            double impactAngle = RANDOM.nextDouble() * 2 * Math.PI;
-            double impactDist = RANDOM.nextDouble() * radius;
-            double impactX = center.x + Math.cos(impactAngle) * impactDist;
-            double impactZ = center.z + Math.sin(impactAngle) * impactDist;
-            
-            // Small impact ring on ground
-            for (int ring = 0; ring < 6; ring++) {
-                double ringAngle = ring * Math.PI / 3;
-                double ringRadius = 0.2;
-                level.sendParticles(createDustParticle(0.35f, 0.9f, 0.4f, 0.5f),
-                        impactX + Math.cos(ringAngle) * ringRadius,
-                        center.y + 0.08,
-                        impactZ + Math.sin(ringAngle) * ringRadius,
-                        1, 0.02, 0, 0.02, 0);
-            }
-        }
-    }
-    
-    /**
-     * Deal damage for Rain of Arrows (called every 20 ticks)
-     */
-    private static void dealRainOfArrowsDamage(RainOfArrowsEffect effect) {
-        AABB damageBox = new AABB(
-                effect.center.x - effect.radius, effect.center.y - 1, effect.center.z - effect.radius,
-                effect.center.x + effect.radius, effect.center.y + 3, effect.center.z + effect.radius
-        );
+    private static void dealRainOfArrowsDamage(RainOfArrowsEffect effect) {
+        AABB damageBox = new AABB(
+                effect.center.x - effect.radius, effect.center.y - 1, effect.center.z - effect.radius,
+                effect.center.x + effect.radius, effect.center.y + 3, effect.center.z + effect.radius
+        );
         
         List<Entity> entities = effect.level.getEntities(effect.player, damageBox,
                 e -> e instanceof LivingEntity && e != effect.player);
+        TickProfiler.count(TickProfiler.Counter.ENTITIES_SCANNED, entities.size());
         
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity living) {
@@ -3727,15 +3525,15 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * ringRadius;
                 double z = center.z + Math.sin(angle) * ringRadius;
                 
-                level.sendParticles(createDustParticle(0.4f, 1.0f, 0.5f, 0.7f),
+                sendParticles(level, createDustParticle(0.4f, 1.0f, 0.5f, 0.7f),
                         x, center.y + 0.3 + ring * 0.2, z, 1, 0.1, 0.2, 0.1, 0.03);
             }
         }
         
         // Final flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 1, center.z, 3, 0.5, 0.5, 0.5, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.GLOW,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.GLOW,
                 center.x, center.y + 1, center.z, 40, radius * 0.5, 1.0, radius * 0.5, 0.03);
     }
     
@@ -3777,14 +3575,14 @@ public class ModMessages {
             );
             
             // Teal/cyan color for scute
-            level.sendParticles(createDustParticle(0.3f, 0.85f, 0.8f, 0.8f),
+            sendParticles(level, createDustParticle(0.3f, 0.85f, 0.8f, 0.8f),
                     pos.x, pos.y, pos.z, 2, 0.15, 0.15, 0.15, 0.02);
             
             // Shell-like hexagonal particles
             if (i % 3 == 0) {
                 for (int hex = 0; hex < 6; hex++) {
                     double hexAngle = (double) hex / 6 * 2 * Math.PI;
-                    level.sendParticles(createDustParticle(0.2f, 0.75f, 0.7f, 0.5f),
+                    sendParticles(level, createDustParticle(0.2f, 0.75f, 0.7f, 0.5f),
                             pos.x + Math.cos(hexAngle) * 0.3,
                             pos.y + Math.sin(hexAngle) * 0.3,
                             pos.z + (RANDOM.nextDouble() - 0.5) * 0.2,
@@ -3794,7 +3592,7 @@ public class ModMessages {
         }
         
         // Launch flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 startPos.x, startPos.y, startPos.z, 1, 0, 0, 0, 0);
     }
     
@@ -3821,14 +3619,16 @@ public class ModMessages {
         }
         
         // Spawn seeker projectiles as timed moving entities
+        ProjectileEngine projectiles = stateFor(level).projectiles;
         for (int i = 0; i < chargeCount; i++) {
             LivingEntity target = null;
             if (!visibleEnemies.isEmpty()) {
                 target = visibleEnemies.get(i % visibleEnemies.size());
             }
             
-            // Create seeker projectile data
-            SeekerProjectile seeker = new SeekerProjectile(player, level, playerPos, target, damage);
+            // Create seeker projectile - medium speed, 5 seconds max flight time
+            int slot = projectiles.spawn(SEEKER_BEHAVIOUR, player, playerPos, lookVec, 0.8f, damage, 100);
+            projectiles.setTarget(slot, target);
             
             // If no target, set a default direction
             if (target == null) {
@@ -3842,75 +3642,92 @@ public class ModMessages {
                         Math.sin(yawRad) * Math.cos(pitchRad)
                 ).normalize();
                 // Store direction as a "fake target position" at the defined no-target range
-                seeker.position = playerPos.add(seekerDir.scale(SEEKER_NO_TARGET_RANGE));
+                projectiles.setPosition(slot, playerPos.add(seekerDir.scale(SEEKER_NO_TARGET_RANGE)));
             }
-            
-            activeSeekers.add(seeker);
         }
     }
     
+    // Seeker homing projectile - steers toward its target every tick
+    private static final ProjectileEngine.Behaviour SEEKER_BEHAVIOUR = new ProjectileEngine.Behaviour() {
+        @Override
+        public boolean steer(ProjectileEngine pool, ServerLevel level, int slot) {
+            return steerSeekerProjectile(pool, level, slot);
+        }
+        
+        @Override
+        public boolean update(ProjectileEngine pool, ServerLevel level, int slot) {
+            return updateSeekerProjectile(pool, level, slot);
+        }
+    };
+    
     /**
-     * Update a seeker projectile - returns false if it should be removed
+     * Point a seeker projectile at its target - returns false if it hit and should be removed
      */
-    private static boolean updateSeekerProjectile(SeekerProjectile seeker) {
-        // Check if max time exceeded
-        if (seeker.ticksAlive >= seeker.maxTicks) {
-            return false;
-        }
+    private static boolean steerSeekerProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        ServerPlayer owner = pool.owner(slot);
+        LivingEntity target = pool.target(slot);
+        Vec3 position = pool.position(slot);
         
         // Calculate target position
         Vec3 targetPos;
-        if (seeker.target != null && seeker.target.isAlive()) {
-            targetPos = seeker.target.position().add(0, seeker.target.getBbHeight() * 0.5, 0);
+        if (target != null && target.isAlive()) {
+            targetPos = target.position().add(0, target.getBbHeight() * 0.5, 0);
         } else {
             // No target or target dead - fly straight using the defined range constant
-            targetPos = seeker.position.add(seeker.owner.getLookAngle().scale(SEEKER_STRAIGHT_FLIGHT_RANGE));
+            targetPos = position.add(owner.getLookAngle().scale(SEEKER_STRAIGHT_FLIGHT_RANGE));
         }
         
         // Move toward target
-        Vec3 toTarget = targetPos.subtract(seeker.position);
-        double distance = toTarget.length();
+        double distance = pool.steerTowards(slot, targetPos, pool.speed(slot));
         
-        if (distance < 1.0 && seeker.target != null && seeker.target.isAlive()) {
+        if (distance < 1.0 && target != null && target.isAlive()) {
             // Hit the target
-            seeker.target.hurt(seeker.owner.damageSources().playerAttack(seeker.owner), seeker.damage);
+            target.hurt(owner.damageSources().playerAttack(owner), pool.damage(slot));
             
             // Impact effect - cyan/green to match Hawkeye theme
-            seeker.level.sendParticles(createDustParticle(0.3f, 1.0f, 0.85f, 1.2f),
-                    seeker.position.x, seeker.position.y, seeker.position.z, 15, 0.3, 0.3, 0.3, 0.1);
-            seeker.level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
-                    seeker.position.x, seeker.position.y, seeker.position.z, 1, 0, 0, 0, 0);
+            sendParticles(level, createDustParticle(0.3f, 1.0f, 0.85f, 1.2f),
+                    position.x, position.y, position.z, 15, 0.3, 0.3, 0.3, 0.1);
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
+                    position.x, position.y, position.z, 1, 0, 0, 0, 0);
             return false;
         }
         
-        // Move seeker
-        Vec3 moveDir = toTarget.normalize();
-        seeker.position = seeker.position.add(moveDir.scale(seeker.speed));
+        return true;
+    }
+    
+    /**
+     * Update a seeker projectile after it moved - spawns its visuals
+     */
+    private static boolean updateSeekerProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        int ticksAlive = pool.ticksAlive(slot);
         
         // Spawn seeker visual particles
-        if (seeker.ticksAlive % SEEKER_PROJECTILE_SPEED_TICKS == 0) {
+        if (ticksAlive % SEEKER_PROJECTILE_SPEED_TICKS == 0) {
+            Vec3 position = pool.position(slot);
+            Vec3 moveDir = pool.direction(slot);
+            
             // Core orb - cyan/green to match Hawkeye theme
-            seeker.level.sendParticles(createDustParticle(0.3f, 0.95f, 0.85f, 0.9f),
-                    seeker.position.x, seeker.position.y, seeker.position.z, 3, 0.08, 0.08, 0.08, 0);
+            sendParticles(level, createDustParticle(0.3f, 0.95f, 0.85f, 0.9f),
+                    position.x, position.y, position.z, 3, 0.08, 0.08, 0.08, 0);
             
             // Orbital particles
             Vec3 perpVec1 = getPerpendicular(moveDir);
             Vec3 perpVec2 = moveDir.cross(perpVec1).normalize();
-            double orbitAngle = seeker.ticksAlive * 0.8;
+            double orbitAngle = ticksAlive * 0.8;
             for (int orbit = 0; orbit < 6; orbit++) {
                 double angle = orbitAngle + (double) orbit / 6 * 2 * Math.PI;
                 double orbitRadius = 0.3;
                 double ox = Math.cos(angle) * orbitRadius;
                 double oy = Math.sin(angle) * orbitRadius;
-                Vec3 orbitPos = seeker.position.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
+                Vec3 orbitPos = position.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
                 
-                seeker.level.sendParticles(createDustParticle(0.25f, 0.85f, 0.75f, 0.4f),
+                sendParticles(level, createDustParticle(0.25f, 0.85f, 0.75f, 0.4f),
                         orbitPos.x, orbitPos.y, orbitPos.z, 1, 0, 0, 0, 0);
             }
             
             // Trail - use END_ROD to match Hawkeye theme
-            seeker.level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
-                    seeker.position.x, seeker.position.y, seeker.position.z, 1, 0.02, 0.02, 0.02, 0.01);
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
+                    position.x, position.y, position.z, 1, 0.02, 0.02, 0.02, 0.01);
         }
         
         return true;
@@ -3930,17 +3747,17 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.3f, 0.9f, 0.8f, 0.6f),
+                sendParticles(level, createDustParticle(0.3f, 0.9f, 0.8f, 0.6f),
                         x, ringY, z, 1, 0.03, 0.03, 0.03, 0);
             }
         }
         
         // Burst - use END_ROD and GLOW to match Hawkeye theme
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 1.5, center.z, 2, 0.2, 0.2, 0.2, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                 center.x, center.y + 1.5, center.z, charges * 8, 0.5, 0.5, 0.5, 0.1);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.GLOW,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.GLOW,
                 center.x, center.y + 1.5, center.z, charges * 5, 0.4, 0.4, 0.4, 0.08);
     }
     
@@ -3966,12 +3783,12 @@ public class ModMessages {
             double dist = (double) i / 60 * 50.0;
             Vec3 pos = start.add(normalizedDir.scale(dist));
             
-            level.sendParticles(createDustParticle(1.0f, 0.6f, 0.2f, 0.4f),
+            sendParticles(level, createDustParticle(1.0f, 0.6f, 0.2f, 0.4f),
                     pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
         }
         
         // Muzzle flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 1, 0, 0, 0, 0);
     }
     
@@ -3987,14 +3804,14 @@ public class ModMessages {
         // Horizontal line
         for (int i = -5; i <= 5; i++) {
             Vec3 pos = crosshairPos.add(perpVec1.scale(i * 0.1));
-            level.sendParticles(createDustParticle(1.0f, 0.5f, 0.2f, 0.3f),
+            sendParticles(level, createDustParticle(1.0f, 0.5f, 0.2f, 0.3f),
                     pos.x, pos.y, pos.z, 1, 0, 0, 0, 0);
         }
         
         // Vertical line
         for (int i = -5; i <= 5; i++) {
             Vec3 pos = crosshairPos.add(perpVec2.scale(i * 0.1));
-            level.sendParticles(createDustParticle(1.0f, 0.5f, 0.2f, 0.3f),
+            sendParticles(level, createDustParticle(1.0f, 0.5f, 0.2f, 0.3f),
                     pos.x, pos.y, pos.z, 1, 0, 0, 0, 0);
         }
     }
@@ -4028,7 +3845,7 @@ public class ModMessages {
             Vec3 pos = start.add(normalizedDir.scale(dist));
             
             // Orange/yellow piercing trail
-            level.sendParticles(createDustParticle(1.0f, 0.7f, 0.3f, 0.5f),
+            sendParticles(level, createDustParticle(1.0f, 0.7f, 0.3f, 0.5f),
                     pos.x + (RANDOM.nextDouble() - 0.5) * 0.1,
                     pos.y + (RANDOM.nextDouble() - 0.5) * 0.1,
                     pos.z + (RANDOM.nextDouble() - 0.5) * 0.1,
@@ -4036,7 +3853,7 @@ public class ModMessages {
             
             // END_ROD particles at intervals
             if (i % 10 == 0) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                         pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
@@ -4097,14 +3914,14 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.3f, 0.2f, 0.5f),
+                sendParticles(level, createDustParticle(1.0f, 0.3f, 0.2f, 0.5f),
                         x, y, z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
         
         // Vertical beam on target
         for (int i = 0; i < 15; i++) {
-            level.sendParticles(createDustParticle(1.0f, 0.4f, 0.3f, 0.4f),
+            sendParticles(level, createDustParticle(1.0f, 0.4f, 0.3f, 0.4f),
                     center.x, center.y + i * 0.2, center.z, 1, 0.05, 0.05, 0.05, 0);
         }
     }
@@ -4114,24 +3931,24 @@ public class ModMessages {
      */
     private static void spawnHeadshotEffect(ServerLevel level, Vec3 center) {
         // Massive red burst
-        level.sendParticles(createDustParticle(1.0f, 0.2f, 0.1f, 1.2f),
+        sendParticles(level, createDustParticle(1.0f, 0.2f, 0.1f, 1.2f),
                 center.x, center.y, center.z, 25, 0.4, 0.4, 0.4, 0.15);
         
         // Flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y, center.z, 3, 0.2, 0.2, 0.2, 0);
         
         // Crit particles
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 center.x, center.y, center.z, 30, 0.5, 0.5, 0.5, 0.3);
         
         // Crosshair effect
         Vec3 up = new Vec3(0, 1, 0);
         Vec3 side = new Vec3(1, 0, 0);
         for (int i = -3; i <= 3; i++) {
-            level.sendParticles(createDustParticle(1.0f, 0.0f, 0.0f, 0.6f),
+            sendParticles(level, createDustParticle(1.0f, 0.0f, 0.0f, 0.6f),
                     center.x + i * 0.2, center.y, center.z, 1, 0, 0, 0, 0);
-            level.sendParticles(createDustParticle(1.0f, 0.0f, 0.0f, 0.6f),
+            sendParticles(level, createDustParticle(1.0f, 0.0f, 0.0f, 0.6f),
                     center.x, center.y + i * 0.2, center.z, 1, 0, 0, 0, 0);
         }
     }
@@ -4146,7 +3963,7 @@ public class ModMessages {
         for (int i = 0; i < 15; i++) {
             double angle = RANDOM.nextDouble() * 2 * Math.PI;
             double dist = RANDOM.nextDouble() * 0.8;
-            level.sendParticles(createDustParticle(0.6f, 0.6f, 0.6f, 0.5f),
+            sendParticles(level, createDustParticle(0.6f, 0.6f, 0.6f, 0.5f),
                     center.x + Math.cos(angle) * dist,
                     center.y + 0.5 + RANDOM.nextDouble() * 0.5,
                     center.z + Math.sin(angle) * dist,
@@ -4154,11 +3971,11 @@ public class ModMessages {
         }
         
         // Claw slash visual
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                 center.x, center.y + 0.8, center.z, 3, 0.3, 0.2, 0.3, 0);
         
         // Damage indicator
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 center.x, center.y + 1, center.z, 8, 0.3, 0.3, 0.3, 0.1);
     }
     
@@ -4174,14 +3991,14 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.5f, 0.5f, 0.55f, 0.4f),
+                sendParticles(level, createDustParticle(0.5f, 0.5f, 0.55f, 0.4f),
                         x, center.y + 1.5 - ring * 0.2, z, 1, 0.05, 0.05, 0.05, 0);
             }
         }
         
         // Upward howl particles
         for (int i = 0; i < 20; i++) {
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CLOUD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CLOUD,
                     center.x + (RANDOM.nextDouble() - 0.5) * 0.5,
                     center.y + 1.5 + i * 0.15,
                     center.z + (RANDOM.nextDouble() - 0.5) * 0.5,
@@ -4199,13 +4016,13 @@ public class ModMessages {
             double dist = RANDOM.nextDouble() * 1.5;
             double y = center.y + RANDOM.nextDouble() * 2;
             
-            level.sendParticles(createDustParticle(0.55f, 0.35f, 0.2f, 0.6f),
+            sendParticles(level, createDustParticle(0.55f, 0.35f, 0.2f, 0.6f),
                     center.x + Math.cos(angle) * dist, y, center.z + Math.sin(angle) * dist,
                     1, 0.1, 0.1, 0.1, 0.03);
         }
         
         // Strength burst
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 1, center.z, 1, 0, 0, 0, 0);
         
         // Ground stomp effect
@@ -4213,7 +4030,7 @@ public class ModMessages {
             double radius = 0.5 + ring * 0.5;
             for (int p = 0; p < 12; p++) {
                 double angle = (double) p / 12 * 2 * Math.PI;
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.POOF,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.POOF,
                         center.x + Math.cos(angle) * radius,
                         center.y + 0.1,
                         center.z + Math.sin(angle) * radius,
@@ -4235,19 +4052,19 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.4f, 0.7f, 1.0f, 0.4f),
+                sendParticles(level, createDustParticle(0.4f, 0.7f, 1.0f, 0.4f),
                         x, center.y + 2 + ring * 0.5, z, 1, 0.05, 0.05, 0.05, 0);
             }
         }
         
         // Central eye visual
         for (int i = 0; i < 10; i++) {
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     center.x, center.y + 2 + i * 0.3, center.z, 1, 0.05, 0.05, 0.05, 0);
         }
         
         // Flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 3, center.z, 2, 0.3, 0.3, 0.3, 0);
     }
     
@@ -4322,14 +4139,14 @@ public class ModMessages {
                 Vec3 particlePos = pos.add(perpDir.scale(w));
                 
                 // Dust clouds
-                level.sendParticles(createDustParticle(0.55f, 0.4f, 0.25f, 0.7f),
+                sendParticles(level, createDustParticle(0.55f, 0.4f, 0.25f, 0.7f),
                         particlePos.x + (RANDOM.nextDouble() - 0.5) * 0.5,
                         particlePos.y + 0.3 + RANDOM.nextDouble() * 0.5,
                         particlePos.z + (RANDOM.nextDouble() - 0.5) * 0.5,
                         2, 0.2, 0.15, 0.2, 0.03);
                 
                 // Ground impact particles
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.POOF,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.POOF,
                         particlePos.x, particlePos.y + 0.1, particlePos.z,
                         1, 0.1, 0.02, 0.1, 0.01);
             }
@@ -4337,7 +4154,7 @@ public class ModMessages {
             // Beast silhouette particles (dark shapes)
             if (dist % 3 == 0) {
                 for (int h = 0; h < 5; h++) {
-                    level.sendParticles(createDustParticle(0.3f, 0.25f, 0.2f, 0.8f),
+                    sendParticles(level, createDustParticle(0.3f, 0.25f, 0.2f, 0.8f),
                             pos.x + (RANDOM.nextDouble() - 0.5) * 2,
                             pos.y + 0.5 + h * 0.3,
                             pos.z + (RANDOM.nextDouble() - 0.5) * 2,
@@ -4355,7 +4172,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.5f, 0.35f, 0.2f, 0.5f),
+                sendParticles(level, createDustParticle(0.5f, 0.35f, 0.2f, 0.5f),
                         x, center.y + 0.2 + ring * 0.15, z, 1, 0.05, 0.1, 0.05, 0.02);
             }
         }
@@ -4380,12 +4197,12 @@ public class ModMessages {
             Vec3 pos = start.add(normalizedDir.scale(progress * distance));
             
             // Core beam - bright
-            level.sendParticles(createDustParticle(0.3f, 1.0f, 0.5f, 1.0f),
+            sendParticles(level, createDustParticle(0.3f, 1.0f, 0.5f, 1.0f),
                     pos.x, pos.y, pos.z, 2, 0.02, 0.02, 0.02, 0);
             
             // Outer glow
             if (i % 3 == 0) {
-                level.sendParticles(createDustParticle(0.2f, 0.9f, 0.4f, 0.6f),
+                sendParticles(level, createDustParticle(0.2f, 0.9f, 0.4f, 0.6f),
                         pos.x + (RANDOM.nextDouble() - 0.5) * 0.15,
                         pos.y + (RANDOM.nextDouble() - 0.5) * 0.15,
                         pos.z + (RANDOM.nextDouble() - 0.5) * 0.15,
@@ -4405,7 +4222,7 @@ public class ModMessages {
                 double oy = Math.sin(angle) * ringRadius;
                 Vec3 ringPos = ringCenter.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
                 
-                level.sendParticles(createDustParticle(0.4f, 1.0f, 0.6f, 0.5f),
+                sendParticles(level, createDustParticle(0.4f, 1.0f, 0.6f, 0.5f),
                         ringPos.x, ringPos.y, ringPos.z, 1, 0, 0, 0, 0);
             }
         }
@@ -4414,16 +4231,16 @@ public class ModMessages {
         for (int i = 0; i < 30; i++) {
             double progress = RANDOM.nextDouble();
             Vec3 pos = start.add(normalizedDir.scale(progress * distance));
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
         }
         
         // Impact burst at end
-        level.sendParticles(createDustParticle(0.5f, 1.0f, 0.7f, 1.2f),
+        sendParticles(level, createDustParticle(0.5f, 1.0f, 0.7f, 1.2f),
                 endPos.x, endPos.y, endPos.z, 25, 0.5, 0.5, 0.5, 0.1);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 endPos.x, endPos.y, endPos.z, 3, 0.3, 0.3, 0.3, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.GLOW,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.GLOW,
                 endPos.x, endPos.y, endPos.z, 20, 0.5, 0.5, 0.5, 0.05);
     }
     
@@ -4446,7 +4263,7 @@ public class ModMessages {
                 
                 // Main beam
                 float intensity = 1.0f - (float) i / 50 * 0.5f;
-                level.sendParticles(createDustParticle(0.3f * intensity, 0.9f * intensity, 0.4f * intensity, 0.5f),
+                sendParticles(level, createDustParticle(0.3f * intensity, 0.9f * intensity, 0.4f * intensity, 0.5f),
                         pos.x + (RANDOM.nextDouble() - 0.5) * 0.1,
                         pos.y + (RANDOM.nextDouble() - 0.5) * 0.1,
                         pos.z + (RANDOM.nextDouble() - 0.5) * 0.1,
@@ -4454,14 +4271,14 @@ public class ModMessages {
                 
                 // Sparkle effect
                 if (i % 8 == 0) {
-                    level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                    sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                             pos.x, pos.y, pos.z, 1, 0.05, 0.05, 0.05, 0);
                 }
             }
         }
         
         // Central burst at origin
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 2, 0.1, 0.1, 0.1, 0);
     }
     
@@ -4507,7 +4324,7 @@ public class ModMessages {
                 double z = center.z + Math.sin(angle) * ringRadius;
                 
                 // Bright golden circle particles
-                level.sendParticles(createDustParticle(1.0f, 0.85f, 0.3f, 0.8f),
+                sendParticles(level, createDustParticle(1.0f, 0.85f, 0.3f, 0.8f),
                         x, center.y + 0.1, z, 1, 0.02, 0, 0.02, 0);
             }
         }
@@ -4516,22 +4333,22 @@ public class ModMessages {
         for (int i = -6; i <= 6; i++) {
             double offset = i * (radius / 6);
             // Horizontal line
-            level.sendParticles(createDustParticle(1.0f, 0.8f, 0.2f, 0.6f),
+            sendParticles(level, createDustParticle(1.0f, 0.8f, 0.2f, 0.6f),
                     center.x + offset, center.y + 0.15, center.z, 2, 0.05, 0, 0.05, 0);
             // Vertical line
-            level.sendParticles(createDustParticle(1.0f, 0.8f, 0.2f, 0.6f),
+            sendParticles(level, createDustParticle(1.0f, 0.8f, 0.2f, 0.6f),
                     center.x, center.y + 0.15, center.z + offset, 2, 0.05, 0, 0.05, 0);
         }
         
         // Upward beam to indicate zone
         for (int i = 0; i < 30; i++) {
             double y = center.y + 2 + i * 0.5;
-            level.sendParticles(createDustParticle(1.0f, 0.9f, 0.4f, 0.7f),
+            sendParticles(level, createDustParticle(1.0f, 0.9f, 0.4f, 0.7f),
                     center.x, y, center.z, 2, 0.2, 0.1, 0.2, 0.01);
         }
         
         // Flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 5, center.z, 3, 0.5, 0.5, 0.5, 0);
     }
     
@@ -4554,12 +4371,12 @@ public class ModMessages {
             Vec3 pos = start.add(normalizedDir.scale(progress * distance));
             
             // Intense core
-            level.sendParticles(createDustParticle(1.0f, 0.5f, 0.1f, 0.9f),
+            sendParticles(level, createDustParticle(1.0f, 0.5f, 0.1f, 0.9f),
                     pos.x, pos.y, pos.z, 2, 0.01, 0.01, 0.01, 0);
             
             // Outer glow - orange
             if (i % 2 == 0) {
-                level.sendParticles(createDustParticle(1.0f, 0.6f, 0.2f, 0.5f),
+                sendParticles(level, createDustParticle(1.0f, 0.6f, 0.2f, 0.5f),
                         pos.x + (RANDOM.nextDouble() - 0.5) * 0.1,
                         pos.y + (RANDOM.nextDouble() - 0.5) * 0.1,
                         pos.z + (RANDOM.nextDouble() - 0.5) * 0.1,
@@ -4571,27 +4388,27 @@ public class ModMessages {
         for (int tracer = 0; tracer < 10; tracer++) {
             double tracerProgress = RANDOM.nextDouble();
             Vec3 tracerPos = start.add(normalizedDir.scale(tracerProgress * distance));
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                     tracerPos.x, tracerPos.y, tracerPos.z, 1, 0.05, 0.05, 0.05, 0.2);
         }
         
         // Scope line effect at start
         for (int i = 0; i < 5; i++) {
             Vec3 pos = start.add(normalizedDir.scale(i * 0.3));
-            level.sendParticles(createDustParticle(1.0f, 0.3f, 0.1f, 1.0f),
+            sendParticles(level, createDustParticle(1.0f, 0.3f, 0.1f, 1.0f),
                     pos.x, pos.y, pos.z, 3, 0.01, 0.01, 0.01, 0);
         }
         
         // Impact burst
         if (target != null) {
-            level.sendParticles(createDustParticle(1.0f, 0.4f, 0.1f, 1.2f),
+            sendParticles(level, createDustParticle(1.0f, 0.4f, 0.1f, 1.2f),
                     endPos.x, endPos.y, endPos.z, 30, 0.4, 0.4, 0.4, 0.12);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                     endPos.x, endPos.y, endPos.z, 2, 0.2, 0.2, 0.2, 0);
         }
         
         // Muzzle flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 1, 0, 0, 0, 0);
     }
     
@@ -4611,14 +4428,14 @@ public class ModMessages {
             Vec3 pos = start.add(normalizedDir.scale(progress * beamLength));
             
             // Core beam - bright cyan
-            level.sendParticles(createDustParticle(0.3f, 0.9f, 1.0f, 0.8f),
+            sendParticles(level, createDustParticle(0.3f, 0.9f, 1.0f, 0.8f),
                     pos.x, pos.y, pos.z, 2, 0.015, 0.015, 0.015, 0);
             
             // Electric arcs - zig-zag pattern
             if (i % 4 == 0) {
                 double arcOffset = (RANDOM.nextDouble() - 0.5) * 0.4;
                 Vec3 arcPos = pos.add(perpVec1.scale(arcOffset)).add(perpVec2.scale(arcOffset));
-                level.sendParticles(createDustParticle(0.5f, 0.95f, 1.0f, 0.4f),
+                sendParticles(level, createDustParticle(0.5f, 0.95f, 1.0f, 0.4f),
                         arcPos.x, arcPos.y, arcPos.z, 1, 0.05, 0.05, 0.05, 0);
             }
         }
@@ -4633,7 +4450,7 @@ public class ModMessages {
             double oy = Math.sin(spiralAngle) * spiralRadius;
             Vec3 spiralPos = spiralCenter.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
             
-            level.sendParticles(createDustParticle(0.4f, 0.85f, 1.0f, 0.5f),
+            sendParticles(level, createDustParticle(0.4f, 0.85f, 1.0f, 0.5f),
                     spiralPos.x, spiralPos.y, spiralPos.z, 1, 0.02, 0.02, 0.02, 0);
         }
         
@@ -4641,7 +4458,7 @@ public class ModMessages {
         for (int i = 0; i < 25; i++) {
             double sparkProgress = RANDOM.nextDouble();
             Vec3 sparkPos = start.add(normalizedDir.scale(sparkProgress * beamLength));
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.ELECTRIC_SPARK,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.ELECTRIC_SPARK,
                     sparkPos.x + (RANDOM.nextDouble() - 0.5) * 0.3,
                     sparkPos.y + (RANDOM.nextDouble() - 0.5) * 0.3,
                     sparkPos.z + (RANDOM.nextDouble() - 0.5) * 0.3,
@@ -4657,13 +4474,13 @@ public class ModMessages {
                 double ox = Math.cos(angle) * radius;
                 double oy = Math.sin(angle) * radius;
                 Vec3 ringPos = endPos.add(perpVec1.scale(ox)).add(perpVec2.scale(oy));
-                level.sendParticles(createDustParticle(0.4f, 0.9f, 1.0f, 0.6f),
+                sendParticles(level, createDustParticle(0.4f, 0.9f, 1.0f, 0.6f),
                         ringPos.x, ringPos.y, ringPos.z, 1, 0.03, 0.03, 0.03, 0);
             }
         }
         
         // Muzzle flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 2, 0.1, 0.1, 0.1, 0);
     }
     
@@ -4684,7 +4501,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.2f, 0.1f, 0.6f),
+                sendParticles(level, createDustParticle(1.0f, 0.2f, 0.1f, 0.6f),
                         x, y, z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
@@ -4695,23 +4512,23 @@ public class ModMessages {
             double offset = i * (crosshairSize / 8);
             double y = center.y + targetHeight * 0.5;
             // Horizontal
-            level.sendParticles(createDustParticle(1.0f, 0.3f, 0.2f, 0.5f),
+            sendParticles(level, createDustParticle(1.0f, 0.3f, 0.2f, 0.5f),
                     center.x + offset, y, center.z, 1, 0.01, 0.01, 0.01, 0);
             // Vertical (on ground plane)
-            level.sendParticles(createDustParticle(1.0f, 0.3f, 0.2f, 0.5f),
+            sendParticles(level, createDustParticle(1.0f, 0.3f, 0.2f, 0.5f),
                     center.x, y, center.z + offset, 1, 0.01, 0.01, 0.01, 0);
         }
         
         // Vertical beam on target
         for (int i = 0; i < 20; i++) {
-            level.sendParticles(createDustParticle(1.0f, 0.4f, 0.2f, 0.4f),
+            sendParticles(level, createDustParticle(1.0f, 0.4f, 0.2f, 0.4f),
                     center.x, center.y + i * 0.3, center.z, 1, 0.05, 0.05, 0.05, 0);
         }
         
         // Lock-on sparkle burst
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 center.x, center.y + targetHeight * 0.5, center.z, 20, 0.5, 0.5, 0.5, 0.15);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + targetHeight * 0.5, center.z, 1, 0, 0, 0, 0);
     }
     
@@ -4731,12 +4548,12 @@ public class ModMessages {
             Vec3 pos = start.add(direction.scale(progress * distance));
             
             // Crimson core
-            level.sendParticles(createDustParticle(0.9f, 0.1f, 0.1f, 1.0f),
+            sendParticles(level, createDustParticle(0.9f, 0.1f, 0.1f, 1.0f),
                     pos.x, pos.y, pos.z, 2, 0.02, 0.02, 0.02, 0);
             
             // Dark outer glow
             if (i % 2 == 0) {
-                level.sendParticles(createDustParticle(0.7f, 0.1f, 0.15f, 0.6f),
+                sendParticles(level, createDustParticle(0.7f, 0.1f, 0.15f, 0.6f),
                         pos.x + (RANDOM.nextDouble() - 0.5) * 0.15,
                         pos.y + (RANDOM.nextDouble() - 0.5) * 0.15,
                         pos.z + (RANDOM.nextDouble() - 0.5) * 0.15,
@@ -4745,33 +4562,33 @@ public class ModMessages {
         }
         
         // MASSIVE impact explosion at target
-        level.sendParticles(createDustParticle(1.0f, 0.1f, 0.05f, 1.5f),
+        sendParticles(level, createDustParticle(1.0f, 0.1f, 0.05f, 1.5f),
                 end.x, end.y, end.z, 50, 0.8, 0.8, 0.8, 0.2);
         
         // Skull crossbones pattern (using particles)
         // Horizontal line
         for (int i = -4; i <= 4; i++) {
-            level.sendParticles(createDustParticle(0.2f, 0.2f, 0.2f, 0.8f),
+            sendParticles(level, createDustParticle(0.2f, 0.2f, 0.2f, 0.8f),
                     end.x + i * 0.15, end.y, end.z, 2, 0.02, 0.02, 0.02, 0);
         }
         // Diagonal crosses
         for (int i = -3; i <= 3; i++) {
-            level.sendParticles(createDustParticle(0.2f, 0.2f, 0.2f, 0.8f),
+            sendParticles(level, createDustParticle(0.2f, 0.2f, 0.2f, 0.8f),
                     end.x + i * 0.12, end.y + 0.2, end.z + i * 0.12, 1, 0.02, 0.02, 0.02, 0);
-            level.sendParticles(createDustParticle(0.2f, 0.2f, 0.2f, 0.8f),
+            sendParticles(level, createDustParticle(0.2f, 0.2f, 0.2f, 0.8f),
                     end.x + i * 0.12, end.y + 0.2, end.z - i * 0.12, 1, 0.02, 0.02, 0.02, 0);
         }
         
         // Multiple flash effects
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 end.x, end.y, end.z, 5, 0.5, 0.5, 0.5, 0);
         
         // Crit particles for extra drama
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 end.x, end.y, end.z, 40, 0.6, 0.6, 0.6, 0.3);
         
         // Enchant particles swirling
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                 end.x, end.y, end.z, 30, 0.5, 0.5, 0.5, 0.2);
     }
     
@@ -4801,9 +4618,9 @@ public class ModMessages {
         level.addFreshEntity(scuteEntity);
         
         // Spawn launch effect - cyan/teal energy trail matching Hawkeye theme
-        level.sendParticles(createDustParticle(0.3f, 0.9f, 0.85f, 1.0f),
+        sendParticles(level, createDustParticle(0.3f, 0.9f, 0.85f, 1.0f),
                 startPos.x, startPos.y, startPos.z, 10, 0.2, 0.2, 0.2, 0.05);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                 startPos.x, startPos.y, startPos.z, 5, 0.1, 0.1, 0.1, 0.03);
         
         // Schedule damage check - deal damage to nearby enemies when scute lands
@@ -4833,10 +4650,10 @@ public class ModMessages {
         if (target != null) {
             target.hurt(player.damageSources().playerAttack(player), damage);
             // Impact effect at target
-            level.sendParticles(createDustParticle(0.4f, 1.0f, 0.9f, 1.0f),
+            sendParticles(level, createDustParticle(0.4f, 1.0f, 0.9f, 1.0f),
                     target.getX(), target.getY() + target.getBbHeight() * 0.5, target.getZ(),
                     20, 0.4, 0.4, 0.4, 0.1);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                     target.getX(), target.getY() + target.getBbHeight() * 0.5, target.getZ(),
                     2, 0.2, 0.2, 0.2, 0);
         }
@@ -4899,12 +4716,13 @@ public class ModMessages {
             wolf.getPersistentData().putLong("rpgclasses_summon_time", level.getGameTime());
             
             if (level.addFreshEntity(wolf)) {
+                SummonRegistry.register(player.getUUID(), wolf, SummonRegistry.Kind.WOLF);
                 summoned++;
                 
                 // Spawn effect at wolf location - orange/red beast master theme
-                level.sendParticles(createDustParticle(0.9f, 0.5f, 0.3f, 1.0f),
+                sendParticles(level, createDustParticle(0.9f, 0.5f, 0.3f, 1.0f),
                         x, center.y + 0.5, z, 15, 0.3, 0.3, 0.3, 0.1);
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.SOUL,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.SOUL,
                         x, center.y, z, 8, 0.3, 0.5, 0.3, 0.02);
             }
         }
@@ -4959,19 +4777,20 @@ public class ModMessages {
         }
         
         if (level.addFreshEntity(bear)) {
+            SummonRegistry.register(player.getUUID(), bear, SummonRegistry.Kind.BEAR);
             // Epic spawn effect - brown/earthy for bear theme
-            level.sendParticles(createDustParticle(0.6f, 0.4f, 0.25f, 1.2f),
+            sendParticles(level, createDustParticle(0.6f, 0.4f, 0.25f, 1.2f),
                     spawnX, center.y + 1, spawnZ, 30, 0.5, 0.8, 0.5, 0.15);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                     spawnX, center.y + 1, spawnZ, 2, 0.3, 0.3, 0.3, 0);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CAMPFIRE_COSY_SMOKE,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CAMPFIRE_COSY_SMOKE,
                     spawnX, center.y, spawnZ, 15, 0.4, 0.2, 0.4, 0.02);
             // Ground shake effect
             for (int ring = 0; ring < 3; ring++) {
                 double radius = 1.0 + ring * 0.5;
                 for (int p = 0; p < 12; p++) {
                     double angle = (double) p / 12 * 2 * Math.PI;
-                    level.sendParticles(createDustParticle(0.5f, 0.35f, 0.2f, 0.6f),
+                    sendParticles(level, createDustParticle(0.5f, 0.35f, 0.2f, 0.6f),
                             spawnX + Math.cos(angle) * radius, center.y + 0.1, spawnZ + Math.sin(angle) * radius,
                             1, 0.05, 0.02, 0.05, 0.02);
                 }
@@ -5005,26 +4824,26 @@ public class ModMessages {
         eagle.getPersistentData().putBoolean("rpgclasses_eagle_scout", true); // Special eagle marker
         eagle.getPersistentData().putLong("rpgclasses_summon_time", level.getGameTime());
         eagle.getPersistentData().putUUID("rpgclasses_owner", player.getUUID());
-        eagle.getPersistentData().putLong("rpgclasses_last_swoop", 0L); // Track last swoop time
         
         // Give the allay a special item to hold (feather for eagle theme)
         net.minecraft.world.item.ItemStack featherStack = new net.minecraft.world.item.ItemStack(net.minecraft.world.item.Items.FEATHER);
         eagle.setItemInHand(net.minecraft.world.InteractionHand.MAIN_HAND, featherStack);
         
         if (level.addFreshEntity(eagle)) {
+            SummonRegistry.register(player.getUUID(), eagle, SummonRegistry.Kind.EAGLE);
             // Epic spawn effect - cyan/white for sky theme
-            level.sendParticles(createDustParticle(0.5f, 0.85f, 1.0f, 0.8f),
+            sendParticles(level, createDustParticle(0.5f, 0.85f, 1.0f, 0.8f),
                     spawnX, spawnY, spawnZ, 25, 0.5, 0.5, 0.5, 0.15);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CLOUD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CLOUD,
                     spawnX, spawnY, spawnZ, 12, 0.4, 0.3, 0.4, 0.04);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                     spawnX, spawnY, spawnZ, 8, 0.3, 0.3, 0.3, 0.03);
             
             // Feather/wing trail effect
             for (int i = 0; i < 10; i++) {
                 double angle = i * Math.PI / 5;
                 double wingRadius = 0.8;
-                level.sendParticles(createDustParticle(0.9f, 0.95f, 1.0f, 0.6f),
+                sendParticles(level, createDustParticle(0.9f, 0.95f, 1.0f, 0.6f),
                         spawnX + Math.cos(angle) * wingRadius,
                         spawnY + 0.2,
                         spawnZ + Math.sin(angle) * wingRadius,
@@ -5135,6 +4954,7 @@ public class ModMessages {
                 beast.hurtMarked = true;
                 
                 if (level.addFreshEntity(beast)) {
+                    SummonRegistry.register(player.getUUID(), beast, SummonRegistry.Kind.STAMPEDE);
                     summoned++;
                 }
             }
@@ -5158,7 +4978,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.5f, 0.5f, 0.55f, 0.6f),
+                sendParticles(level, createDustParticle(0.5f, 0.5f, 0.55f, 0.6f),
                         x, center.y + 0.1, z, 1, 0.03, 0, 0.03, 0);
             }
         }
@@ -5171,21 +4991,21 @@ public class ModMessages {
             double z = center.z + Math.sin(angle) * dist;
             
             for (int i = 0; i < 15; i++) {
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.SOUL,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.SOUL,
                         x, center.y + i * 0.15, z, 1, 0.1, 0.1, 0.1, 0.01);
             }
         }
         
         // Central howl effect
         for (int i = 0; i < 20; i++) {
-            level.sendParticles(createDustParticle(0.6f, 0.6f, 0.65f, 0.5f),
+            sendParticles(level, createDustParticle(0.6f, 0.6f, 0.65f, 0.5f),
                     center.x + (RANDOM.nextDouble() - 0.5) * 0.5,
                     center.y + 1 + i * 0.1,
                     center.z + (RANDOM.nextDouble() - 0.5) * 0.5,
                     1, 0.1, 0.1, 0.1, 0.02);
         }
         
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 1, center.z, 2, 0.3, 0.3, 0.3, 0);
     }
     
@@ -5202,7 +5022,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.55f, 0.35f, 0.2f, 0.7f),
+                sendParticles(level, createDustParticle(0.55f, 0.35f, 0.2f, 0.7f),
                         x, center.y + 0.1 + ring * 0.1, z, 1, 0.05, 0.1, 0.05, 0.02);
             }
         }
@@ -5211,7 +5031,7 @@ public class ModMessages {
         for (int i = 0; i < 30; i++) {
             double angle = RANDOM.nextDouble() * 2 * Math.PI;
             double dist = RANDOM.nextDouble() * 1.5;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CAMPFIRE_COSY_SMOKE,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CAMPFIRE_COSY_SMOKE,
                     center.x + Math.cos(angle) * dist,
                     center.y + RANDOM.nextDouble() * 1.5,
                     center.z + Math.sin(angle) * dist,
@@ -5219,7 +5039,7 @@ public class ModMessages {
         }
         
         // Powerful stomp effect
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                 center.x, center.y + 0.5, center.z, 1, 0, 0, 0, 0);
     }
     
@@ -5236,13 +5056,13 @@ public class ModMessages {
             double y = center.y + progress * 5;
             double z = center.z + Math.sin(spiralAngle) * spiralRadius;
             
-            level.sendParticles(createDustParticle(0.5f, 0.75f, 1.0f, 0.6f),
+            sendParticles(level, createDustParticle(0.5f, 0.75f, 1.0f, 0.6f),
                     x, y, z, 1, 0.05, 0.1, 0.05, 0.02);
         }
         
         // Feather cloud
         for (int i = 0; i < 15; i++) {
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CLOUD,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CLOUD,
                     center.x + (RANDOM.nextDouble() - 0.5) * 2,
                     center.y + 2 + RANDOM.nextDouble() * 2,
                     center.z + (RANDOM.nextDouble() - 0.5) * 2,
@@ -5259,12 +5079,12 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.4f, 0.7f, 1.0f, 0.4f),
+                sendParticles(level, createDustParticle(0.4f, 0.7f, 1.0f, 0.4f),
                         x, center.y + 2, z, 1, 0.05, 0.05, 0.05, 0);
             }
         }
         
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 3, center.z, 2, 0.5, 0.5, 0.5, 0);
     }
     
@@ -5283,14 +5103,14 @@ public class ModMessages {
                 Vec3 particlePos = pos.add(perpDir.scale(w * 0.8));
                 
                 // Thick dust clouds
-                level.sendParticles(createDustParticle(0.6f, 0.45f, 0.3f, 0.9f),
+                sendParticles(level, createDustParticle(0.6f, 0.45f, 0.3f, 0.9f),
                         particlePos.x + (RANDOM.nextDouble() - 0.5) * 0.5,
                         particlePos.y + 0.3 + RANDOM.nextDouble() * 0.8,
                         particlePos.z + (RANDOM.nextDouble() - 0.5) * 0.5,
                         3, 0.25, 0.2, 0.25, 0.04);
                 
                 // Ground impact
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.POOF,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.POOF,
                         particlePos.x, particlePos.y + 0.1, particlePos.z,
                         1, 0.15, 0.02, 0.15, 0.02);
             }
@@ -5300,7 +5120,7 @@ public class ModMessages {
                 for (int h = 0; h < 6; h++) {
                     double sideOffset = (RANDOM.nextDouble() - 0.5) * 4;
                     Vec3 spiritPos = pos.add(perpDir.scale(sideOffset));
-                    level.sendParticles(createDustParticle(0.3f, 0.25f, 0.2f, 0.9f),
+                    sendParticles(level, createDustParticle(0.3f, 0.25f, 0.2f, 0.9f),
                             spiritPos.x,
                             spiritPos.y + 0.4 + h * 0.25,
                             spiritPos.z,
@@ -5318,17 +5138,17 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.55f, 0.4f, 0.25f, 0.6f),
+                sendParticles(level, createDustParticle(0.55f, 0.4f, 0.25f, 0.6f),
                         x, center.y + 0.3 + ring * 0.2, z, 1, 0.08, 0.12, 0.08, 0.03);
             }
         }
         
         // Thunder effect for epic impact
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 1, center.z, 3, 0.5, 0.5, 0.5, 0);
         
         // Explosion at start
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                 center.x + direction.x, center.y + 0.5, center.z + direction.z, 1, 0, 0, 0, 0);
     }
     
@@ -5377,12 +5197,12 @@ public class ModMessages {
             Vec3 pos = start.add(direction.scale(progress * distance));
             
             // Core red laser (brighter as charge increases)
-            level.sendParticles(createDustParticle(1.0f, 0.05f, 0.05f, intensity),
+            sendParticles(level, createDustParticle(1.0f, 0.05f, 0.05f, intensity),
                     pos.x, pos.y, pos.z, 1, 0.01, 0.01, 0.01, 0);
             
             // Pulse effect - outer red glow
             if (i % 3 == 0) {
-                level.sendParticles(createDustParticle(0.9f, 0.1f, 0.1f, intensity * 0.5f),
+                sendParticles(level, createDustParticle(0.9f, 0.1f, 0.1f, intensity * 0.5f),
                         pos.x + (RANDOM.nextDouble() - 0.5) * 0.05,
                         pos.y + (RANDOM.nextDouble() - 0.5) * 0.05,
                         pos.z + (RANDOM.nextDouble() - 0.5) * 0.05,
@@ -5398,7 +5218,7 @@ public class ModMessages {
             double x = end.x + Math.cos(angle) * reticleRadius;
             double z = end.z + Math.sin(angle) * reticleRadius;
             
-            level.sendParticles(createDustParticle(1.0f, 0.1f, 0.1f, intensity),
+            sendParticles(level, createDustParticle(1.0f, 0.1f, 0.1f, intensity),
                     x, end.y, z, 1, 0.01, 0.01, 0.01, 0);
         }
     }
@@ -5451,57 +5271,60 @@ public class ModMessages {
         return closestPoint;
     }
     
+    // Marksman Snipe projectile - flies straight, removed on first hit
+    private static final ProjectileEngine.Behaviour SNIPE_BEHAVIOUR = ModMessages::updateSnipeProjectile;
+    
+    /**
+     * Spawn a Snipe projectile (slow moving, high damage)
+     */
+    private static void spawnSnipeProjectile(ServerPlayer player, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
+        stateFor(level).projectiles.spawn(SNIPE_BEHAVIOUR, player, startPos, direction,
+                SNIPE_PROJECTILE_SPEED, damage, SNIPE_MAX_FLIGHT_TICKS);
+    }
+    
     /**
      * Update Snipe projectile - returns false when it should be removed
      */
-    private static boolean updateSnipeProjectile(SnipeProjectile snipe) {
-        if (snipe.ticksAlive >= snipe.maxTicks) {
-            return false;
-        }
-        
-        // Move projectile
-        snipe.position = snipe.position.add(snipe.direction.scale(snipe.speed));
+    private static boolean updateSnipeProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        ServerPlayer owner = pool.owner(slot);
+        Vec3 position = pool.position(slot);
+        Vec3 direction = pool.direction(slot);
         
-        // Check for entity collision
-        AABB hitbox = new AABB(
-                snipe.position.x - 0.5, snipe.position.y - 0.5, snipe.position.z - 0.5,
-                snipe.position.x + 0.5, snipe.position.y + 0.5, snipe.position.z + 0.5);
+        // Check for entity collision along this tick's movement
+        List<LivingEntity> entities = pool.sweep(slot, 0.5);
         
-        List<Entity> entities = snipe.level.getEntities(snipe.owner, hitbox,
-                e -> e instanceof LivingEntity && e != snipe.owner);
-        
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity living) {
-                // Apply mark bonus if target is marked
-                float finalDamage = snipe.damage;
-                if (isMarkedEnemy(living)) {
-                    finalDamage *= MARK_DAMAGE_BONUS;
-                }
-                
-                living.hurt(snipe.owner.damageSources().playerAttack(snipe.owner), finalDamage);
-                
-                // Impact effect
-                spawnSnipeImpactEffect(snipe.level, snipe.position);
-                return false;
+        if (!entities.isEmpty()) {
+            LivingEntity living = entities.get(0); // Nearest entity along the path
+            
+            // Apply mark bonus if target is marked
+            float finalDamage = pool.damage(slot);
+            if (isMarkedEnemy(living)) {
+                finalDamage *= MARK_DAMAGE_BONUS;
             }
+            
+            living.hurt(owner.damageSources().playerAttack(owner), finalDamage);
+            
+            // Impact effect
+            spawnSnipeImpactEffect(level, position);
+            return false;
         }
         
         // Check for block collision
-        var blockHit = snipe.level.clip(new net.minecraft.world.level.ClipContext(
-                snipe.position.subtract(snipe.direction.scale(0.5)),
-                snipe.position,
+        var blockHit = level.clip(new net.minecraft.world.level.ClipContext(
+                pool.previousPosition(slot),
+                position,
                 net.minecraft.world.level.ClipContext.Block.COLLIDER,
                 net.minecraft.world.level.ClipContext.Fluid.NONE,
-                snipe.owner));
+                owner));
         
         if (blockHit.getType() == net.minecraft.world.phys.HitResult.Type.BLOCK) {
-            spawnSnipeImpactEffect(snipe.level, blockHit.getLocation());
+            spawnSnipeImpactEffect(level, blockHit.getLocation());
             return false;
         }
         
         // Spawn trail particles
-        if (snipe.ticksAlive % 2 == 0) {
-            spawnSnipeTrailParticle(snipe.level, snipe.position, snipe.direction);
+        if (pool.ticksAlive(slot) % 2 == 0) {
+            spawnSnipeTrailParticle(level, position, direction);
         }
         
         return true;
@@ -5540,7 +5363,7 @@ public class ModMessages {
         if (charge.chargeTime % 5 == 0) {
             float chargePercent = (float) charge.chargeTime / charge.maxChargeTime;
             int particleCount = (int) (chargePercent * 20); // Growing particles
-            charge.level.sendParticles(createDustParticle(1.0f, 0.1f, 0.1f, 0.8f),
+            sendParticles(charge.level, createDustParticle(1.0f, 0.1f, 0.1f, 0.8f),
                     charge.owner.getX(), charge.owner.getY() + 1.0, charge.owner.getZ(),
                     particleCount, 0.3, 0.3, 0.3, 0.05);
         }
@@ -5572,16 +5395,13 @@ public class ModMessages {
                 String ability1Id = "marksman_ability_1";
                 String ability2Id = "marksman_ability_2";
                 String ability3Id = "marksman_ability_3";
-                rpgData.setAbilityCooldown(ability1Id, 0);
-                rpgData.setAbilityCooldown(ability2Id, 0);
-                rpgData.setAbilityCooldown(ability3Id, 0);
+                rpgData.setAbilityCooldown(ability1Id, 0, charge.owner.level().getGameTime());
+                rpgData.setAbilityCooldown(ability2Id, 0, charge.owner.level().getGameTime());
+                rpgData.setAbilityCooldown(ability3Id, 0, charge.owner.level().getGameTime());
                 
                 // Speed buff on kill
                 charge.owner.addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SPEED, 60, 1));
                 
-                // Sync cooldowns to client
-                sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), charge.owner);
-                
                 charge.owner.displayClientMessage(Component.literal("§c§l☠ HEADSHOT KILL! §r§a(All cooldowns reset! +100% damage)"), true);
             } else {
                 charge.owner.displayClientMessage(Component.literal("§c§l☠ FULL CHARGE HEADSHOT! §r§7(+100% damage: " + String.format("%.1f", finalDamage) + ")"), true);
@@ -5609,12 +5429,12 @@ public class ModMessages {
                 double x = pos.x + Math.cos(angle) * radius;
                 double z = pos.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 0.5f),
+                sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 0.5f),
                         x, pos.y + height * 0.5, z, 1, 0.02, 0.02, 0.02, 0);
             }
             
             // Red particles above head
-            level.sendParticles(createDustParticle(1.0f, 0.3f, 0.2f, 0.6f),
+            sendParticles(level, createDustParticle(1.0f, 0.3f, 0.2f, 0.6f),
                     pos.x, pos.y + height + 0.3, pos.z, 2, 0.1, 0.1, 0.1, 0.01);
         }
     }
@@ -5638,13 +5458,13 @@ public class ModMessages {
             float g = 0.5f - (float) progress * 0.4f; // 0.5 → 0.1
             float b = 0.1f - (float) progress * 0.05f; // 0.1 → 0.05
             
-            level.sendParticles(createDustParticle(r, g, b, 0.4f), // Subtle opacity
+            sendParticles(level, createDustParticle(r, g, b, 0.4f), // Subtle opacity
                     pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
         }
         
         // Impact point - subtle glow (if target hit)
         if (distance < 80.0) { // Only if we hit something close
-            level.sendParticles(createDustParticle(1.0f, 0.2f, 0.1f, 0.8f),
+            sendParticles(level, createDustParticle(1.0f, 0.2f, 0.1f, 0.8f),
                     end.x, end.y, end.z, 8, 0.2, 0.2, 0.2, 0.05);
         }
     }
@@ -5654,15 +5474,15 @@ public class ModMessages {
      */
     private static void spawnSnipeLaunchEffect(ServerLevel level, Vec3 start, Vec3 direction) {
         // Orange/red muzzle flash
-        level.sendParticles(createDustParticle(1.0f, 0.5f, 0.1f, 1.2f),
+        sendParticles(level, createDustParticle(1.0f, 0.5f, 0.1f, 1.2f),
                 start.x, start.y, start.z, 20, 0.15, 0.15, 0.15, 0.05);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 2, 0.1, 0.1, 0.1, 0);
         
         // Initial projectile beam (short)
         for (int i = 0; i < 10; i++) {
             Vec3 pos = start.add(direction.scale(i * 0.3));
-            level.sendParticles(createDustParticle(1.0f, 0.6f, 0.2f, 0.8f),
+            sendParticles(level, createDustParticle(1.0f, 0.6f, 0.2f, 0.8f),
                     pos.x, pos.y, pos.z, 2, 0.05, 0.05, 0.05, 0);
         }
     }
@@ -5672,15 +5492,15 @@ public class ModMessages {
      */
     private static void spawnSnipeTrailParticle(ServerLevel level, Vec3 position, Vec3 direction) {
         // Glowing orange/red core
-        level.sendParticles(createDustParticle(1.0f, 0.5f, 0.15f, 0.9f),
+        sendParticles(level, createDustParticle(1.0f, 0.5f, 0.15f, 0.9f),
                 position.x, position.y, position.z, 3, 0.08, 0.08, 0.08, 0);
         
         // Fire trail
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SMALL_FLAME,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SMALL_FLAME,
                 position.x, position.y, position.z, 1, 0.02, 0.02, 0.02, 0.01);
         
         // Crit sparkles
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 position.x, position.y, position.z, 2, 0.1, 0.1, 0.1, 0.02);
     }
     
@@ -5689,13 +5509,13 @@ public class ModMessages {
      */
     private static void spawnSnipeImpactEffect(ServerLevel level, Vec3 position) {
         // Large explosion of orange/red particles
-        level.sendParticles(createDustParticle(1.0f, 0.4f, 0.1f, 1.2f),
+        sendParticles(level, createDustParticle(1.0f, 0.4f, 0.1f, 1.2f),
                 position.x, position.y, position.z, 30, 0.5, 0.5, 0.5, 0.15);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 position.x, position.y, position.z, 3, 0.3, 0.3, 0.3, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLAME,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLAME,
                 position.x, position.y, position.z, 15, 0.3, 0.3, 0.3, 0.05);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.LAVA,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.LAVA,
                 position.x, position.y, position.z, 5, 0.2, 0.2, 0.2, 0);
     }
     
@@ -5714,7 +5534,7 @@ public class ModMessages {
                 double x = position.x + Math.cos(angle) * radius;
                 double z = position.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.15f, 0.1f, 0.7f),
+                sendParticles(level, createDustParticle(1.0f, 0.15f, 0.1f, 0.7f),
                         x, position.y + targetHeight * 0.5, z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
@@ -5723,17 +5543,17 @@ public class ModMessages {
         for (int i = -5; i <= 5; i++) {
             double offset = i * 0.3;
             // Horizontal
-            level.sendParticles(createDustParticle(1.0f, 0.2f, 0.15f, 0.5f),
+            sendParticles(level, createDustParticle(1.0f, 0.2f, 0.15f, 0.5f),
                     position.x + offset, position.y + targetHeight * 0.5, position.z,
                     1, 0.01, 0.01, 0.01, 0);
             // Vertical
-            level.sendParticles(createDustParticle(1.0f, 0.2f, 0.15f, 0.5f),
+            sendParticles(level, createDustParticle(1.0f, 0.2f, 0.15f, 0.5f),
                     position.x, position.y + targetHeight * 0.5, position.z + offset,
                     1, 0.01, 0.01, 0.01, 0);
         }
         
         // Lock-on flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 position.x, position.y + targetHeight * 0.5, position.z, 2, 0.1, 0.1, 0.1, 0);
     }
     
@@ -5763,30 +5583,30 @@ public class ModMessages {
             float brown_b = 0.25f + (float) progress * 0.15f; // 0.25 → 0.4
             
             // Main chain/rope with gradient
-            level.sendParticles(createDustParticle(brown_r, brown_g, brown_b, 0.8f),
+            sendParticles(level, createDustParticle(brown_r, brown_g, brown_b, 0.8f),
                     pos.x, pos.y, pos.z, 2, 0.03, 0.03, 0.03, 0);
             
             // Connection points (nodes) every few particles
             if (i % 5 == 0) {
-                level.sendParticles(createDustParticle(0.5f, 0.5f, 0.55f, 1.0f), // Gray nodes
+                sendParticles(level, createDustParticle(0.5f, 0.5f, 0.55f, 1.0f), // Gray nodes
                         pos.x, pos.y, pos.z, 3, 0.05, 0.05, 0.05, 0.01);
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                         pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
         
         // Hook impact at end - metallic gray burst
-        level.sendParticles(createDustParticle(0.5f, 0.5f, 0.55f, 1.2f),
+        sendParticles(level, createDustParticle(0.5f, 0.5f, 0.55f, 1.2f),
                 end.x, end.y, end.z, 20, 0.4, 0.4, 0.4, 0.1);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 end.x, end.y, end.z, 15, 0.3, 0.3, 0.3, 0.15);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 end.x, end.y, end.z, 1, 0.1, 0.1, 0.1, 0);
         
         // Launch effect at start - brown dust cloud
-        level.sendParticles(createDustParticle(0.6f, 0.4f, 0.25f, 0.9f),
+        sendParticles(level, createDustParticle(0.6f, 0.4f, 0.25f, 0.9f),
                 start.x, start.y, start.z, 12, 0.25, 0.25, 0.25, 0.03);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.POOF,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.POOF,
                 start.x, start.y, start.z, 8, 0.2, 0.2, 0.2, 0.02);
     }
     
@@ -5803,12 +5623,12 @@ public class ModMessages {
             Vec3 pos = start.add(direction.scale(progress * distance));
             
             // Intense red core
-            level.sendParticles(createDustParticle(1.0f, 0.1f, 0.1f, 0.8f),
+            sendParticles(level, createDustParticle(1.0f, 0.1f, 0.1f, 0.8f),
                     pos.x, pos.y, pos.z, 2, 0.015, 0.015, 0.015, 0);
             
             // Darker red outer
             if (i % 3 == 0) {
-                level.sendParticles(createDustParticle(0.8f, 0.1f, 0.1f, 0.5f),
+                sendParticles(level, createDustParticle(0.8f, 0.1f, 0.1f, 0.5f),
                         pos.x + (RANDOM.nextDouble() - 0.5) * 0.1,
                         pos.y + (RANDOM.nextDouble() - 0.5) * 0.1,
                         pos.z + (RANDOM.nextDouble() - 0.5) * 0.1,
@@ -5817,24 +5637,24 @@ public class ModMessages {
         }
         
         // Massive impact at head
-        level.sendParticles(createDustParticle(1.0f, 0.15f, 0.1f, 1.5f),
+        sendParticles(level, createDustParticle(1.0f, 0.15f, 0.1f, 1.5f),
                 end.x, end.y, end.z, 40, 0.6, 0.6, 0.6, 0.2);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 end.x, end.y, end.z, 5, 0.4, 0.4, 0.4, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 end.x, end.y, end.z, 30, 0.5, 0.5, 0.5, 0.25);
         
         // Skull indicator (using dark particles in X pattern)
         for (int i = -3; i <= 3; i++) {
             double offset = i * 0.12;
-            level.sendParticles(createDustParticle(0.1f, 0.1f, 0.1f, 0.9f),
+            sendParticles(level, createDustParticle(0.1f, 0.1f, 0.1f, 0.9f),
                     end.x + offset, end.y + 0.3, end.z + offset, 1, 0.02, 0.02, 0.02, 0);
-            level.sendParticles(createDustParticle(0.1f, 0.1f, 0.1f, 0.9f),
+            sendParticles(level, createDustParticle(0.1f, 0.1f, 0.1f, 0.9f),
                     end.x + offset, end.y + 0.3, end.z - offset, 1, 0.02, 0.02, 0.02, 0);
         }
         
         // Muzzle flash at start
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 2, 0.1, 0.1, 0.1, 0);
     }
     
@@ -5893,11 +5713,11 @@ public class ModMessages {
     private static void spawnLargePiercingArrowProjectile(ServerPlayer player, ServerLevel level, 
             Vec3 startPos, Vec3 direction, float damage) {
         // Create a custom piercing arrow projectile that tracks and deals damage
-        LargePiercingArrow arrow = new LargePiercingArrow(player, level, startPos, direction, damage);
-        activeLargePiercingArrows.add(arrow);
+        stateFor(level).projectiles.spawn(LARGE_PIERCING_ARROW_BEHAVIOUR, player, startPos, direction,
+                1.2f, damage, 100); // 3x faster (was 0.4f), 5 seconds max flight time
         
         // Initial spawn effect - green ranger theme
-        level.sendParticles(createDustParticle(0.2f, 0.85f, 0.25f, 1.0f),
+        sendParticles(level, createDustParticle(0.2f, 0.85f, 0.25f, 1.0f),
                 startPos.x, startPos.y, startPos.z, 20, 0.3, 0.3, 0.3, 0.1);
     }
     
@@ -5936,241 +5756,167 @@ public class ModMessages {
             level.addFreshEntity(arrow);
             
             // Spawn particle trail for each arrow
-            level.sendParticles(createDustParticle(0.3f, 0.9f, 0.3f, 0.6f),
+            sendParticles(level, createDustParticle(0.3f, 0.9f, 0.3f, 0.6f),
                     startPos.x, startPos.y, startPos.z, 3, 0.1, 0.1, 0.1, 0.05);
         }
     }
     
-    // Data class for Large Piercing Arrow projectile
-    public static class LargePiercingArrow {
-        public final ServerPlayer owner;
-        public final ServerLevel level;
-        public Vec3 position;
-        public final Vec3 direction;
-        public final float damage;
-        public int ticksAlive;
-        public final int maxTicks;
-        public final float speed;
-        public final List<UUID> hitEntities; // Track which entities we've already hit
-        
-        public LargePiercingArrow(ServerPlayer owner, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-            this.owner = owner;
-            this.level = level;
-            this.position = startPos;
-            this.direction = direction.normalize();
-            this.damage = damage;
-            this.ticksAlive = 0;
-            this.maxTicks = 100; // 5 seconds max flight time
-            this.speed = 1.2f; // 3x faster (was 0.4f)
-            this.hitEntities = new ArrayList<>();
-        }
-    }
-    
-    // Active large piercing arrows list
-    private static final List<LargePiercingArrow> activeLargePiercingArrows = new ArrayList<>();
+    // Ranger Large Piercing Arrow - pierces through every entity it passes
+    private static final ProjectileEngine.Behaviour LARGE_PIERCING_ARROW_BEHAVIOUR = ModMessages::updateLargePiercingArrow;
     
     /**
      * Update large piercing arrow projectile - returns false when it should be removed
      */
-    private static boolean updateLargePiercingArrow(LargePiercingArrow arrow) {
-        if (arrow.ticksAlive >= arrow.maxTicks) {
-            return false;
-        }
+    private static boolean updateLargePiercingArrow(ProjectileEngine pool, ServerLevel level, int slot) {
+        ServerPlayer owner = pool.owner(slot);
+        Vec3 position = pool.position(slot);
+        Vec3 direction = pool.direction(slot);
         
-        // Move projectile
-        arrow.position = arrow.position.add(arrow.direction.scale(arrow.speed));
+        // Check for entity collision along this tick's movement (pierce through multiple) - 3x bigger hitbox
+        List<LivingEntity> entities = pool.sweep(slot, 2.4);
         
-        // Check for entity collision (pierce through multiple) - 3x bigger hitbox
-        AABB hitbox = new AABB(
-                arrow.position.x - 2.4, arrow.position.y - 2.4, arrow.position.z - 2.4,
-                arrow.position.x + 2.4, arrow.position.y + 2.4, arrow.position.z + 2.4);
-        
-        List<Entity> entities = arrow.level.getEntities(arrow.owner, hitbox,
-                e -> e instanceof LivingEntity && e != arrow.owner);
-        
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity living && !arrow.hitEntities.contains(entity.getUUID())) {
-                living.hurt(arrow.owner.damageSources().playerAttack(arrow.owner), arrow.damage);
-                arrow.hitEntities.add(entity.getUUID());
+        for (LivingEntity living : entities) {
+            if (pool.markHit(slot, living)) {
+                living.hurt(owner.damageSources().playerAttack(owner), pool.damage(slot));
                 
                 // Impact particles
-                arrow.level.sendParticles(createDustParticle(0.3f, 0.9f, 0.3f, 1.0f),
-                        entity.getX(), entity.getY() + entity.getBbHeight() * 0.5, entity.getZ(),
+                sendParticles(level, createDustParticle(0.3f, 0.9f, 0.3f, 1.0f),
+                        living.getX(), living.getY() + living.getBbHeight() * 0.5, living.getZ(),
                         15, 0.3, 0.3, 0.3, 0.1);
             }
         }
         
         // Check for block collision
-        var blockHit = arrow.level.clip(new net.minecraft.world.level.ClipContext(
-                arrow.position.subtract(arrow.direction.scale(0.5)),
-                arrow.position,
+        var blockHit = level.clip(new net.minecraft.world.level.ClipContext(
+                pool.previousPosition(slot),
+                position,
                 net.minecraft.world.level.ClipContext.Block.COLLIDER,
                 net.minecraft.world.level.ClipContext.Fluid.NONE,
-                arrow.owner));
+                owner));
         
         if (blockHit.getType() == net.minecraft.world.phys.HitResult.Type.BLOCK) {
             // Impact effect - bright green ranger theme
-            arrow.level.sendParticles(createDustParticle(0.2f, 0.9f, 0.3f, 1.2f),
+            sendParticles(level, createDustParticle(0.2f, 0.9f, 0.3f, 1.2f),
                     blockHit.getLocation().x, blockHit.getLocation().y, blockHit.getLocation().z,
                     25, 0.4, 0.4, 0.4, 0.15);
             return false;
         }
         
-        // Spawn trail particles - LARGE arrow (3x size) with elongated gradient dust trail
-        if (arrow.ticksAlive % 1 == 0) { // Every tick
-            // Main arrow trail with gradient (green → light green) - ranger theme
-            arrow.level.sendParticles(createDustParticle(0.15f, 0.9f, 0.25f, 1.2f), // Bright green
-                    arrow.position.x, arrow.position.y, arrow.position.z, 8, 0.45, 0.45, 0.45, 0.03);
-            arrow.level.sendParticles(createDustParticle(0.25f, 1.0f, 0.35f, 1.0f), // Light green
-                    arrow.position.x, arrow.position.y, arrow.position.z, 5, 0.3, 0.3, 0.3, 0.02);
-            
-            // Radiating dust circles around the arrow (3x larger)
-            double circleRadius = 2.4; // 3x larger circles (was 0.8)
-            int circlePoints = 16; // More points for smoother circle
-            for (int i = 0; i < circlePoints; i++) {
-                double angle = (double) i / circlePoints * 2 * Math.PI;
-                Vec3 perpVec1 = new Vec3(
-                        Math.cos(angle) * circleRadius,
-                        Math.sin(angle) * circleRadius,
-                        0
-                );
-                Vec3 circlePos = arrow.position.add(perpVec1);
-                // Gradient from green to yellow-green
-                arrow.level.sendParticles(createDustParticle(0.2f, 0.85f, 0.3f, 0.7f),
-                        circlePos.x, circlePos.y, circlePos.z, 2, 0.1, 0.1, 0.1, 0);
-            }
-            
-            // Side wisps extending outward (elongated trail)
-            for (int side = -1; side <= 1; side += 2) {
-                Vec3 perpVec = arrow.direction.cross(new Vec3(0, 1, 0)).normalize();
-                Vec3 wispPos = arrow.position.add(perpVec.scale(side * 1.5));
-                arrow.level.sendParticles(createDustParticle(0.3f, 0.95f, 0.4f, 0.6f),
-                        wispPos.x, wispPos.y, wispPos.z, 3, 0.2, 0.2, 0.2, 0.02);
-            }
-            
-            // Core glow (END_ROD for highlight)
-            arrow.level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
-                    arrow.position.x, arrow.position.y, arrow.position.z, 3, 0.3, 0.3, 0.3, 0.02);
+        // Spawn trail particles every tick - LARGE arrow (3x size) with elongated gradient dust trail
+        // Main arrow trail with gradient (green → light green) - ranger theme
+        sendParticles(level, createDustParticle(0.15f, 0.9f, 0.25f, 1.2f), // Bright green
+                position.x, position.y, position.z, 8, 0.45, 0.45, 0.45, 0.03);
+        sendParticles(level, createDustParticle(0.25f, 1.0f, 0.35f, 1.0f), // Light green
+                position.x, position.y, position.z, 5, 0.3, 0.3, 0.3, 0.02);
+        
+        // Radiating dust circles around the arrow (3x larger)
+        double circleRadius = 2.4; // 3x larger circles (was 0.8)
+        int circlePoints = 16; // More points for smoother circle
+        for (int i = 0; i < circlePoints; i++) {
+            double angle = (double) i / circlePoints * 2 * Math.PI;
+            Vec3 perpVec1 = new Vec3(
+                    Math.cos(angle) * circleRadius,
+                    Math.sin(angle) * circleRadius,
+                    0
+            );
+            Vec3 circlePos = position.add(perpVec1);
+            // Gradient from green to yellow-green
+            sendParticles(level, createDustParticle(0.2f, 0.85f, 0.3f, 0.7f),
+                    circlePos.x, circlePos.y, circlePos.z, 2, 0.1, 0.1, 0.1, 0);
+        }
+        
+        // Side wisps extending outward (elongated trail)
+        for (int side = -1; side <= 1; side += 2) {
+            Vec3 perpVec = direction.cross(new Vec3(0, 1, 0)).normalize();
+            Vec3 wispPos = position.add(perpVec.scale(side * 1.5));
+            sendParticles(level, createDustParticle(0.3f, 0.95f, 0.4f, 0.6f),
+                    wispPos.x, wispPos.y, wispPos.z, 3, 0.2, 0.2, 0.2, 0.02);
         }
         
+        // Core glow (END_ROD for highlight)
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
+                position.x, position.y, position.z, 3, 0.3, 0.3, 0.3, 0.02);
+        
         return true;
     }
     
     // ===== WARRIOR ABILITY HELPER METHODS =====
     
-    /**
-     * Data class for Heavy Cleave projectile
-     */
-    public static class HeavyCleaveProjectile {
-        public final ServerPlayer owner;
-        public final ServerLevel level;
-        public Vec3 position;
-        public final Vec3 direction;
-        public final float damage;
-        public int ticksAlive;
-        public final int maxTicks;
-        public final float speed;
-        public final List<UUID> hitEntities;
-        public final float yaw; // Store yaw for arc visualization
-        
-        public HeavyCleaveProjectile(ServerPlayer owner, ServerLevel level, Vec3 startPos, Vec3 direction, float damage, float yaw) {
-            this.owner = owner;
-            this.level = level;
-            this.position = startPos;
-            this.direction = direction.normalize();
-            this.damage = damage;
-            this.ticksAlive = 0;
-            this.maxTicks = 60; // 3 seconds
-            this.speed = 1.0f;
-            this.hitEntities = new ArrayList<>();
-            this.yaw = yaw;
-        }
-    }
-    
-    private static final List<HeavyCleaveProjectile> activeHeavyCleaveProjectiles = new ArrayList<>();
+    // Heavy Cleave projectile - piercing arc slash, param holds the yaw of the arc
+    private static final ProjectileEngine.Behaviour HEAVY_CLEAVE_BEHAVIOUR = ModMessages::updateHeavyCleaveProjectile;
     
     /**
      * Spawn Heavy Cleave projectile
      */
     private static void spawnHeavyCleaveProjectile(ServerPlayer player, ServerLevel level, Vec3 startPos, Vec3 direction, float damage, float yaw) {
-        HeavyCleaveProjectile projectile = new HeavyCleaveProjectile(player, level, startPos, direction, damage, yaw);
-        activeHeavyCleaveProjectiles.add(projectile);
+        ProjectileEngine projectiles = stateFor(level).projectiles;
+        int slot = projectiles.spawn(HEAVY_CLEAVE_BEHAVIOUR, player, startPos, direction,
+                1.0f, damage, 30); // 1.5 seconds
+        projectiles.setParam(slot, yaw); // Store yaw for arc visualization
     }
     
     /**
      * Update Heavy Cleave projectile
      */
-    private static boolean updateHeavyCleaveProjectile(HeavyCleaveProjectile proj) {
-        if (proj.ticksAlive >= proj.maxTicks) {
-            return false;
-        }
-        
-        proj.position = proj.position.add(proj.direction.scale(proj.speed));
-        proj.ticksAlive++;
+    private static boolean updateHeavyCleaveProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        ServerPlayer owner = pool.owner(slot);
+        Vec3 position = pool.position(slot);
         
-        // Check for entity collision
-        AABB hitbox = new AABB(
-                proj.position.x - 1.5, proj.position.y - 1.5, proj.position.z - 1.5,
-                proj.position.x + 1.5, proj.position.y + 1.5, proj.position.z + 1.5);
+        // Check for entity collision along this tick's movement
+        List<LivingEntity> entities = pool.sweep(slot, 1.5);
         
-        List<Entity> entities = proj.level.getEntities(proj.owner, hitbox,
-                e -> e instanceof LivingEntity && e != proj.owner);
-        
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity living && !proj.hitEntities.contains(entity.getUUID())) {
-                living.hurt(proj.owner.damageSources().playerAttack(proj.owner), proj.damage);
-                proj.hitEntities.add(entity.getUUID());
+        for (LivingEntity living : entities) {
+            if (pool.markHit(slot, living)) {
+                living.hurt(owner.damageSources().playerAttack(owner), pool.damage(slot));
                 
                 // Impact particles - lighter red
-                proj.level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 1.0f),
-                        entity.getX(), entity.getY() + entity.getBbHeight() * 0.5, entity.getZ(),
+                sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 1.0f),
+                        living.getX(), living.getY() + living.getBbHeight() * 0.5, living.getZ(),
                         15, 0.3, 0.3, 0.3, 0.1);
-                proj.level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
-                        entity.getX(), entity.getY() + entity.getBbHeight() * 0.5, entity.getZ(),
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
+                        living.getX(), living.getY() + living.getBbHeight() * 0.5, living.getZ(),
                         10, 0.2, 0.2, 0.2, 0.1);
             }
         }
         
         // Check for block collision
-        var blockHit = proj.level.clip(new net.minecraft.world.level.ClipContext(
-                proj.position.subtract(proj.direction.scale(0.5)),
-                proj.position,
+        var blockHit = level.clip(new net.minecraft.world.level.ClipContext(
+                pool.previousPosition(slot),
+                position,
                 net.minecraft.world.level.ClipContext.Block.COLLIDER,
                 net.minecraft.world.level.ClipContext.Fluid.NONE,
-                proj.owner));
+                owner));
         
         if (blockHit.getType() == net.minecraft.world.phys.HitResult.Type.BLOCK) {
-            proj.level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 1.2f),
+            sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 1.2f),
                     blockHit.getLocation().x, blockHit.getLocation().y, blockHit.getLocation().z,
                     20, 0.4, 0.4, 0.4, 0.15);
             return false;
         }
         
-        // Spawn arc-shaped particles instead of bullet trail
-        if (proj.ticksAlive % 1 == 0) {
-            // Create an arc shape that travels with the projectile
-            int arcParticles = 15;
-            double arcDegrees = 90; // Narrower arc for projectile
-            double halfArc = Math.toRadians(arcDegrees / 2.0);
-            double yawRad = Math.toRadians(proj.yaw);
-            
-            for (int i = 0; i < arcParticles; i++) {
-                double angle = -halfArc + (i / (double) arcParticles) * (2 * halfArc);
-                double finalAngle = yawRad + angle + Math.PI / 2;
-                double dist = 1.5 * (0.7 + RANDOM.nextDouble() * 0.3);
-                double x = proj.position.x + Math.cos(finalAngle) * dist;
-                double z = proj.position.z + Math.sin(finalAngle) * dist;
-                
-                // Lighter red color for projectile arc
-                proj.level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 0.8f),
-                        x, proj.position.y, z, 1, 0.05, 0.05, 0.05, 0.01);
-            }
+        // Spawn arc-shaped particles every tick instead of bullet trail
+        // Create an arc shape that travels with the projectile
+        int arcParticles = 15;
+        double arcDegrees = 90; // Narrower arc for projectile
+        double halfArc = Math.toRadians(arcDegrees / 2.0);
+        double yawRad = Math.toRadians(pool.param(slot));
+        
+        for (int i = 0; i < arcParticles; i++) {
+            double angle = -halfArc + (i / (double) arcParticles) * (2 * halfArc);
+            double finalAngle = yawRad + angle + Math.PI / 2;
+            double dist = 1.5 * (0.7 + RANDOM.nextDouble() * 0.3);
+            double x = position.x + Math.cos(finalAngle) * dist;
+            double z = position.z + Math.sin(finalAngle) * dist;
             
-            // Add some crit particles for visual effect
-            proj.level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
-                    proj.position.x, proj.position.y, proj.position.z, 2, 0.3, 0.2, 0.3, 0.02);
+            // Lighter red color for projectile arc
+            sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 0.8f),
+                    x, position.y, z, 1, 0.05, 0.05, 0.05, 0.01);
         }
         
+        // Add some crit particles for visual effect
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
+                position.x, position.y, position.z, 2, 0.3, 0.2, 0.3, 0.02);
+        
         return true;
     }
     
@@ -6214,28 +5960,22 @@ public class ModMessages {
         double yawRad = Math.toRadians(yaw);
         
         // Add animation by spawning particles in waves
-        for (int wave = 0; wave < 3; wave++) {
-            final int waveIndex = wave;
-            level.getServer().tell(new net.minecraft.server.TickTask(
-                    level.getServer().getTickCount() + wave * 2, // Stagger waves
-                    () -> {
-                        double waveRadius = radius * (0.5 + waveIndex * 0.25);
-                        for (int i = 0; i < particles; i++) {
-                            double angle = -halfArc + (i / (double) particles) * (2 * halfArc);
-                            double finalAngle = yawRad + angle + Math.PI / 2;
-                            double dist = waveRadius * (0.8 + RANDOM.nextDouble() * 0.2);
-                            double x = center.x + Math.cos(finalAngle) * dist;
-                            double z = center.z + Math.sin(finalAngle) * dist;
-                            
-                            // Lighter red color - use slightly lighter shade
-                            level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 0.9f),
-                                    x, center.y + waveIndex * 0.2, z, 2, 0.1, 0.1, 0.1, 0.02);
-                            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
-                                    x, center.y + waveIndex * 0.2, z, 1, 0.1, 0.1, 0.1, 0.01);
-                        }
-                    }
-            ));
-        }
+        scheduleRepeating(level, null, 0, 2, 3, waveIndex -> { // Stagger waves
+            double waveRadius = radius * (0.5 + waveIndex * 0.25);
+            for (int i = 0; i < particles; i++) {
+                double angle = -halfArc + (i / (double) particles) * (2 * halfArc);
+                double finalAngle = yawRad + angle + Math.PI / 2;
+                double dist = waveRadius * (0.8 + RANDOM.nextDouble() * 0.2);
+                double x = center.x + Math.cos(finalAngle) * dist;
+                double z = center.z + Math.sin(finalAngle) * dist;
+                
+                // Lighter red color - use slightly lighter shade
+                sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 0.9f),
+                        x, center.y + waveIndex * 0.2, z, 2, 0.1, 0.1, 0.1, 0.02);
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
+                        x, center.y + waveIndex * 0.2, z, 1, 0.1, 0.1, 0.1, 0.01);
+            }
+        });
     }
     
     /**
@@ -6243,39 +5983,33 @@ public class ModMessages {
      */
     private static void spawnBattleCryEffect(ServerLevel level, Vec3 center) {
         // Initial flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y, center.z, 1, 0, 0, 0, 0);
         
         // Three expanding ring waves - clean, defined shape
-        for (int wave = 0; wave < 3; wave++) {
-            final int waveIndex = wave;
-            level.getServer().tell(new net.minecraft.server.TickTask(
-                    level.getServer().getTickCount() + wave * 4,
-                    () -> {
-                        double radius = 1.0 + waveIndex * 1.0;
-                        int points = 12; // Reduced for cleaner shape
-                        for (int p = 0; p < points; p++) {
-                            double angle = (double) p / points * 2 * Math.PI;
-                            double x = center.x + Math.cos(angle) * radius;
-                            double z = center.z + Math.sin(angle) * radius;
-                            
-                            // Single clean particle per point
-                            level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 1.2f),
-                                    x, center.y + 0.1, z, 1, 0, 0, 0, 0);
-                        }
-                    }
-            ));
-        }
+        scheduleRepeating(level, null, 0, 4, 3, waveIndex -> {
+            double radius = 1.0 + waveIndex * 1.0;
+            int points = 12; // Reduced for cleaner shape
+            for (int p = 0; p < points; p++) {
+                double angle = (double) p / points * 2 * Math.PI;
+                double x = center.x + Math.cos(angle) * radius;
+                double z = center.z + Math.sin(angle) * radius;
+                
+                // Single clean particle per point
+                sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 1.2f),
+                        x, center.y + 0.1, z, 1, 0, 0, 0, 0);
+            }
+        });
         
         // Single upward column effect
         for (int i = 0; i < 8; i++) {
             double y = center.y + i * 0.35;
-            level.sendParticles(createDustParticle(1.0f, 0.3f, 0.1f, 1.0f),
+            sendParticles(level, createDustParticle(1.0f, 0.3f, 0.1f, 1.0f),
                     center.x, y, center.z, 2, 0.15, 0.05, 0.15, 0.01);
         }
         
         // Crit burst for visual impact
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 center.x, center.y + 1, center.z, 8, 0.5, 0.3, 0.5, 0.15);
     }
     
@@ -6283,114 +6017,42 @@ public class ModMessages {
      * Deal Whirlwind damage - 30% damage per hit, over 3 seconds
      */
     private static void dealWhirlwindDamage(ServerPlayer player, ServerLevel level, float damagePerHit, double range, int maxHits) {
-        // Generate unique key for this whirlwind instance using player UUID + atomic counter
-        String whirlwindKey = player.getUUID().toString() + "_" + whirlwindCounter.incrementAndGet();
-        Map<UUID, Integer> hitCounts = new ConcurrentHashMap<>();
-        whirlwindHitCounts.put(whirlwindKey, hitCounts);
+        // Hit counts for this whirlwind instance, shared by its scheduled hits
+        Map<UUID, Integer> hitCounts = new HashMap<>();
         
         // Schedule hits over 3 seconds (60 ticks)
         int ticksPerHit = 60 / maxHits;
-        for (int hit = 0; hit < maxHits; hit++) {
-            final int hitIndex = hit;
-            // Schedule each hit with a delay
-            level.getServer().tell(new net.minecraft.server.TickTask(
-                    level.getServer().getTickCount() + hit * ticksPerHit,
-                    () -> {
-                        if (!player.isAlive()) {
-                            // Cleanup if player dies
-                            whirlwindHitCounts.remove(whirlwindKey);
-                            return;
-                        }
-                        
-                        // Refresh entity list on each tick to catch entities entering the area
-                        AABB searchBox = player.getBoundingBox().inflate(range);
-                        List<Entity> entities = player.level().getEntities(player, searchBox,
-                                e -> e instanceof LivingEntity && e != player);
-                        
-                        Map<UUID, Integer> persistentHitCounts = whirlwindHitCounts.get(whirlwindKey);
-                        if (persistentHitCounts == null) return;
-                        
-                        for (Entity entity : entities) {
-                            if (entity instanceof LivingEntity living && living.isAlive()) {
-                                double dist = player.position().distanceTo(entity.position());
-                                if (dist <= range) {
-                                    UUID entityId = entity.getUUID();
-                                    int currentHits = persistentHitCounts.getOrDefault(entityId, 0);
-                                    if (currentHits < maxHits) {
-                                        living.hurt(player.damageSources().playerAttack(player), damagePerHit);
-                                        persistentHitCounts.put(entityId, currentHits + 1);
-                                    }
-                                }
-                            }
-                        }
-                        
-                        // Cleanup on final hit
-                        if (hitIndex == maxHits - 1) {
-                            whirlwindHitCounts.remove(whirlwindKey);
+        scheduleRepeating(level, player, 0, ticksPerHit, maxHits, hitIndex -> {
+            if (!player.isAlive()) {
+                return;
+            }
+            
+            // Refresh entity list on each tick to catch entities entering the area
+            AABB searchBox = player.getBoundingBox().inflate(range);
+            List<Entity> entities = player.level().getEntities(player, searchBox,
+                    e -> e instanceof LivingEntity && e != player);
+            
+            for (Entity entity : entities) {
+                if (entity instanceof LivingEntity living && living.isAlive()) {
+                    double dist = player.position().distanceTo(entity.position());
+                    if (dist <= range) {
+                        UUID entityId = entity.getUUID();
+                        int currentHits = hitCounts.getOrDefault(entityId, 0);
+                        if (currentHits < maxHits) {
+                            living.hurt(player.damageSources().playerAttack(player), damagePerHit);
+                            hitCounts.put(entityId, currentHits + 1);
                         }
                     }
-            ));
-        }
+                }
+            }
+        });
     }
     
     /**
-     * Spawn Whirlwind effect - lasts 3 seconds like an actual whirlwind
+     * Spawn Whirlwind effect - lasts 3 seconds like an actual whirlwind, animated by the client
      */
     private static void spawnWhirlwindEffect(ServerLevel level, Vec3 center, double radius, float yaw) {
-        // Continuous spinning animation over 3 seconds (60 ticks)
-        int totalTicks = 60;
-        double yawRad = Math.toRadians(yaw);
-        
-        for (int tick = 0; tick < totalTicks; tick++) {
-            final int tickIndex = tick;
-            level.getServer().tell(new net.minecraft.server.TickTask(
-                    level.getServer().getTickCount() + tick,
-                    () -> {
-                        double spinProgress = (double) tickIndex / totalTicks;
-                        double spinAngle = spinProgress * 12 * Math.PI; // 6 full rotations over 3 seconds
-                        
-                        // Spawn slash arcs at different angles during spin
-                        for (int slash = 0; slash < 2; slash++) {
-                            double slashAngle = spinAngle + slash * Math.PI;
-                            int arcParticles = 8; // Reduced for cleaner visuals
-                            double arcDegrees = 90;
-                            double halfArc = Math.toRadians(arcDegrees / 2.0);
-                            
-                            for (int i = 0; i < arcParticles; i++) {
-                                double angle = -halfArc + (i / (double) arcParticles) * (2 * halfArc);
-                                double finalAngle = slashAngle + angle;
-                                double dist = radius * (0.7 + RANDOM.nextDouble() * 0.3);
-                                double x = center.x + Math.cos(finalAngle) * dist;
-                                double z = center.z + Math.sin(finalAngle) * dist;
-                                double y = center.y + (RANDOM.nextDouble() - 0.5) * 0.8;
-                                
-                                // Lighter red slashes
-                                level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 0.9f),
-                                        x, y, z, 1, 0.05, 0.05, 0.05, 0.01);
-                            }
-                        }
-                        
-                        // Add spinning ring effect - more spread out
-                        if (tickIndex % 2 == 0) {
-                            int ringPoints = 12;
-                            for (int p = 0; p < ringPoints; p++) {
-                                double angle = (double) p / ringPoints * 2 * Math.PI + spinAngle;
-                                double x = center.x + Math.cos(angle) * radius * 0.9;
-                                double z = center.z + Math.sin(angle) * radius * 0.9;
-                                
-                                level.sendParticles(createDustParticle(1.0f, 0.15f, 0.15f, 0.8f),
-                                        x, center.y, z, 1, 0.03, 0.03, 0.03, 0.01);
-                            }
-                        }
-                        
-                        // Add SWEEP_ATTACK particles for slash effect - every ~8 ticks
-                        if (tickIndex % 8 == 0) {
-                            level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
-                                    center.x, center.y, center.z, 2, 0.5, 0.3, 0.5, 0);
-                        }
-                    }
-            ));
-        }
+        startClientEffect(level, PacketStartEffect.Kind.WHIRLWIND, null, null, center, yaw, radius, 60);
     }
     
     /**
@@ -6406,12 +6068,12 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 0.7f),
+                sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 0.7f),
                         x, center.y + 0.1, z, 2, 0.05, 0.02, 0.05, 0.01);
             }
         }
         
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                 center.x, center.y + 0.5, center.z, 1, 0, 0, 0, 0);
     }
     
@@ -6448,60 +6110,6 @@ public class ModMessages {
         }
     }
     
-    private static final Map<UUID, BleedEffect> activeBleedEffects = new ConcurrentHashMap<>();
-    private static final Map<UUID, GrievousWoundsEffect> activeGrievousWounds = new ConcurrentHashMap<>();
-    
-    /**
-     * Tearing Hook pull data
-     */
-    public static class TearingHookPull {
-        public final ServerPlayer owner;
-        public final LivingEntity target;
-        public final boolean pullPlayerToTarget;
-        public final long executeAt;
-        
-        public TearingHookPull(ServerPlayer owner, LivingEntity target, boolean pullPlayerToTarget, long executeAt) {
-            this.owner = owner;
-            this.target = target;
-            this.pullPlayerToTarget = pullPlayerToTarget;
-            this.executeAt = executeAt;
-        }
-    }
-    
-    private static final List<TearingHookPull> scheduledHookPulls = new ArrayList<>();
-    
-    /**
-     * Rupture projectile data
-     */
-    public static class RuptureProjectile {
-        public final ServerPlayer owner;
-        public final ServerLevel level;
-        public Vec3 position;
-        public final Vec3 direction;
-        public final float damage;
-        public int ticksAlive;
-        public final int maxTicks;
-        public final float speed;
-        public LivingEntity stuckEntity;
-        public boolean stuck;
-        public int stuckTime;
-        
-        public RuptureProjectile(ServerPlayer owner, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-            this.owner = owner;
-            this.level = level;
-            this.position = startPos;
-            this.direction = direction.normalize();
-            this.damage = damage;
-            this.ticksAlive = 0;
-            this.maxTicks = 100;
-            this.speed = 0.8f;
-            this.stuck = false;
-            this.stuckTime = 0;
-        }
-    }
-    
-    private static final List<RuptureProjectile> activeRuptureProjectiles = new ArrayList<>();
-    
     /**
      * Find enemy in look direction
      */
@@ -6534,8 +6142,9 @@ public class ModMessages {
     /**
      * Schedule Tearing Hook pull
      */
-    private static void scheduleTearingHookPull(ServerPlayer player, LivingEntity target, boolean pullPlayerToTarget, long executeAt) {
-        scheduledHookPulls.add(new TearingHookPull(player, target, pullPlayerToTarget, executeAt));
+    private static void scheduleTearingHookPull(ServerPlayer player, LivingEntity target, boolean pullPlayerToTarget, int delayTicks) {
+        ServerLevel level = player.serverLevel();
+        scheduleOnce(level, player, delayTicks, () -> executeTearingHookPull(level, player, target, pullPlayerToTarget));
     }
     
     /**
@@ -6552,10 +6161,10 @@ public class ModMessages {
             Vec3 pos = start.add(direction.scale(progress * distance));
             
             if (isRed) {
-                level.sendParticles(createDustParticle(0.8f, 0.0f, 0.0f, 0.8f),
+                sendParticles(level, createDustParticle(0.8f, 0.0f, 0.0f, 0.8f),
                         pos.x, pos.y, pos.z, 2, 0.03, 0.03, 0.03, 0);
             } else {
-                level.sendParticles(createDustParticle(0.5f, 0.5f, 0.5f, 0.7f),
+                sendParticles(level, createDustParticle(0.5f, 0.5f, 0.5f, 0.7f),
                         pos.x, pos.y, pos.z, 2, 0.03, 0.03, 0.03, 0);
             }
         }
@@ -6565,13 +6174,15 @@ public class ModMessages {
      * Apply BLEED effect to entity
      */
     public static void applyBleed(LivingEntity target, ServerPlayer owner, int durationTicks) {
+        LevelAbilityState state = stateFor(target.level());
+        
         // Check if target already has GRIEVOUS WOUNDS
-        if (activeGrievousWounds.containsKey(target.getUUID())) {
+        if (state.grievousWounds.containsKey(target.getUUID())) {
             return; // Cannot apply BLEED if has GRIEVOUS WOUNDS
         }
         
         BleedEffect bleed = new BleedEffect(target.getUUID(), owner.getUUID(), durationTicks);
-        activeBleedEffects.put(target.getUUID(), bleed);
+        state.bleedEffects.put(target.getUUID(), bleed);
     }
     
     /**
@@ -6579,17 +6190,18 @@ public class ModMessages {
      */
     private static void applyGrievousWounds(LivingEntity target, ServerPlayer owner, int stacks) {
         UUID targetId = target.getUUID();
+        LevelAbilityState state = stateFor(target.level());
         
         // Remove BLEED if present and add extra stack
-        if (activeBleedEffects.containsKey(targetId)) {
-            activeBleedEffects.remove(targetId);
+        if (state.bleedEffects.containsKey(targetId)) {
+            state.bleedEffects.remove(targetId);
             stacks++; // Extra stack for removing BLEED
         }
         
-        if (activeGrievousWounds.containsKey(targetId)) {
-            activeGrievousWounds.get(targetId).addStack();
+        if (state.grievousWounds.containsKey(targetId)) {
+            state.grievousWounds.get(targetId).addStack();
         } else {
-            activeGrievousWounds.put(targetId, new GrievousWoundsEffect(targetId, owner.getUUID(), stacks));
+            state.grievousWounds.put(targetId, new GrievousWoundsEffect(targetId, owner.getUUID(), stacks));
         }
     }
     
@@ -6636,201 +6248,213 @@ public class ModMessages {
         double halfArc = Math.toRadians(arcDegrees / 2.0);
         
         // Animated blade slashes over time
-        for (int wave = 0; wave < 4; wave++) {
-            final int waveIndex = wave;
-            level.getServer().tell(new net.minecraft.server.TickTask(
-                    level.getServer().getTickCount() + wave * 2,
-                    () -> {
-                        double waveRadius = radius * (0.6 + waveIndex * 0.15);
-                        
-                        // Arc slash
-                        int arcParticles = 25;
-                        for (int i = 0; i < arcParticles; i++) {
-                            double angle = -halfArc + (i / (double) arcParticles) * (2 * halfArc);
-                            double finalAngle = yawRad + angle + Math.PI / 2;
-                            double dist = waveRadius * (0.8 + RANDOM.nextDouble() * 0.2);
-                            double x = center.x + Math.cos(finalAngle) * dist;
-                            double z = center.z + Math.sin(finalAngle) * dist;
-                            double y = center.y + (RANDOM.nextDouble() - 0.5) * 0.6 + waveIndex * 0.1;
-                            
-                            // Dark red with blood effect
-                            level.sendParticles(createDustParticle(0.7f, 0.0f, 0.0f, 1.1f),
-                                    x, y, z, 2, 0.08, 0.08, 0.08, 0.02);
-                        }
-                        
-                        // Add sweeping attack particles
-                        if (waveIndex % 2 == 0) {
-                            level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
-                                    center.x, center.y, center.z, 2, 0.5, 0.2, 0.5, 0);
-                        }
-                    }
-            ));
-        }
+        scheduleRepeating(level, null, 0, 2, 4, waveIndex -> {
+            double waveRadius = radius * (0.6 + waveIndex * 0.15);
+            
+            // Arc slash
+            int arcParticles = 25;
+            for (int i = 0; i < arcParticles; i++) {
+                double angle = -halfArc + (i / (double) arcParticles) * (2 * halfArc);
+                double finalAngle = yawRad + angle + Math.PI / 2;
+                double dist = waveRadius * (0.8 + RANDOM.nextDouble() * 0.2);
+                double x = center.x + Math.cos(finalAngle) * dist;
+                double z = center.z + Math.sin(finalAngle) * dist;
+                double y = center.y + (RANDOM.nextDouble() - 0.5) * 0.6 + waveIndex * 0.1;
+                
+                // Dark red with blood effect
+                sendParticles(level, createDustParticle(0.7f, 0.0f, 0.0f, 1.1f),
+                        x, y, z, 2, 0.08, 0.08, 0.08, 0.02);
+            }
+            
+            // Add sweeping attack particles
+            if (waveIndex % 2 == 0) {
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+                        center.x, center.y, center.z, 2, 0.5, 0.2, 0.5, 0);
+            }
+        });
         
         // Blood spray particles
-        level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
+        sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
                 net.minecraft.core.particles.ParticleTypes.BLOCK, 
                 net.minecraft.world.level.block.Blocks.RED_CONCRETE.defaultBlockState()),
                 center.x, center.y + 1, center.z, 30, 0.8, 0.4, 0.8, 0.15);
         
         // Crimson spore particles for extra effect
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIMSON_SPORE,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIMSON_SPORE,
                 center.x, center.y + 0.5, center.z, 20, 1.0, 0.3, 1.0, 0.05);
     }
     
+    // Ravager Rupture blade - sticks into the first enemy hit and explodes after 2.5 seconds
+    private static final ProjectileEngine.Behaviour RUPTURE_BEHAVIOUR = new ProjectileEngine.Behaviour() {
+        @Override
+        public boolean steer(ProjectileEngine pool, ServerLevel level, int slot) {
+            return steerRuptureProjectile(pool, level, slot);
+        }
+        
+        @Override
+        public boolean update(ProjectileEngine pool, ServerLevel level, int slot) {
+            return updateRuptureProjectile(pool, level, slot);
+        }
+        
+        @Override
+        public boolean onExpired(ProjectileEngine pool, ServerLevel level, int slot) {
+            if (pool.hasFlag(slot, ProjectileEngine.FLAG_STUCK)) {
+                // Stuck timer ran out - explode
+                spawnRuptureExplosion(level, pool.position(slot), pool.owner(slot), pool.damage(slot) * 0.25f);
+            }
+            return false;
+        }
+    };
+    
     /**
      * Spawn Rupture projectile
      */
     private static void spawnRuptureProjectile(ServerPlayer player, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-        RuptureProjectile projectile = new RuptureProjectile(player, level, startPos, direction, damage);
-        activeRuptureProjectiles.add(projectile);
+        stateFor(level).projectiles.spawn(RUPTURE_BEHAVIOUR, player, startPos, direction, 0.8f, damage, 50);
     }
     
     /**
-     * Update Rupture projectile
+     * Keep a stuck Rupture blade on its entity - returns false if it exploded early
      */
-    private static boolean updateRuptureProjectile(RuptureProjectile proj) {
-        proj.ticksAlive++;
-        
-        if (proj.stuck) {
-            proj.stuckTime++;
-            
-            // After 2.5 seconds (50 ticks), explode
-            if (proj.stuckTime >= 50) {
-                // Explode effect
-                spawnRuptureExplosion(proj.level, proj.position, proj.owner, proj.damage * 0.25f);
-                return false;
-            }
-            
-            // Update position to follow stuck entity
-            if (proj.stuckEntity != null && proj.stuckEntity.isAlive()) {
-                proj.position = proj.stuckEntity.position().add(0, proj.stuckEntity.getBbHeight() * 0.5, 0);
-                
-                // Spawn stuck blade visual with actual blade particles
-                if (proj.stuckTime % 3 == 0) {
-                    // Draw a blade shape using particles
-                    for (int i = 0; i < 5; i++) {
-                        double offsetY = i * 0.15;
-                        proj.level.sendParticles(createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
-                                proj.position.x, proj.position.y - offsetY, proj.position.z, 
-                                1, 0.03, 0.03, 0.03, 0);
-                    }
-                    // Blade edge particles (iron block for metal look)
-                    proj.level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
-                            net.minecraft.core.particles.ParticleTypes.BLOCK,
-                            net.minecraft.world.level.block.Blocks.IRON_BLOCK.defaultBlockState()),
-                            proj.position.x, proj.position.y, proj.position.z, 2, 0.1, 0.1, 0.1, 0);
-                }
-                
-                // Pulsing effect as explosion approaches
-                if (proj.stuckTime > 30 && proj.stuckTime % 5 == 0) {
-                    proj.level.sendParticles(createDustParticle(0.8f, 0.0f, 0.0f, 1.5f),
-                            proj.position.x, proj.position.y, proj.position.z, 8, 0.3, 0.3, 0.3, 0.08);
-                }
-            } else {
-                // Entity died, explode early
-                spawnRuptureExplosion(proj.level, proj.position, proj.owner, proj.damage * 0.25f);
-                return false;
-            }
-            
+    private static boolean steerRuptureProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        if (!pool.hasFlag(slot, ProjectileEngine.FLAG_STUCK)) {
             return true;
         }
         
-        if (proj.ticksAlive >= proj.maxTicks) {
+        LivingEntity stuckEntity = pool.target(slot);
+        if (stuckEntity == null || !stuckEntity.isAlive()) {
+            // Entity died, explode early
+            spawnRuptureExplosion(level, pool.position(slot), pool.owner(slot), pool.damage(slot) * 0.25f);
             return false;
         }
         
-        proj.position = proj.position.add(proj.direction.scale(proj.speed));
+        // Update position to follow stuck entity
+        Vec3 position = stuckEntity.position().add(0, stuckEntity.getBbHeight() * 0.5, 0);
+        pool.setPosition(slot, position);
+        int stuckTime = pool.ticksAlive(slot) - pool.marker(slot);
         
-        // Check for entity collision
-        AABB hitbox = new AABB(
-                proj.position.x - 0.5, proj.position.y - 0.5, proj.position.z - 0.5,
-                proj.position.x + 0.5, proj.position.y + 0.5, proj.position.z + 0.5);
+        // Spawn stuck blade visual with actual blade particles
+        if (stuckTime % 3 == 0) {
+            // Draw a blade shape using particles
+            for (int i = 0; i < 5; i++) {
+                double offsetY = i * 0.15;
+                sendParticles(level, createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
+                        position.x, position.y - offsetY, position.z, 
+                        1, 0.03, 0.03, 0.03, 0);
+            }
+            // Blade edge particles (iron block for metal look)
+            sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
+                    net.minecraft.core.particles.ParticleTypes.BLOCK,
+                    net.minecraft.world.level.block.Blocks.IRON_BLOCK.defaultBlockState()),
+                    position.x, position.y, position.z, 2, 0.1, 0.1, 0.1, 0);
+        }
         
-        List<Entity> entities = proj.level.getEntities(proj.owner, hitbox,
-                e -> e instanceof LivingEntity && e != proj.owner);
+        // Pulsing effect as explosion approaches
+        if (stuckTime > 30 && stuckTime % 5 == 0) {
+            sendParticles(level, createDustParticle(0.8f, 0.0f, 0.0f, 1.5f),
+                    position.x, position.y, position.z, 8, 0.3, 0.3, 0.3, 0.08);
+        }
         
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity living) {
-                // Get GRIEVOUS WOUNDS stacks for damage scaling
-                int gwStacks = 0;
-                if (activeGrievousWounds.containsKey(entity.getUUID())) {
-                    gwStacks = activeGrievousWounds.get(entity.getUUID()).stacks;
-                }
-                
-                float finalDamage = proj.damage * (1.0f + gwStacks * 0.3f);
-                living.hurt(proj.owner.damageSources().playerAttack(proj.owner), finalDamage);
-                
-                // Stick to entity
-                proj.stuck = true;
-                proj.stuckEntity = living;
-                proj.stuckTime = 0;
-                
-                // Impact effect - show blade sticking
-                proj.level.sendParticles(createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
-                        proj.position.x, proj.position.y, proj.position.z, 15, 0.3, 0.3, 0.3, 0.1);
-                proj.level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
-                        proj.position.x, proj.position.y, proj.position.z, 1, 0, 0, 0, 0);
-                
-                return true;
+        return true;
+    }
+    
+    /**
+     * Update Rupture projectile in flight
+     */
+    private static boolean updateRuptureProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        if (pool.hasFlag(slot, ProjectileEngine.FLAG_STUCK)) {
+            return true;
+        }
+        
+        ServerPlayer owner = pool.owner(slot);
+        Vec3 position = pool.position(slot);
+        Vec3 direction = pool.direction(slot);
+        
+        // Check for entity collision along this tick's movement
+        List<LivingEntity> entities = pool.sweep(slot, 0.5);
+        
+        if (!entities.isEmpty()) {
+            LivingEntity living = entities.get(0); // Nearest entity along the path
+            
+            // Get GRIEVOUS WOUNDS stacks for damage scaling
+            int gwStacks = 0;
+            GrievousWoundsEffect wounds = stateFor(level).grievousWounds.get(living.getUUID());
+            if (wounds != null) {
+                gwStacks = wounds.stacks;
             }
+            
+            float finalDamage = pool.damage(slot) * (1.0f + gwStacks * 0.3f);
+            living.hurt(owner.damageSources().playerAttack(owner), finalDamage);
+            
+            // Stick to entity - explode after 2.5 seconds (50 ticks)
+            pool.setFlag(slot, ProjectileEngine.FLAG_STUCK);
+            pool.setTarget(slot, living);
+            pool.setMarker(slot, pool.ticksAlive(slot));
+            pool.setMaxTicks(slot, pool.ticksAlive(slot) + 50);
+            pool.setVelocity(slot, 0, 0, 0);
+            
+            // Impact effect - show blade sticking
+            sendParticles(level, createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
+                    position.x, position.y, position.z, 15, 0.3, 0.3, 0.3, 0.1);
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+                    position.x, position.y, position.z, 1, 0, 0, 0, 0);
+            
+            return true;
         }
         
         // Check for block collision
-        var blockHit = proj.level.clip(new net.minecraft.world.level.ClipContext(
-                proj.position.subtract(proj.direction.scale(0.5)),
-                proj.position,
+        var blockHit = level.clip(new net.minecraft.world.level.ClipContext(
+                pool.previousPosition(slot),
+                position,
                 net.minecraft.world.level.ClipContext.Block.COLLIDER,
                 net.minecraft.world.level.ClipContext.Fluid.NONE,
-                proj.owner));
+                owner));
         
         if (blockHit.getType() == net.minecraft.world.phys.HitResult.Type.BLOCK) {
-            proj.level.sendParticles(createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
+            sendParticles(level, createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
                     blockHit.getLocation().x, blockHit.getLocation().y, blockHit.getLocation().z,
                     20, 0.4, 0.4, 0.4, 0.15);
             return false;
         }
         
-        // Spawn sword-shaped trail particles (actual sword visual in flight)
-        if (proj.ticksAlive % 2 == 0) {
-            // Draw a larger sword blade shape with handle
-            // Blade - vertical line of particles
-            for (int i = 0; i < 6; i++) {
-                double offsetY = i * 0.15 - 0.3;
-                float size = (i < 5) ? 0.8f : 0.5f; // Tip is smaller
-                proj.level.sendParticles(createDustParticle(0.8f, 0.1f, 0.1f, size),
-                        proj.position.x, proj.position.y + offsetY, proj.position.z, 
-                        1, 0.03, 0.02, 0.03, 0);
-            }
-            // Handle/hilt
-            proj.level.sendParticles(createDustParticle(0.4f, 0.3f, 0.2f, 0.6f),
-                    proj.position.x, proj.position.y - 0.45, proj.position.z, 
-                    2, 0.05, 0.02, 0.05, 0);
-            // Cross guard
-            proj.level.sendParticles(createDustParticle(0.5f, 0.4f, 0.2f, 0.5f),
-                    proj.position.x + 0.1, proj.position.y - 0.35, proj.position.z, 
-                    1, 0.01, 0.01, 0.01, 0);
-            proj.level.sendParticles(createDustParticle(0.5f, 0.4f, 0.2f, 0.5f),
-                    proj.position.x - 0.1, proj.position.y - 0.35, proj.position.z, 
-                    1, 0.01, 0.01, 0.01, 0);
-            // Metal blade edge particles - larger
-            proj.level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
-                    net.minecraft.core.particles.ParticleTypes.BLOCK,
-                    net.minecraft.world.level.block.Blocks.IRON_BLOCK.defaultBlockState()),
-                    proj.position.x, proj.position.y + 0.2, proj.position.z, 3, 0.1, 0.2, 0.1, 0.02);
-            // Blood trail behind sword
-            proj.level.sendParticles(createDustParticle(0.6f, 0.0f, 0.0f, 0.7f),
-                    proj.position.x - proj.direction.x * 0.5, proj.position.y, proj.position.z - proj.direction.z * 0.5, 
-                    3, 0.1, 0.1, 0.1, 0.02);
-        }
+        // Spawn sword-shaped trail particles every tick (actual sword visual in flight)
+        // Draw a larger sword blade shape with handle
+        // Blade - vertical line of particles
+        for (int i = 0; i < 6; i++) {
+            double offsetY = i * 0.15 - 0.3;
+            float size = (i < 5) ? 0.8f : 0.5f; // Tip is smaller
+            sendParticles(level, createDustParticle(0.8f, 0.1f, 0.1f, size),
+                    position.x, position.y + offsetY, position.z, 
+                    1, 0.03, 0.02, 0.03, 0);
+        }
+        // Handle/hilt
+        sendParticles(level, createDustParticle(0.4f, 0.3f, 0.2f, 0.6f),
+                position.x, position.y - 0.45, position.z, 
+                2, 0.05, 0.02, 0.05, 0);
+        // Cross guard
+        sendParticles(level, createDustParticle(0.5f, 0.4f, 0.2f, 0.5f),
+                position.x + 0.1, position.y - 0.35, position.z, 
+                1, 0.01, 0.01, 0.01, 0);
+        sendParticles(level, createDustParticle(0.5f, 0.4f, 0.2f, 0.5f),
+                position.x - 0.1, position.y - 0.35, position.z, 
+                1, 0.01, 0.01, 0.01, 0);
+        // Metal blade edge particles - larger
+        sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
+                net.minecraft.core.particles.ParticleTypes.BLOCK,
+                net.minecraft.world.level.block.Blocks.IRON_BLOCK.defaultBlockState()),
+                position.x, position.y + 0.2, position.z, 3, 0.1, 0.2, 0.1, 0.02);
+        // Blood trail behind sword
+        sendParticles(level, createDustParticle(0.6f, 0.0f, 0.0f, 0.7f),
+                position.x - direction.x * 0.5, position.y, position.z - direction.z * 0.5, 
+                3, 0.1, 0.1, 0.1, 0.02);
         
         // Rotating spin effect every tick
-        double spinAngle = (proj.ticksAlive * 0.5) % (2 * Math.PI);
+        double spinAngle = pool.ticksAlive(slot) % (2 * Math.PI);
         double spinRadius = 0.3;
-        double spinX = proj.position.x + Math.cos(spinAngle) * spinRadius;
-        double spinZ = proj.position.z + Math.sin(spinAngle) * spinRadius;
-        proj.level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
-                spinX, proj.position.y, spinZ, 1, 0.02, 0.02, 0.02, 0);
+        double spinX = position.x + Math.cos(spinAngle) * spinRadius;
+        double spinZ = position.z + Math.sin(spinAngle) * spinRadius;
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
+                spinX, position.y, spinZ, 1, 0.02, 0.02, 0.02, 0);
         
         return true;
     }
@@ -6855,8 +6479,9 @@ public class ModMessages {
                 if (dist <= radius) {
                     // Get GRIEVOUS WOUNDS stacks for damage scaling
                     int gwStacks = 0;
-                    if (activeGrievousWounds.containsKey(entity.getUUID())) {
-                        gwStacks = activeGrievousWounds.get(entity.getUUID()).stacks;
+                    GrievousWoundsEffect wounds = stateFor(level).grievousWounds.get(entity.getUUID());
+                    if (wounds != null) {
+                        gwStacks = wounds.stacks;
                     }
                     
                     float finalDamage = damage * (1.0f + gwStacks * 0.3f);
@@ -6866,35 +6491,35 @@ public class ModMessages {
         }
         
         // Bigger explosion visual with multiple explosions
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION_EMITTER,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION_EMITTER,
                 center.x, center.y, center.z, 1, 0, 0, 0, 0);
         
         // Multiple smaller explosions around
         for (int i = 0; i < 4; i++) {
             double offsetX = (RANDOM.nextDouble() - 0.5) * 2;
             double offsetZ = (RANDOM.nextDouble() - 0.5) * 2;
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                     center.x + offsetX, center.y, center.z + offsetZ, 1, 0, 0, 0, 0);
         }
         
         // Large blood burst
-        level.sendParticles(createDustParticle(0.8f, 0.0f, 0.0f, 1.8f),
+        sendParticles(level, createDustParticle(0.8f, 0.0f, 0.0f, 1.8f),
                 center.x, center.y, center.z, 60, 1.2, 1.0, 1.2, 0.25);
         
         // Blood concrete particles
-        level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
+        sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
                 net.minecraft.core.particles.ParticleTypes.BLOCK,
                 net.minecraft.world.level.block.Blocks.RED_CONCRETE.defaultBlockState()),
                 center.x, center.y, center.z, 50, 1.0, 0.8, 1.0, 0.2);
         
         // Iron/metal shrapnel from sword
-        level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
+        sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
                 net.minecraft.core.particles.ParticleTypes.BLOCK,
                 net.minecraft.world.level.block.Blocks.IRON_BLOCK.defaultBlockState()),
                 center.x, center.y, center.z, 20, 0.8, 0.6, 0.8, 0.15);
         
         // Crit particles
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 center.x, center.y + 0.5, center.z, 25, 1.0, 0.5, 1.0, 0.3);
     }
     
@@ -6903,7 +6528,7 @@ public class ModMessages {
      */
     public static void updateStatusEffects(ServerLevel level) {
         // Update BLEED effects
-        Iterator<Map.Entry<UUID, BleedEffect>> bleedIterator = activeBleedEffects.entrySet().iterator();
+        Iterator<Map.Entry<UUID, BleedEffect>> bleedIterator = stateFor(level).bleedEffects.entrySet().iterator();
         while (bleedIterator.hasNext()) {
             Map.Entry<UUID, BleedEffect> entry = bleedIterator.next();
             BleedEffect bleed = entry.getValue();
@@ -6916,7 +6541,7 @@ public class ModMessages {
                     living.hurt(level.damageSources().magic(), 1.0f);
                     
                     // Bleed visual
-                    level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
+                    sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
                             net.minecraft.core.particles.ParticleTypes.BLOCK,
                             net.minecraft.world.level.block.Blocks.RED_CONCRETE.defaultBlockState()),
                             living.getX(), living.getY() + living.getBbHeight() * 0.5, living.getZ(),
@@ -6934,73 +6559,75 @@ public class ModMessages {
      * Update Leap landing detection - 3s air time, then crash down at targeted location
      */
     public static void updateWarriorLeaps(ServerLevel level) {
-        for (ServerPlayer player : level.players()) {
-            if (player.getPersistentData().getBoolean("warrior_leaping")) {
-                long leapTime = player.getPersistentData().getLong("warrior_leap_time");
-                long currentTime = level.getGameTime();
-                long airTime = currentTime - leapTime;
+        Iterator<ServerPlayer> iterator = leapingPlayers.iterator();
+        while (iterator.hasNext()) {
+            ServerPlayer player = iterator.next();
+            PlayerAbilityState abilityState = player.getData(ModAttachments.ABILITY_STATE);
+            if (player.isRemoved() || !abilityState.isLeaping()) {
+                // Logged out, died or leap ended elsewhere
+                iterator.remove();
+                continue;
+            }
+            // Leaps are ticked by the level the player is currently in
+            if (player.serverLevel() != level) {
+                continue;
+            }
+            long leapTime = abilityState.getLeapStartTime();
+            long currentTime = level.getGameTime();
+            long airTime = currentTime - leapTime;
+            
+            // After 3 seconds (60 ticks) in air, launch towards targeted location
+            if (airTime >= 60) {
+                // Calculate target position based on current look direction (max 10 blocks)
+                Vec3 lookVec = player.getLookAngle();
+                Vec3 horizontalLook = new Vec3(lookVec.x, 0, lookVec.z).normalize();
+                Vec3 targetPos = player.position().add(horizontalLook.scale(10.0));
                 
-                // After 3 seconds (60 ticks) in air, launch towards targeted location
-                if (airTime >= 60) {
-                    // Calculate target position based on current look direction (max 10 blocks)
-                    Vec3 lookVec = player.getLookAngle();
-                    Vec3 horizontalLook = new Vec3(lookVec.x, 0, lookVec.z).normalize();
-                    Vec3 targetPos = player.position().add(horizontalLook.scale(10.0));
-                    
-                    // Find ground level at target position
-                    int targetGroundY = level.getHeight(net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE, 
-                            (int) targetPos.x, (int) targetPos.z);
-                    targetPos = new Vec3(targetPos.x, targetGroundY, targetPos.z);
-                    
-                    // Calculate launch velocity towards target
-                    Vec3 currentPos = player.position();
-                    Vec3 toTarget = targetPos.subtract(currentPos).normalize();
-                    
-                    // Launch player towards target with strong velocity
-                    double launchSpeed = 2.5; // Fast horizontal launch
-                    double downwardSpeed = -1.5; // Downward component
-                    player.setDeltaMovement(toTarget.x * launchSpeed, downwardSpeed, toTarget.z * launchSpeed);
-                    player.hurtMarked = true;
-                    
-                    // Mark to prevent fall damage
-                    player.getPersistentData().putBoolean("warrior_leap_no_fall_damage", true);
-                    
-                    // Deal 200% damage and slow for 2s at impact
-                    float damage = player.getPersistentData().getFloat("warrior_leap_damage");
-                    dealDamageToNearbyEnemies(player, damage, 5.0);
-                    applyEffectToNearbyEnemies(player, MobEffects.MOVEMENT_SLOWDOWN, 40, 1, 5.0); // 2 seconds slow
-                    
-                    // Landing effect with lighter red
-                    spawnLeapLandingEffect(level, player.position());
-                    
-                    // Clear flags
-                    player.getPersistentData().remove("warrior_leaping");
-                    player.getPersistentData().remove("warrior_leap_time");
-                    player.getPersistentData().remove("warrior_leap_damage");
-                    player.getPersistentData().remove("warrior_leap_yaw");
-                    player.getPersistentData().remove("warrior_leap_pitch");
-                    player.getPersistentData().remove("warrior_leap_no_fall_damage");
-                    
-                    // Remove slow falling
-                    player.removeEffect(MobEffects.SLOW_FALLING);
-                    
-                    player.displayClientMessage(net.minecraft.network.chat.Component.literal("§c§l💥 CRASH DOWN!"), true);
-                } else if (player.onGround() && airTime > 10) {
-                    // If player lands early (after at least 0.5s), still do crash effect
-                    float damage = player.getPersistentData().getFloat("warrior_leap_damage");
-                    dealDamageToNearbyEnemies(player, damage, 5.0);
-                    applyEffectToNearbyEnemies(player, MobEffects.MOVEMENT_SLOWDOWN, 40, 1, 5.0);
-                    spawnLeapLandingEffect(level, player.position());
-                    
-                    // Clear flags
-                    player.getPersistentData().remove("warrior_leaping");
-                    player.getPersistentData().remove("warrior_leap_time");
-                    player.getPersistentData().remove("warrior_leap_damage");
-                    player.getPersistentData().remove("warrior_leap_yaw");
-                    player.getPersistentData().remove("warrior_leap_pitch");
-                    player.getPersistentData().remove("warrior_leap_no_fall_damage");
-                    player.removeEffect(MobEffects.SLOW_FALLING);
-                }
+                // Find ground level at target position
+                int targetGroundY = level.getHeight(net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE, 
+                        (int) targetPos.x, (int) targetPos.z);
+                targetPos = new Vec3(targetPos.x, targetGroundY, targetPos.z);
+                
+                // Calculate launch velocity towards target
+                Vec3 currentPos = player.position();
+                Vec3 toTarget = targetPos.subtract(currentPos).normalize();
+                
+                // Launch player towards target with strong velocity
+                double launchSpeed = 2.5; // Fast horizontal launch
+                double downwardSpeed = -1.5; // Downward component
+                player.setDeltaMovement(toTarget.x * launchSpeed, downwardSpeed, toTarget.z * launchSpeed);
+                player.hurtMarked = true;
+                
+                // Mark to prevent fall damage
+                abilityState.setLeapNoFallDamage(true);
+                
+                // Deal 200% damage and slow for 2s at impact
+                float damage = abilityState.getLeapDamage();
+                dealDamageToNearbyEnemies(player, damage, 5.0);
+                applyEffectToNearbyEnemies(player, MobEffects.MOVEMENT_SLOWDOWN, 40, 1, 5.0); // 2 seconds slow
+                
+                // Landing effect with lighter red
+                spawnLeapLandingEffect(level, player.position());
+                
+                // Clear flags
+                abilityState.endLeap();
+                iterator.remove();
+                
+                // Remove slow falling
+                player.removeEffect(MobEffects.SLOW_FALLING);
+                
+                player.displayClientMessage(net.minecraft.network.chat.Component.literal("§c§l💥 CRASH DOWN!"), true);
+            } else if (player.onGround() && airTime > 10) {
+                // If player lands early (after at least 0.5s), still do crash effect
+                float damage = abilityState.getLeapDamage();
+                dealDamageToNearbyEnemies(player, damage, 5.0);
+                applyEffectToNearbyEnemies(player, MobEffects.MOVEMENT_SLOWDOWN, 40, 1, 5.0);
+                spawnLeapLandingEffect(level, player.position());
+                
+                // Clear flags
+                abilityState.endLeap();
+                iterator.remove();
+                player.removeEffect(MobEffects.SLOW_FALLING);
             }
         }
     }
@@ -7018,19 +6645,19 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 0.8f),
+                sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 0.8f),
                         x, center.y + 0.1, z, 3, 0.05, 0.02, 0.05, 0.02);
-                level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                         x, center.y + 0.1, z, 2, 0.05, 0.02, 0.05, 0.01);
             }
         }
         
         // Central explosion
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                 center.x, center.y + 0.5, center.z, 3, 0.5, 0.2, 0.5, 0);
         
         // Upward burst with lighter red
-        level.sendParticles(createDustParticle(1.0f, 0.2f, 0.2f, 1.2f),
+        sendParticles(level, createDustParticle(1.0f, 0.2f, 0.2f, 1.2f),
                 center.x, center.y, center.z, 50, 0.5, 0.3, 0.5, 0.2);
     }
     
@@ -7038,7 +6665,7 @@ public class ModMessages {
      * Update Lancer abilities (Piercing Charge and Comet impact)
      */
     public static void updateLancerAbilities(ServerLevel level) {
-        for (ServerPlayer player : level.players()) {
+        for (ServerPlayer player : ClassRoster.getPlayers(level, ClassType.LANCER)) {
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
             
             // Handle Piercing Charge
@@ -7048,8 +6675,7 @@ public class ModMessages {
                 // Check timeout (8 seconds = 160 ticks)
                 if (chargeTime >= 160) {
                     rpgData.setInPiercingCharge(false);
-                    rpgData.setAbilityCooldown("lancer_ability_1", 300); // 15s cooldown
-                    sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), player);
+                    rpgData.setAbilityCooldown("lancer_ability_1", 300, player.level().getGameTime()); // 15s cooldown
                     player.displayClientMessage(net.minecraft.network.chat.Component.literal(
                             "§ePiercing Charge ended!"), true);
                     continue;
@@ -7061,8 +6687,7 @@ public class ModMessages {
                 if (horizontalSpeed < 0.05) {
                     // Hit a wall - stop charging
                     rpgData.setInPiercingCharge(false);
-                    rpgData.setAbilityCooldown("lancer_ability_1", 300); // 15s cooldown
-                    sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), player);
+                    rpgData.setAbilityCooldown("lancer_ability_1", 300, player.level().getGameTime()); // 15s cooldown
                     player.displayClientMessage(net.minecraft.network.chat.Component.literal(
                             "§cPiercing Charge §7stopped by wall!"), true);
                     
@@ -7074,13 +6699,14 @@ public class ModMessages {
                 // Spawn spear-like aura visual in front
                 Vec3 lookVec = player.getLookAngle();
                 Vec3 spearTip = player.position().add(0, player.getEyeHeight(), 0).add(lookVec.scale(2.0));
-                level.sendParticles(createDustParticle(1.0f, 1.0f, 0.3f, 0.8f),
+                sendParticles(level, createDustParticle(1.0f, 1.0f, 0.3f, 0.8f),
                         spearTip.x, spearTip.y, spearTip.z, 3, 0.1, 0.1, 0.1, 0);
                 
                 // Check for enemies hit
                 AABB hitBox = player.getBoundingBox().inflate(2.0);
                 List<Entity> entities = level.getEntities(player, hitBox, 
                         e -> e instanceof LivingEntity && e != player);
+                TickProfiler.count(TickProfiler.Counter.ENTITIES_SCANNED, entities.size());
                 
                 for (Entity entity : entities) {
                     if (entity instanceof LivingEntity living) {
@@ -7101,8 +6727,7 @@ public class ModMessages {
                             // Stop and deal full damage
                             rpgData.setInPiercingCharge(false);
                             living.hurt(player.damageSources().playerAttack(player), totalDamage);
-                            rpgData.setAbilityCooldown("lancer_ability_1", 300); // 15s cooldown
-                            sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), player);
+                            rpgData.setAbilityCooldown("lancer_ability_1", 300, player.level().getGameTime()); // 15s cooldown
                             
                             // Stop player
                             player.setDeltaMovement(0, player.getDeltaMovement().y, 0);
@@ -7129,11 +6754,12 @@ public class ModMessages {
             }
             
             // Handle Comet impact
-            if (player.getPersistentData().getBoolean("lancer_comet_active")) {
+            PlayerAbilityState abilityState = player.getData(ModAttachments.ABILITY_STATE);
+            if (abilityState.isCometActive()) {
                 if (player.onGround()) {
                     // Impact!
-                    float cometDamage = player.getPersistentData().getFloat("lancer_comet_damage");
-                    float cometMomentum = player.getPersistentData().getFloat("lancer_comet_momentum");
+                    float cometDamage = abilityState.getCometDamage();
+                    float cometMomentum = abilityState.getCometMomentum();
                     
                     // Deal shockwave damage in radius
                     dealDamageToNearbyEnemies(player, cometDamage, 6.0);
@@ -7152,19 +6778,18 @@ public class ModMessages {
                             double x = player.getX() + Math.cos(angle) * radius;
                             double z = player.getZ() + Math.sin(angle) * radius;
                             
-                            level.sendParticles(createDustParticle(1.0f, 1.0f, 0.2f, 1.0f),
+                            sendParticles(level, createDustParticle(1.0f, 1.0f, 0.2f, 1.0f),
                                     x, player.getY() + 0.1, z, 3, 0.05, 0.02, 0.05, 0.02);
-                            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+                            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                                     x, player.getY() + 0.1, z, 2, 0.05, 0.02, 0.05, 0.01);
                         }
                     }
                     
                     // Central explosion
-                    level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+                    sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                             player.getX(), player.getY() + 0.5, player.getZ(), 5, 0.5, 0.2, 0.5, 0);
                     
-                    player.getPersistentData().remove("lancer_comet_active");
-                    player.getPersistentData().remove("lancer_comet_damage");
+                    abilityState.endComet();
                     
                     player.displayClientMessage(net.minecraft.network.chat.Component.literal(
                             "§e§l💥 COMET IMPACT!"), true);
@@ -7177,119 +6802,97 @@ public class ModMessages {
      * Update Ravager Heartstopper charging
      */
     public static void updateRavagerHeartstoppers(ServerLevel level) {
-        for (ServerPlayer player : level.players()) {
+        Iterator<ServerPlayer> iterator = heartstopperPlayers.iterator();
+        while (iterator.hasNext()) {
+            ServerPlayer player = iterator.next();
             UUID playerUuid = player.getUUID();
+            PlayerAbilityState abilityState = player.getData(ModAttachments.ABILITY_STATE);
             
-            if (player.getPersistentData().getBoolean("ravager_heartstopper_charging")) {
-                long startTime = player.getPersistentData().getLong("ravager_heartstopper_start");
-                long currentTime = level.getGameTime();
-                long elapsed = currentTime - startTime;
-                
-                // Create boss bar if it doesn't exist
-                if (!heartstopperBossBars.containsKey(playerUuid)) {
-                    ServerBossEvent bossBar = new ServerBossEvent(
-                            Component.literal("§c§lHEARTSTOPPER CHARGING"),
-                            BossEvent.BossBarColor.RED,
-                            BossEvent.BossBarOverlay.PROGRESS
-                    );
-                    bossBar.addPlayer(player);
-                    heartstopperBossBars.put(playerUuid, bossBar);
-                }
-                
-                // Update boss bar progress (0% to 100% over 60 ticks)
-                ServerBossEvent bossBar = heartstopperBossBars.get(playerUuid);
+            if (player.isRemoved() || !abilityState.isHeartstopperCharging()) {
+                // Logged out, died or charge ended elsewhere - cleanup boss bar and indicator if they exist
+                ServerBossEvent bossBar = heartstopperBossBars.remove(playerUuid);
                 if (bossBar != null) {
-                    float progress = Math.min(1.0f, (float) elapsed / 60.0f);
-                    bossBar.setProgress(progress);
+                    bossBar.removeAllPlayers();
                 }
+                stopHeartstopperIndicator(level, playerUuid);
+                iterator.remove();
+                continue;
+            }
+            if (player.serverLevel() != level) {
+                continue;
+            }
+            
+            long startTime = abilityState.getHeartstopperStartTime();
+            long currentTime = level.getGameTime();
+            long elapsed = currentTime - startTime;
+            
+            // Create boss bar if it doesn't exist
+            if (!heartstopperBossBars.containsKey(playerUuid)) {
+                ServerBossEvent bossBar = new ServerBossEvent(
+                        Component.literal("§c§lHEARTSTOPPER CHARGING"),
+                        BossEvent.BossBarColor.RED,
+                        BossEvent.BossBarOverlay.PROGRESS
+                );
+                bossBar.addPlayer(player);
+                heartstopperBossBars.put(playerUuid, bossBar);
                 
-                // Use CURRENT player position plus 1 block in front
-                Vec3 currentPos = player.position();
-                float currentYaw = player.getYRot();
-                double yawRad = Math.toRadians(currentYaw);
-                Vec3 forward = new Vec3(-Math.sin(yawRad), 0, Math.cos(yawRad));
-                Vec3 aoeCenterPos = currentPos.add(forward.scale(1.0)); // 1 block in front
+                // Red rectangle AOE indicator, redrawn by clients in front of the player until the slam
+                int handle = startClientEffect(level, PacketStartEffect.Kind.HEARTSTOPPER_INDICATOR,
+                        player, null, player.position(), player.getYRot(), 0, (int) Math.max(1, 60 - elapsed));
+                heartstopperEffectHandles.put(playerUuid, handle);
+            }
+            
+            // Update boss bar progress (0% to 100% over 60 ticks)
+            ServerBossEvent bossBar = heartstopperBossBars.get(playerUuid);
+            if (bossBar != null) {
+                float progress = Math.min(1.0f, (float) elapsed / 60.0f);
+                bossBar.setProgress(progress);
+            }
+            
+            // Use CURRENT player position plus 1 block in front
+            Vec3 currentPos = player.position();
+            float currentYaw = player.getYRot();
+            double yawRad = Math.toRadians(currentYaw);
+            Vec3 forward = new Vec3(-Math.sin(yawRad), 0, Math.cos(yawRad));
+            Vec3 aoeCenterPos = currentPos.add(forward.scale(1.0)); // 1 block in front
+            
+            // After 3 seconds (60 ticks), execute
+            if (elapsed >= 60) {
+                float damage = abilityState.getHeartstopperDamage();
                 
-                // Show red rectangle AOE indicator at position 1 block in front
-                if (elapsed % 10 == 0) {
-                    spawnHeartstopperAOEIndicator(level, aoeCenterPos, currentYaw);
-                }
+                // Deal damage in rectangular AOE 1 block in front of player
+                dealHeartstopperDamage(player, level, aoeCenterPos, currentYaw, damage);
                 
-                // After 3 seconds (60 ticks), execute
-                if (elapsed >= 60) {
-                    float damage = player.getPersistentData().getFloat("ravager_heartstopper_damage");
-                    
-                    // Deal damage in rectangular AOE 1 block in front of player
-                    dealHeartstopperDamage(player, level, aoeCenterPos, currentYaw, damage);
-                    
-                    // Heal for BLEED and GRIEVOUS WOUNDS stacks
-                    float healing = calculateHeartstopperHealing(level, aoeCenterPos, currentYaw);
-                    player.heal(healing);
-                    
-                    // Final slam effect 1 block in front
-                    spawnHeartstopperSlamEffect(level, aoeCenterPos, currentYaw);
-                    
-                    // Clear flags
-                    player.getPersistentData().remove("ravager_heartstopper_charging");
-                    player.getPersistentData().remove("ravager_heartstopper_start");
-                    player.getPersistentData().remove("ravager_heartstopper_damage");
-                    
-                    // Remove boss bar
-                    if (bossBar != null) {
-                        bossBar.removeAllPlayers();
-                        heartstopperBossBars.remove(playerUuid);
-                    }
-                    
-                    player.displayClientMessage(Component.literal("§c§l☠ HEARTSTOPPER! §a+" + String.format("%.1f", healing) + " HP"), true);
-                }
-            } else {
-                // Player is not charging - cleanup boss bar if it exists
-                ServerBossEvent bossBar = heartstopperBossBars.get(playerUuid);
+                // Heal for BLEED and GRIEVOUS WOUNDS stacks
+                float healing = calculateHeartstopperHealing(level, aoeCenterPos, currentYaw);
+                player.heal(healing);
+                
+                // Final slam effect 1 block in front
+                spawnHeartstopperSlamEffect(level, aoeCenterPos, currentYaw);
+                
+                // Clear flags
+                abilityState.endHeartstopper();
+                iterator.remove();
+                
+                // Remove boss bar and indicator
                 if (bossBar != null) {
                     bossBar.removeAllPlayers();
                     heartstopperBossBars.remove(playerUuid);
                 }
+                stopHeartstopperIndicator(level, playerUuid);
+                
+                player.displayClientMessage(Component.literal("§c§l☠ HEARTSTOPPER! §a+" + String.format("%.1f", healing) + " HP"), true);
             }
         }
     }
     
     /**
-     * Spawn Heartstopper AOE indicator
+     * Stop the client-animated Heartstopper AOE indicator of a player
      */
-    private static void spawnHeartstopperAOEIndicator(ServerLevel level, Vec3 center, float yaw) {
-        double length = 6.0;
-        double width = 4.0;
-        double yawRad = Math.toRadians(yaw);
-        Vec3 forward = new Vec3(-Math.sin(yawRad), 0, Math.cos(yawRad));
-        Vec3 right = new Vec3(Math.cos(yawRad), 0, Math.sin(yawRad));
-        
-        // Rectangle starts at center (1 block in front of player) and extends forward
-        // The back edge of the rectangle is at the center position
-        
-        // Draw rectangle outline
-        int lengthPoints = 12;
-        int widthPoints = 8;
-        
-        for (int i = 0; i <= lengthPoints; i++) {
-            double progress = (double) i / lengthPoints; // 0 to 1 instead of -0.5 to 0.5
-            Vec3 pos1 = center.add(forward.scale(progress * length)).add(right.scale(-width / 2));
-            Vec3 pos2 = center.add(forward.scale(progress * length)).add(right.scale(width / 2));
-            
-            level.sendParticles(createDustParticle(0.8f, 0.0f, 0.0f, 0.6f),
-                    pos1.x, pos1.y + 0.1, pos1.z, 1, 0.02, 0.01, 0.02, 0);
-            level.sendParticles(createDustParticle(0.8f, 0.0f, 0.0f, 0.6f),
-                    pos2.x, pos2.y + 0.1, pos2.z, 1, 0.02, 0.01, 0.02, 0);
-        }
-        
-        for (int i = 0; i <= widthPoints; i++) {
-            double progress = (double) i / widthPoints - 0.5;
-            Vec3 pos1 = center.add(right.scale(progress * width)); // Back edge at center
-            Vec3 pos2 = center.add(forward.scale(length)).add(right.scale(progress * width)); // Front edge
-            
-            level.sendParticles(createDustParticle(0.8f, 0.0f, 0.0f, 0.6f),
-                    pos1.x, pos1.y + 0.1, pos1.z, 1, 0.02, 0.01, 0.02, 0);
-            level.sendParticles(createDustParticle(0.8f, 0.0f, 0.0f, 0.6f),
-                    pos2.x, pos2.y + 0.1, pos2.z, 1, 0.02, 0.01, 0.02, 0);
+    private static void stopHeartstopperIndicator(ServerLevel level, UUID playerUuid) {
+        Integer handle = heartstopperEffectHandles.remove(playerUuid);
+        if (handle != null) {
+            stopClientEffect(level, handle);
         }
     }
     
@@ -7346,6 +6949,7 @@ public class ModMessages {
                 e -> e instanceof LivingEntity);
         
         int totalStacks = 0;
+        LevelAbilityState state = stateFor(level);
         
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity living) {
@@ -7358,13 +6962,13 @@ public class ModMessages {
                     UUID entityId = entity.getUUID();
                     
                     // Count BLEED
-                    if (activeBleedEffects.containsKey(entityId)) {
+                    if (state.bleedEffects.containsKey(entityId)) {
                         totalStacks++;
                     }
                     
                     // Count GRIEVOUS WOUNDS stacks
-                    if (activeGrievousWounds.containsKey(entityId)) {
-                        totalStacks += activeGrievousWounds.get(entityId).stacks;
+                    if (state.grievousWounds.containsKey(entityId)) {
+                        totalStacks += state.grievousWounds.get(entityId).stacks;
                     }
                 }
             }
@@ -7389,235 +6993,192 @@ public class ModMessages {
             double rightOffset = (RANDOM.nextDouble() - 0.5) * width;
             Vec3 pos = center.add(forward.scale(forwardOffset)).add(right.scale(rightOffset));
             
-            level.sendParticles(createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
+            sendParticles(level, createDustParticle(0.7f, 0.0f, 0.0f, 1.2f),
                     pos.x, pos.y + 0.1, pos.z, 5, 0.1, 0.3, 0.1, 0.1);
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                     pos.x, pos.y + 0.1, pos.z, 3, 0.1, 0.3, 0.1, 0.05);
         }
         
         // Bleed particles - adjust center forward by half length to match new rectangle position
         Vec3 effectCenter = center.add(forward.scale(length / 2));
-        level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
+        sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
                 net.minecraft.core.particles.ParticleTypes.BLOCK,
                 net.minecraft.world.level.block.Blocks.RED_CONCRETE.defaultBlockState()),
                 effectCenter.x, effectCenter.y + 1, effectCenter.z, 40, length / 4, 0.5, width / 4, 0.2);
         
         // Explosion
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION,
                 effectCenter.x, effectCenter.y + 0.5, effectCenter.z, 5, length / 4, 0.2, width / 4, 0);
     }
     
     /**
-     * Update Tearing Hook pulls
+     * Execute a scheduled Tearing Hook pull
      */
-    public static void updateTearingHookPulls(ServerLevel level) {
-        long currentTime = level.getGameTime();
-        Iterator<TearingHookPull> iterator = scheduledHookPulls.iterator();
+    private static void executeTearingHookPull(ServerLevel level, ServerPlayer owner, LivingEntity target, boolean pullPlayerToTarget) {
+        if (!target.isAlive() || !owner.isAlive()) {
+            return;
+        }
+        Vec3 targetPos = target.position();
+        Vec3 ownerPos = owner.position();
         
-        while (iterator.hasNext()) {
-            TearingHookPull pull = iterator.next();
-            
-            if (currentTime >= pull.executeAt) {
-                if (pull.target.isAlive() && pull.owner.isAlive()) {
-                    Vec3 targetPos = pull.target.position();
-                    Vec3 ownerPos = pull.owner.position();
-                    
-                    if (pull.pullPlayerToTarget) {
-                        // Pull player to target
-                        Vec3 direction = targetPos.subtract(ownerPos).normalize();
-                        pull.owner.setDeltaMovement(direction.scale(2.0));
-                        pull.owner.hurtMarked = true;
-                        
-                        // Red chain visual
-                        spawnTearingHookChain(level, ownerPos.add(0, pull.owner.getEyeHeight(), 0),
-                                targetPos.add(0, pull.target.getBbHeight() * 0.5, 0), true);
-                    } else {
-                        // Pull target to player
-                        Vec3 direction = ownerPos.subtract(targetPos).normalize();
-                        pull.target.setDeltaMovement(direction.scale(2.0).add(0, 0.3, 0));
-                        pull.target.hurtMarked = true;
-                        
-                        // Red chain visual
-                        spawnTearingHookChain(level, ownerPos.add(0, pull.owner.getEyeHeight(), 0),
-                                targetPos.add(0, pull.target.getBbHeight() * 0.5, 0), true);
-                    }
-                }
-                
-                iterator.remove();
-            }
+        if (pullPlayerToTarget) {
+            // Pull player to target
+            Vec3 direction = targetPos.subtract(ownerPos).normalize();
+            owner.setDeltaMovement(direction.scale(2.0));
+            owner.hurtMarked = true;
+        } else {
+            // Pull target to player
+            Vec3 direction = ownerPos.subtract(targetPos).normalize();
+            target.setDeltaMovement(direction.scale(2.0).add(0, 0.3, 0));
+            target.hurtMarked = true;
         }
+        
+        // Red chain visual
+        spawnTearingHookChain(level, ownerPos.add(0, owner.getEyeHeight(), 0),
+                targetPos.add(0, target.getBbHeight() * 0.5, 0), true);
     }
     
     // ===== BERSERKER ABILITY HELPER METHODS AND DATA STRUCTURES =====
     
-    /**
-     * Axe Throw projectile data
-     */
-    public static class AxeThrowProjectile {
-        public final ServerPlayer owner;
-        public final ServerLevel level;
-        public Vec3 position;
-        public Vec3 direction;
-        public final float damage;
-        public int ticksAlive;
-        public final int maxOutTicks; // Max ticks before returning
-        public final float speed;
-        public boolean returning;
-        public final List<UUID> hitEntitiesOutbound;
-        public final List<UUID> hitEntitiesReturn;
-        public final Vec3 startPos;
-        
-        public AxeThrowProjectile(ServerPlayer owner, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-            this.owner = owner;
-            this.level = level;
-            this.position = startPos;
-            this.direction = direction.normalize();
-            this.damage = damage;
-            this.ticksAlive = 0;
-            this.maxOutTicks = AXE_MAX_OUT_TICKS;
-            this.speed = 0.7f;
-            this.returning = false;
-            this.hitEntitiesOutbound = new ArrayList<>();
-            this.hitEntitiesReturn = new ArrayList<>();
-            this.startPos = startPos;
+    // Berserker Axe Throw - pierces outward, then returns to the thrower and restores the charge
+    private static final ProjectileEngine.Behaviour AXE_THROW_BEHAVIOUR = new ProjectileEngine.Behaviour() {
+        @Override
+        public boolean steer(ProjectileEngine pool, ServerLevel level, int slot) {
+            ServerPlayer owner = pool.owner(slot);
+            if (!owner.isAlive()) {
+                return false;
+            }
+            if (pool.hasFlag(slot, ProjectileEngine.FLAG_RETURNING)) {
+                // Return to player's chest - slightly faster return
+                Vec3 playerChest = owner.position().add(0, owner.getEyeHeight() - 0.5, 0);
+                pool.steerTowards(slot, playerChest, pool.speed(slot) * 1.2);
+            }
+            return true;
         }
-    }
-    
-    private static final List<AxeThrowProjectile> activeAxeProjectiles = new ArrayList<>();
+        
+        @Override
+        public boolean update(ProjectileEngine pool, ServerLevel level, int slot) {
+            return updateAxeThrowProjectile(pool, level, slot);
+        }
+        
+        @Override
+        public boolean onExpired(ProjectileEngine pool, ServerLevel level, int slot) {
+            // Max distance reached
+            startAxeReturn(pool, slot);
+            return true;
+        }
+        
+        @Override
+        public void onRemoved(ProjectileEngine pool, ServerLevel level, int slot) {
+            onAxeThrowReturned(pool.owner(slot));
+        }
+    };
     
     /**
      * Spawn Axe Throw projectile
      */
     private static void spawnAxeThrowProjectile(ServerPlayer player, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-        AxeThrowProjectile projectile = new AxeThrowProjectile(player, level, startPos, direction, damage);
-        activeAxeProjectiles.add(projectile);
+        stateFor(level).projectiles.spawn(AXE_THROW_BEHAVIOUR, player, startPos, direction, 0.7f, damage, AXE_MAX_OUT_TICKS);
     }
     
     /**
-     * Update all Axe Throw projectiles
+     * Turn an Axe Throw projectile around - it can hit every entity again on the way back
      */
-    public static void updateAxeThrowProjectiles() {
-        Iterator<AxeThrowProjectile> iterator = activeAxeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            AxeThrowProjectile proj = iterator.next();
-            proj.ticksAlive++;
-            
-            if (!updateAxeThrowProjectile(proj)) {
-                // Projectile returned - restore charge and apply cooldown
-                var rpgData = proj.owner.getData(ModAttachments.PLAYER_RPG);
-                rpgData.restoreAxeThrowCharge();
-                
-                // Apply cooldown when charge is restored (7 seconds base)
-                String abilityId = "berserker_ability_1";
-                int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks("berserker", 1);
-                
-                // Apply cooldown reduction stat
-                var stats = proj.owner.getData(ModAttachments.PLAYER_STATS);
-                int cooldownReduction = stats.getIntStatValue(StatType.COOLDOWN_REDUCTION);
-                int adjustedCooldownTicks = (int) (baseCooldownTicks * (1.0 - cooldownReduction / 100.0));
-                adjustedCooldownTicks = Math.max(adjustedCooldownTicks, 20); // Minimum 1 second cooldown
-                
-                rpgData.setAbilityCooldown(abilityId, adjustedCooldownTicks);
-                
-                // Sync cooldowns to client
-                sendToPlayer(new PacketSyncCooldowns(rpgData.getAllCooldowns()), proj.owner);
-                
-                iterator.remove();
-            }
-        }
+    private static void startAxeReturn(ProjectileEngine pool, int slot) {
+        pool.setFlag(slot, ProjectileEngine.FLAG_RETURNING);
+        pool.clearHits(slot);
+        pool.setMaxTicks(slot, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Axe returned - restore charge and apply cooldown
+     */
+    private static void onAxeThrowReturned(ServerPlayer owner) {
+        var rpgData = owner.getData(ModAttachments.PLAYER_RPG);
+        rpgData.restoreAxeThrowCharge();
+        
+        // Apply cooldown when charge is restored (7 seconds base)
+        String abilityId = "berserker_ability_1";
+        int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks(ClassType.BERSERKER, 1);
+        
+        // Apply cooldown reduction stat
+        var stats = owner.getData(ModAttachments.PLAYER_STATS);
+        int cooldownReduction = stats.getIntStatValue(StatType.COOLDOWN_REDUCTION);
+        int adjustedCooldownTicks = (int) (baseCooldownTicks * (1.0 - cooldownReduction / 100.0));
+        adjustedCooldownTicks = Math.max(adjustedCooldownTicks, 20); // Minimum 1 second cooldown
+        
+        rpgData.setAbilityCooldown(abilityId, adjustedCooldownTicks, owner.level().getGameTime());
     }
     
     /**
      * Update single Axe Throw projectile
      */
-    private static boolean updateAxeThrowProjectile(AxeThrowProjectile proj) {
-        if (!proj.owner.isAlive()) {
-            return false;
-        }
+    private static boolean updateAxeThrowProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        ServerPlayer owner = pool.owner(slot);
+        Vec3 position = pool.position(slot);
         
         // Calculate current target position (player's chest)
-        Vec3 playerChest = proj.owner.position().add(0, proj.owner.getEyeHeight() - 0.5, 0);
+        Vec3 playerChest = owner.position().add(0, owner.getEyeHeight() - 0.5, 0);
         
-        if (!proj.returning) {
-            // Move outward
-            proj.position = proj.position.add(proj.direction.scale(proj.speed));
-            
+        if (!pool.hasFlag(slot, ProjectileEngine.FLAG_RETURNING)) {
             // Check for block collision
-            var blockHit = proj.level.clip(new net.minecraft.world.level.ClipContext(
-                    proj.position.subtract(proj.direction.scale(0.3)),
-                    proj.position,
+            var blockHit = level.clip(new net.minecraft.world.level.ClipContext(
+                    pool.previousPosition(slot),
+                    position,
                     net.minecraft.world.level.ClipContext.Block.COLLIDER,
                     net.minecraft.world.level.ClipContext.Fluid.NONE,
-                    proj.owner));
+                    owner));
             
             if (blockHit.getType() == net.minecraft.world.phys.HitResult.Type.BLOCK) {
-                proj.returning = true;
-            }
-            
-            // Check if max distance reached
-            if (proj.ticksAlive >= proj.maxOutTicks) {
-                proj.returning = true;
-            }
-        } else {
-            // Return to player
-            Vec3 toPlayer = playerChest.subtract(proj.position).normalize();
-            proj.position = proj.position.add(toPlayer.scale(proj.speed * 1.2)); // Slightly faster return
-            
-            // Check if returned to player
-            if (proj.position.distanceTo(playerChest) < 1.5) {
-                return false; // Remove projectile
+                startAxeReturn(pool, slot);
             }
+        } else if (position.distanceTo(playerChest) < 1.5) {
+            // Returned to player
+            return false; // Remove projectile
         }
         
-        // Check for entity collision (pierce through)
-        AABB hitbox = new AABB(
-                proj.position.x - 0.8, proj.position.y - 0.8, proj.position.z - 0.8,
-                proj.position.x + 0.8, proj.position.y + 0.8, proj.position.z + 0.8);
-        
-        List<Entity> entities = proj.level.getEntities(proj.owner, hitbox,
-                e -> e instanceof LivingEntity && e != proj.owner);
+        // Check for entity collision along this tick's movement (pierce through)
+        List<LivingEntity> entities = pool.sweep(slot, 0.8);
         
-        List<UUID> hitList = proj.returning ? proj.hitEntitiesReturn : proj.hitEntitiesOutbound;
-        
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity living && !hitList.contains(entity.getUUID())) {
-                living.hurt(proj.owner.damageSources().playerAttack(proj.owner), proj.damage);
-                hitList.add(entity.getUUID());
+        for (LivingEntity living : entities) {
+            if (pool.markHit(slot, living)) {
+                living.hurt(owner.damageSources().playerAttack(owner), pool.damage(slot));
                 
                 // Impact particles - orange
-                proj.level.sendParticles(createDustParticle(1.0f, 0.5f, 0.0f, 1.0f),
-                        entity.getX(), entity.getY() + entity.getBbHeight() * 0.5, entity.getZ(),
+                sendParticles(level, createDustParticle(1.0f, 0.5f, 0.0f, 1.0f),
+                        living.getX(), living.getY() + living.getBbHeight() * 0.5, living.getZ(),
                         10, 0.3, 0.3, 0.3, 0.1);
-                proj.level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
-                        entity.getX(), entity.getY() + entity.getBbHeight() * 0.5, entity.getZ(),
+                sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
+                        living.getX(), living.getY() + living.getBbHeight() * 0.5, living.getZ(),
                         5, 0.2, 0.2, 0.2, 0.1);
             }
         }
         
         // Spawn visual effect - spinning axe particles and line to player
-        if (proj.ticksAlive % 2 == 0) {
+        int ticksAlive = pool.ticksAlive(slot);
+        if (ticksAlive % 2 == 0) {
             // Spinning axe effect
             int spinParticles = 8;
-            double spinAngle = (proj.ticksAlive * 0.5) % (2 * Math.PI);
+            double spinAngle = (ticksAlive * 0.5) % (2 * Math.PI);
             for (int i = 0; i < spinParticles; i++) {
                 double angle = spinAngle + (i / (double) spinParticles) * 2 * Math.PI;
                 double radius = 0.4;
-                double x = proj.position.x + Math.cos(angle) * radius;
-                double z = proj.position.z + Math.sin(angle) * radius;
+                double x = position.x + Math.cos(angle) * radius;
+                double z = position.z + Math.sin(angle) * radius;
                 
-                proj.level.sendParticles(createDustParticle(1.0f, 0.5f, 0.0f, 0.8f),
-                        x, proj.position.y, z, 1, 0.02, 0.02, 0.02, 0);
+                sendParticles(level, createDustParticle(1.0f, 0.5f, 0.0f, 0.8f),
+                        x, position.y, z, 1, 0.02, 0.02, 0.02, 0);
             }
             
             // Draw particle line to player's chest
-            Vec3 lineDir = playerChest.subtract(proj.position);
+            Vec3 lineDir = playerChest.subtract(position);
             double lineDist = lineDir.length();
             lineDir = lineDir.normalize();
             int linePoints = (int) (lineDist * 2);
             for (int i = 0; i < linePoints; i += 2) {
                 double progress = (double) i / linePoints;
-                Vec3 linePos = proj.position.add(lineDir.scale(progress * lineDist));
-                proj.level.sendParticles(createDustParticle(1.0f, 0.6f, 0.2f, 0.4f),
+                Vec3 linePos = position.add(lineDir.scale(progress * lineDist));
+                sendParticles(level, createDustParticle(1.0f, 0.6f, 0.2f, 0.4f),
                         linePos.x, linePos.y, linePos.z, 1, 0.02, 0.02, 0.02, 0);
             }
         }
@@ -7630,7 +7191,7 @@ public class ModMessages {
      */
     private static void spawnBloodOathEffect(ServerLevel level, Vec3 center) {
         // Blood particles burst from player
-        level.sendParticles(new net.minecraft.core.particles.BlockParticleOption(
+        sendParticles(level, new net.minecraft.core.particles.BlockParticleOption(
                 net.minecraft.core.particles.ParticleTypes.BLOCK,
                 net.minecraft.world.level.block.Blocks.RED_CONCRETE.defaultBlockState()),
                 center.x, center.y + 1, center.z, 40, 0.5, 0.5, 0.5, 0.2);
@@ -7644,7 +7205,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.6f, 0.0f, 0.0f, 1.0f),
+                sendParticles(level, createDustParticle(0.6f, 0.0f, 0.0f, 1.0f),
                         x, center.y + 0.5 + ring * 0.3, z, 2, 0.05, 0.1, 0.05, 0.02);
             }
         }
@@ -7657,7 +7218,7 @@ public class ModMessages {
             double x = center.x + Math.cos(spiralAngle) * spiralRadius;
             double z = center.z + Math.sin(spiralAngle) * spiralRadius;
             
-            level.sendParticles(createDustParticle(1.0f, 0.3f, 0.0f, 0.8f),
+            sendParticles(level, createDustParticle(1.0f, 0.3f, 0.0f, 0.8f),
                     x, center.y + progress * 2.5, z, 2, 0.03, 0.03, 0.03, 0.01);
         }
     }
@@ -7669,43 +7230,22 @@ public class ModMessages {
         int durationTicks = 60; // 3 seconds
         int ticksPerSlash = durationTicks / totalSlashes;
         
-        // Reset slash counter for this player
-        UUID playerUuid = player.getUUID();
-        frenzySlashCounts.put(playerUuid, 0);
-        
-        for (int slash = 0; slash < totalSlashes; slash++) {
-            final int slashIndex = slash;
-            level.getServer().tell(new net.minecraft.server.TickTask(
-                    level.getServer().getTickCount() + slash * ticksPerSlash,
-                    () -> {
-                        if (!player.isAlive()) {
-                            // Cleanup if player dies
-                            frenzySlashCounts.remove(playerUuid);
-                            return;
-                        }
-                        
-                        // Increment slash counter
-                        int currentSlashes = frenzySlashCounts.getOrDefault(playerUuid, 0);
-                        frenzySlashCounts.put(playerUuid, currentSlashes + 1);
-                        
-                        // Calculate random slash angle
-                        float baseYaw = player.getYRot();
-                        float randomAngle = (RANDOM.nextFloat() - 0.5f) * 120; // -60 to +60 degrees
-                        float slashYaw = baseYaw + randomAngle;
-                        
-                        // Deal damage in small arc
-                        dealDamageInArc(player, damage, 3.0, 60.0);
-                        
-                        // Spawn slash visual
-                        spawnFrenzySlashEffect(level, player.position().add(0, 1, 0), slashYaw, rageSlashes && slashIndex >= 8);
-                        
-                        // Cleanup on final slash
-                        if (slashIndex == totalSlashes - 1) {
-                            frenzySlashCounts.remove(playerUuid);
-                        }
-                    }
-            ));
-        }
+        scheduleRepeating(level, player, 0, ticksPerSlash, totalSlashes, slashIndex -> {
+            if (!player.isAlive()) {
+                return;
+            }
+            
+            // Calculate random slash angle
+            float baseYaw = player.getYRot();
+            float randomAngle = (RANDOM.nextFloat() - 0.5f) * 120; // -60 to +60 degrees
+            float slashYaw = baseYaw + randomAngle;
+            
+            // Deal damage in small arc
+            dealDamageInArc(player, damage, 3.0, 60.0);
+            
+            // Spawn slash visual
+            spawnFrenzySlashEffect(level, player.position().add(0, 1, 0), slashYaw, rageSlashes && slashIndex >= 8);
+        });
     }
     
     /**
@@ -7728,16 +7268,16 @@ public class ModMessages {
             
             // Gray for normal, orange for RAGE slashes
             if (isRageSlash) {
-                level.sendParticles(createDustParticle(1.0f, 0.5f, 0.0f, 0.9f),
+                sendParticles(level, createDustParticle(1.0f, 0.5f, 0.0f, 0.9f),
                         x, y, z, 2, 0.08, 0.08, 0.08, 0.02);
             } else {
-                level.sendParticles(createDustParticle(0.5f, 0.5f, 0.5f, 0.9f),
+                sendParticles(level, createDustParticle(0.5f, 0.5f, 0.5f, 0.9f),
                         x, y, z, 2, 0.08, 0.08, 0.08, 0.02);
             }
         }
         
         // Sweep attack particle
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.SWEEP_ATTACK,
                 center.x, center.y, center.z, 1, 0.3, 0.2, 0.3, 0);
     }
     
@@ -7746,28 +7286,22 @@ public class ModMessages {
      */
     private static void spawnUnboundCarnageEffect(ServerLevel level, Vec3 center) {
         // Massive explosion of orange particles
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION_EMITTER,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION_EMITTER,
                 center.x, center.y + 1, center.z, 1, 0, 0, 0, 0);
         
         // Multiple expanding rings of orange
-        for (int wave = 0; wave < 5; wave++) {
-            final int waveIndex = wave;
-            level.getServer().tell(new net.minecraft.server.TickTask(
-                    level.getServer().getTickCount() + wave * 3,
-                    () -> {
-                        double radius = 1.0 + waveIndex * 0.8;
-                        int points = 24;
-                        for (int p = 0; p < points; p++) {
-                            double angle = (double) p / points * 2 * Math.PI;
-                            double x = center.x + Math.cos(angle) * radius;
-                            double z = center.z + Math.sin(angle) * radius;
-                            
-                            level.sendParticles(createDustParticle(1.0f, 0.5f, 0.0f, 1.2f),
-                                    x, center.y + 0.5, z, 3, 0.05, 0.1, 0.05, 0.02);
-                        }
-                    }
-            ));
-        }
+        scheduleRepeating(level, null, 0, 3, 5, waveIndex -> {
+            double radius = 1.0 + waveIndex * 0.8;
+            int points = 24;
+            for (int p = 0; p < points; p++) {
+                double angle = (double) p / points * 2 * Math.PI;
+                double x = center.x + Math.cos(angle) * radius;
+                double z = center.z + Math.sin(angle) * radius;
+                
+                sendParticles(level, createDustParticle(1.0f, 0.5f, 0.0f, 1.2f),
+                        x, center.y + 0.5, z, 3, 0.05, 0.1, 0.05, 0.02);
+            }
+        });
         
         // Upward flame burst
         for (int i = 0; i < 30; i++) {
@@ -7776,7 +7310,7 @@ public class ModMessages {
             double x = center.x + Math.cos(angle) * dist;
             double z = center.z + Math.sin(angle) * dist;
             
-            level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLAME,
+            sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLAME,
                     x, center.y + 0.5, z, 1, 0.1, 0.5, 0.1, 0.1);
         }
         
@@ -7784,7 +7318,7 @@ public class ModMessages {
         spawnDustParticlesBurst(level, center.add(0, 1, 0), 3.0, 1.0f, 0.5f, 0.0f, 50);
         
         // Crit particles
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 center.x, center.y + 1, center.z, 30, 1.0, 0.5, 1.0, 0.3);
     }
     
@@ -7792,11 +7326,8 @@ public class ModMessages {
      * Update Berserker RAGE system (called every tick)
      */
     public static void updateBerserkerRage(ServerLevel level) {
-        for (ServerPlayer player : level.players()) {
+        for (ServerPlayer player : ClassRoster.getPlayers(level, ClassType.BERSERKER)) {
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-            if (rpgData.getCurrentClass() == null || !rpgData.getCurrentClass().equalsIgnoreCase("berserker")) {
-                continue;
-            }
             
             long currentTime = level.getGameTime();
             
@@ -7864,9 +7395,6 @@ public class ModMessages {
                 }
             }
         }
-        
-        // Update axe throw projectiles
-        updateAxeThrowProjectiles();
     }
     
     /**
@@ -7885,13 +7413,13 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(1.0f, 0.4f, 0.0f, 1.0f),
+                sendParticles(level, createDustParticle(1.0f, 0.4f, 0.0f, 1.0f),
                         x, center.y + 0.5, z, 3, 0.05, 0.1, 0.05, 0.02);
             }
         }
         
         // Crit particles
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.CRIT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.CRIT,
                 center.x, center.y + 1, center.z, 20, 0.5, 0.3, 0.5, 0.2);
     }
     
@@ -7914,7 +7442,7 @@ public class ModMessages {
      */
     public static void addRageFromDamageDealt(ServerPlayer player, float damageDealt) {
         var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-        if (rpgData.getCurrentClass() == null || !rpgData.getCurrentClass().equalsIgnoreCase("berserker")) {
+        if (rpgData.getClassType() != ClassType.BERSERKER) {
             return;
         }
         
@@ -7935,7 +7463,7 @@ public class ModMessages {
      */
     public static void addRageFromDamageTaken(ServerPlayer player, ServerLevel level) {
         var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-        if (rpgData.getCurrentClass() == null || !rpgData.getCurrentClass().equalsIgnoreCase("berserker")) {
+        if (rpgData.getClassType() != ClassType.BERSERKER) {
             return;
         }
         
@@ -7957,7 +7485,7 @@ public class ModMessages {
      */
     public static void applyBerserkerLifesteal(ServerPlayer player, float damageDealt) {
         var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-        if (rpgData.getCurrentClass() == null || !rpgData.getCurrentClass().equalsIgnoreCase("berserker")) {
+        if (rpgData.getClassType() != ClassType.BERSERKER) {
             return;
         }
         
@@ -7975,7 +7503,7 @@ public class ModMessages {
      */
     public static boolean handleUnboundCarnageImmortality(ServerPlayer player) {
         var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-        if (rpgData.getCurrentClass() == null || !rpgData.getCurrentClass().equalsIgnoreCase("berserker")) {
+        if (rpgData.getClassType() != ClassType.BERSERKER) {
             return false;
         }
         
@@ -7989,85 +7517,89 @@ public class ModMessages {
     
     // ===== FATESPINNER THREAD SYSTEM METHODS =====
     
+    // Fatespinner Weave projectile - connects a fate thread to the first enemy hit
+    private static final ProjectileEngine.Behaviour WEAVE_BEHAVIOUR = new ProjectileEngine.Behaviour() {
+        @Override
+        public boolean steer(ProjectileEngine pool, ServerLevel level, int slot) {
+            return pool.owner(slot).isAlive();
+        }
+        
+        @Override
+        public boolean update(ProjectileEngine pool, ServerLevel level, int slot) {
+            return updateWeaveProjectile(pool, level, slot);
+        }
+    };
+    
     /**
      * Spawn a Weave projectile
      */
     private static void spawnWeaveProjectile(ServerPlayer player, ServerLevel level, Vec3 startPos, Vec3 direction, float damage) {
-        WeaveProjectile projectile = new WeaveProjectile(player, level, startPos, direction, damage);
-        activeWeaveProjectiles.add(projectile);
+        stateFor(level).projectiles.spawn(WEAVE_BEHAVIOUR, player, startPos, direction,
+                WEAVE_PROJECTILE_SPEED, damage, WEAVE_MAX_FLIGHT_TICKS);
     }
     
     /**
      * Update a Weave projectile - returns false when projectile should be removed
      */
-    private static boolean updateWeaveProjectile(WeaveProjectile proj) {
-        if (!proj.owner.isAlive() || proj.ticksAlive >= proj.maxTicks) {
-            return false;
-        }
-        
-        // Move projectile
-        Vec3 oldPos = proj.position;
-        proj.position = proj.position.add(proj.direction.scale(proj.speed));
+    private static boolean updateWeaveProjectile(ProjectileEngine pool, ServerLevel level, int slot) {
+        ServerPlayer owner = pool.owner(slot);
+        Vec3 position = pool.position(slot);
+        Vec3 direction = pool.direction(slot);
         
         // Check for block collision
-        var blockHit = proj.level.clip(new net.minecraft.world.level.ClipContext(
-                oldPos,
-                proj.position,
+        var blockHit = level.clip(new net.minecraft.world.level.ClipContext(
+                pool.previousPosition(slot),
+                position,
                 net.minecraft.world.level.ClipContext.Block.COLLIDER,
                 net.minecraft.world.level.ClipContext.Fluid.NONE,
-                proj.owner));
+                owner));
         
         if (blockHit.getType() == net.minecraft.world.phys.HitResult.Type.BLOCK) {
             // Hit a block - dissipate
-            spawnWeaveBlockImpactEffect(proj.level, blockHit.getLocation());
+            spawnWeaveBlockImpactEffect(level, blockHit.getLocation());
             return false;
         }
         
-        // Check for entity collision
-        AABB hitbox = new AABB(
-                proj.position.x - 0.5, proj.position.y - 0.5, proj.position.z - 0.5,
-                proj.position.x + 0.5, proj.position.y + 0.5, proj.position.z + 0.5);
-        
-        List<Entity> entities = proj.level.getEntities(proj.owner, hitbox,
-                e -> e instanceof LivingEntity && e != proj.owner);
+        // Check for entity collision along this tick's movement
+        List<LivingEntity> entities = pool.sweep(slot, 0.5);
         
         if (!entities.isEmpty()) {
-            Entity hitEntity = entities.get(0);
-            if (hitEntity instanceof LivingEntity living) {
-                // Deal damage
-                living.hurt(proj.owner.damageSources().playerAttack(proj.owner), proj.damage);
-                
-                // Create thread connection
-                createFateThread(proj.owner, living);
-                
-                // Impact visual - thread snaps back to caster
-                spawnWeaveImpactEffect(proj.level, proj.position, proj.owner.position().add(0, proj.owner.getEyeHeight() - 0.3, 0));
-                
-                proj.owner.displayClientMessage(Component.literal("§d§lTHREAD CONNECTED! §7" + living.getName().getString()), true);
-            }
+            LivingEntity living = entities.get(0); // Nearest entity along the path
+            
+            // Deal damage
+            living.hurt(owner.damageSources().playerAttack(owner), pool.damage(slot));
+            
+            // Create thread connection
+            createFateThread(owner, living);
+            
+            // Impact visual - thread snaps back to caster
+            spawnWeaveImpactEffect(level, position, owner.position().add(0, owner.getEyeHeight() - 0.3, 0));
+            
+            owner.displayClientMessage(Component.literal("§d§lTHREAD CONNECTED! §7" + living.getName().getString()), true);
             return false;
         }
         
         // Spawn trail particles - spiraling trail
-        if (proj.ticksAlive % 2 == 0) {
-            double spiralAngle = (proj.ticksAlive * 0.5) % (2 * Math.PI);
+        int ticksAlive = pool.ticksAlive(slot);
+        if (ticksAlive % 2 == 0) {
+            double spiralAngle = (ticksAlive * 0.5) % (2 * Math.PI);
             double spiralRadius = 0.15;
             
             // Calculate perpendicular vectors for spiral
-            Vec3 perp1 = proj.direction.cross(new Vec3(0, 1, 0)).normalize();
+            Vec3 perp1 = direction.cross(new Vec3(0, 1, 0)).normalize();
             if (perp1.length() < 0.01) {
-                perp1 = proj.direction.cross(new Vec3(1, 0, 0)).normalize();
+                perp1 = direction.cross(new Vec3(1, 0, 0)).normalize();
             }
-            Vec3 perp2 = proj.direction.cross(perp1).normalize();
+            Vec3 perp2 = direction.cross(perp1).normalize();
             
             double spiralX = perp1.x * Math.cos(spiralAngle) + perp2.x * Math.sin(spiralAngle);
             double spiralY = perp1.y * Math.cos(spiralAngle) + perp2.y * Math.sin(spiralAngle);
             double spiralZ = perp1.z * Math.cos(spiralAngle) + perp2.z * Math.sin(spiralAngle);
             
-            Vec3 spiralPos = proj.position.add(spiralX * spiralRadius, spiralY * spiralRadius, spiralZ * spiralRadius);
+            Vec3 spiralPos = position.add(spiralX * spiralRadius, spiralY * spiralRadius, spiralZ * spiralRadius);
             
             // Violet/purple trail (muted violet)
-            proj.level.sendParticles(createDustParticle(0.6f, 0.3f, 0.8f, 0.7f),
+            sendParticles(level, createDustParticle(0.6f, 0.3f, 0.8f, 0.7f),
                     spiralPos.x, spiralPos.y, spiralPos.z, 1, 0.02, 0.02, 0.02, 0);
         }
         
@@ -8101,12 +7633,18 @@ public class ModMessages {
                 }
             }
             if (oldestThreadTarget != null) {
-                playerThreads.remove(oldestThreadTarget);
+                FateThread oldest = playerThreads.remove(oldestThreadTarget);
+                if (oldest != null) {
+                    stopClientEffect(oldest.effectLevel, oldest.effectHandle);
+                }
             }
         }
         
-        // Create new thread
+        // Create new thread - the visual is animated by nearby clients until the thread is removed
         FateThread thread = new FateThread(playerUUID, targetUUID, player.level().getGameTime());
+        thread.effectLevel = player.serverLevel();
+        thread.effectHandle = startClientEffect(thread.effectLevel, PacketStartEffect.Kind.FATE_THREAD,
+                player, target, player.position(), 0, 0, -1);
         playerThreads.put(targetUUID, thread);
         
         // Mark target with glowing effect (subtle arcane highlight) - refreshed periodically
@@ -8123,7 +7661,10 @@ public class ModMessages {
         UUID playerUUID = player.getUUID();
         Map<UUID, FateThread> playerThreads = activeFateThreads.get(playerUUID);
         if (playerThreads != null) {
-            playerThreads.remove(targetUUID);
+            FateThread thread = playerThreads.remove(targetUUID);
+            if (thread != null) {
+                stopClientEffect(thread.effectLevel, thread.effectHandle);
+            }
         }
     }
     
@@ -8157,7 +7698,8 @@ public class ModMessages {
             if (player == null || !player.isAlive()) {
                 // Clear all threads for disconnected/dead player
                 for (FateThread thread : threads.values()) {
-                    Entity targetEntity = level.getEntity(thread.targetUUID);
+                    stopClientEffect(thread.effectLevel, thread.effectHandle);
+                    Entity targetEntity = thread.effectLevel.getEntity(thread.targetUUID);
                     if (targetEntity instanceof LivingEntity living) {
                         living.removeEffect(MobEffects.GLOWING);
                     }
@@ -8166,12 +7708,18 @@ public class ModMessages {
                 continue;
             }
             
+            // Threads are ticked by the level their owner is currently in
+            if (player.serverLevel() != level) {
+                continue;
+            }
+            
             // Check if player is still Fatespinner
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
-            if (!rpgData.getCurrentClass().equalsIgnoreCase("fatespinner")) {
+            if (rpgData.getClassType() != ClassType.FATESPINNER) {
                 // Remove all threads
                 for (FateThread thread : threads.values()) {
-                    Entity targetEntity = level.getEntity(thread.targetUUID);
+                    stopClientEffect(thread.effectLevel, thread.effectHandle);
+                    Entity targetEntity = thread.effectLevel.getEntity(thread.targetUUID);
                     if (targetEntity instanceof LivingEntity living) {
                         living.removeEffect(MobEffects.GLOWING);
                     }
@@ -8188,6 +7736,7 @@ public class ModMessages {
                 Entity targetEntity = level.getEntity(thread.targetUUID);
                 if (targetEntity == null || !targetEntity.isAlive()) {
                     // Target dead/gone - remove thread
+                    stopClientEffect(thread.effectLevel, thread.effectHandle);
                     threadIterator.remove();
                     continue;
                 }
@@ -8215,20 +7764,14 @@ public class ModMessages {
                     
                     player.displayClientMessage(Component.literal("§c§lTHREAD SNAPPED! §7" + String.format("%.1f", breakDamage) + " damage!"), true);
                     
+                    stopClientEffect(thread.effectLevel, thread.effectHandle);
                     threadIterator.remove();
                     continue;
                 }
                 
-                // Update visual only when tension changes or every few ticks
-                boolean tensionChanged = tension != thread.lastTension;
+                // Thread visual is animated by clients from the owner and target positions
                 thread.lastTension = tension;
                 
-                // Spawn thread visual every 2 ticks
-                if (level.getGameTime() % 2 == 0) {
-                    spawnThreadVisual(level, player.position().add(0, player.getEyeHeight() - 0.3, 0),
-                            target.position().add(0, target.getBbHeight() * 0.5, 0), tension);
-                }
-                
                 // Reapply glowing to ensure highlight remains
                 if (!target.hasEffect(MobEffects.GLOWING)) {
                     target.addEffect(new MobEffectInstance(MobEffects.GLOWING, THREAD_GLOWING_DURATION_TICKS, 0, false, false));
@@ -8241,13 +7784,9 @@ public class ModMessages {
      * Update Manaflux channel state
      */
     public static void updateManafluxChannel(ServerLevel level) {
-        for (ServerPlayer player : level.players()) {
+        for (ServerPlayer player : ClassRoster.getPlayers(level, ClassType.FATESPINNER)) {
             var rpgData = player.getData(ModAttachments.PLAYER_RPG);
             
-            if (!rpgData.getCurrentClass().equalsIgnoreCase("fatespinner")) {
-                continue;
-            }
-            
             if (rpgData.isInManafluxChannel()) {
                 long currentTime = level.getGameTime();
                 long channelDuration = currentTime - rpgData.getManafluxStartTime();
@@ -8262,9 +7801,9 @@ public class ModMessages {
                     String abilityId = "fatespinner_ability_2";
                     var stats = player.getData(ModAttachments.PLAYER_STATS);
                     int cooldownReduction = stats.getIntStatValue(StatType.COOLDOWN_REDUCTION);
-                    int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks("fatespinner", 2);
+                    int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks(ClassType.FATESPINNER, 2);
                     int adjustedCooldownTicks = (int) (baseCooldownTicks * (1.0 - cooldownReduction / 100.0));
-                    rpgData.setAbilityCooldown(abilityId, Math.max(adjustedCooldownTicks, 20));
+                    rpgData.setAbilityCooldown(abilityId, Math.max(adjustedCooldownTicks, 20), player.level().getGameTime());
                     
                     player.displayClientMessage(Component.literal("§dManaflux §7channel expired!"), true);
                     continue;
@@ -8275,9 +7814,6 @@ public class ModMessages {
                     if (rpgData.getMana() >= PlayerRPGData.MANAFLUX_MANA_DRAIN_AMOUNT) {
                         rpgData.useMana(PlayerRPGData.MANAFLUX_MANA_DRAIN_AMOUNT);
                         rpgData.setLastManafluxDrainTime(currentTime);
-                        
-                        // Sync mana to client
-                        sendToPlayer(new PacketSyncMana(rpgData.getMana(), rpgData.getMaxMana()), player);
                     } else {
                         // Out of mana - end channel
                         rpgData.setInManafluxChannel(false);
@@ -8287,9 +7823,9 @@ public class ModMessages {
                         String abilityId = "fatespinner_ability_2";
                         var stats = player.getData(ModAttachments.PLAYER_STATS);
                         int cooldownReduction = stats.getIntStatValue(StatType.COOLDOWN_REDUCTION);
-                        int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks("fatespinner", 2);
+                        int baseCooldownTicks = AbilityUtils.getAbilityCooldownTicks(ClassType.FATESPINNER, 2);
                         int adjustedCooldownTicks = (int) (baseCooldownTicks * (1.0 - cooldownReduction / 100.0));
-                        rpgData.setAbilityCooldown(abilityId, Math.max(adjustedCooldownTicks, 20));
+                        rpgData.setAbilityCooldown(abilityId, Math.max(adjustedCooldownTicks, 20), player.level().getGameTime());
                         
                         player.displayClientMessage(Component.literal("§cOut of mana! §dManaflux §7ended!"), true);
                         continue;
@@ -8459,53 +7995,6 @@ public class ModMessages {
     
     // ===== FATESPINNER VISUAL EFFECTS =====
     
-    /**
-     * Spawn thread visual between player and target
-     * Color shifts from muted violet to pale white based on tension
-     */
-    private static void spawnThreadVisual(ServerLevel level, Vec3 start, Vec3 end, int tension) {
-        Vec3 dir = end.subtract(start);
-        double length = dir.length();
-        dir = dir.normalize();
-        
-        // Color interpolation: violet (low tension) to white (high tension)
-        float tensionRatio = Math.min(1.0f, tension / 10.0f);
-        float r = 0.6f + tensionRatio * 0.4f; // 0.6 to 1.0
-        float g = 0.3f + tensionRatio * 0.7f; // 0.3 to 1.0
-        float b = 0.8f + tensionRatio * 0.2f; // 0.8 to 1.0
-        float size = 0.3f + tensionRatio * 0.2f; // Thicker at high tension
-        
-        int points = (int) (length * 3);
-        for (int i = 0; i <= points; i++) {
-            double progress = (double) i / points;
-            Vec3 pos = start.add(dir.scale(progress * length));
-            
-            // Add gentle sway
-            double swayOffset = Math.sin(progress * Math.PI * 2 + level.getGameTime() * 0.1) * 0.1 * (1.0 - tensionRatio);
-            pos = pos.add(0, swayOffset, 0);
-            
-            level.sendParticles(createDustParticle(r, g, b, size),
-                    pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
-        }
-        
-        // Pulse effect traveling along thread
-        double pulsePosition = (level.getGameTime() % 20) / 20.0;
-        Vec3 pulsePos = start.add(dir.scale(pulsePosition * length));
-        level.sendParticles(createDustParticle(1.0f, 1.0f, 1.0f, size + 0.2f),
-                pulsePos.x, pulsePos.y, pulsePos.z, 1, 0.01, 0.01, 0.01, 0);
-        
-        // High tension vibration effect
-        if (tension >= 9) {
-            for (int i = 0; i <= points; i += 2) {
-                double progress = (double) i / points;
-                Vec3 pos = start.add(dir.scale(progress * length));
-                double vibration = (RANDOM.nextDouble() - 0.5) * 0.15;
-                level.sendParticles(createDustParticle(1.0f, 1.0f, 1.0f, 0.2f),
-                        pos.x + vibration, pos.y + vibration, pos.z + vibration, 1, 0, 0, 0, 0);
-            }
-        }
-    }
-    
     /**
      * Spawn thread break effect - sharp flash and arcane crack
      */
@@ -8520,14 +8009,14 @@ public class ModMessages {
             double progress = (double) i / points;
             Vec3 pos = start.add(dir.scale(progress * length));
             
-            level.sendParticles(createDustParticle(1.0f, 1.0f, 1.0f, 1.0f),
+            sendParticles(level, createDustParticle(1.0f, 1.0f, 1.0f, 1.0f),
                     pos.x, pos.y, pos.z, 3, 0.1, 0.1, 0.1, 0.05);
         }
         
         // Flash at both ends
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 start.x, start.y, start.z, 1, 0, 0, 0, 0);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 end.x, end.y, end.z, 1, 0, 0, 0, 0);
         
         // Fading afterimage (violet particles scattering)
@@ -8535,7 +8024,7 @@ public class ModMessages {
             double progress = (double) i / points;
             Vec3 pos = start.add(dir.scale(progress * length));
             
-            level.sendParticles(createDustParticle(0.6f, 0.3f, 0.8f, 0.5f),
+            sendParticles(level, createDustParticle(0.6f, 0.3f, 0.8f, 0.5f),
                     pos.x, pos.y, pos.z, 2, 0.2, 0.2, 0.2, 0.1);
         }
     }
@@ -8551,12 +8040,12 @@ public class ModMessages {
             double x = pos.x + Math.cos(angle) * radius;
             double z = pos.z + Math.sin(angle) * radius;
             
-            level.sendParticles(createDustParticle(0.7f, 0.4f, 0.9f, 0.5f),
+            sendParticles(level, createDustParticle(0.7f, 0.4f, 0.9f, 0.5f),
                     x, pos.y, z, 1, -direction.x * 0.1, 0, -direction.z * 0.1, 0.02);
         }
         
         // Launch flash
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.END_ROD,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.END_ROD,
                 pos.x, pos.y, pos.z, 5, 0.1, 0.1, 0.1, 0.05);
     }
     
@@ -8565,7 +8054,7 @@ public class ModMessages {
      */
     private static void spawnWeaveImpactEffect(ServerLevel level, Vec3 impactPos, Vec3 casterPos) {
         // Impact burst
-        level.sendParticles(createDustParticle(0.8f, 0.5f, 1.0f, 0.8f),
+        sendParticles(level, createDustParticle(0.8f, 0.5f, 1.0f, 0.8f),
                 impactPos.x, impactPos.y, impactPos.z, 15, 0.3, 0.3, 0.3, 0.1);
         
         // Thread connection establishing visual
@@ -8578,7 +8067,7 @@ public class ModMessages {
             double progress = (double) i / points;
             Vec3 pos = impactPos.add(dir.scale(progress * length));
             
-            level.sendParticles(createDustParticle(0.7f, 0.4f, 0.9f, 0.6f),
+            sendParticles(level, createDustParticle(0.7f, 0.4f, 0.9f, 0.6f),
                     pos.x, pos.y, pos.z, 1, 0.05, 0.05, 0.05, 0.02);
         }
     }
@@ -8588,9 +8077,9 @@ public class ModMessages {
      */
     private static void spawnWeaveBlockImpactEffect(ServerLevel level, Vec3 pos) {
         // Dissipate effect
-        level.sendParticles(createDustParticle(0.6f, 0.3f, 0.8f, 0.5f),
+        sendParticles(level, createDustParticle(0.6f, 0.3f, 0.8f, 0.5f),
                 pos.x, pos.y, pos.z, 10, 0.2, 0.2, 0.2, 0.05);
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                 pos.x, pos.y, pos.z, 5, 0.2, 0.2, 0.2, 0.1);
     }
     
@@ -8608,7 +8097,7 @@ public class ModMessages {
             double progress = (double) i / points;
             Vec3 pos = playerPos.add(dir.scale(progress * length));
             
-            level.sendParticles(createDustParticle(1.0f, 0.9f, 1.0f, 0.8f),
+            sendParticles(level, createDustParticle(1.0f, 0.9f, 1.0f, 0.8f),
                     pos.x, pos.y, pos.z, 1, 0.02, 0.02, 0.02, 0);
         }
         
@@ -8617,7 +8106,7 @@ public class ModMessages {
             double progress = RANDOM.nextDouble();
             Vec3 sparkPos = playerPos.add(dir.scale(progress * length * 0.5));
             
-            level.sendParticles(createDustParticle(0.9f, 0.7f, 1.0f, 0.4f),
+            sendParticles(level, createDustParticle(0.9f, 0.7f, 1.0f, 0.4f),
                     sparkPos.x, sparkPos.y, sparkPos.z, 1,
                     -dir.x * 0.3, 0.1, -dir.z * 0.3, 0.1);
         }
@@ -8636,13 +8125,13 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.7f, 0.5f, 1.0f, 0.8f),
+                sendParticles(level, createDustParticle(0.7f, 0.5f, 1.0f, 0.8f),
                         x, center.y + 0.5 + ring * 0.2, z, 2, 0.05, 0.05, 0.05, 0.02);
             }
         }
         
         // Particles drift upward
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                 center.x, center.y + 1, center.z, 30, 0.5, 0.5, 0.5, 0.1);
     }
     
@@ -8651,7 +8140,7 @@ public class ModMessages {
      */
     private static void spawnManafluxEndEffect(ServerLevel level, Vec3 center) {
         // Energy disperses
-        level.sendParticles(createDustParticle(0.5f, 0.3f, 0.7f, 0.5f),
+        sendParticles(level, createDustParticle(0.5f, 0.3f, 0.7f, 0.5f),
                 center.x, center.y + 1, center.z, 20, 0.8, 0.5, 0.8, 0.1);
     }
     
@@ -8670,7 +8159,7 @@ public class ModMessages {
                 double x = playerPos.x + Math.cos(angle) * radius;
                 double z = playerPos.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.7f, 0.5f, 1.0f, 0.6f),
+                sendParticles(level, createDustParticle(0.7f, 0.5f, 1.0f, 0.6f),
                         x, playerPos.y + 1 + RANDOM.nextDouble(), z, 1, 0, 0.02, 0, 0.01);
             }
         }
@@ -8691,7 +8180,7 @@ public class ModMessages {
                 double pulsePosition = ((level.getGameTime() * 2) % 30) / 30.0;
                 Vec3 pulsePos = start.add(dir.scale(pulsePosition * length));
                 
-                level.sendParticles(createDustParticle(0.9f, 0.8f, 1.0f, 0.7f),
+                sendParticles(level, createDustParticle(0.9f, 0.8f, 1.0f, 0.7f),
                         pulsePos.x, pulsePos.y, pulsePos.z, 3, 0.05, 0.05, 0.05, 0.02);
                 
                 // Arcane sigils around frozen enemy
@@ -8702,7 +8191,7 @@ public class ModMessages {
                         double x = living.getX() + Math.cos(angle) * sigilRadius;
                         double z = living.getZ() + Math.sin(angle) * sigilRadius;
                         
-                        level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+                        sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                                 x, living.getY() + living.getBbHeight() * 0.5, z, 2, 0.1, 0.1, 0.1, 0.02);
                     }
                 }
@@ -8723,15 +8212,15 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.8f, 0.6f, 1.0f, 0.6f),
+                sendParticles(level, createDustParticle(0.8f, 0.6f, 1.0f, 0.6f),
                         x, center.y + 0.5, z, 1, 0.05, 0.02, 0.05, 0.02);
             }
         }
         
         // Central burst
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.FLASH,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.FLASH,
                 center.x, center.y + 1, center.z, 3, 0.3, 0.3, 0.3, 0);
-        level.sendParticles(createDustParticle(1.0f, 0.8f, 1.0f, 1.0f),
+        sendParticles(level, createDustParticle(1.0f, 0.8f, 1.0f, 1.0f),
                 center.x, center.y + 1, center.z, 30, 0.5, 0.3, 0.5, 0.2);
     }
     
@@ -8749,14 +8238,14 @@ public class ModMessages {
                 double z = center.z + Math.sin(angle) * radius;
                 
                 // Particles moving inward
-                level.sendParticles(createDustParticle(0.8f, 0.6f, 1.0f, 0.6f),
+                sendParticles(level, createDustParticle(0.8f, 0.6f, 1.0f, 0.6f),
                         x, center.y + 0.5, z, 1,
                         -Math.cos(angle) * 0.1, 0.02, -Math.sin(angle) * 0.1, 0.02);
             }
         }
         
         // Central implosion effect
-        level.sendParticles(createDustParticle(1.0f, 0.8f, 1.0f, 1.0f),
+        sendParticles(level, createDustParticle(1.0f, 0.8f, 1.0f, 1.0f),
                 center.x, center.y + 1, center.z, 20, 0.3, 0.2, 0.3, 0.1);
     }
     
@@ -8765,7 +8254,7 @@ public class ModMessages {
      */
     private static void spawnManasurgeEffect(ServerLevel level, Vec3 center, int threadCount) {
         // Base explosion
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.EXPLOSION_EMITTER,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.EXPLOSION_EMITTER,
                 center.x, center.y + 1, center.z, 1, 0, 0, 0, 0);
         
         // Layered rings of light
@@ -8778,7 +8267,7 @@ public class ModMessages {
                 double z = center.z + Math.sin(angle) * radius;
                 
                 // Near-white color
-                level.sendParticles(createDustParticle(1.0f, 0.95f, 1.0f, 1.0f),
+                sendParticles(level, createDustParticle(1.0f, 0.95f, 1.0f, 1.0f),
                         x, center.y + 0.5 + RANDOM.nextDouble() * 0.5, z, 3, 0.1, 0.2, 0.1, 0.05);
             }
         }
@@ -8792,7 +8281,7 @@ public class ModMessages {
                 double x = center.x + Math.cos(angle) * radius;
                 double z = center.z + Math.sin(angle) * radius;
                 
-                level.sendParticles(createDustParticle(0.9f, 0.7f, 1.0f, 0.8f),
+                sendParticles(level, createDustParticle(0.9f, 0.7f, 1.0f, 0.8f),
                         x, center.y + 1 + RANDOM.nextDouble(), z, 1,
                         -Math.cos(angle) * 0.3, 0.1, -Math.sin(angle) * 0.3, 0.1);
             }
@@ -8807,12 +8296,12 @@ public class ModMessages {
             double vy = Math.sin(upAngle) * speed;
             double vz = Math.sin(angle) * Math.cos(upAngle) * speed;
             
-            level.sendParticles(createDustParticle(0.7f, 0.5f, 0.9f, 0.5f),
+            sendParticles(level, createDustParticle(0.7f, 0.5f, 0.9f, 0.5f),
                     center.x, center.y + 1, center.z, 1, vx, vy, vz, 0.1);
         }
         
         // Reverberating hum visual - ambient particles
-        level.sendParticles(net.minecraft.core.particles.ParticleTypes.ENCHANT,
+        sendParticles(level, net.minecraft.core.particles.ParticleTypes.ENCHANT,
                 center.x, center.y + 0.5, center.z, 50 + threadCount * 10, 4.0, 1.0, 4.0, 0.2);
     }
     
@@ -0,0 +1,86 @@
+package net.frostimpact.rpgclasses_v2.networking;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side level of detail for ability particles.
+ * Each viewer gets a share of an effect's particles that shrinks with distance, nothing past the cull distance,
+ * and at most a fixed number of particles per server tick no matter how many effects are playing around them.
+ */
+public class ParticleLod {
+    private static final double FULL_DETAIL_DISTANCE = 12.0; // Full density up to this distance
+    private static final double CULL_DISTANCE = 32.0; // Nothing is sent past this distance (vanilla particle range)
+    private static final float MIN_DETAIL = 0.2f; // Density right before the cull distance
+    private static final int PARTICLE_BUDGET_PER_TICK = 600; // Max particles one player is sent per tick
+
+    private static final RandomSource RANDOM = RandomSource.create();
+    private static final Map<UUID, Budget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * Particles a player has been sent during one server tick
+     */
+    private static class Budget {
+        int tick = -1;
+        int used;
+    }
+
+    /**
+     * Detail factor (0 to 1) for a viewer at the given squared distance from an effect
+     */
+    public static float detail(double distanceSqr) {
+        if (distanceSqr <= FULL_DETAIL_DISTANCE * FULL_DETAIL_DISTANCE) {
+            return 1.0f;
+        }
+        if (distanceSqr > CULL_DISTANCE * CULL_DISTANCE) {
+            return 0.0f;
+        }
+        double t = (Math.sqrt(distanceSqr) - FULL_DETAIL_DISTANCE) / (CULL_DISTANCE - FULL_DETAIL_DISTANCE);
+        return (float) (1.0 - t * (1.0 - MIN_DETAIL));
+    }
+
+    /**
+     * How many of count particles at a position the viewer should be sent, and charge them to
+     * the viewer's budget for this tick. Fractional shares are rounded randomly so effects made of
+     * many single-particle calls thin out evenly instead of disappearing. Returns 0 if culled.
+     */
+    public static int allow(ServerPlayer viewer, double x, double y, double z, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        float detail = detail(viewer.distanceToSqr(x, y, z));
+        if (detail <= 0.0f) {
+            return 0;
+        }
+
+        int scaled = detail >= 1.0f ? count : (int) (count * detail + RANDOM.nextFloat());
+        if (scaled <= 0) {
+            return 0;
+        }
+
+        Budget budget = budgets.computeIfAbsent(viewer.getUUID(), key -> new Budget());
+        int tick = viewer.getServer().getTickCount();
+        if (budget.tick != tick) {
+            budget.tick = tick;
+            budget.used = 0;
+        }
+        int granted = Math.min(scaled, PARTICLE_BUDGET_PER_TICK - budget.used);
+        if (granted <= 0) {
+            return 0;
+        }
+        budget.used += granted;
+        TickProfiler.count(TickProfiler.Counter.PARTICLES_EMITTED, granted);
+        return granted;
+    }
+
+    /**
+     * Drop the budget of a player that logged out
+     */
+    public static void forget(UUID playerUUID) {
+        budgets.remove(playerUUID);
+    }
+}
@@ -0,0 +1,111 @@
+package net.frostimpact.rpgclasses_v2.networking;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Per-tick spatial hash of living entities around active projectiles.
+ * Cells are section sized and only filled the first time a projectile sweeps through them,
+ * so each cell costs one entity lookup per tick no matter how many projectiles pass through it.
+ */
+public class ProjectileBroadphase {
+    private static final int CELL_SHIFT = 4; // 16 block cells, same as entity sections
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    private final Long2ObjectOpenHashMap<List<LivingEntity>> cells = new Long2ObjectOpenHashMap<>();
+    private final IntOpenHashSet seen = new IntOpenHashSet();
+    private final List<Hit> hits = new ArrayList<>();
+    private final List<LivingEntity> result = new ArrayList<>();
+    private ServerLevel level;
+
+    /**
+     * Candidate entity and where along the segment it was entered (0 = start, 1 = end)
+     */
+    private record Hit(LivingEntity entity, double progress) {
+    }
+
+    /**
+     * Forget last tick's buckets - entities have moved since
+     */
+    public void reset(ServerLevel level) {
+        this.level = level;
+        cells.clear();
+    }
+
+    /**
+     * Find every living entity whose box, inflated by radius, is crossed by the segment from -> to.
+     * Results are ordered by distance from the segment start; the list is reused by the next call.
+     */
+    public List<LivingEntity> sweep(Vec3 from, Vec3 to, double radius, Entity except) {
+        hits.clear();
+        seen.clear();
+
+        AABB swept = new AABB(from, to).inflate(radius);
+        int minX = Mth.floor(swept.minX) >> CELL_SHIFT;
+        int minY = Mth.floor(swept.minY) >> CELL_SHIFT;
+        int minZ = Mth.floor(swept.minZ) >> CELL_SHIFT;
+        int maxX = Mth.floor(swept.maxX) >> CELL_SHIFT;
+        int maxY = Mth.floor(swept.maxY) >> CELL_SHIFT;
+        int maxZ = Mth.floor(swept.maxZ) >> CELL_SHIFT;
+        double length = from.distanceTo(to);
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    for (LivingEntity entity : cell(cx, cy, cz)) {
+                        if (entity == except || !entity.isAlive() || !seen.add(entity.getId())) {
+                            continue;
+                        }
+                        AABB box = entity.getBoundingBox().inflate(radius);
+                        if (!box.intersects(swept)) {
+                            continue;
+                        }
+                        if (box.contains(from)) {
+                            hits.add(new Hit(entity, 0));
+                            continue;
+                        }
+                        Optional<Vec3> entry = box.clip(from, to);
+                        if (entry.isPresent()) {
+                            double progress = length > 0 ? from.distanceTo(entry.get()) / length : 0;
+                            hits.add(new Hit(entity, progress));
+                        }
+                    }
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::progress));
+        result.clear();
+        for (Hit hit : hits) {
+            result.add(hit.entity());
+        }
+        return result;
+    }
+
+    private List<LivingEntity> cell(int cx, int cy, int cz) {
+        long key = SectionPos.asLong(cx, cy, cz);
+        List<LivingEntity> bucket = cells.get(key);
+        if (bucket == null) {
+            double x = cx * CELL_SIZE;
+            double y = cy * CELL_SIZE;
+            double z = cz * CELL_SIZE;
+            bucket = level.getEntitiesOfClass(LivingEntity.class,
+                    new AABB(x, y, z, x + CELL_SIZE, y + CELL_SIZE, z + CELL_SIZE));
+            cells.put(key, bucket);
+            TickProfiler.count(TickProfiler.Counter.ENTITIES_SCANNED, bucket.size());
+        }
+        return bucket;
+    }
+}
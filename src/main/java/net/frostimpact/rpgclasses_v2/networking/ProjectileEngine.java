@@ -0,0 +1,339 @@
+package net.frostimpact.rpgclasses_v2.networking;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pool of simulated ability projectiles owned by one level.
+ * Projectiles are stored as parallel arrays (structure of arrays) and stepped in a single pass;
+ * what a projectile does on top of moving is decided by its {@link Behaviour}.
+ */
+public class ProjectileEngine {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Flag bits shared by behaviours
+    public static final int FLAG_RETURNING = 1; // Projectile is flying back to its owner
+    public static final int FLAG_STUCK = 1 << 1; // Projectile is attached to its target
+
+    /**
+     * Per-type projectile logic. Called once per tick for every live projectile of that type.
+     */
+    public interface Behaviour {
+        /**
+         * Called before the projectile moves - homing and returning projectiles rewrite their velocity here.
+         * Returns false if the projectile should be removed.
+         */
+        default boolean steer(ProjectileEngine pool, ServerLevel level, int slot) {
+            return true;
+        }
+
+        /**
+         * Called after the projectile moved - resolve hits and spawn visuals.
+         * Returns false if the projectile should be removed.
+         */
+        boolean update(ProjectileEngine pool, ServerLevel level, int slot);
+
+        /**
+         * Called when the projectile reaches its max ticks. Returns true to keep it alive
+         * (the behaviour is expected to extend max ticks or change state).
+         */
+        default boolean onExpired(ProjectileEngine pool, ServerLevel level, int slot) {
+            return false;
+        }
+
+        /**
+         * Called once right before the projectile is removed from the pool
+         */
+        default void onRemoved(ProjectileEngine pool, ServerLevel level, int slot) {
+        }
+    }
+
+    private final ProjectileBroadphase broadphase = new ProjectileBroadphase();
+    private int count;
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] z = new double[INITIAL_CAPACITY];
+    private double[] vx = new double[INITIAL_CAPACITY];
+    private double[] vy = new double[INITIAL_CAPACITY];
+    private double[] vz = new double[INITIAL_CAPACITY];
+    private float[] speed = new float[INITIAL_CAPACITY];
+    private float[] damage = new float[INITIAL_CAPACITY];
+    private float[] param = new float[INITIAL_CAPACITY];
+    private int[] ticksAlive = new int[INITIAL_CAPACITY];
+    private int[] maxTicks = new int[INITIAL_CAPACITY];
+    private int[] flags = new int[INITIAL_CAPACITY];
+    private int[] marker = new int[INITIAL_CAPACITY];
+    private ServerPlayer[] owner = new ServerPlayer[INITIAL_CAPACITY];
+    private LivingEntity[] target = new LivingEntity[INITIAL_CAPACITY];
+    private Behaviour[] behaviour = new Behaviour[INITIAL_CAPACITY];
+    private IntOpenHashSet[] hits = new IntOpenHashSet[INITIAL_CAPACITY];
+
+    /**
+     * Add a projectile flying along direction at the given speed. Returns its slot, which stays
+     * valid until the end of the current tick.
+     */
+    public int spawn(Behaviour type, ServerPlayer shooter, Vec3 start, Vec3 direction, float projSpeed,
+                     float projDamage, int lifetimeTicks) {
+        if (count == x.length) {
+            grow();
+        }
+        int slot = count++;
+        Vec3 dir = direction.normalize();
+        x[slot] = start.x;
+        y[slot] = start.y;
+        z[slot] = start.z;
+        vx[slot] = dir.x * projSpeed;
+        vy[slot] = dir.y * projSpeed;
+        vz[slot] = dir.z * projSpeed;
+        speed[slot] = projSpeed;
+        damage[slot] = projDamage;
+        param[slot] = 0;
+        ticksAlive[slot] = 0;
+        maxTicks[slot] = lifetimeTicks;
+        flags[slot] = 0;
+        marker[slot] = 0;
+        owner[slot] = shooter;
+        target[slot] = null;
+        behaviour[slot] = type;
+        hits[slot] = null;
+        return slot;
+    }
+
+    /**
+     * Step every projectile once: age, expiry, steering, movement, then the behaviour update
+     */
+    public void tick(ServerLevel level) {
+        broadphase.reset(level);
+        TickProfiler.count(TickProfiler.Counter.PROJECTILES_STEPPED, count);
+        int i = 0;
+        while (i < count) {
+            Behaviour type = behaviour[i];
+            boolean alive = true;
+
+            ticksAlive[i]++;
+            if (ticksAlive[i] >= maxTicks[i]) {
+                alive = type.onExpired(this, level, i);
+            }
+            if (alive) {
+                alive = type.steer(this, level, i);
+            }
+            if (alive) {
+                x[i] += vx[i];
+                y[i] += vy[i];
+                z[i] += vz[i];
+                alive = type.update(this, level, i);
+            }
+
+            if (alive) {
+                i++;
+            } else {
+                // Swap the last projectile into this slot and process it next
+                type.onRemoved(this, level, i);
+                removeAt(i);
+            }
+        }
+    }
+
+    /**
+     * Number of live projectiles
+     */
+    public int size() {
+        return count;
+    }
+
+    private void removeAt(int slot) {
+        int last = --count;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            z[slot] = z[last];
+            vx[slot] = vx[last];
+            vy[slot] = vy[last];
+            vz[slot] = vz[last];
+            speed[slot] = speed[last];
+            damage[slot] = damage[last];
+            param[slot] = param[last];
+            ticksAlive[slot] = ticksAlive[last];
+            maxTicks[slot] = maxTicks[last];
+            flags[slot] = flags[last];
+            marker[slot] = marker[last];
+            owner[slot] = owner[last];
+            target[slot] = target[last];
+            behaviour[slot] = behaviour[last];
+            hits[slot] = hits[last];
+        }
+        // Release references so removed projectiles don't keep entities alive
+        owner[last] = null;
+        target[last] = null;
+        behaviour[last] = null;
+        hits[last] = null;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        vz = Arrays.copyOf(vz, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        param = Arrays.copyOf(param, capacity);
+        ticksAlive = Arrays.copyOf(ticksAlive, capacity);
+        maxTicks = Arrays.copyOf(maxTicks, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        marker = Arrays.copyOf(marker, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        target = Arrays.copyOf(target, capacity);
+        behaviour = Arrays.copyOf(behaviour, capacity);
+        hits = Arrays.copyOf(hits, capacity);
+    }
+
+    // ===== SLOT ACCESSORS =====
+
+    public Vec3 position(int slot) {
+        return new Vec3(x[slot], y[slot], z[slot]);
+    }
+
+    public void setPosition(int slot, Vec3 pos) {
+        x[slot] = pos.x;
+        y[slot] = pos.y;
+        z[slot] = pos.z;
+    }
+
+    /**
+     * Position the projectile had before this tick's movement
+     */
+    public Vec3 previousPosition(int slot) {
+        return new Vec3(x[slot] - vx[slot], y[slot] - vy[slot], z[slot] - vz[slot]);
+    }
+
+    /**
+     * Unit flight direction (zero vector if the projectile is not moving)
+     */
+    public Vec3 direction(int slot) {
+        return new Vec3(vx[slot], vy[slot], vz[slot]).normalize();
+    }
+
+    public void setVelocity(int slot, double dx, double dy, double dz) {
+        vx[slot] = dx;
+        vy[slot] = dy;
+        vz[slot] = dz;
+    }
+
+    /**
+     * Point the projectile at a position, moving at the given speed. Returns the distance to it.
+     */
+    public double steerTowards(int slot, Vec3 targetPos, double moveSpeed) {
+        double dx = targetPos.x - x[slot];
+        double dy = targetPos.y - y[slot];
+        double dz = targetPos.z - z[slot];
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance < 1.0E-4) {
+            setVelocity(slot, 0, 0, 0);
+        } else {
+            double scale = moveSpeed / distance;
+            setVelocity(slot, dx * scale, dy * scale, dz * scale);
+        }
+        return distance;
+    }
+
+    public float speed(int slot) {
+        return speed[slot];
+    }
+
+    public float damage(int slot) {
+        return damage[slot];
+    }
+
+    /**
+     * Behaviour-specific float (e.g. the yaw of a cleave arc)
+     */
+    public float param(int slot) {
+        return param[slot];
+    }
+
+    public void setParam(int slot, float value) {
+        param[slot] = value;
+    }
+
+    public int ticksAlive(int slot) {
+        return ticksAlive[slot];
+    }
+
+    public void setMaxTicks(int slot, int ticks) {
+        maxTicks[slot] = ticks;
+    }
+
+    public boolean hasFlag(int slot, int flag) {
+        return (flags[slot] & flag) != 0;
+    }
+
+    public void setFlag(int slot, int flag) {
+        flags[slot] |= flag;
+    }
+
+    /**
+     * Behaviour-specific tick stamp (e.g. when a projectile got stuck)
+     */
+    public int marker(int slot) {
+        return marker[slot];
+    }
+
+    public void setMarker(int slot, int value) {
+        marker[slot] = value;
+    }
+
+    public ServerPlayer owner(int slot) {
+        return owner[slot];
+    }
+
+    public LivingEntity target(int slot) {
+        return target[slot];
+    }
+
+    public void setTarget(int slot, LivingEntity entity) {
+        target[slot] = entity;
+    }
+
+    // ===== COLLISION =====
+
+    /**
+     * Living entities (other than the owner) crossed by this tick's movement of the projectile,
+     * nearest first. Tests the whole swept segment so fast projectiles can't skip past a target.
+     * The returned list is reused by the next call.
+     */
+    public List<LivingEntity> sweep(int slot, double radius) {
+        return broadphase.sweep(previousPosition(slot), position(slot), radius, owner[slot]);
+    }
+
+
+    /**
+     * Record a hit for a piercing projectile. Returns false if this entity was already hit.
+     */
+    public boolean markHit(int slot, Entity entity) {
+        IntOpenHashSet set = hits[slot];
+        if (set == null) {
+            set = new IntOpenHashSet(4);
+            hits[slot] = set;
+        }
+        return set.add(entity.getId());
+    }
+
+    /**
+     * Forget every entity hit so far (e.g. when a returning projectile turns around)
+     */
+    public void clearHits(int slot) {
+        if (hits[slot] != null) {
+            hits[slot].clear();
+        }
+    }
+}
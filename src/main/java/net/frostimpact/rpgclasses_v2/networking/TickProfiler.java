@@ -0,0 +1,227 @@
+package net.frostimpact.rpgclasses_v2.networking;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Built-in profiler for the mod's server tick work, always on so a live server can be inspected
+ * with /rpgclasses profile. Each subsystem is timed with System.nanoTime() and counters record how much
+ * work it did; both are kept per tick over a rolling window of the last WINDOW_TICKS ticks.
+ * Only called from the server thread.
+ */
+public class TickProfiler {
+    public static final int WINDOW_TICKS = 200; // 10 seconds
+
+    /**
+     * Timed parts of the server tick
+     */
+    public enum Section {
+        TIMED_EFFECTS("tickTimedEffects"),
+        PLAYER_TICK("player stats/passives"),
+        PROJECTILES("updateLevelProjectiles"),
+        STATUS_EFFECTS("updateStatusEffects"),
+        WARRIOR_LEAPS("updateWarriorLeaps"),
+        LANCER_ABILITIES("updateLancerAbilities"),
+        HEARTSTOPPERS("updateRavagerHeartstoppers"),
+        SCHEDULED_ABILITIES("updateScheduledAbilities"),
+        BERSERKER_RAGE("updateBerserkerRage"),
+        FATESPINNER_THREADS("updateFatespinnerThreads"),
+        MANAFLUX_CHANNEL("updateManafluxChannel"),
+        PLAYER_SYNC("flushPlayerSync");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Work counted across all sections
+     */
+    public enum Counter {
+        ENTITIES_SCANNED("entities scanned"),
+        PROJECTILES_STEPPED("projectiles stepped"),
+        PACKETS_SENT("packets sent"), // Broadcasts (sendToPlayersNear/InDimension) count once
+        PARTICLES_EMITTED("particles emitted");
+
+        private final String label;
+
+        Counter(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Window summary of one section (times in microseconds) or counter (amounts per tick)
+     */
+    public record Stat(String name, double average, long max, long total) {
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    // Current tick, folded into the window by endTick
+    private static final long[] sectionNanos = new long[SECTIONS.length];
+    private static final long[] counterValues = new long[COUNTERS.length];
+    // Ring buffers of finished ticks, [section/counter][tick % WINDOW_TICKS]
+    private static final long[][] sectionWindow = new long[SECTIONS.length][WINDOW_TICKS];
+    private static final long[][] counterWindow = new long[COUNTERS.length][WINDOW_TICKS];
+    private static int windowIndex = 0;
+    private static int recordedTicks = 0;
+
+    /**
+     * Start timing a section. Pass the result to stop or lap.
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Add the time since startNanos to a section
+     */
+    public static void stop(Section section, long startNanos) {
+        sectionNanos[section.ordinal()] += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Add the time since startNanos to a section and return the start of the next one
+     */
+    public static long lap(Section section, long startNanos) {
+        long now = System.nanoTime();
+        sectionNanos[section.ordinal()] += now - startNanos;
+        return now;
+    }
+
+    public static void count(Counter counter, int amount) {
+        counterValues[counter.ordinal()] += amount;
+    }
+
+    /**
+     * Close the current tick and move it into the window. Called once at the end of each server tick.
+     */
+    public static void endTick() {
+        for (int i = 0; i < SECTIONS.length; i++) {
+            sectionWindow[i][windowIndex] = sectionNanos[i];
+            sectionNanos[i] = 0;
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            counterWindow[i][windowIndex] = counterValues[i];
+            counterValues[i] = 0;
+        }
+        windowIndex = (windowIndex + 1) % WINDOW_TICKS;
+        recordedTicks = Math.min(recordedTicks + 1, WINDOW_TICKS);
+    }
+
+    public static void reset() {
+        for (int i = 0; i < SECTIONS.length; i++) {
+            sectionNanos[i] = 0;
+            Arrays.fill(sectionWindow[i], 0);
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            counterValues[i] = 0;
+            Arrays.fill(counterWindow[i], 0);
+        }
+        windowIndex = 0;
+        recordedTicks = 0;
+    }
+
+    /**
+     * Number of finished ticks in the window (less than WINDOW_TICKS right after start or reset)
+     */
+    public static int getRecordedTicks() {
+        return recordedTicks;
+    }
+
+    /**
+     * Per-section time over the window, slowest first. Times are in microseconds.
+     */
+    public static List<Stat> getSectionStats() {
+        List<Stat> stats = new ArrayList<>(SECTIONS.length);
+        for (Section section : SECTIONS) {
+            Stat nanos = summarize(section.getLabel(), sectionWindow[section.ordinal()]);
+            stats.add(new Stat(nanos.name(), nanos.average() / 1000.0, nanos.max() / 1000, nanos.total() / 1000));
+        }
+        stats.sort((a, b) -> Double.compare(b.average(), a.average()));
+        return stats;
+    }
+
+    /**
+     * Per-counter amounts over the window
+     */
+    public static List<Stat> getCounterStats() {
+        List<Stat> stats = new ArrayList<>(COUNTERS.length);
+        for (Counter counter : COUNTERS) {
+            stats.add(summarize(counter.getLabel(), counterWindow[counter.ordinal()]));
+        }
+        return stats;
+    }
+
+    /**
+     * Write the current window as a JSON report into the given directory and return the file
+     */
+    public static Path writeReport(Path directory) throws IOException {
+        JsonObject report = new JsonObject();
+        report.addProperty("ticks", recordedTicks);
+        report.addProperty("timeUnit", "microseconds");
+
+        JsonArray sections = new JsonArray();
+        for (Stat stat : getSectionStats()) {
+            sections.add(toJson(stat));
+        }
+        report.add("sections", sections);
+
+        JsonArray counters = new JsonArray();
+        for (Stat stat : getCounterStats()) {
+            counters.add(toJson(stat));
+        }
+        report.add("counters", counters);
+
+        Files.createDirectories(directory);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = directory.resolve("rpgclasses-profile-" + timestamp + ".json");
+        Files.writeString(file, new GsonBuilder().setPrettyPrinting().create().toJson(report), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static Stat summarize(String name, long[] window) {
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < recordedTicks; i++) {
+            // The newest recordedTicks slots, walking back from the last written one
+            long value = window[(windowIndex - 1 - i + WINDOW_TICKS) % WINDOW_TICKS];
+            total += value;
+            max = Math.max(max, value);
+        }
+        double average = recordedTicks > 0 ? (double) total / recordedTicks : 0.0;
+        return new Stat(name, average, max, total);
+    }
+
+    private static JsonObject toJson(Stat stat) {
+        JsonObject json = new JsonObject();
+        json.addProperty("name", stat.name());
+        json.addProperty("averagePerTick", stat.average());
+        json.addProperty("maxPerTick", stat.max());
+        json.addProperty("total", stat.total());
+        return json;
+    }
+}
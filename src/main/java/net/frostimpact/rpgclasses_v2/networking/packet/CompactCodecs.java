@@ -0,0 +1,160 @@
+package net.frostimpact.rpgclasses_v2.networking.packet;
+
+import io.netty.buffer.ByteBuf;
+import net.frostimpact.rpgclasses_v2.rpg.AbilityKeys;
+import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData.Cooldown;
+import net.frostimpact.rpgclasses_v2.rpg.stats.StatModifier;
+import net.frostimpact.rpgclasses_v2.rpg.stats.StatType;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassType;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact wire formats for the frequently synced player data.
+ * Ability ids and stat types are sent as enum ordinals instead of names, numbers as varints.
+ */
+public class CompactCodecs {
+    private static final String ABILITY_INFIX = "_ability_";
+    private static final int MAX_SLOTS = 8; // Slot bitmask is one byte (slots 1-8)
+
+    /**
+     * Cooldowns (ability id -> remaining ticks and full duration).
+     * Abilities are grouped by class: class ordinal, a bitmask of the slots present, then the remaining ticks
+     * and duration of each slot in order. Ids that aren't "<class>_ability_<slot>" follow as plain string entries.
+     */
+    public static final StreamCodec<ByteBuf, Map<String, Cooldown>> COOLDOWNS = StreamCodec.of(
+        (buf, cooldowns) -> {
+            Map<ClassType, Cooldown[]> byClass = new EnumMap<>(ClassType.class);
+            Map<String, Cooldown> other = new HashMap<>();
+            for (Map.Entry<String, Cooldown> entry : cooldowns.entrySet()) {
+                String abilityId = entry.getKey();
+                int split = abilityId.lastIndexOf(ABILITY_INFIX);
+                ClassType classType = split > 0 ? ClassType.fromId(abilityId.substring(0, split)) : ClassType.NONE;
+                int slot = split > 0 ? parseSlot(abilityId.substring(split + ABILITY_INFIX.length())) : -1;
+                if (classType == ClassType.NONE || slot < 1 || slot > MAX_SLOTS
+                        || !AbilityKeys.abilityId(classType.getId(), slot).equals(abilityId)) {
+                    other.put(abilityId, entry.getValue());
+                    continue;
+                }
+                byClass.computeIfAbsent(classType, key -> new Cooldown[MAX_SLOTS])[slot - 1] = entry.getValue();
+            }
+
+            ByteBufCodecs.VAR_INT.encode(buf, byClass.size());
+            for (Map.Entry<ClassType, Cooldown[]> entry : byClass.entrySet()) {
+                Cooldown[] slots = entry.getValue();
+                int mask = 0;
+                for (int i = 0; i < MAX_SLOTS; i++) {
+                    if (slots[i] != null) {
+                        mask |= 1 << i;
+                    }
+                }
+                ByteBufCodecs.VAR_INT.encode(buf, entry.getKey().ordinal());
+                buf.writeByte(mask);
+                for (int i = 0; i < MAX_SLOTS; i++) {
+                    if (slots[i] != null) {
+                        encodeCooldown(buf, slots[i]);
+                    }
+                }
+            }
+
+            ByteBufCodecs.VAR_INT.encode(buf, other.size());
+            for (Map.Entry<String, Cooldown> entry : other.entrySet()) {
+                ByteBufCodecs.STRING_UTF8.encode(buf, entry.getKey());
+                encodeCooldown(buf, entry.getValue());
+            }
+        },
+        buf -> {
+            Map<String, Cooldown> cooldowns = new HashMap<>();
+            ClassType[] classTypes = ClassType.values();
+            int classCount = ByteBufCodecs.VAR_INT.decode(buf);
+            for (int c = 0; c < classCount; c++) {
+                ClassType classType = classTypes[ByteBufCodecs.VAR_INT.decode(buf)];
+                int mask = buf.readUnsignedByte();
+                for (int i = 0; i < MAX_SLOTS; i++) {
+                    if ((mask & (1 << i)) != 0) {
+                        cooldowns.put(AbilityKeys.abilityId(classType.getId(), i + 1), decodeCooldown(buf));
+                    }
+                }
+            }
+            int otherCount = ByteBufCodecs.VAR_INT.decode(buf);
+            for (int i = 0; i < otherCount; i++) {
+                String abilityId = ByteBufCodecs.STRING_UTF8.decode(buf);
+                cooldowns.put(abilityId, decodeCooldown(buf));
+            }
+            return cooldowns;
+        }
+    );
+
+    /**
+     * Stat modifiers. Each distinct source string is written once per packet and modifiers refer to it by index;
+     * stat types are ordinals, values floats and durations varints (shifted by one so permanent is a single byte).
+     */
+    public static final StreamCodec<ByteBuf, List<StatModifier>> STAT_MODIFIERS = StreamCodec.of(
+        (buf, modifiers) -> {
+            Map<String, Integer> sourceIndices = new HashMap<>();
+            List<String> sources = new ArrayList<>();
+            for (StatModifier modifier : modifiers) {
+                sourceIndices.computeIfAbsent(modifier.getSource(), source -> {
+                    sources.add(source);
+                    return sources.size() - 1;
+                });
+            }
+
+            ByteBufCodecs.VAR_INT.encode(buf, sources.size());
+            for (String source : sources) {
+                ByteBufCodecs.STRING_UTF8.encode(buf, source);
+            }
+            ByteBufCodecs.VAR_INT.encode(buf, modifiers.size());
+            for (StatModifier modifier : modifiers) {
+                ByteBufCodecs.VAR_INT.encode(buf, sourceIndices.get(modifier.getSource()));
+                buf.writeByte(modifier.getStatType().ordinal());
+                buf.writeFloat((float) modifier.getValue());
+                ByteBufCodecs.VAR_INT.encode(buf, modifier.getDuration() + 1);
+            }
+        },
+        buf -> {
+            int sourceCount = ByteBufCodecs.VAR_INT.decode(buf);
+            String[] sources = new String[sourceCount];
+            for (int i = 0; i < sourceCount; i++) {
+                sources[i] = ByteBufCodecs.STRING_UTF8.decode(buf);
+            }
+            StatType[] statTypes = StatType.values();
+            int count = ByteBufCodecs.VAR_INT.decode(buf);
+            List<StatModifier> modifiers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String source = sources[ByteBufCodecs.VAR_INT.decode(buf)];
+                StatType statType = statTypes[buf.readUnsignedByte()];
+                double value = buf.readFloat();
+                int duration = ByteBufCodecs.VAR_INT.decode(buf) - 1;
+                modifiers.add(new StatModifier(source, statType, value, duration));
+            }
+            return modifiers;
+        }
+    );
+
+    private static void encodeCooldown(ByteBuf buf, Cooldown cooldown) {
+        ByteBufCodecs.VAR_INT.encode(buf, cooldown.remaining());
+        if (cooldown.remaining() > 0) {
+            ByteBufCodecs.VAR_INT.encode(buf, cooldown.duration());
+        }
+    }
+
+    private static Cooldown decodeCooldown(ByteBuf buf) {
+        int remaining = ByteBufCodecs.VAR_INT.decode(buf);
+        int duration = remaining > 0 ? ByteBufCodecs.VAR_INT.decode(buf) : 0;
+        return new Cooldown(remaining, duration);
+    }
+
+    private static int parseSlot(String slot) {
+        if (slot.length() != 1 || !Character.isDigit(slot.charAt(0))) {
+            return -1;
+        }
+        return slot.charAt(0) - '0';
+    }
+}
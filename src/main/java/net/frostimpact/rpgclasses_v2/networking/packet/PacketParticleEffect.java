@@ -0,0 +1,83 @@
+package net.frostimpact.rpgclasses_v2.networking.packet;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Packet describing a whole dust particle shape (burst, ring, spiral...) from server to client.
+ * The client expands it into individual particles using the seed, so one packet replaces
+ * one particle packet per particle.
+ */
+public record PacketParticleEffect(Shape shape, double x, double y, double z, float radius, float yaw,
+                                   int color, int count, long seed) implements CustomPacketPayload {
+    public static final Type<PacketParticleEffect> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath("rpgclasses_v2", "particle_effect"));
+
+    public static final StreamCodec<ByteBuf, PacketParticleEffect> STREAM_CODEC = StreamCodec.of(
+        (buf, packet) -> {
+            ByteBufCodecs.VAR_INT.encode(buf, packet.shape().ordinal());
+            buf.writeDouble(packet.x());
+            buf.writeDouble(packet.y());
+            buf.writeDouble(packet.z());
+            buf.writeFloat(packet.radius());
+            buf.writeFloat(packet.yaw());
+            buf.writeMedium(packet.color());
+            ByteBufCodecs.VAR_INT.encode(buf, packet.count());
+            buf.writeLong(packet.seed());
+        },
+        buf -> new PacketParticleEffect(
+            Shape.byId(ByteBufCodecs.VAR_INT.decode(buf)),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readFloat(),
+            buf.readFloat(),
+            buf.readUnsignedMedium(),
+            ByteBufCodecs.VAR_INT.decode(buf),
+            buf.readLong()
+        )
+    );
+
+    /**
+     * Dust particle layouts, matching the spawnDustParticles* helpers in ModMessages
+     */
+    public enum Shape {
+        BURST, RING, SPIRAL, ARC, SHELL, LINE, FAN, GROUND, RAIN, UPWARD;
+
+        private static final Shape[] VALUES = values();
+
+        public static Shape byId(int id) {
+            return id >= 0 && id < VALUES.length ? VALUES[id] : BURST;
+        }
+    }
+
+    /**
+     * Pack 0-1 RGB values into a 24-bit colour
+     */
+    public static int packColor(float r, float g, float b) {
+        int red = Math.round(Math.max(0, Math.min(1, r)) * 255);
+        int green = Math.round(Math.max(0, Math.min(1, g)) * 255);
+        int blue = Math.round(Math.max(0, Math.min(1, b)) * 255);
+        return (red << 16) | (green << 8) | blue;
+    }
+
+    public float red() {
+        return ((color >> 16) & 0xFF) / 255.0f;
+    }
+
+    public float green() {
+        return ((color >> 8) & 0xFF) / 255.0f;
+    }
+
+    public float blue() {
+        return (color & 0xFF) / 255.0f;
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,64 @@
+package net.frostimpact.rpgclasses_v2.networking.packet;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Packet telling clients to start animating a multi-tick ability effect locally.
+ * Anchor and target are entity ids (-1 when unused); a duration of -1 runs until stopped.
+ */
+public record PacketStartEffect(Kind kind, int handle, int anchorId, int targetId, double x, double y, double z,
+                                float yaw, float radius, int duration, long seed) implements CustomPacketPayload {
+    public static final Type<PacketStartEffect> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath("rpgclasses_v2", "start_effect"));
+
+    public static final StreamCodec<ByteBuf, PacketStartEffect> STREAM_CODEC = StreamCodec.of(
+        (buf, packet) -> {
+            ByteBufCodecs.VAR_INT.encode(buf, packet.kind().ordinal());
+            ByteBufCodecs.VAR_INT.encode(buf, packet.handle());
+            ByteBufCodecs.VAR_INT.encode(buf, packet.anchorId());
+            ByteBufCodecs.VAR_INT.encode(buf, packet.targetId());
+            buf.writeDouble(packet.x());
+            buf.writeDouble(packet.y());
+            buf.writeDouble(packet.z());
+            buf.writeFloat(packet.yaw());
+            buf.writeFloat(packet.radius());
+            ByteBufCodecs.VAR_INT.encode(buf, packet.duration());
+            buf.writeLong(packet.seed());
+        },
+        buf -> new PacketStartEffect(
+            Kind.byId(ByteBufCodecs.VAR_INT.decode(buf)),
+            ByteBufCodecs.VAR_INT.decode(buf),
+            ByteBufCodecs.VAR_INT.decode(buf),
+            ByteBufCodecs.VAR_INT.decode(buf),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readFloat(),
+            buf.readFloat(),
+            ByteBufCodecs.VAR_INT.decode(buf),
+            buf.readLong()
+        )
+    );
+
+    /**
+     * Effects the client knows how to animate
+     */
+    public enum Kind {
+        WHIRLWIND, RAIN_OF_ARROWS, FATE_THREAD, HEARTSTOPPER_INDICATOR;
+
+        private static final Kind[] VALUES = values();
+
+        public static Kind byId(int id) {
+            return id >= 0 && id < VALUES.length ? VALUES[id] : WHIRLWIND;
+        }
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
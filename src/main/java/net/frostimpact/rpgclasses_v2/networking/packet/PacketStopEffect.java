@@ -0,0 +1,26 @@
+package net.frostimpact.rpgclasses_v2.networking.packet;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Packet telling clients to stop a locally animated ability effect early
+ */
+public record PacketStopEffect(int handle) implements CustomPacketPayload {
+    public static final Type<PacketStopEffect> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath("rpgclasses_v2", "stop_effect"));
+
+    public static final StreamCodec<ByteBuf, PacketStopEffect> STREAM_CODEC = StreamCodec.composite(
+        ByteBufCodecs.VAR_INT,
+        PacketStopEffect::handle,
+        PacketStopEffect::new
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,40 @@
+package net.frostimpact.rpgclasses_v2.networking.packet;
+
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassDefinitions;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+
+/**
+ * The server's class and skill tree definitions, sent on login and after /reload.
+ * Clients compile them into the same tables the server uses.
+ */
+public record PacketSyncClassData(
+        Map<String, ClassDefinitions.ClassEntry> classes,
+        Map<String, ClassDefinitions.TreeEntry> skillTrees
+) implements CustomPacketPayload {
+    public static final Type<PacketSyncClassData> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath("rpgclasses_v2", "sync_class_data"));
+
+    public static final StreamCodec<ByteBuf, PacketSyncClassData> STREAM_CODEC = StreamCodec.composite(
+        ByteBufCodecs.fromCodec(Codec.unboundedMap(Codec.STRING, ClassDefinitions.ClassEntry.CODEC)),
+        PacketSyncClassData::classes,
+        ByteBufCodecs.fromCodec(Codec.unboundedMap(Codec.STRING, ClassDefinitions.TreeEntry.CODEC)),
+        PacketSyncClassData::skillTrees,
+        PacketSyncClassData::new
+    );
+
+    public static PacketSyncClassData of(ClassDefinitions definitions) {
+        return new PacketSyncClassData(definitions.getClassSources(), definitions.getTreeSources());
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,152 @@
+package net.frostimpact.rpgclasses_v2.networking.packet;
+
+import io.netty.buffer.ByteBuf;
+import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+
+/**
+ * RPG data fields changed since the last sync, sent at most once per player per server tick.
+ * fields is a set of PlayerRPGData.DIRTY_* bits; only the groups it names are written to the wire.
+ */
+public record PacketSyncDelta(
+        int fields,
+        int mana,
+        int maxMana,
+        int manaRegenRate,
+        long manaSyncTime,
+        boolean inFocusMode,
+        Map<String, PlayerRPGData.Cooldown> cooldowns,
+        String currentClass,
+        int level,
+        int classLevel,
+        int classExperience,
+        int availableStatPoints,
+        int availableSkillPoints
+) implements CustomPacketPayload {
+    public static final Type<PacketSyncDelta> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath("rpgclasses_v2", "sync_delta"));
+
+    public static final StreamCodec<ByteBuf, PacketSyncDelta> STREAM_CODEC = StreamCodec.of(
+        (buf, packet) -> {
+            ByteBufCodecs.VAR_INT.encode(buf, packet.fields());
+            if (packet.has(PlayerRPGData.DIRTY_MANA)) {
+                ByteBufCodecs.VAR_INT.encode(buf, packet.mana());
+                ByteBufCodecs.VAR_INT.encode(buf, packet.maxMana());
+                ByteBufCodecs.VAR_INT.encode(buf, packet.manaRegenRate());
+                ByteBufCodecs.VAR_LONG.encode(buf, packet.manaSyncTime());
+                ByteBufCodecs.BOOL.encode(buf, packet.inFocusMode());
+            }
+            if (packet.has(PlayerRPGData.DIRTY_COOLDOWNS)) {
+                CompactCodecs.COOLDOWNS.encode(buf, packet.cooldowns());
+            }
+            if (packet.has(PlayerRPGData.DIRTY_PROGRESS)) {
+                ByteBufCodecs.STRING_UTF8.encode(buf, packet.currentClass());
+                ByteBufCodecs.VAR_INT.encode(buf, packet.level());
+                ByteBufCodecs.VAR_INT.encode(buf, packet.classLevel());
+                ByteBufCodecs.VAR_INT.encode(buf, packet.classExperience());
+                ByteBufCodecs.VAR_INT.encode(buf, packet.availableStatPoints());
+                ByteBufCodecs.VAR_INT.encode(buf, packet.availableSkillPoints());
+            }
+        },
+        buf -> {
+            int fields = ByteBufCodecs.VAR_INT.decode(buf);
+            int mana = 0;
+            int maxMana = 0;
+            int manaRegenRate = 0;
+            long manaSyncTime = 0;
+            boolean inFocusMode = false;
+            Map<String, PlayerRPGData.Cooldown> cooldowns = Map.of();
+            String currentClass = "";
+            int level = 0;
+            int classLevel = 0;
+            int classExperience = 0;
+            int availableStatPoints = 0;
+            int availableSkillPoints = 0;
+            if ((fields & PlayerRPGData.DIRTY_MANA) != 0) {
+                mana = ByteBufCodecs.VAR_INT.decode(buf);
+                maxMana = ByteBufCodecs.VAR_INT.decode(buf);
+                manaRegenRate = ByteBufCodecs.VAR_INT.decode(buf);
+                manaSyncTime = ByteBufCodecs.VAR_LONG.decode(buf);
+                inFocusMode = ByteBufCodecs.BOOL.decode(buf);
+            }
+            if ((fields & PlayerRPGData.DIRTY_COOLDOWNS) != 0) {
+                cooldowns = CompactCodecs.COOLDOWNS.decode(buf);
+            }
+            if ((fields & PlayerRPGData.DIRTY_PROGRESS) != 0) {
+                currentClass = ByteBufCodecs.STRING_UTF8.decode(buf);
+                level = ByteBufCodecs.VAR_INT.decode(buf);
+                classLevel = ByteBufCodecs.VAR_INT.decode(buf);
+                classExperience = ByteBufCodecs.VAR_INT.decode(buf);
+                availableStatPoints = ByteBufCodecs.VAR_INT.decode(buf);
+                availableSkillPoints = ByteBufCodecs.VAR_INT.decode(buf);
+            }
+            return new PacketSyncDelta(fields, mana, maxMana, manaRegenRate, manaSyncTime, inFocusMode, cooldowns, currentClass,
+                    level, classLevel, classExperience, availableStatPoints, availableSkillPoints);
+        }
+    );
+
+    /**
+     * Snapshot the given dirty fields of a player's data. Only cooldowns changed since the last sync are included.
+     */
+    public static PacketSyncDelta of(PlayerRPGData data, int fields, long gameTime) {
+        return new PacketSyncDelta(
+                fields,
+                data.getMana(),
+                data.getMaxMana(),
+                data.getManaRegenRate(),
+                gameTime,
+                data.isInFocusMode(),
+                (fields & PlayerRPGData.DIRTY_COOLDOWNS) != 0 ? data.takeDirtyCooldowns(gameTime) : Map.of(),
+                data.getCurrentClass(),
+                data.getLevel(),
+                data.getClassLevel(),
+                data.getClassExperience(),
+                data.getAvailableStatPoints(),
+                data.getAvailableSkillPoints()
+        );
+    }
+
+    /**
+     * Apply the carried fields to the client's copy of the data
+     */
+    public void applyTo(PlayerRPGData data, long gameTime) {
+        if (has(PlayerRPGData.DIRTY_MANA)) {
+            data.setMaxMana(maxMana);
+            data.setMana(mana);
+            data.setManaRegenRate(manaRegenRate);
+            // Regen steps up to the sync tick are already included in the synced mana
+            data.setManaSyncTime(manaSyncTime);
+            // The server ends FOCUS mode when mana runs out; the client must stop predicting its drain too
+            data.setInFocusMode(inFocusMode);
+        }
+        if (has(PlayerRPGData.DIRTY_COOLDOWNS)) {
+            // The client counts these down itself; the server only sends starts, resets and other changes
+            for (Map.Entry<String, PlayerRPGData.Cooldown> entry : cooldowns.entrySet()) {
+                PlayerRPGData.Cooldown cooldown = entry.getValue();
+                data.setAbilityCooldown(entry.getKey(), cooldown.remaining(), cooldown.duration(), gameTime);
+            }
+        }
+        if (has(PlayerRPGData.DIRTY_PROGRESS)) {
+            data.setCurrentClass(currentClass);
+            data.setLevel(level);
+            data.setClassLevel(classLevel);
+            data.setClassExperience(classExperience);
+            data.setAvailableStatPoints(availableStatPoints);
+            data.setAvailableSkillPoints(availableSkillPoints);
+        }
+    }
+
+    public boolean has(int field) {
+        return (fields & field) != 0;
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,55 @@
+package net.frostimpact.rpgclasses_v2.rpg;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Interns ability ids ("<class>_ability_<slot>") to dense integer indices so per-player
+ * ability state can live in flat arrays instead of string-keyed maps.
+ */
+public final class AbilityKeys {
+    private static final Map<String, Integer> INDICES = new ConcurrentHashMap<>();
+    private static final List<String> IDS = new CopyOnWriteArrayList<>();
+
+    private AbilityKeys() {
+    }
+
+    /**
+     * Build the ability id for a class and ability slot
+     */
+    public static String abilityId(String classId, int slot) {
+        return classId.toLowerCase() + "_ability_" + slot;
+    }
+
+    /**
+     * Get the interned index for an ability id, assigning the next free index on first use
+     */
+    public static int indexOf(String abilityId) {
+        Integer index = INDICES.get(abilityId);
+        if (index != null) {
+            return index;
+        }
+        synchronized (IDS) {
+            return INDICES.computeIfAbsent(abilityId, id -> {
+                IDS.add(id);
+                return IDS.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Get the ability id for an interned index
+     */
+    public static String idOf(int index) {
+        return IDS.get(index);
+    }
+
+    /**
+     * Number of ability ids interned so far
+     */
+    public static int size() {
+        return IDS.size();
+    }
+}
@@ -30,6 +30,12 @@ public class ModAttachments {
                     .build()
     );
 
+    // In-flight ability state - runtime only, so not serialized and not copied on death
+    public static final Supplier<AttachmentType<PlayerAbilityState>> ABILITY_STATE = ATTACHMENT_TYPES.register(
+            "ability_state",
+            () -> AttachmentType.builder(PlayerAbilityState::new).build()
+    );
+
     public static void register(IEventBus modEventBus) {
         ATTACHMENT_TYPES.register(modEventBus);
     }
@@ -0,0 +1,124 @@
+package net.frostimpact.rpgclasses_v2.rpg;
+
+/**
+ * In-flight state of multi-tick abilities (Leap, Heartstopper, Comet).
+ * Runtime only - not saved and reset on death, so an ability interrupted by logout or death just ends.
+ */
+public class PlayerAbilityState {
+    // Warrior Leap
+    private boolean leaping = false;
+    private long leapStartTime = 0; // Game time the leap started
+    private float leapDamage = 0.0f; // Landing damage (200% of player's damage)
+    private float leapYaw = 0.0f; // Look direction at launch
+    private float leapPitch = 0.0f;
+    private boolean leapNoFallDamage = false; // Cancel the next fall damage
+
+    // Ravager Heartstopper
+    private boolean heartstopperCharging = false;
+    private long heartstopperStartTime = 0; // Game time the charge started
+    private float heartstopperDamage = 0.0f;
+
+    // Lancer Comet
+    private boolean cometActive = false;
+    private float cometDamage = 0.0f; // Impact damage
+    private float cometMomentum = 0.0f; // Momentum at cast time
+
+    // ===== WARRIOR LEAP =====
+
+    public void startLeap(long startTime, float damage, float yaw, float pitch) {
+        leaping = true;
+        leapStartTime = startTime;
+        leapDamage = damage;
+        leapYaw = yaw;
+        leapPitch = pitch;
+    }
+
+    public void endLeap() {
+        leaping = false;
+        leapStartTime = 0;
+        leapDamage = 0.0f;
+        leapYaw = 0.0f;
+        leapPitch = 0.0f;
+        leapNoFallDamage = false;
+    }
+
+    public boolean isLeaping() {
+        return leaping;
+    }
+
+    public long getLeapStartTime() {
+        return leapStartTime;
+    }
+
+    public float getLeapDamage() {
+        return leapDamage;
+    }
+
+    public float getLeapYaw() {
+        return leapYaw;
+    }
+
+    public float getLeapPitch() {
+        return leapPitch;
+    }
+
+    public boolean isLeapNoFallDamage() {
+        return leapNoFallDamage;
+    }
+
+    public void setLeapNoFallDamage(boolean leapNoFallDamage) {
+        this.leapNoFallDamage = leapNoFallDamage;
+    }
+
+    // ===== RAVAGER HEARTSTOPPER =====
+
+    public void startHeartstopper(long startTime, float damage) {
+        heartstopperCharging = true;
+        heartstopperStartTime = startTime;
+        heartstopperDamage = damage;
+    }
+
+    public void endHeartstopper() {
+        heartstopperCharging = false;
+        heartstopperStartTime = 0;
+        heartstopperDamage = 0.0f;
+    }
+
+    public boolean isHeartstopperCharging() {
+        return heartstopperCharging;
+    }
+
+    public long getHeartstopperStartTime() {
+        return heartstopperStartTime;
+    }
+
+    public float getHeartstopperDamage() {
+        return heartstopperDamage;
+    }
+
+    // ===== LANCER COMET =====
+
+    public void startComet(float damage, float momentum) {
+        cometActive = true;
+        cometDamage = damage;
+        cometMomentum = momentum;
+    }
+
+    public void endComet() {
+        cometActive = false;
+        cometDamage = 0.0f;
+        cometMomentum = 0.0f;
+    }
+
+    public boolean isCometActive() {
+        return cometActive;
+    }
+
+    public float getCometDamage() {
+        return cometDamage;
+    }
+
+    public float getCometMomentum() {
+        return cometMomentum;
+    }
+}
@@ -2,16 +2,20 @@ package net.frostimpact.rpgclasses_v2.rpg;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.frostimpact.rpgclasses_v2.rpgclass.ClassType;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public class PlayerRPGData {
     public static final Codec<PlayerRPGData> CODEC = RecordCodecBuilder.create(instance ->
         instance.group(
             Codec.INT.fieldOf("mana").forGetter(d -> d.mana),
             Codec.INT.fieldOf("maxMana").forGetter(d -> d.maxMana),
-            Codec.unboundedMap(Codec.STRING, Codec.INT).fieldOf("cooldowns").forGetter(d -> d.cooldowns),
+            Codec.unboundedMap(Codec.STRING, Codec.INT).fieldOf("cooldowns").forGetter(PlayerRPGData::getSavedCooldowns),
             Codec.STRING.fieldOf("currentClass").forGetter(d -> d.currentClass),
             Codec.INT.fieldOf("availableStatPoints").forGetter(d -> d.availableStatPoints),
             Codec.INT.fieldOf("availableSkillPoints").forGetter(d -> d.availableSkillPoints),
@@ -26,8 +30,16 @@ public class PlayerRPGData {
 
     private int mana;
     private int maxMana;
-    private Map<String, Integer> cooldowns;
+    // Cooldowns as absolute "ready at" game ticks, indexed by AbilityKeys index (0 = ready)
+    private long[] cooldownReadyAt = new long[0];
+    // Full length of each cooldown when it was started, so clients can draw progress without a per-tick sync
+    private transient int[] cooldownDuration = new int[0];
+    // Cooldowns started, reset or changed since the last sync, by AbilityKeys index
+    private final transient BitSet dirtyCooldowns = new BitSet();
+    // Remaining cooldown ticks loaded from save data, anchored to game time on first access
+    private Map<String, Integer> pendingCooldowns;
     private String currentClass;
+    private transient ClassType classType = ClassType.NONE; // currentClass resolved once, for class dispatch
     private int availableStatPoints;
     private int availableSkillPoints;
     private int level;
@@ -69,11 +81,29 @@ public class PlayerRPGData {
     public static final int MANAFLUX_MAX_DURATION_TICKS = 160; // 8 seconds max channel
     public static final int MANAFLUX_MANA_DRAIN_INTERVAL_TICKS = 20; // Drain mana every second
     public static final int MANAFLUX_MANA_DRAIN_AMOUNT = 3; // 3 MP per second
+    
+    // Fields changed since the last sync to the client (DIRTY_* bits), flushed once per server tick
+    public static final int DIRTY_MANA = 1; // mana, maxMana, regen rate, FOCUS mode
+    public static final int DIRTY_COOLDOWNS = 1 << 1;
+    public static final int DIRTY_PROGRESS = 1 << 2; // class, levels, experience, stat and skill points
+    public static final int DIRTY_ALL = DIRTY_MANA | DIRTY_COOLDOWNS | DIRTY_PROGRESS;
+    private transient int dirtyFields = 0;
+    
+    // Mana regeneration - stepped on the same game ticks by the server and the client, so it needs no sync.
+    // The server still resends mana every MANA_RESYNC_INTERVAL_TICKS to correct any drift in the prediction.
+    public static final int MANA_REGEN_INTERVAL_TICKS = 20; // Regen every second (20 ticks)
+    public static final int MANA_RESYNC_INTERVAL_TICKS = 100; // 5 seconds
+    public static final int BASE_MANA_REGEN = 1;
+    public static final int FOCUS_MANA_DRAIN = 3; // Marksman FOCUS drain per regen interval
+    private transient int manaRegenRate = BASE_MANA_REGEN; // Mana per interval (base + MANA_REGEN stat), synced
+    private transient long manaSyncTime = 0; // Client-side: server game time of the last mana sync
+    
+    // Latest server game time, used to turn absolute cooldowns back into remaining ticks when saving
+    private static volatile long serverGameTime = 0;
 
     public PlayerRPGData() {
         this.mana = 100;
         this.maxMana = 100;
-        this.cooldowns = new HashMap<>();
         this.currentClass = "NONE";
         this.availableStatPoints = 0;
         this.availableSkillPoints = 0;
@@ -90,8 +120,9 @@ public class PlayerRPGData {
                          int classExperience, int seekerCharges, Map<String, Map<String, Integer>> skillTreeAllocations) {
         this.mana = mana;
         this.maxMana = maxMana;
-        this.cooldowns = new HashMap<>(cooldowns);
+        this.pendingCooldowns = cooldowns.isEmpty() ? null : new HashMap<>(cooldowns);
         this.currentClass = currentClass;
+        this.classType = ClassType.fromId(currentClass);
         this.availableStatPoints = availableStatPoints;
         this.availableSkillPoints = availableSkillPoints;
         this.level = level;
@@ -109,7 +140,7 @@ public class PlayerRPGData {
     }
 
     public void setMana(int mana) {
-        this.mana = Math.max(0, Math.min(mana, maxMana));
+        updateMana(Math.max(0, Math.min(mana, maxMana)));
     }
 
     public int getMaxMana() {
@@ -117,45 +148,214 @@ public class PlayerRPGData {
     }
 
     public void setMaxMana(int maxMana) {
-        this.maxMana = maxMana;
-        this.mana = Math.min(this.mana, maxMana);
+        if (this.maxMana != maxMana) {
+            this.maxMana = maxMana;
+            markDirty(DIRTY_MANA);
+        }
+        updateMana(Math.min(this.mana, maxMana));
     }
 
     public void useMana(int amount) {
-        this.mana = Math.max(0, this.mana - amount);
+        updateMana(Math.max(0, this.mana - amount));
     }
 
     public void regenMana(int amount) {
-        this.mana = Math.min(maxMana, this.mana + amount);
+        updateMana(Math.min(maxMana, this.mana + amount));
+    }
+
+    public int getManaRegenRate() {
+        return manaRegenRate;
+    }
+
+    public void setManaRegenRate(int manaRegenRate) {
+        if (this.manaRegenRate != manaRegenRate) {
+            this.manaRegenRate = manaRegenRate;
+            markDirty(DIRTY_MANA);
+        }
+    }
+
+    public void setManaSyncTime(long manaSyncTime) {
+        this.manaSyncTime = manaSyncTime;
+    }
+
+    /**
+     * Server: apply one regen interval (FOCUS drain, then regeneration). Not flagged for sync -
+     * the client steps its copy the same way on the same ticks, see predictManaRegen.
+     */
+    public void tickManaRegen() {
+        this.mana = stepManaRegen(this.mana);
+    }
+
+    /**
+     * Client: step the local mana on regen interval ticks after the last sync, mirroring tickManaRegen
+     */
+    public void predictManaRegen(long gameTime) {
+        if (gameTime > manaSyncTime && gameTime % MANA_REGEN_INTERVAL_TICKS == 0) {
+            this.mana = stepManaRegen(this.mana);
+        }
+    }
+
+    private int stepManaRegen(int mana) {
+        if (inFocusMode && mana >= FOCUS_MANA_DRAIN) {
+            mana -= FOCUS_MANA_DRAIN;
+        }
+        return Math.min(maxMana, mana + manaRegenRate);
+    }
+    
+    private void updateMana(int mana) {
+        if (this.mana != mana) {
+            this.mana = mana;
+            markDirty(DIRTY_MANA);
+        }
+    }
+    
+    /**
+     * Flag fields as changed so they are sent with the next sync. Flagging cooldowns resends every known cooldown.
+     */
+    public void markDirty(int fields) {
+        dirtyFields |= fields;
+        if ((fields & DIRTY_COOLDOWNS) != 0) {
+            dirtyCooldowns.set(0, cooldownReadyAt.length);
+        }
+    }
+    
+    /**
+     * Get the fields changed since the last call and clear them
+     */
+    public int takeDirtyFields() {
+        int fields = dirtyFields;
+        dirtyFields = 0;
+        return fields;
+    }
+
+    /**
+     * Record the current server game time. Called once per server tick, not per player.
+     */
+    public static void updateServerGameTime(long gameTime) {
+        serverGameTime = gameTime;
+    }
+
+    /**
+     * Convert cooldowns loaded as remaining ticks into absolute ready times
+     */
+    private void anchorPendingCooldowns(long gameTime) {
+        if (pendingCooldowns == null) {
+            return;
+        }
+        Map<String, Integer> pending = pendingCooldowns;
+        pendingCooldowns = null;
+        for (Map.Entry<String, Integer> entry : pending.entrySet()) {
+            setAbilityCooldown(entry.getKey(), entry.getValue(), gameTime);
+        }
     }
 
-    public int getAbilityCooldown(String abilityId) {
-        return cooldowns.getOrDefault(abilityId, 0);
+    public int getAbilityCooldown(String abilityId, long gameTime) {
+        anchorPendingCooldowns(gameTime);
+        int index = AbilityKeys.indexOf(abilityId);
+        if (index >= cooldownReadyAt.length) {
+            return 0;
+        }
+        return (int) Math.max(0, cooldownReadyAt[index] - gameTime);
+    }
+
+    public void setAbilityCooldown(String abilityId, int ticks, long gameTime) {
+        setAbilityCooldown(abilityId, ticks, ticks, gameTime);
     }
 
-    public void setAbilityCooldown(String abilityId, int ticks) {
-        if (ticks <= 0) {
-            cooldowns.remove(abilityId);
-        } else {
-            cooldowns.put(abilityId, ticks);
+    /**
+     * Start a cooldown with the given remaining ticks out of a full duration (they differ when a client
+     * learns of a cooldown that started earlier). 0 remaining ticks makes the ability ready.
+     */
+    public void setAbilityCooldown(String abilityId, int ticks, int duration, long gameTime) {
+        anchorPendingCooldowns(gameTime);
+        int index = AbilityKeys.indexOf(abilityId);
+        if (index >= cooldownReadyAt.length) {
+            if (ticks <= 0) {
+                return;
+            }
+            int length = Math.max(index + 1, AbilityKeys.size());
+            cooldownReadyAt = Arrays.copyOf(cooldownReadyAt, length);
+            cooldownDuration = Arrays.copyOf(cooldownDuration, length);
+        }
+        long readyAt = ticks <= 0 ? 0 : gameTime + ticks;
+        if (cooldownReadyAt[index] != readyAt) {
+            cooldownReadyAt[index] = readyAt;
+            cooldownDuration[index] = ticks <= 0 ? 0 : Math.max(ticks, duration);
+            dirtyCooldowns.set(index);
+            dirtyFields |= DIRTY_COOLDOWNS;
         }
     }
 
-    public void tickCooldowns() {
-        cooldowns.replaceAll((key, value) -> value - 1);
-        cooldowns.entrySet().removeIf(entry -> entry.getValue() <= 0);
+    /**
+     * Full length of an ability's current cooldown (0 if ready or unknown)
+     */
+    public int getAbilityCooldownDuration(String abilityId) {
+        int index = AbilityKeys.indexOf(abilityId);
+        return index < cooldownDuration.length ? cooldownDuration[index] : 0;
     }
 
     public void clearAllCooldowns() {
-        cooldowns.clear();
+        pendingCooldowns = null;
+        for (int i = 0; i < cooldownReadyAt.length; i++) {
+            if (cooldownReadyAt[i] != 0) {
+                cooldownReadyAt[i] = 0;
+                cooldownDuration[i] = 0;
+                dirtyCooldowns.set(i);
+                dirtyFields |= DIRTY_COOLDOWNS;
+            }
+        }
+    }
+    
+    /**
+     * A cooldown as sent to the client: remaining ticks (0 = ready) out of the full duration
+     */
+    public record Cooldown(int remaining, int duration) {
+    }
+    
+    /**
+     * Get the cooldowns changed since the last call and clear them. Cooldowns that were reset come back as ready.
+     */
+    public Map<String, Cooldown> takeDirtyCooldowns(long gameTime) {
+        anchorPendingCooldowns(gameTime);
+        Map<String, Cooldown> changed = new HashMap<>();
+        for (int i = dirtyCooldowns.nextSetBit(0); i >= 0; i = dirtyCooldowns.nextSetBit(i + 1)) {
+            int remaining = (int) Math.max(0, cooldownReadyAt[i] - gameTime);
+            changed.put(AbilityKeys.idOf(i), new Cooldown(remaining, remaining > 0 ? cooldownDuration[i] : 0));
+        }
+        dirtyCooldowns.clear();
+        return changed;
+    }
+    
+    /**
+     * Get the remaining ticks of every ability still on cooldown
+     */
+    public Map<String, Integer> getAllCooldowns(long gameTime) {
+        anchorPendingCooldowns(gameTime);
+        Map<String, Integer> remaining = new HashMap<>();
+        for (int i = 0; i < cooldownReadyAt.length; i++) {
+            long ticks = cooldownReadyAt[i] - gameTime;
+            if (ticks > 0) {
+                remaining.put(AbilityKeys.idOf(i), (int) ticks);
+            }
+        }
+        return remaining;
     }
     
-    public Map<String, Integer> getAllCooldowns() {
-        return new HashMap<>(cooldowns);
+    /**
+     * Replace all cooldowns with the given remaining ticks
+     */
+    public void setAllCooldowns(Map<String, Integer> cooldowns, long gameTime) {
+        clearAllCooldowns();
+        for (Map.Entry<String, Integer> entry : cooldowns.entrySet()) {
+            setAbilityCooldown(entry.getKey(), entry.getValue(), gameTime);
+        }
     }
     
-    public void setAllCooldowns(Map<String, Integer> cooldowns) {
-        this.cooldowns = new HashMap<>(cooldowns);
+    private Map<String, Integer> getSavedCooldowns() {
+        if (pendingCooldowns != null) {
+            return new HashMap<>(pendingCooldowns);
+        }
+        return getAllCooldowns(serverGameTime);
     }
 
     public String getCurrentClass() {
@@ -163,7 +363,19 @@ public class PlayerRPGData {
     }
 
     public void setCurrentClass(String currentClass) {
+        if (Objects.equals(this.currentClass, currentClass)) {
+            return;
+        }
         this.currentClass = currentClass;
+        this.classType = ClassType.fromId(currentClass);
+        markDirty(DIRTY_PROGRESS);
+        if (classType != ClassType.MARKSMAN) {
+            setInFocusMode(false); // Only Marksman has FOCUS mode; its mana drain must not outlive the class
+        }
+    }
+
+    public ClassType getClassType() {
+        return classType;
     }
 
     public int getAvailableStatPoints() {
@@ -171,16 +383,24 @@ public class PlayerRPGData {
     }
 
     public void setAvailableStatPoints(int points) {
-        this.availableStatPoints = Math.max(0, points);
+        points = Math.max(0, points);
+        if (this.availableStatPoints != points) {
+            this.availableStatPoints = points;
+            markDirty(DIRTY_PROGRESS);
+        }
     }
 
     public void addStatPoints(int points) {
-        this.availableStatPoints += points;
+        if (points != 0) {
+            this.availableStatPoints += points;
+            markDirty(DIRTY_PROGRESS);
+        }
     }
 
     public boolean useStatPoint() {
         if (availableStatPoints > 0) {
             availableStatPoints--;
+            markDirty(DIRTY_PROGRESS);
             return true;
         }
         return false;
@@ -191,7 +411,11 @@ public class PlayerRPGData {
     }
 
     public void setLevel(int level) {
-        this.level = Math.max(1, level);
+        level = Math.max(1, level);
+        if (this.level != level) {
+            this.level = level;
+            markDirty(DIRTY_PROGRESS);
+        }
     }
     
     public int getClassLevel() {
@@ -199,7 +423,11 @@ public class PlayerRPGData {
     }
     
     public void setClassLevel(int classLevel) {
-        this.classLevel = Math.max(1, classLevel);
+        classLevel = Math.max(1, classLevel);
+        if (this.classLevel != classLevel) {
+            this.classLevel = classLevel;
+            markDirty(DIRTY_PROGRESS);
+        }
     }
     
     public int getClassExperience() {
@@ -207,11 +435,19 @@ public class PlayerRPGData {
     }
     
     public void setClassExperience(int classExperience) {
-        this.classExperience = Math.max(0, classExperience);
+        classExperience = Math.max(0, classExperience);
+        if (this.classExperience != classExperience) {
+            this.classExperience = classExperience;
+            markDirty(DIRTY_PROGRESS);
+        }
     }
     
     public void addClassExperience(int amount) {
+        if (amount == 0) {
+            return;
+        }
         this.classExperience += amount;
+        markDirty(DIRTY_PROGRESS);
         // Check for level up (100 XP per level as example)
         int xpNeeded = classLevel * 100;
         while (classExperience >= xpNeeded) {
@@ -229,16 +465,24 @@ public class PlayerRPGData {
     }
     
     public void setAvailableSkillPoints(int points) {
-        this.availableSkillPoints = Math.max(0, points);
+        points = Math.max(0, points);
+        if (this.availableSkillPoints != points) {
+            this.availableSkillPoints = points;
+            markDirty(DIRTY_PROGRESS);
+        }
     }
     
     public void addSkillPoints(int points) {
-        this.availableSkillPoints += points;
+        if (points != 0) {
+            this.availableSkillPoints += points;
+            markDirty(DIRTY_PROGRESS);
+        }
     }
     
     public boolean useSkillPoint() {
         if (availableSkillPoints > 0) {
             availableSkillPoints--;
+            markDirty(DIRTY_PROGRESS);
             return true;
         }
         return false;
@@ -271,7 +515,10 @@ public class PlayerRPGData {
     }
     
     public void setInFocusMode(boolean inFocusMode) {
-        this.inFocusMode = inFocusMode;
+        if (this.inFocusMode != inFocusMode) {
+            this.inFocusMode = inFocusMode;
+            markDirty(DIRTY_MANA); // The FOCUS drain is part of the client's mana prediction
+        }
     }
     
     // Skill Tree Allocations methods
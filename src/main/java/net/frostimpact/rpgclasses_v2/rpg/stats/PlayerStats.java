@@ -7,9 +7,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.PriorityQueue;
 
 public class PlayerStats {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerStats.class);
@@ -17,11 +17,24 @@ public class PlayerStats {
     
     public static final Codec<PlayerStats> CODEC = RecordCodecBuilder.create(instance ->
         instance.group(
-            Codec.list(StatModifier.CODEC).fieldOf("modifiers").forGetter(s -> s.modifiers)
+            Codec.list(StatModifier.CODEC).fieldOf("modifiers").forGetter(PlayerStats::getModifiers)
         ).apply(instance, PlayerStats::new)
     );
 
+    private static final StatType[] STAT_TYPES = StatType.values();
+    private static final int ALL_DIRTY = (1 << STAT_TYPES.length) - 1;
+
     private List<StatModifier> modifiers;
+    
+    // Cached per-stat totals indexed by StatType ordinal. A stat whose bit is set in
+    // dirtyMask is recomputed from the modifier list on its next read.
+    private final double[] totals = new double[STAT_TYPES.length];
+    private int dirtyMask = ALL_DIRTY;
+    
+    // Timed modifiers ordered by absolute expiry tick. Permanent modifiers never enter the queue.
+    private final PriorityQueue<StatModifier> expiryQueue =
+            new PriorityQueue<>(Comparator.comparingLong(StatModifier::getExpiresAt));
+    private long tickCount = 0;
 
     public PlayerStats() {
         this.modifiers = new ArrayList<>();
@@ -29,30 +42,72 @@ public class PlayerStats {
 
     private PlayerStats(List<StatModifier> modifiers) {
         this.modifiers = new ArrayList<>(modifiers);
+        scheduleAllExpiries();
     }
 
     public void addModifier(StatModifier modifier) {
         modifiers.add(modifier);
+        if (modifier.isTimed()) {
+            modifier.scheduleExpiry(tickCount);
+            expiryQueue.add(modifier);
+        }
+        // Appending keeps the summation order, so the cached total stays exact
+        int ordinal = modifier.getStatType().ordinal();
+        if ((dirtyMask & (1 << ordinal)) == 0) {
+            totals[ordinal] += modifier.getValue();
+        }
     }
 
     public void removeModifier(String source, StatType statType) {
-        modifiers.removeIf(m -> m.getSource().equals(source) && m.getStatType() == statType);
+        modifiers.removeIf(m -> {
+            if (m.getSource().equals(source) && m.getStatType() == statType) {
+                onRemoved(m);
+                return true;
+            }
+            return false;
+        });
     }
 
     public void removeAllFromSource(String source) {
-        modifiers.removeIf(m -> m.getSource().equals(source));
+        modifiers.removeIf(m -> {
+            if (m.getSource().equals(source)) {
+                onRemoved(m);
+                return true;
+            }
+            return false;
+        });
     }
 
-    public double getStatValue(StatType statType) {
+    private void onRemoved(StatModifier modifier) {
+        markDirty(modifier.getStatType());
+        if (modifier.isTimed()) {
+            expiryQueue.remove(modifier);
+        }
+    }
+
+    private void markDirty(StatType statType) {
+        dirtyMask |= 1 << statType.ordinal();
+    }
+
+    /**
+     * Recompute the cached total for a single stat from the modifier list
+     */
+    private double recomputeTotal(StatType statType) {
         double total = 0.0;
-        System.out.println("[STATS] Calculating " + statType + ":");
         for (StatModifier modifier : modifiers) {
             if (modifier.getStatType() == statType) {
-                System.out.println("  - Source: " + modifier.getSource() + ", Value: " + modifier.getValue());
                 total += modifier.getValue();
             }
         }
+        int ordinal = statType.ordinal();
+        totals[ordinal] = total;
+        dirtyMask &= ~(1 << ordinal);
+        return total;
+    }
 
+    public double getStatValue(StatType statType) {
+        int ordinal = statType.ordinal();
+        double total = (dirtyMask & (1 << ordinal)) != 0 ? recomputeTotal(statType) : totals[ordinal];
         
         // Apply clamping for MOVE_SPEED to prevent excessive values
         if (statType == StatType.MOVE_SPEED && total > MAX_MOVE_SPEED) {
@@ -95,23 +150,47 @@ public class PlayerStats {
         return getStatValue(statType);
     }
 
+    /**
+     * Advance the modifier clock by one tick and drop modifiers that expire on it.
+     * Only the head of the expiry queue is inspected, so permanent modifiers cost nothing here.
+     */
     public void tick() {
-        for (StatModifier modifier : modifiers) {
-            modifier.tick();
+        tickCount++;
+        while (!expiryQueue.isEmpty() && expiryQueue.peek().getExpiresAt() <= tickCount) {
+            StatModifier expired = expiryQueue.poll();
+            modifiers.remove(expired);
+            markDirty(expired.getStatType());
         }
-        modifiers.removeIf(StatModifier::isExpired);
+    }
 
+    private void scheduleAllExpiries() {
+        expiryQueue.clear();
+        for (StatModifier modifier : modifiers) {
+            if (modifier.isTimed()) {
+                modifier.scheduleExpiry(tickCount);
+                expiryQueue.add(modifier);
+            }
+        }
     }
 
     public List<StatModifier> getModifiers() {
+        if (!expiryQueue.isEmpty()) {
+            for (StatModifier modifier : modifiers) {
+                modifier.updateRemainingDuration(tickCount);
+            }
+        }
         return new ArrayList<>(modifiers);
     }
 
     public void setModifiers(List<StatModifier> modifiers) {
         this.modifiers = new ArrayList<>(modifiers);
+        this.dirtyMask = ALL_DIRTY;
+        scheduleAllExpiries();
     }
 
     public void clearAll() {
         modifiers.clear();
+        expiryQueue.clear();
+        this.dirtyMask = ALL_DIRTY;
     }
 }
@@ -2,9 +2,6 @@ package net.frostimpact.rpgclasses_v2.rpg.stats;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
-import io.netty.buffer.ByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class StatModifier {
     public static final Codec<StatModifier> CODEC = RecordCodecBuilder.create(instance ->
@@ -23,29 +20,11 @@ public class StatModifier {
         })
     );
 
-    public static final StreamCodec<ByteBuf, StatModifier> STREAM_CODEC = StreamCodec.composite(
-        ByteBufCodecs.STRING_UTF8,
-        m -> m.source,
-        ByteBufCodecs.STRING_UTF8,
-        m -> m.statType.name(),
-        ByteBufCodecs.DOUBLE,
-        m -> m.value,
-        ByteBufCodecs.INT,
-        m -> m.duration,
-        (source, statTypeName, value, duration) -> {
-            try {
-                return new StatModifier(source, StatType.valueOf(statTypeName), value, duration);
-            } catch (IllegalArgumentException e) {
-                // Fallback to a default stat if enum value is invalid
-                return new StatModifier(source, StatType.DAMAGE, 0.0, 0);
-            }
-        }
-    );
-
     private final String source;
     private final StatType statType;
     private final double value;
     private int duration; // -1 for permanent
+    private long expiresAt = -1; // Absolute PlayerStats tick this modifier expires on (timed modifiers only)
 
     public StatModifier(String source, StatType statType, double value, int duration) {
         this.source = source;
@@ -70,9 +49,23 @@ public class StatModifier {
         return duration;
     }
 
-    public void tick() {
-        if (duration > 0) {
-            duration--;
+    long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Anchor a timed modifier's remaining duration to an absolute tick of the owning PlayerStats
+     */
+    void scheduleExpiry(long currentTick) {
+        this.expiresAt = currentTick + Math.max(0, duration);
+    }
+
+    /**
+     * Refresh the remaining duration from the absolute expiry tick (used before saving or syncing)
+     */
+    void updateRemainingDuration(long currentTick) {
+        if (isTimed()) {
+            this.duration = (int) Math.max(0, expiresAt - currentTick);
         }
     }
 
@@ -80,6 +73,10 @@ public class StatModifier {
         return duration == 0;
     }
 
+    public boolean isTimed() {
+        return duration >= 0;
+    }
+
     public boolean isPermanent() {
         return duration == -1;
     }
@@ -1,8 +1,7 @@
 package net.frostimpact.rpgclasses_v2.rpg.stats;
 
 import com.mojang.blaze3d.systems.RenderSystem;
-import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
-import net.frostimpact.rpgclasses_v2.rpg.PlayerRPGData;
+import net.frostimpact.rpgclasses_v2.client.overlay.HudModel;
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
@@ -19,6 +18,10 @@ public class StatsDropdownOverlay implements LayeredDraw.Layer {
     private static final int MARGIN = 5;
     private static final int PANEL_WIDTH = 200; // Increased from 180 to fit text
     private static final int LINE_HEIGHT = 12;
+    // Health, Mana, Damage, Defense, Move Speed, Attack Speed, CD Reduction, Health Regen, Mana Regen
+    private static final int[] LINE_COLORS = {
+        0xFFFF5555, 0xFF55FFFF, 0xFFFFAA00, 0xFF00AAFF, 0xFF55FF55, 0xFFFF55FF, 0xFFAA55FF, 0xFFFF8888, 0xFF88FFFF
+    };
     
     private static boolean isExpanded = false;
     
@@ -37,10 +40,6 @@ public class StatsDropdownOverlay implements LayeredDraw.Layer {
         
         RenderSystem.enableBlend();
         
-        // Draw stats panel
-        PlayerStats stats = player.getData(ModAttachments.PLAYER_STATS);
-        PlayerRPGData rpgData = player.getData(ModAttachments.PLAYER_RPG);
-        
         int contentHeight = 10 * LINE_HEIGHT + 10; // 9 stats + padding
         
         // Background
@@ -57,66 +56,13 @@ public class StatsDropdownOverlay implements LayeredDraw.Layer {
         guiGraphics.fill(panelX, panelY + contentHeight - 2, 
                        panelX + PANEL_WIDTH, panelY + contentHeight, 0xFFAA8800);
         
-        // Draw stats with emoji icons
+        // Draw stats with emoji icons (text is built once per tick by HudModel)
         int textStartX = panelX + 5;
         int currentY = panelY + 5;
-        
-        // Health
-        float health = player.getHealth();
-        float maxHealth = player.getMaxHealth();
-        int maxHealthBonus = stats.getIntStatValue(StatType.MAX_HEALTH);
-        String healthText = String.format("❤ Health: %.1f/%.1f (+%d)", health, maxHealth, maxHealthBonus);
-        guiGraphics.drawString(mc.font, healthText, textStartX, currentY, 0xFFFF5555);
-        currentY += LINE_HEIGHT;
-        
-        // Mana
-        int mana = rpgData.getMana();
-        int maxMana = rpgData.getMaxMana();
-        int maxManaBonus = stats.getIntStatValue(StatType.MAX_MANA);
-        String manaText = String.format("⚡ Mana: %d/%d (+%d)", mana, maxMana, maxManaBonus);
-        guiGraphics.drawString(mc.font, manaText, textStartX, currentY, 0xFF55FFFF);
-        currentY += LINE_HEIGHT;
-        
-        // Damage
-        int damageBonus = stats.getIntStatValue(StatType.DAMAGE);
-        String damageText = String.format("⚔ Damage: +%d", damageBonus);
-        guiGraphics.drawString(mc.font, damageText, textStartX, currentY, 0xFFFFAA00);
-        currentY += LINE_HEIGHT;
-        
-        // Defense
-        int defenseBonus = stats.getIntStatValue(StatType.DEFENSE);
-        String defenseText = String.format("🛡 Defense: +%d", defenseBonus);
-        guiGraphics.drawString(mc.font, defenseText, textStartX, currentY, 0xFF00AAFF);
-        currentY += LINE_HEIGHT;
-        
-        // Move Speed (percentage)
-        double moveSpeedBonus = stats.getPercentageStatValue(StatType.MOVE_SPEED);
-        String moveSpeedText = String.format("👟 Move Speed: +%.1f%%", moveSpeedBonus);
-        guiGraphics.drawString(mc.font, moveSpeedText, textStartX, currentY, 0xFF55FF55);
-        currentY += LINE_HEIGHT;
-        
-        // Attack Speed (percentage)
-        double attackSpeedBonus = stats.getPercentageStatValue(StatType.ATTACK_SPEED);
-        String attackSpeedText = String.format("🗡 Attack Speed: +%.1f%%", attackSpeedBonus);
-        guiGraphics.drawString(mc.font, attackSpeedText, textStartX, currentY, 0xFFFF55FF);
-        currentY += LINE_HEIGHT;
-        
-        // Cooldown Reduction
-        int cooldownReduction = stats.getIntStatValue(StatType.COOLDOWN_REDUCTION);
-        String cooldownText = String.format("⏱ CD Reduction: +%d", cooldownReduction);
-        guiGraphics.drawString(mc.font, cooldownText, textStartX, currentY, 0xFFAA55FF);
-        currentY += LINE_HEIGHT;
-        
-        // Health Regen
-        int healthRegen = stats.getIntStatValue(StatType.HEALTH_REGEN);
-        String healthRegenText = String.format("💚 Health Regen: +%d", healthRegen);
-        guiGraphics.drawString(mc.font, healthRegenText, textStartX, currentY, 0xFFFF8888);
-        currentY += LINE_HEIGHT;
-        
-        // Mana Regen
-        int manaRegen = stats.getIntStatValue(StatType.MANA_REGEN);
-        String manaRegenText = String.format("💙 Mana Regen: +%d", manaRegen);
-        guiGraphics.drawString(mc.font, manaRegenText, textStartX, currentY, 0xFF88FFFF);
+        for (int i = 0; i < HudModel.STAT_LINES; i++) {
+            guiGraphics.drawString(mc.font, HudModel.getStatLine(i), textStartX, currentY, LINE_COLORS[i]);
+            currentY += LINE_HEIGHT;
+        }
         
         RenderSystem.disableBlend();
     }
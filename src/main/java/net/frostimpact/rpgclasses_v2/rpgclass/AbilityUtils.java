@@ -1,7 +1,8 @@
 package net.frostimpact.rpgclasses_v2.rpgclass;
 
 /**
- * Utility class for ability-related data and class display information
+ * Utility class for ability-related data and class display information.
+ * Ability names, mana costs and cooldowns come from the loaded ClassDefinitions (rpg_class datapack files).
  */
 public final class AbilityUtils {
     
@@ -13,300 +14,39 @@ public final class AbilityUtils {
      * Get the display name for an ability
      */
     public static String getAbilityName(String classId, int slot) {
-        return switch (classId.toLowerCase()) {
-            case "warrior" -> switch (slot) {
-                case 1 -> "Heavy Cleave";
-                case 2 -> "Battle Cry";
-                case 3 -> "Whirlwind";
-                case 4 -> "Leap";
-                default -> "Unknown";
-            };
-            case "mage" -> switch (slot) {
-                case 1 -> "Fireball";
-                case 2 -> "Frost Nova";
-                case 3 -> "Arcane Shield";
-                case 4 -> "Meteor Storm";
-                default -> "Unknown";
-            };
-            case "rogue" -> switch (slot) {
-                case 1 -> "Backstab";
-                case 2 -> "Smoke Bomb";
-                case 3 -> "Fan of Knives";
-                case 4 -> "Shadow Dance";
-                default -> "Unknown";
-            };
-            case "ranger" -> switch (slot) {
-                case 1 -> "Piercing Shot";
-                case 2 -> "Spread Shot";
-                case 3 -> "Escape";
-                case 4 -> "Arrow Rain";
-                default -> "Unknown";
-            };
-            case "tank" -> switch (slot) {
-                case 1 -> "Shield Bash";
-                case 2 -> "Taunt";
-                case 3 -> "Iron Skin";
-                case 4 -> "Fortress";
-                default -> "Unknown";
-            };
-            case "priest" -> switch (slot) {
-                case 1 -> "Holy Light";
-                case 2 -> "Blessing";
-                case 3 -> "Smite";
-                case 4 -> "Divine Intervention";
-                default -> "Unknown";
-            };
-            case "hawkeye" -> switch (slot) {
-                case 1 -> "Vault";
-                case 2 -> "Updraft";
-                case 3 -> "(Reserved)";
-                case 4 -> "Seekers";
-                default -> "Unknown";
-            };
-            case "marksman" -> switch (slot) {
-                case 1 -> "Snipe";
-                case 2 -> "Mark";
-                case 3 -> "Grapple Hook";
-                case 4 -> "Headshot";
-                default -> "Unknown";
-            };
-            case "beastmaster" -> switch (slot) {
-                case 1 -> "Summon Wolves";
-                case 2 -> "Summon Bear";
-                case 3 -> "Summon Eagle";
-                case 4 -> "Beast Stampede";
-                default -> "Unknown";
-            };
-            case "ravager" -> switch (slot) {
-                case 1 -> "Tearing Hook";
-                case 2 -> "Razor";
-                case 3 -> "Rupture";
-                case 4 -> "Heartstopper";
-                default -> "Unknown";
-            };
-            case "berserker" -> switch (slot) {
-                case 1 -> "Axe Throw";
-                case 2 -> "Blood Oath";
-                case 3 -> "Frenzy";
-                case 4 -> "Unbound Carnage";
-                default -> "Unknown";
-            };
-            case "lancer" -> switch (slot) {
-                case 1 -> "Piercing Charge";
-                case 2 -> "Leap";
-                case 3 -> "Lunge";
-                case 4 -> "Comet";
-                default -> "Unknown";
-            };
-            case "fatespinner" -> switch (slot) {
-                case 1 -> "Weave";
-                case 2 -> "Manaflux";
-                case 3 -> "Repulsion";
-                case 4 -> "Manasurge";
-                default -> "Unknown";
-            };
-            default -> "Ability " + slot;
-        };
+        ClassDefinitions definitions = ClassDefinitions.get();
+        return definitions.getAbilityName(definitions.getClassIndex(classId), slot);
+    }
+    
+    public static String getAbilityName(ClassType classType, int slot) {
+        ClassDefinitions definitions = ClassDefinitions.get();
+        return definitions.getAbilityName(definitions.getClassIndex(classType), slot);
     }
     
     /**
      * Get the mana cost for an ability
      */
     public static int getAbilityManaCost(String classId, int slot) {
-        return switch (classId.toLowerCase()) {
-            case "warrior" -> switch (slot) {
-                case 1 -> 20;
-                case 2 -> 30;
-                case 3 -> 30;
-                case 4 -> 50;
-                default -> 0;
-            };
-            case "mage" -> switch (slot) {
-                case 1 -> 25;
-                case 2 -> 35;
-                case 3 -> 40;
-                case 4 -> 80;
-                default -> 0;
-            };
-            case "rogue" -> switch (slot) {
-                case 1 -> 15;
-                case 2 -> 20;
-                case 3 -> 30;
-                case 4 -> 50;
-                default -> 0;
-            };
-            case "ranger" -> switch (slot) {
-                case 1 -> 20;  // Precise Shot - increased for dramatic effect
-                case 2 -> 30;  // Multi-Shot - shoots 6 actual arrows
-                case 3 -> 20;  // Escape
-                case 4 -> 80;  // Rain of Arrows - 6 second duration
-                default -> 0;
-            };
-            case "tank" -> switch (slot) {
-                case 1 -> 15;
-                case 2 -> 10;
-                case 3 -> 25;
-                case 4 -> 40;
-                default -> 0;
-            };
-            case "priest" -> switch (slot) {
-                case 1 -> 30;
-                case 2 -> 25;
-                case 3 -> 35;
-                case 4 -> 80;
-                default -> 0;
-            };
-            case "hawkeye" -> switch (slot) {
-                case 1 -> 20;  // Vault - launch forward + lobbing scute projectile
-                case 2 -> 15;  // Updraft
-                case 3 -> 0;   // (Reserved)
-                case 4 -> 0;   // Seekers - cost depends on charges (5 * charges)
-                default -> 0;
-            };
-            case "marksman" -> switch (slot) {
-                case 1 -> 10;  // Snipe - low mana cost
-                case 2 -> 15;  // Mark - low mana cost
-                case 3 -> 12;  // Grapple Hook - low mana cost
-                case 4 -> 25;  // Headshot - moderate cost (but can be charged)
-                default -> 0;
-            };
-            case "beastmaster" -> switch (slot) {
-                case 1 -> 25;  // Wolf Pack
-                case 2 -> 30;  // Bear Strength
-                case 3 -> 20;  // Eagle Eye
-                case 4 -> 60;  // Stampede
-                default -> 0;
-            };
-            case "ravager" -> switch (slot) {
-                case 1 -> 15;  // Tearing Hook
-                case 2 -> 15;  // Razor
-                case 3 -> 30;  // Rupture
-                case 4 -> 50;  // Heartstopper
-                default -> 0;
-            };
-            case "berserker" -> switch (slot) {
-                case 1 -> 15;  // Axe Throw - 15 MP per usage
-                case 2 -> 20;  // Blood Oath - 20 MP
-                case 3 -> 3;   // Frenzy - 3 MP per slash
-                case 4 -> 40;  // Unbound Carnage - 40 MP
-                default -> 0;
-            };
-            case "lancer" -> switch (slot) {
-                case 1 -> 30;  // Piercing Charge - 30 MP
-                case 2 -> 15;  // Leap - 15 MP
-                case 3 -> 15;  // Lunge - 15 MP
-                case 4 -> 50;  // Comet - 50 MP
-                default -> 0;
-            };
-            case "fatespinner" -> switch (slot) {
-                case 1 -> 15;  // Weave - 15 MP (creates thread + 80% damage projectile)
-                case 2 -> 3;   // Manaflux - 3 MP activation, 3 MP/s sustain (channeled stun)
-                case 3 -> 20;  // Repulsion - 20 MP (knockback pulse)
-                case 4 -> 40;  // Manasurge - 40 MP (explosion scales with threads)
-                default -> 0;
-            };
-            default -> 0;
-        };
+        ClassDefinitions definitions = ClassDefinitions.get();
+        return definitions.getAbilityManaCost(definitions.getClassIndex(classId), slot);
+    }
+    
+    public static int getAbilityManaCost(ClassType classType, int slot) {
+        ClassDefinitions definitions = ClassDefinitions.get();
+        return definitions.getAbilityManaCost(definitions.getClassIndex(classType), slot);
     }
     
     /**
      * Get the cooldown in ticks (20 ticks = 1 second) for an ability
      */
     public static int getAbilityCooldownTicks(String classId, int slot) {
-        return switch (classId.toLowerCase()) {
-            case "warrior" -> switch (slot) {
-                case 1 -> 100;  // 5s - Heavy Cleave
-                case 2 -> 300;  // 15s - Battle Cry
-                case 3 -> 160;  // 8s - Whirlwind
-                case 4 -> 400;  // 20s - Leap
-                default -> 40;
-            };
-            case "mage" -> switch (slot) {
-                case 1 -> 80;   // 4s
-                case 2 -> 200;  // 10s
-                case 3 -> 400;  // 20s
-                case 4 -> 1200; // 60s
-                default -> 40;
-            };
-            case "rogue" -> switch (slot) {
-                case 1 -> 100;  // 5s
-                case 2 -> 240;  // 12s
-                case 3 -> 160;  // 8s
-                case 4 -> 900;  // 45s
-                default -> 40;
-            };
-            case "ranger" -> switch (slot) {
-                case 1 -> 100;  // 5s - Piercing Shot (large arrow with dust circles)
-                case 2 -> 160;  // 8s - Spread Shot (fixed direction)
-                case 3 -> 300;  // 15s - Escape
-                case 4 -> 800;  // 40s - Arrow Rain (REDUCED from 60s)
-                default -> 40;
-            };
-            case "tank" -> switch (slot) {
-                case 1 -> 120;  // 6s
-                case 2 -> 200;  // 10s
-                case 3 -> 400;  // 20s
-                case 4 -> 1200; // 60s
-                default -> 40;
-            };
-            case "priest" -> switch (slot) {
-                case 1 -> 60;   // 3s
-                case 2 -> 300;  // 15s
-                case 3 -> 160;  // 8s
-                case 4 -> 1800; // 90s
-                default -> 40;
-            };
-            case "hawkeye" -> switch (slot) {
-                case 1 -> 40;   // 2s - Vault (NEW - replaces Glide, from original RPG)
-                case 2 -> 240;  // 12s - Updraft
-                case 3 -> 160;  // 8s - (reserved)
-                case 4 -> 60;   // 3s - Seekers (REDUCED from 5s)
-                default -> 40;
-            };
-            case "marksman" -> switch (slot) {
-                case 1 -> 60;   // 3s - Snipe (1.5s in FOCUS mode)
-                case 2 -> 200;  // 10s - Mark (medium cooldown)
-                case 3 -> 60;   // 3s - Grapple Hook (low cooldown)
-                case 4 -> 300;  // 15s - Headshot (REDUCED from 20s, resets on kill)
-                default -> 40;
-            };
-            case "beastmaster" -> switch (slot) {
-                case 1 -> 200;  // 10s - Wolf Pack
-                case 2 -> 400;  // 20s - Bear Strength
-                case 3 -> 300;  // 15s - Eagle Eye
-                case 4 -> 600;  // 30s - Stampede (REDUCED from 45s)
-                default -> 40;
-            };
-            case "ravager" -> switch (slot) {
-                case 1 -> 120;  // 6s - Tearing Hook
-                case 2 -> 100;  // 5s - Razor
-                case 3 -> 240;  // 12s - Rupture
-                case 4 -> 400;  // 20s - Heartstopper
-                default -> 40;
-            };
-            case "berserker" -> switch (slot) {
-                case 1 -> 140;  // 7s - Axe Throw (per charge reset)
-                case 2 -> 100;  // 5s - Blood Oath
-                case 3 -> 240;  // 12s - Frenzy
-                case 4 -> 500;  // 25s - Unbound Carnage
-                default -> 40;
-            };
-            case "lancer" -> switch (slot) {
-                case 1 -> 300;  // 15s - Piercing Charge
-                case 2 -> 100;  // 5s - Leap
-                case 3 -> 120;  // 6s - Lunge
-                case 4 -> 500;  // 25s - Comet
-                default -> 40;
-            };
-            case "fatespinner" -> switch (slot) {
-                case 1 -> 60;   // 3s - Weave (arcane projectile creates thread)
-                case 2 -> 240;  // 12s - Manaflux (cooldown starts when channel ends, max 8s channel)
-                case 3 -> 160;  // 8s - Repulsion (knockback pulse)
-                case 4 -> 400;  // 20s - Manasurge (mana explosion)
-                default -> 40;
-            };
-            default -> 40;
-        };
+        ClassDefinitions definitions = ClassDefinitions.get();
+        return definitions.getAbilityCooldownTicks(definitions.getClassIndex(classId), slot);
+    }
+    
+    public static int getAbilityCooldownTicks(ClassType classType, int slot) {
+        ClassDefinitions definitions = ClassDefinitions.get();
+        return definitions.getAbilityCooldownTicks(definitions.getClassIndex(classType), slot);
     }
     
     /**
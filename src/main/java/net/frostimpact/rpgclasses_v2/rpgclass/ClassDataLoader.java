@@ -0,0 +1,87 @@
+package net.frostimpact.rpgclasses_v2.rpgclass;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import net.frostimpact.rpgclasses_v2.RpgClassesMod;
+import net.frostimpact.rpgclasses_v2.networking.ModMessages;
+import net.frostimpact.rpgclasses_v2.networking.packet.PacketSyncClassData;
+import net.minecraft.resources.FileToIdConverter;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads data/<namespace>/rpg_class/*.json and data/<namespace>/skill_tree/*.json on server start and /reload.
+ * Files are parsed and compiled off the server thread; the finished tables are installed in one step and
+ * then sent to every client. A file that fails to parse is logged and left out.
+ */
+@EventBusSubscriber(modid = RpgClassesMod.MOD_ID)
+public class ClassDataLoader extends SimplePreparableReloadListener<ClassDefinitions> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassDataLoader.class);
+    private static final FileToIdConverter CLASS_FILES = FileToIdConverter.json("rpg_class");
+    private static final FileToIdConverter SKILL_TREE_FILES = FileToIdConverter.json("skill_tree");
+
+    @Override
+    protected ClassDefinitions prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+        Map<String, ClassDefinitions.ClassEntry> classes = load(resourceManager, CLASS_FILES, ClassDefinitions.ClassEntry.CODEC);
+        Map<String, ClassDefinitions.TreeEntry> skillTrees = load(resourceManager, SKILL_TREE_FILES, ClassDefinitions.TreeEntry.CODEC);
+        return ClassDefinitions.compile(classes, skillTrees);
+    }
+
+    @Override
+    protected void apply(ClassDefinitions definitions, ResourceManager resourceManager, ProfilerFiller profiler) {
+        ClassDefinitions.install(definitions);
+    }
+
+    /**
+     * Parse every file under a directory, keyed by file name (the path without namespace, e.g. "warrior")
+     */
+    private static <T> Map<String, T> load(ResourceManager resourceManager, FileToIdConverter files, Codec<T> codec) {
+        Map<String, T> entries = new HashMap<>();
+        for (Map.Entry<ResourceLocation, Resource> entry : files.listMatchingResources(resourceManager).entrySet()) {
+            ResourceLocation file = entry.getKey();
+            String id = files.fileToId(file).getPath();
+            try (Reader reader = entry.getValue().openAsReader()) {
+                JsonElement json = JsonParser.parseReader(reader);
+                codec.parse(JsonOps.INSTANCE, json)
+                        .resultOrPartial(error -> LOGGER.error("Invalid definition {}: {}", file, error))
+                        .ifPresent(value -> {
+                            if (entries.put(id, value) != null) {
+                                LOGGER.warn("Definition {} overrides another file with the same id {}", file, id);
+                            }
+                        });
+            } catch (IOException | JsonParseException e) {
+                LOGGER.error("Couldn't read definition {}", file, e);
+            }
+        }
+        return entries;
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new ClassDataLoader());
+    }
+
+    @SubscribeEvent
+    public static void onDatapackSync(OnDatapackSyncEvent event) {
+        // Fired for a joining player, and for all players after /reload
+        PacketSyncClassData packet = PacketSyncClassData.of(ClassDefinitions.get());
+        event.getRelevantPlayers().forEach(player -> ModMessages.sendToPlayer(packet, player));
+    }
+}
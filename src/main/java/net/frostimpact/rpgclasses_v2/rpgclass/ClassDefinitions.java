@@ -0,0 +1,314 @@
+package net.frostimpact.rpgclasses_v2.rpgclass;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.frostimpact.rpgclasses_v2.rpg.stats.StatModifier;
+import net.frostimpact.rpgclasses_v2.rpg.stats.StatType;
+import net.frostimpact.rpgclasses_v2.skilltree.SkillNode;
+import net.frostimpact.rpgclasses_v2.skilltree.SkillTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Class, ability and skill tree definitions from datapacks (data/<namespace>/rpg_class and skill_tree),
+ * compiled into one immutable snapshot. Ability metadata is flattened into arrays addressed by
+ * class index * MAX_ABILITY_SLOTS + slot - 1, so a lookup is an array read instead of a string switch.
+ * /reload compiles a new snapshot and swaps it in with a single write; readers see the old or the new
+ * definitions, never a mix of both.
+ */
+public final class ClassDefinitions {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassDefinitions.class);
+    public static final int MAX_ABILITY_SLOTS = 4;
+    private static final int DEFAULT_COOLDOWN_TICKS = 40;
+
+    // ===== JSON FORMAT =====
+
+    private static final Codec<StatType> STAT_TYPE_CODEC = Codec.STRING.comapFlatMap(name -> {
+        try {
+            return DataResult.success(StatType.valueOf(name));
+        } catch (IllegalArgumentException e) {
+            return DataResult.error(() -> "Unknown stat type " + name);
+        }
+    }, StatType::name);
+
+    /**
+     * Permanent stat modifier a class grants
+     */
+    public record StatEntry(String source, StatType stat, double value) {
+        public static final Codec<StatEntry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.STRING.fieldOf("source").forGetter(StatEntry::source),
+                STAT_TYPE_CODEC.fieldOf("stat").forGetter(StatEntry::stat),
+                Codec.DOUBLE.fieldOf("value").forGetter(StatEntry::value)
+        ).apply(instance, StatEntry::new));
+    }
+
+    /**
+     * Ability in one slot of a class; cooldown in ticks
+     */
+    public record AbilityEntry(String name, int manaCost, int cooldown) {
+        public static final Codec<AbilityEntry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.STRING.fieldOf("name").forGetter(AbilityEntry::name),
+                Codec.INT.optionalFieldOf("mana_cost", 0).forGetter(AbilityEntry::manaCost),
+                Codec.INT.optionalFieldOf("cooldown", DEFAULT_COOLDOWN_TICKS).forGetter(AbilityEntry::cooldown)
+        ).apply(instance, AbilityEntry::new));
+    }
+
+    /**
+     * rpg_class/<id>.json. Subclasses name their parent; abilities are listed in slot order.
+     */
+    public record ClassEntry(String name, String description, String skillTree, String icon, Optional<String> parent,
+                             int requiredLevel, List<StatEntry> baseStats, List<AbilityEntry> abilities) {
+        public static final Codec<ClassEntry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.STRING.fieldOf("name").forGetter(ClassEntry::name),
+                Codec.STRING.optionalFieldOf("description", "").forGetter(ClassEntry::description),
+                Codec.STRING.fieldOf("skill_tree").forGetter(ClassEntry::skillTree),
+                Codec.STRING.optionalFieldOf("icon", "").forGetter(ClassEntry::icon),
+                Codec.STRING.optionalFieldOf("parent").forGetter(ClassEntry::parent),
+                Codec.INT.optionalFieldOf("required_level", 1).forGetter(ClassEntry::requiredLevel),
+                StatEntry.CODEC.listOf().optionalFieldOf("base_stats", List.of()).forGetter(ClassEntry::baseStats),
+                AbilityEntry.CODEC.listOf().optionalFieldOf("abilities", List.of()).forGetter(ClassEntry::abilities)
+        ).apply(instance, ClassEntry::new));
+    }
+
+    /**
+     * Node of a skill tree; requires lists node ids of the same tree
+     */
+    public record NodeEntry(String id, String name, String description, int maxLevel, int cost, int requiredLevel,
+                            int x, int y, String icon, List<String> requires) {
+        public static final Codec<NodeEntry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.STRING.fieldOf("id").forGetter(NodeEntry::id),
+                Codec.STRING.fieldOf("name").forGetter(NodeEntry::name),
+                Codec.STRING.optionalFieldOf("description", "").forGetter(NodeEntry::description),
+                Codec.INT.optionalFieldOf("max_level", 1).forGetter(NodeEntry::maxLevel),
+                Codec.INT.optionalFieldOf("cost", 1).forGetter(NodeEntry::cost),
+                Codec.INT.optionalFieldOf("required_level", 1).forGetter(NodeEntry::requiredLevel),
+                Codec.INT.fieldOf("x").forGetter(NodeEntry::x),
+                Codec.INT.fieldOf("y").forGetter(NodeEntry::y),
+                Codec.STRING.optionalFieldOf("icon", "").forGetter(NodeEntry::icon),
+                Codec.STRING.listOf().optionalFieldOf("requires", List.of()).forGetter(NodeEntry::requires)
+        ).apply(instance, NodeEntry::new));
+    }
+
+    /**
+     * skill_tree/<id>.json. Nodes keep their file order.
+     */
+    public record TreeEntry(String name, String description, List<NodeEntry> nodes) {
+        public static final Codec<TreeEntry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.STRING.fieldOf("name").forGetter(TreeEntry::name),
+                Codec.STRING.optionalFieldOf("description", "").forGetter(TreeEntry::description),
+                NodeEntry.CODEC.listOf().fieldOf("nodes").forGetter(TreeEntry::nodes)
+        ).apply(instance, TreeEntry::new));
+    }
+
+    // ===== COMPILED TABLES =====
+
+    public static final ClassDefinitions EMPTY = compile(Map.of(), Map.of());
+    private static volatile ClassDefinitions current = EMPTY;
+
+    private final Map<String, ClassEntry> classSources; // Kept to sync the same definitions to clients
+    private final Map<String, TreeEntry> treeSources;
+    private final Map<String, RPGClass> classes;
+    private final List<RPGClass> mainClasses;
+    private final Map<String, List<RPGClass>> subclassesByParent;
+    private final Map<String, Integer> classIndices; // Lowercase class id -> class index
+    private final int[] classTypeIndices; // ClassType ordinal -> class index, -1 if not defined
+    private final String[] abilityNames; // null if the class doesn't define the slot
+    private final int[] abilityManaCosts;
+    private final int[] abilityCooldownTicks;
+    private final Map<String, SkillTree> skillTrees;
+
+    private ClassDefinitions(Map<String, ClassEntry> classSources, Map<String, TreeEntry> treeSources) {
+        this.classSources = Collections.unmodifiableMap(classSources);
+        this.treeSources = Collections.unmodifiableMap(treeSources);
+
+        int slots = classSources.size() * MAX_ABILITY_SLOTS;
+        this.abilityNames = new String[slots];
+        this.abilityManaCosts = new int[slots];
+        this.abilityCooldownTicks = new int[slots];
+        Arrays.fill(abilityCooldownTicks, DEFAULT_COOLDOWN_TICKS);
+
+        Map<String, RPGClass> classes = new LinkedHashMap<>();
+        Map<String, Integer> classIndices = new HashMap<>();
+        int classIndex = 0;
+        for (Map.Entry<String, ClassEntry> entry : classSources.entrySet()) {
+            String classId = entry.getKey();
+            ClassEntry definition = entry.getValue();
+            String parentId = definition.parent().orElse("");
+
+            RPGClass rpgClass = new RPGClass(classId, definition.name(), definition.description(), definition.skillTree(),
+                    definition.icon(), !parentId.isEmpty(), parentId, definition.requiredLevel());
+            for (StatEntry stat : definition.baseStats()) {
+                rpgClass.addBaseStat(stat.stat(), new StatModifier(stat.source(), stat.stat(), stat.value(), -1));
+            }
+
+            List<AbilityEntry> abilities = definition.abilities();
+            if (!abilities.isEmpty() && ClassType.fromId(classId) == ClassType.NONE) {
+                LOGGER.warn("Class {} has no built-in ability implementation; its abilities use the generic effect", classId);
+            }
+            if (abilities.size() > MAX_ABILITY_SLOTS) {
+                LOGGER.warn("Class {} defines {} abilities, only the first {} are used", classId, abilities.size(), MAX_ABILITY_SLOTS);
+            }
+            for (int slot = 1; slot <= Math.min(abilities.size(), MAX_ABILITY_SLOTS); slot++) {
+                AbilityEntry ability = abilities.get(slot - 1);
+                int index = classIndex * MAX_ABILITY_SLOTS + slot - 1;
+                abilityNames[index] = ability.name();
+                abilityManaCosts[index] = ability.manaCost();
+                abilityCooldownTicks[index] = ability.cooldown();
+            }
+
+            classes.put(classId, rpgClass);
+            classIndices.put(classId.toLowerCase(Locale.ROOT), classIndex++);
+        }
+
+        List<RPGClass> mainClasses = new ArrayList<>();
+        Map<String, List<RPGClass>> subclassesByParent = new HashMap<>();
+        for (RPGClass rpgClass : classes.values()) {
+            if (!rpgClass.isSubclass()) {
+                mainClasses.add(rpgClass);
+            } else {
+                subclassesByParent.computeIfAbsent(rpgClass.getParentClassId(), parentId -> new ArrayList<>()).add(rpgClass);
+                if (!classes.containsKey(rpgClass.getParentClassId())) {
+                    LOGGER.warn("Class {} has unknown parent class {}", rpgClass.getId(), rpgClass.getParentClassId());
+                }
+            }
+            if (!treeSources.containsKey(rpgClass.getSkillTreeId())) {
+                LOGGER.warn("Class {} uses unknown skill tree {}", rpgClass.getId(), rpgClass.getSkillTreeId());
+            }
+        }
+
+        ClassType[] classTypes = ClassType.values();
+        this.classTypeIndices = new int[classTypes.length];
+        for (ClassType classType : classTypes) {
+            classTypeIndices[classType.ordinal()] = classIndices.getOrDefault(classType.getId().toLowerCase(Locale.ROOT), -1);
+        }
+        this.classes = Collections.unmodifiableMap(classes);
+        this.classIndices = classIndices;
+        this.mainClasses = List.copyOf(mainClasses);
+        subclassesByParent.replaceAll((parentId, subclasses) -> List.copyOf(subclasses));
+        this.subclassesByParent = Collections.unmodifiableMap(subclassesByParent);
+
+        Map<String, SkillTree> skillTrees = new LinkedHashMap<>();
+        for (Map.Entry<String, TreeEntry> entry : treeSources.entrySet()) {
+            TreeEntry definition = entry.getValue();
+            SkillTree tree = new SkillTree(entry.getKey(), definition.name(), definition.description());
+            for (NodeEntry nodeEntry : definition.nodes()) {
+                SkillNode node = new SkillNode(nodeEntry.id(), nodeEntry.name(), nodeEntry.description(), nodeEntry.maxLevel(),
+                        nodeEntry.cost(), nodeEntry.requiredLevel(), nodeEntry.x(), nodeEntry.y(), nodeEntry.icon());
+                nodeEntry.requires().forEach(node::addRequirement);
+                tree.addNode(node);
+            }
+            tree.getLayout(); // Built here so threads reading the snapshot never build it lazily
+            skillTrees.put(entry.getKey(), tree);
+        }
+        this.skillTrees = Collections.unmodifiableMap(skillTrees);
+    }
+
+    /**
+     * Compile parsed definitions (id -> entry). Classes and trees are ordered by id, so the server and
+     * every client compile the same definitions to the same tables.
+     */
+    public static ClassDefinitions compile(Map<String, ClassEntry> classSources, Map<String, TreeEntry> treeSources) {
+        return new ClassDefinitions(new TreeMap<>(classSources), new TreeMap<>(treeSources));
+    }
+
+    /**
+     * The definitions currently in use
+     */
+    public static ClassDefinitions get() {
+        return current;
+    }
+
+    /**
+     * Replace the definitions in use. Callers holding the previous snapshot keep a consistent view of it.
+     */
+    public static void install(ClassDefinitions definitions) {
+        current = definitions;
+        LOGGER.info("Loaded {} classes and {} skill trees", definitions.classes.size(), definitions.skillTrees.size());
+    }
+
+    public Map<String, ClassEntry> getClassSources() {
+        return classSources;
+    }
+
+    public Map<String, TreeEntry> getTreeSources() {
+        return treeSources;
+    }
+
+    /**
+     * All classes by id, ordered by id
+     */
+    public Map<String, RPGClass> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Classes without a parent, ordered by id (immutable, shared)
+     */
+    public List<RPGClass> getMainClasses() {
+        return mainClasses;
+    }
+
+    /**
+     * Subclasses of a parent class, ordered by id (immutable, shared; empty if it has none)
+     */
+    public List<RPGClass> getSubclasses(String parentClassId) {
+        return subclassesByParent.getOrDefault(parentClassId, List.of());
+    }
+
+    public Map<String, SkillTree> getSkillTrees() {
+        return skillTrees;
+    }
+
+    // ===== ABILITY LOOKUP =====
+
+    /**
+     * Index of a class in the ability tables (case-insensitive), -1 if not defined
+     */
+    public int getClassIndex(String classId) {
+        if (classId == null) {
+            return -1;
+        }
+        return classIndices.getOrDefault(classId.toLowerCase(Locale.ROOT), -1);
+    }
+
+    /**
+     * Index of a built-in class in the ability tables, -1 if not defined
+     */
+    public int getClassIndex(ClassType classType) {
+        return classTypeIndices[classType.ordinal()];
+    }
+
+    public String getAbilityName(int classIndex, int slot) {
+        int index = abilityIndex(classIndex, slot);
+        return index >= 0 && abilityNames[index] != null ? abilityNames[index] : "Ability " + slot;
+    }
+
+    public int getAbilityManaCost(int classIndex, int slot) {
+        int index = abilityIndex(classIndex, slot);
+        return index >= 0 ? abilityManaCosts[index] : 0;
+    }
+
+    public int getAbilityCooldownTicks(int classIndex, int slot) {
+        int index = abilityIndex(classIndex, slot);
+        return index >= 0 ? abilityCooldownTicks[index] : DEFAULT_COOLDOWN_TICKS;
+    }
+
+    private static int abilityIndex(int classIndex, int slot) {
+        if (classIndex < 0 || slot < 1 || slot > MAX_ABILITY_SLOTS) {
+            return -1;
+        }
+        return classIndex * MAX_ABILITY_SLOTS + slot - 1;
+    }
+}
@@ -0,0 +1,123 @@
+package net.frostimpact.rpgclasses_v2.rpgclass;
+
+import net.frostimpact.rpgclasses_v2.RpgClassesMod;
+import net.frostimpact.rpgclasses_v2.rpg.ModAttachments;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side roster of online players per dimension and class.
+ * Kept up to date on login, logout, respawn, dimension change and class selection,
+ * so class ability loops only visit the players of their class in the level being ticked.
+ */
+@EventBusSubscriber(modid = RpgClassesMod.MOD_ID)
+public class ClassRoster {
+
+    /**
+     * Where a player is currently listed
+     */
+    private record Entry(ServerPlayer player, ResourceKey<Level> dimension, ClassType classType) {
+    }
+
+    // Map of dimension -> class -> players of that class in that dimension
+    private static final Map<ResourceKey<Level>, Map<ClassType, Set<ServerPlayer>>> rosters = new ConcurrentHashMap<>();
+    // Map of player UUID -> current entry, for moving players between rosters
+    private static final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Online players of a class in a level. The returned set is live - don't modify it.
+     */
+    public static Set<ServerPlayer> getPlayers(ServerLevel level, ClassType classType) {
+        Map<ClassType, Set<ServerPlayer>> byClass = rosters.get(level.dimension());
+        if (byClass == null) {
+            return Collections.emptySet();
+        }
+        Set<ServerPlayer> players = byClass.get(classType);
+        return players != null ? players : Collections.emptySet();
+    }
+
+    /**
+     * List a player under their current dimension and class, moving them out of any previous roster.
+     * Call after changing a player's class.
+     */
+    public static void update(ServerPlayer player) {
+        ClassType classType = player.getData(ModAttachments.PLAYER_RPG).getClassType();
+        ResourceKey<Level> dimension = player.level().dimension();
+
+        Entry previous = entries.get(player.getUUID());
+        if (previous != null && previous.player() == player && previous.dimension() == dimension
+                && previous.classType() == classType) {
+            return;
+        }
+        remove(player.getUUID());
+        rostersFor(dimension).get(classType).add(player);
+        entries.put(player.getUUID(), new Entry(player, dimension, classType));
+    }
+
+    /**
+     * Remove a player from every roster (no-op if not listed)
+     */
+    public static void remove(UUID playerUUID) {
+        Entry entry = entries.remove(playerUUID);
+        if (entry == null) {
+            return;
+        }
+        Map<ClassType, Set<ServerPlayer>> byClass = rosters.get(entry.dimension());
+        if (byClass != null) {
+            byClass.get(entry.classType()).remove(entry.player());
+        }
+    }
+
+    private static Map<ClassType, Set<ServerPlayer>> rostersFor(ResourceKey<Level> dimension) {
+        return rosters.computeIfAbsent(dimension, key -> {
+            Map<ClassType, Set<ServerPlayer>> byClass = new EnumMap<>(ClassType.class);
+            for (ClassType type : ClassType.values()) {
+                byClass.put(type, ConcurrentHashMap.newKeySet());
+            }
+            return byClass;
+        });
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            update(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            remove(player.getUUID());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            update(player);
+        }
+    }
+
+    /**
+     * Respawning replaces the player entity, so the new one takes the old one's place
+     */
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            update(player);
+        }
+    }
+}
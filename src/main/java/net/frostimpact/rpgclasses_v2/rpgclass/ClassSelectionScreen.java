@@ -135,8 +135,7 @@ public class ClassSelectionScreen extends Screen {
 
         // If no subclasses, show the base class as selectable
         if (subclasses.isEmpty()) {
-            subclasses = new ArrayList<>();
-            subclasses.add(selectedType);
+            subclasses = List.of(selectedType);
         }
 
         int panelSpacing = 20;
@@ -0,0 +1,68 @@
+package net.frostimpact.rpgclasses_v2.rpgclass;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Built-in class ids resolved to constants, so per-tick and per-cast code can switch on the player's class
+ * instead of comparing strings. Resolved once whenever a player's class changes.
+ */
+public enum ClassType {
+    NONE("NONE"),
+    // Warrior tree
+    WARRIOR("warrior"),
+    BERSERKER("berserker"),
+    LANCER("lancer"),
+    RAVAGER("ravager"),
+    // Mage tree
+    MAGE("mage"),
+    PYROMANCER("pyromancer"),
+    FROSTMAGE("frostmage"),
+    FATESPINNER("fatespinner"),
+    // Rogue tree
+    ROGUE("rogue"),
+    ASSASSIN("assassin"),
+    SHADOWDANCER("shadowdancer"),
+    // Ranger tree
+    RANGER("ranger"),
+    HAWKEYE("hawkeye"),
+    MARKSMAN("marksman"),
+    BEASTMASTER("beastmaster"),
+    // Tank tree
+    TANK("tank"),
+    GUARDIAN("guardian"),
+    JUGGERNAUT("juggernaut"),
+    // Priest tree
+    PRIEST("priest"),
+    CLERIC("cleric"),
+    TEMPLAR("templar");
+
+    private static final Map<String, ClassType> BY_ID = new HashMap<>();
+
+    static {
+        for (ClassType type : values()) {
+            BY_ID.put(type.id.toLowerCase(Locale.ROOT), type);
+        }
+    }
+
+    private final String id;
+
+    ClassType(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Resolve a class id (case-insensitive). Unknown or missing ids resolve to NONE.
+     */
+    public static ClassType fromId(String classId) {
+        if (classId == null) {
+            return NONE;
+        }
+        return BY_ID.getOrDefault(classId.toLowerCase(Locale.ROOT), NONE);
+    }
+}
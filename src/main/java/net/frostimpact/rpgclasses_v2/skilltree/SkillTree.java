@@ -1,7 +1,9 @@
 package net.frostimpact.rpgclasses_v2.skilltree;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,12 +16,123 @@ public class SkillTree {
     private final String name;
     private final String description;
     private final Map<String, SkillNode> nodes;
+    private Layout layout; // Built on first use after the last change
+    
+    /**
+     * Immutable, precomputed view of the tree for rendering and hit-testing: nodes in insertion order,
+     * each node's requirements as node indices, and a grid of node positions (SkillNode x/y) to node index.
+     */
+    public static final class Layout {
+        private final List<SkillNode> nodes;
+        private final int[][] requirements;
+        private final int minX;
+        private final int minY;
+        private final int width;
+        private final int height;
+        private final int[] grid; // (x - minX) + (y - minY) * width -> node index, -1 if empty
+
+        private Layout(Collection<SkillNode> nodes) {
+            this.nodes = List.copyOf(nodes);
+
+            Map<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < this.nodes.size(); i++) {
+                indices.put(this.nodes.get(i).getId(), i);
+            }
+            this.requirements = new int[this.nodes.size()][];
+            for (int i = 0; i < this.nodes.size(); i++) {
+                // Requirements that aren't in this tree are left out, like getNode() would
+                this.requirements[i] = this.nodes.get(i).getRequirements().stream()
+                        .filter(indices::containsKey)
+                        .mapToInt(indices::get)
+                        .toArray();
+            }
+
+            int minX = 0;
+            int minY = 0;
+            int maxX = -1;
+            int maxY = -1;
+            if (!this.nodes.isEmpty()) {
+                minX = minY = Integer.MAX_VALUE;
+                maxX = maxY = Integer.MIN_VALUE;
+                for (SkillNode node : this.nodes) {
+                    minX = Math.min(minX, node.getX());
+                    minY = Math.min(minY, node.getY());
+                    maxX = Math.max(maxX, node.getX());
+                    maxY = Math.max(maxY, node.getY());
+                }
+            }
+            this.minX = minX;
+            this.minY = minY;
+            this.width = maxX - minX + 1;
+            this.height = maxY - minY + 1;
+            this.grid = new int[width * height];
+            Arrays.fill(grid, -1);
+            for (int i = 0; i < this.nodes.size(); i++) {
+                SkillNode node = this.nodes.get(i);
+                // Nodes sharing a position: the later one is drawn on top, so it wins
+                grid[(node.getX() - minX) + (node.getY() - minY) * width] = i;
+            }
+        }
+
+        public List<SkillNode> getNodes() {
+            return nodes;
+        }
+
+        public int size() {
+            return nodes.size();
+        }
+
+        public SkillNode getNode(int index) {
+            return nodes.get(index);
+        }
+
+        /**
+         * Indices of the nodes required by a node. The array is shared - don't modify it.
+         */
+        public int[] getRequirements(int index) {
+            return requirements[index];
+        }
+
+        /**
+         * Index of the node at a grid position, or -1 if there is none
+         */
+        public int getNodeAt(int x, int y) {
+            int gx = x - minX;
+            int gy = y - minY;
+            if (gx < 0 || gy < 0 || gx >= width || gy >= height) {
+                return -1;
+            }
+            return grid[gx + gy * width];
+        }
+
+        public int getMinX() {
+            return minX;
+        }
+
+        public int getMinY() {
+            return minY;
+        }
+
+        /**
+         * Largest node x (less than getMinX() if the tree is empty)
+         */
+        public int getMaxX() {
+            return minX + width - 1;
+        }
+
+        /**
+         * Largest node y (less than getMinY() if the tree is empty)
+         */
+        public int getMaxY() {
+            return minY + height - 1;
+        }
+    }
     
     public SkillTree(String id, String name, String description) {
         this.id = id;
         this.name = name;
         this.description = description;
-        this.nodes = new HashMap<>();
+        this.nodes = new LinkedHashMap<>();
     }
     
     public String getId() {
@@ -39,6 +152,7 @@ public class SkillTree {
      */
     public void addNode(SkillNode node) {
         nodes.put(node.getId(), node);
+        layout = null;
     }
     
     /**
@@ -49,10 +163,21 @@ public class SkillTree {
     }
     
     /**
-     * Get all skill nodes in this tree
+     * Get all skill nodes in this tree (immutable, in the order they were added)
      */
     public List<SkillNode> getAllNodes() {
-        return new ArrayList<>(nodes.values());
+        return getLayout().getNodes();
+    }
+    
+    /**
+     * Get the precomputed layout of this tree. Built once and reused until a node is added,
+     * so requirements should be added to a node before the node is added to the tree.
+     */
+    public Layout getLayout() {
+        if (layout == null) {
+            layout = new Layout(nodes.values());
+        }
+        return layout;
     }
     
     /**
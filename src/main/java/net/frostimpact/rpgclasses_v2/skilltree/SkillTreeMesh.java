@@ -0,0 +1,109 @@
+package net.frostimpact.rpgclasses_v2.skilltree;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.MeshData;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import org.joml.Matrix4f;
+
+/**
+ * Static geometry of the skill tree (connection lines and node quads) in one GPU vertex buffer.
+ * Built in tree space, so pan and zoom only change the pose it is drawn with; the screen rebuilds it
+ * when the tree or the node states change and draws it in a single call every frame.
+ */
+public class SkillTreeMesh implements AutoCloseable {
+    private VertexBuffer vertexBuffer;
+    private BufferBuilder builder;
+    private boolean empty = true;
+
+    /**
+     * Start building new geometry. Finish with end() before drawing.
+     */
+    public void begin() {
+        builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_COLOR);
+    }
+
+    /**
+     * Axis-aligned rectangle, same corners as GuiGraphics.fill
+     */
+    public void rect(float minX, float minY, float maxX, float maxY, int color) {
+        builder.addVertex(minX, minY, 0).setColor(color);
+        builder.addVertex(minX, maxY, 0).setColor(color);
+        builder.addVertex(maxX, maxY, 0).setColor(color);
+        builder.addVertex(maxX, minY, 0).setColor(color);
+    }
+
+    /**
+     * Line of the given width as one quad, extended by half the width past both ends
+     */
+    public void line(float x1, float y1, float x2, float y2, float width, int color) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length == 0) return;
+
+        float half = width / 2.0f;
+        float ux = dx / length * half; // Along the line
+        float uy = dy / length * half;
+        float nx = -uy; // Across the line
+        float ny = ux;
+
+        builder.addVertex(x1 - ux + nx, y1 - uy + ny, 0).setColor(color);
+        builder.addVertex(x1 - ux - nx, y1 - uy - ny, 0).setColor(color);
+        builder.addVertex(x2 + ux - nx, y2 + uy - ny, 0).setColor(color);
+        builder.addVertex(x2 + ux + nx, y2 + uy + ny, 0).setColor(color);
+    }
+
+    /**
+     * Upload the geometry built since begin()
+     */
+    public void end() {
+        MeshData mesh = builder.build();
+        builder = null;
+        if (mesh == null) {
+            empty = true;
+            return;
+        }
+        if (vertexBuffer == null) {
+            vertexBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+        }
+        vertexBuffer.bind();
+        vertexBuffer.upload(mesh);
+        VertexBuffer.unbind();
+        empty = false;
+    }
+
+    /**
+     * Draw the mesh with the current pose (pan/zoom) of the GUI
+     */
+    public void draw(GuiGraphics guiGraphics) {
+        if (empty) return;
+
+        // Draw anything already batched first so the mesh keeps its place in the GUI's draw order
+        guiGraphics.flush();
+
+        Matrix4f modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(guiGraphics.pose().last().pose());
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+        RenderSystem.disableCull(); // Line quads wind either way depending on direction
+        vertexBuffer.bind();
+        vertexBuffer.drawWithShader(modelView, RenderSystem.getProjectionMatrix(), GameRenderer.getPositionColorShader());
+        VertexBuffer.unbind();
+        RenderSystem.enableCull();
+        RenderSystem.disableBlend();
+    }
+
+    @Override
+    public void close() {
+        if (vertexBuffer != null) {
+            vertexBuffer.close();
+            vertexBuffer = null;
+        }
+        empty = true;
+    }
+}
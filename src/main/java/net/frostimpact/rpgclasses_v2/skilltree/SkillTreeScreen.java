@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Enhanced skill tree GUI with class selector and improved visuals
@@ -57,6 +58,20 @@ public class SkillTreeScreen extends Screen {
     // Skill allocations (client-side tracking for display - will sync with server)
     private Map<String, Integer> allocatedSkillLevels = new HashMap<>();
 
+    // Connection lines and node quads, rebuilt when the tree or node states change
+    private final SkillTreeMesh treeMesh = new SkillTreeMesh();
+    private NodeView[] nodeViews = new NodeView[0]; // By SkillTree.Layout node index
+    private boolean meshDirty = true;
+    private int meshSignature = 0; // Class level, skill points and allocations the mesh was last checked against
+
+    /**
+     * Cached per-node state and text, built together with the mesh
+     */
+    private record NodeView(SkillNode node, int x, int y, boolean canAllocate,
+                            String emoji, int emojiX, int emojiY, int emojiColor,
+                            String levelText, int levelX, int levelY, int levelColor) {
+    }
+
     public SkillTreeScreen(String skillTreeId) {
         super(Component.literal("Skill Tree"));
         this.currentSkillTreeId = skillTreeId;
@@ -69,7 +84,7 @@ public class SkillTreeScreen extends Screen {
         // Load main classes
         mainClasses = ClassRegistry.getMainClasses();
 
-        // Load the skill tree
+        // Load the skill tree (also rebuilds the mesh, which is released whenever the screen closes)
         loadSkillTree(currentSkillTreeId);
         
         // Request skill tree data from server
@@ -87,6 +102,7 @@ public class SkillTreeScreen extends Screen {
         }
 
         currentSkillTreeId = treeId;
+        meshDirty = true;
         centerTree();
     }
 
@@ -96,21 +112,14 @@ public class SkillTreeScreen extends Screen {
     private void centerTree() {
         if (skillTree == null) return;
 
-        List<SkillNode> allNodes = skillTree.getAllNodes();
-        if (allNodes.isEmpty()) return;
+        SkillTree.Layout layout = skillTree.getLayout();
+        if (layout.size() == 0) return;
 
-        // Find bounds of the tree
-        int minX = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE;
-        int minY = Integer.MAX_VALUE;
-        int maxY = Integer.MIN_VALUE;
-
-        for (SkillNode node : allNodes) {
-            minX = Math.min(minX, node.getX());
-            maxX = Math.max(maxX, node.getX());
-            minY = Math.min(minY, node.getY());
-            maxY = Math.max(maxY, node.getY());
-        }
+        // Bounds of the tree
+        int minX = layout.getMinX();
+        int maxX = layout.getMaxX();
+        int minY = layout.getMinY();
+        int maxY = layout.getMaxY();
 
         // Calculate tree dimensions
         int treeWidth = (maxX - minX) * NODE_SPACING + NODE_SIZE;
@@ -166,43 +175,36 @@ public class SkillTreeScreen extends Screen {
         guiGraphics.pose().translate(offsetX, offsetY, 0);
         guiGraphics.pose().scale(zoom, zoom, 1.0f);
 
-        // Draw connection lines between nodes first
-        List<SkillNode> allNodes = skillTree.getAllNodes();
-        for (SkillNode node : allNodes) {
-            for (String reqId : node.getRequirements()) {
-                skillTree.getNode(reqId).ifPresent(reqNode -> {
-                    int x1 = reqNode.getX() * NODE_SPACING + NODE_SIZE / 2;
-                    int y1 = reqNode.getY() * NODE_SPACING + NODE_SIZE / 2;
-                    int x2 = node.getX() * NODE_SPACING + NODE_SIZE / 2;
-                    int y2 = node.getY() * NODE_SPACING + NODE_SIZE / 2;
-
-                    drawLine(guiGraphics, x1, y1, x2, y2, LINE_COLOR);
-                });
+        // Connection lines and nodes in one draw call
+        if (meshDirty) {
+            rebuildMesh(classLevel);
+        }
+        treeMesh.draw(guiGraphics);
+
+        SkillTree.Layout layout = skillTree.getLayout();
+
+        // Draw node icons and levels, only for grid cells inside the screen
+        int firstX = Math.max(layout.getMinX(), Math.floorDiv((int) Math.floor(-offsetX / zoom) - NODE_SIZE, NODE_SPACING));
+        int lastX = Math.min(layout.getMaxX(), Math.floorDiv((int) Math.ceil((this.width - offsetX) / zoom), NODE_SPACING));
+        int firstY = Math.max(layout.getMinY(), Math.floorDiv((int) Math.floor(-offsetY / zoom) - NODE_SIZE, NODE_SPACING));
+        int lastY = Math.min(layout.getMaxY(), Math.floorDiv((int) Math.ceil((this.height - offsetY) / zoom), NODE_SPACING));
+        for (int gridY = firstY; gridY <= lastY; gridY++) {
+            for (int gridX = firstX; gridX <= lastX; gridX++) {
+                int index = layout.getNodeAt(gridX, gridY);
+                if (index < 0) continue;
+                NodeView view = nodeViews[index];
+                guiGraphics.drawString(this.font, view.emoji(), view.emojiX(), view.emojiY(), view.emojiColor(), false);
+                guiGraphics.drawString(this.font, view.levelText(), view.levelX(), view.levelY(), view.levelColor(), false);
             }
         }
 
-        // Reset hovered node
-        hoveredNode = null;
-
-        // Draw skill nodes
-        for (SkillNode node : allNodes) {
-            int nodeX = node.getX() * NODE_SPACING;
-            int nodeY = node.getY() * NODE_SPACING;
-
-            // Transform mouse coordinates for zoom/pan
-            float transformedMouseX = (mouseX - offsetX) / zoom;
-            float transformedMouseY = (mouseY - offsetY) / zoom;
+        // Hovered node - the only cell the mouse can be over
+        NodeView hoveredView = findNodeAt(layout, (mouseX - offsetX) / zoom, (mouseY - offsetY) / zoom);
+        hoveredNode = hoveredView != null ? hoveredView.node() : null;
 
-            // Check if mouse is hovering over this node
-            boolean isHovered = transformedMouseX >= nodeX && transformedMouseX < nodeX + NODE_SIZE &&
-                    transformedMouseY >= nodeY && transformedMouseY < nodeY + NODE_SIZE;
-
-            if (isHovered) {
-                hoveredNode = node;
-            }
-
-            // Draw node
-            drawSkillNode(guiGraphics, node, nodeX, nodeY, isHovered, classLevel);
+        // Hover border over the cached one
+        if (hoveredView != null) {
+            drawHoverBorder(guiGraphics, hoveredView);
         }
 
         // Restore graphics state
@@ -246,7 +248,54 @@ public class SkillTreeScreen extends Screen {
         }
     }
 
-    private void drawSkillNode(GuiGraphics guiGraphics, SkillNode node, int x, int y, boolean isHovered, int classLevel) {
+    /**
+     * Rebuild the connection lines, node quads and node text for the current tree and node states
+     */
+    private void rebuildMesh(int classLevel) {
+        meshDirty = false;
+        SkillTree.Layout layout = skillTree.getLayout();
+        nodeViews = new NodeView[layout.size()];
+        treeMesh.begin();
+
+        // Connection lines first so nodes cover their ends
+        for (int i = 0; i < layout.size(); i++) {
+            SkillNode node = layout.getNode(i);
+            int x2 = node.getX() * NODE_SPACING + NODE_SIZE / 2;
+            int y2 = node.getY() * NODE_SPACING + NODE_SIZE / 2;
+            for (int reqIndex : layout.getRequirements(i)) {
+                SkillNode reqNode = layout.getNode(reqIndex);
+                int x1 = reqNode.getX() * NODE_SPACING + NODE_SIZE / 2;
+                int y1 = reqNode.getY() * NODE_SPACING + NODE_SIZE / 2;
+
+                // 2px wide, centered like the old per-pixel line
+                treeMesh.line(x1 + 1, y1 + 1, x2 + 1, y2 + 1, 2.0f, LINE_COLOR);
+            }
+        }
+
+        for (int i = 0; i < layout.size(); i++) {
+            SkillNode node = layout.getNode(i);
+            nodeViews[i] = buildSkillNode(node, node.getX() * NODE_SPACING, node.getY() * NODE_SPACING, classLevel);
+        }
+        treeMesh.end();
+    }
+
+    /**
+     * Node under a point in tree space, looked up by grid cell
+     */
+    private NodeView findNodeAt(SkillTree.Layout layout, float treeX, float treeY) {
+        int gridX = Math.floorDiv((int) Math.floor(treeX), NODE_SPACING);
+        int gridY = Math.floorDiv((int) Math.floor(treeY), NODE_SPACING);
+        int index = layout.getNodeAt(gridX, gridY);
+        if (index < 0 || index >= nodeViews.length) {
+            return null;
+        }
+        NodeView view = nodeViews[index];
+        boolean inside = treeX >= view.x() && treeX < view.x() + NODE_SIZE &&
+                treeY >= view.y() && treeY < view.y() + NODE_SIZE;
+        return inside ? view : null;
+    }
+
+    private NodeView buildSkillNode(SkillNode node, int x, int y, int classLevel) {
         boolean isUnlocked = classLevel >= node.getRequiredLevel();
         int currentLevel = getAllocatedLevel(node.getId());
         boolean isMaxed = currentLevel >= node.getMaxLevel();
@@ -267,11 +316,7 @@ public class SkillTreeScreen extends Screen {
         }
         
         int borderColor;
-        if (isHovered && canAllocate) {
-            borderColor = 0xFFFFDD00; // Yellow when hoverable and can allocate
-        } else if (isHovered) {
-            borderColor = 0xFFFFFFFF; // White when hovered
-        } else if (isMaxed) {
+        if (isMaxed) {
             borderColor = 0xFF66CC66; // Green border when maxed
         } else if (currentLevel > 0) {
             borderColor = 0xFF6699FF; // Light blue when has points
@@ -281,34 +326,75 @@ public class SkillTreeScreen extends Screen {
             borderColor = 0xFF666666; // Gray border
         }
 
-        // Draw node shadow
-        guiGraphics.fill(x + 2, y + 2, x + NODE_SIZE + 2, y + NODE_SIZE + 2, 0x88000000);
+        // Node shadow
+        treeMesh.rect(x + 2, y + 2, x + NODE_SIZE + 2, y + NODE_SIZE + 2, 0x88000000);
 
-        // Draw node background
-        guiGraphics.fill(x, y, x + NODE_SIZE, y + NODE_SIZE, nodeColor);
+        // Node background
+        treeMesh.rect(x, y, x + NODE_SIZE, y + NODE_SIZE, nodeColor);
 
-        // Draw node border
-        int borderThickness = isHovered ? 3 : 2;
-        for (int t = 0; t < borderThickness; t++) {
-            guiGraphics.fill(x - t, y - t, x + NODE_SIZE + t, y - t + 1, borderColor);
-            guiGraphics.fill(x - t, y + NODE_SIZE + t - 1, x + NODE_SIZE + t, y + NODE_SIZE + t, borderColor);
-            guiGraphics.fill(x - t, y - t, x - t + 1, y + NODE_SIZE + t, borderColor);
-            guiGraphics.fill(x + NODE_SIZE + t - 1, y - t, x + NODE_SIZE + t, y + NODE_SIZE + t, borderColor);
-        }
+        // Node border
+        addNodeBorder(x, y, 2, borderColor);
 
-        // Draw emoji icon
+        // Emoji icon
         String emoji = getSkillEmoji(node.getId());
         int emojiX = x + (NODE_SIZE - this.font.width(emoji)) / 2;
         int emojiY = y + (NODE_SIZE - 8) / 2 - 3;
         int emojiColor = isUnlocked ? 0xFFFFFFFF : 0xFF888888;
-        guiGraphics.drawString(this.font, emoji, emojiX, emojiY, emojiColor, false);
 
-        // Draw level indicator (current/max)
+        // Level indicator (current/max)
         String levelText = currentLevel + "/" + node.getMaxLevel();
         int levelWidth = this.font.width(levelText);
         int levelColor = isMaxed ? 0xFF55FF55 : (currentLevel > 0 ? 0xFFAADDFF : 0xFFCCCCCC);
-        guiGraphics.drawString(this.font, levelText,
-                x + (NODE_SIZE - levelWidth) / 2, y + NODE_SIZE - 10, levelColor, false);
+
+        return new NodeView(node, x, y, canAllocate, emoji, emojiX, emojiY, emojiColor,
+                levelText, x + (NODE_SIZE - levelWidth) / 2, y + NODE_SIZE - 10, levelColor);
+    }
+
+    private void addNodeBorder(int x, int y, int thickness, int color) {
+        for (int t = 0; t < thickness; t++) {
+            treeMesh.rect(x - t, y - t, x + NODE_SIZE + t, y - t + 1, color);
+            treeMesh.rect(x - t, y + NODE_SIZE + t - 1, x + NODE_SIZE + t, y + NODE_SIZE + t, color);
+            treeMesh.rect(x - t, y - t, x - t + 1, y + NODE_SIZE + t, color);
+            treeMesh.rect(x + NODE_SIZE + t - 1, y - t, x + NODE_SIZE + t, y + NODE_SIZE + t, color);
+        }
+    }
+
+    /**
+     * Thicker border of the hovered node, drawn over its cached border (the mesh doesn't depend on the mouse)
+     */
+    private void drawHoverBorder(GuiGraphics guiGraphics, NodeView view) {
+        int x = view.x();
+        int y = view.y();
+        int borderColor = view.canAllocate() ? 0xFFFFDD00 : 0xFFFFFFFF; // Yellow when can allocate, else white
+        for (int t = 0; t < 3; t++) {
+            guiGraphics.fill(x - t, y - t, x + NODE_SIZE + t, y - t + 1, borderColor);
+            guiGraphics.fill(x - t, y + NODE_SIZE + t - 1, x + NODE_SIZE + t, y + NODE_SIZE + t, borderColor);
+            guiGraphics.fill(x - t, y - t, x - t + 1, y + NODE_SIZE + t, borderColor);
+            guiGraphics.fill(x + NODE_SIZE + t - 1, y - t, x + NODE_SIZE + t, y + NODE_SIZE + t, borderColor);
+        }
+    }
+
+    @Override
+    public void tick() {
+        super.tick();
+
+        // Node states depend on class level, skill points and allocations (synced by the server)
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.player != null) {
+            PlayerRPGData rpgData = mc.player.getData(ModAttachments.PLAYER_RPG);
+            int signature = Objects.hash(rpgData.getClassLevel(), rpgData.getAvailableSkillPoints(),
+                    rpgData.getTreeAllocations(currentSkillTreeId), allocatedSkillLevels);
+            if (signature != meshSignature) {
+                meshSignature = signature;
+                meshDirty = true;
+            }
+        }
+    }
+
+    @Override
+    public void removed() {
+        super.removed();
+        treeMesh.close();
     }
     
     /**
@@ -402,6 +488,7 @@ public class SkillTreeScreen extends Screen {
         
         // Optimistically update client-side
         setAllocatedLevel(node.getId(), currentLevel + 1);
+        meshDirty = true;
         
         showMessage("Allocated point to " + node.getName());
         LOGGER.info("Allocating skill point to {} in tree {}", node.getId(), currentSkillTreeId);
@@ -661,23 +748,6 @@ public class SkillTreeScreen extends Screen {
         }
     }
 
-    private void drawLine(GuiGraphics guiGraphics, int x1, int y1, int x2, int y2, int color) {
-        int dx = x2 - x1;
-        int dy = y2 - y1;
-        int steps = Math.max(Math.abs(dx), Math.abs(dy));
-
-        if (steps == 0) return;
-
-        float xStep = (float) dx / steps;
-        float yStep = (float) dy / steps;
-
-        for (int i = 0; i <= steps; i++) {
-            int x = (int) (x1 + xStep * i);
-            int y = (int) (y1 + yStep * i);
-            guiGraphics.fill(x, y, x + 2, y + 2, color);
-        }
-    }
-
     private void drawNodeTooltip(GuiGraphics guiGraphics, SkillNode node, int mouseX, int mouseY) {
         List<String> tooltipLines = new ArrayList<>();
         